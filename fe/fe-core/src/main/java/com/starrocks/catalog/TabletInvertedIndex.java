@@ -36,12 +36,11 @@ package com.starrocks.catalog;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
-import com.google.common.collect.Table;
+import com.google.common.util.concurrent.Striped;
 import com.starrocks.common.Pair;
 import com.starrocks.lake.LakeTablet;
 import com.starrocks.memory.MemoryTrackable;
@@ -51,10 +50,14 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 
 /*
@@ -62,6 +65,10 @@ import java.util.stream.Collectors;
  * key is tablet id. value is the related ids of this tablet
  * Checkpoint thread is no need to modify this inverted index, because this inverted index will not be written
  * into image, all metadata are in globalStateMgr, and the inverted index will be rebuilt when FE restart.
+ *
+ * Readers never take a lock: all maps are concurrent, and the replicas of one tablet are kept in a small
+ * copy-on-write array, so tablet report diffing and replica selection of query planning do not block each other.
+ * Writers of the same tablet are serialized by a striped lock keyed by tablet id.
  */
 public class TabletInvertedIndex implements MemoryTrackable {
     private static final Logger LOG = LogManager.getLogger(TabletInvertedIndex.class);
@@ -71,71 +78,52 @@ public class TabletInvertedIndex implements MemoryTrackable {
     public static final TabletMeta NOT_EXIST_TABLET_META = new TabletMeta(NOT_EXIST_VALUE, NOT_EXIST_VALUE,
             NOT_EXIST_VALUE, NOT_EXIST_VALUE, NOT_EXIST_VALUE, TStorageMedium.HDD);
 
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private static final Replica[] EMPTY_REPLICAS = new Replica[0];
+
+    private static final int LOCK_STRIPES = 1024;
+
+    private final Striped<Lock> tabletLocks = Striped.lock(LOCK_STRIPES);
 
     // tablet id -> tablet meta
-    private final Map<Long, TabletMeta> tabletMetaMap = Maps.newConcurrentMap();
+    private final Map<Long, TabletMeta> tabletMetaMap = new ConcurrentHashMap<>();
 
     // replica id -> tablet id
-    private final Map<Long, Long> replicaToTabletMap = Maps.newHashMap();
+    private final Map<Long, Long> replicaToTabletMap = new ConcurrentHashMap<>();
 
     // tablet id -> backend set
-    private final Map<Long, Set<Long>> forceDeleteTablets = Maps.newHashMap();
+    private final Map<Long, Set<Long>> forceDeleteTablets = new ConcurrentHashMap<>();
 
-    // tablet id -> (backend id -> replica)
-    private final Table<Long, Long, Replica> replicaMetaTable = HashBasedTable.create();
+    // tablet id -> replicas, one replica per backend. The array is never modified in place.
+    private final Map<Long, Replica[]> replicaMetaTable = new ConcurrentHashMap<>();
     // backing replica table, for visiting backend replicas faster.
     // backend id -> (tablet id -> replica)
-    private final Table<Long, Long, Replica> backingReplicaMetaTable = HashBasedTable.create();
-
-    public TabletInvertedIndex() {
-    }
-
-    public void readLock() {
-        this.lock.readLock().lock();
-    }
+    private final Map<Long, Map<Long, Replica>> backingReplicaMetaTable = new ConcurrentHashMap<>();
 
-    public void readUnlock() {
-        this.lock.readLock().unlock();
-    }
+    private final AtomicLong replicaCount = new AtomicLong();
 
-    private void writeLock() {
-        this.lock.writeLock().lock();
+    public TabletInvertedIndex() {
     }
 
-    private void writeUnlock() {
-        this.lock.writeLock().unlock();
+    private Lock lockTablet(long tabletId) {
+        Lock lock = tabletLocks.get(tabletId);
+        lock.lock();
+        return lock;
     }
 
     public Long getTabletIdByReplica(long replicaId) {
-        readLock();
-        try {
-            return replicaToTabletMap.get(replicaId);
-        } finally {
-            readUnlock();
-        }
+        return replicaToTabletMap.get(replicaId);
     }
 
     public TabletMeta getTabletMeta(long tabletId) {
-        readLock();
-        try {
-            return tabletMetaMap.get(tabletId);
-        } finally {
-            readUnlock();
-        }
+        return tabletMetaMap.get(tabletId);
     }
 
     public List<TabletMeta> getTabletMetaList(List<Long> tabletIdList) {
         List<TabletMeta> tabletMetaList = new ArrayList<>(tabletIdList.size());
-        readLock();
-        try {
-            for (Long tabletId : tabletIdList) {
-                tabletMetaList.add(tabletMetaMap.getOrDefault(tabletId, NOT_EXIST_TABLET_META));
-            }
-            return tabletMetaList;
-        } finally {
-            readUnlock();
+        for (Long tabletId : tabletIdList) {
+            tabletMetaList.add(tabletMetaMap.getOrDefault(tabletId, NOT_EXIST_TABLET_META));
         }
+        return tabletMetaList;
     }
 
     // always add tablet before adding replicas
@@ -143,57 +131,30 @@ public class TabletInvertedIndex implements MemoryTrackable {
         if (GlobalStateMgr.isCheckpointThread()) {
             return;
         }
-        writeLock();
-        try {
-            tabletMetaMap.putIfAbsent(tabletId, tabletMeta);
-            LOG.debug("add tablet: {} tabletMeta: {}", tabletId, tabletMeta);
-        } finally {
-            writeUnlock();
-        }
+        tabletMetaMap.putIfAbsent(tabletId, tabletMeta);
+        LOG.debug("add tablet: {} tabletMeta: {}", tabletId, tabletMeta);
     }
 
     @VisibleForTesting
     public Map<Long, Set<Long>> getForceDeleteTablets() {
-        readLock();
-        try {
-            return forceDeleteTablets;
-        } finally {
-            readUnlock();
-        }
+        return forceDeleteTablets;
     }
 
     public boolean tabletForceDelete(long tabletId, long backendId) {
-        readLock();
-        try {
-            if (forceDeleteTablets.containsKey(tabletId)) {
-                return forceDeleteTablets.get(tabletId).contains(backendId);
-            }
-            return false;
-        } finally {
-            readUnlock();
-        }
+        Set<Long> backendIds = forceDeleteTablets.get(tabletId);
+        return backendIds != null && backendIds.contains(backendId);
     }
 
     public void markTabletForceDelete(long tabletId, long backendId) {
-        writeLock();
-        try {
-            if (forceDeleteTablets.containsKey(tabletId)) {
-                forceDeleteTablets.get(tabletId).add(backendId);
-            } else {
-                forceDeleteTablets.put(tabletId, Sets.newHashSet(backendId));
-            }
-        } finally {
-            writeUnlock();
-        }
+        forceDeleteTablets.computeIfAbsent(tabletId, k -> Sets.newConcurrentHashSet()).add(backendId);
     }
 
     public void markTabletForceDelete(long tabletId, Set<Long> backendIds) {
         if (backendIds.isEmpty()) {
             return;
         }
-        writeLock();
-        forceDeleteTablets.put(tabletId, backendIds);
-        writeUnlock();
+        Set<Long> backends = Sets.newConcurrentHashSet(backendIds);
+        forceDeleteTablets.put(tabletId, backends);
     }
 
     public void markTabletForceDelete(Tablet tablet) {
@@ -205,61 +166,60 @@ public class TabletInvertedIndex implements MemoryTrackable {
     }
 
     public void eraseTabletForceDelete(long tabletId, long backendId) {
-        writeLock();
-        try {
-            if (forceDeleteTablets.containsKey(tabletId)) {
-                forceDeleteTablets.get(tabletId).remove(backendId);
-                if (forceDeleteTablets.get(tabletId).isEmpty()) {
-                    forceDeleteTablets.remove(tabletId);
-                }
-            }
-        } finally {
-            writeUnlock();
-        }
+        forceDeleteTablets.computeIfPresent(tabletId, (k, backendIds) -> {
+            backendIds.remove(backendId);
+            return backendIds.isEmpty() ? null : backendIds;
+        });
     }
 
     public void deleteTablet(long tabletId) {
         if (GlobalStateMgr.isCheckpointThread()) {
             return;
         }
-        writeLock();
+        Lock lock = lockTablet(tabletId);
         try {
-            Map<Long, Replica> replicas = replicaMetaTable.rowMap().remove(tabletId);
+            Replica[] replicas = replicaMetaTable.remove(tabletId);
             if (replicas != null) {
-                for (Replica replica : replicas.values()) {
+                for (Replica replica : replicas) {
                     replicaToTabletMap.remove(replica.getId());
+                    removeBackingReplica(replica.getBackendId(), tabletId);
                 }
-
-                for (long backendId : replicas.keySet()) {
-                    backingReplicaMetaTable.remove(backendId, tabletId);
-                }
+                replicaCount.addAndGet(-replicas.length);
             }
             tabletMetaMap.remove(tabletId);
 
             LOG.debug("delete tablet: {}", tabletId);
         } finally {
-            writeUnlock();
+            lock.unlock();
         }
     }
 
-    public Table<Long, Long, Replica> getReplicaMetaTable() {
-        return replicaMetaTable;
-    }
-
     public void addReplica(long tabletId, Replica replica) {
         if (GlobalStateMgr.isCheckpointThread()) {
             return;
         }
-        writeLock();
+        Lock lock = lockTablet(tabletId);
         try {
             Preconditions.checkState(tabletMetaMap.containsKey(tabletId));
-            replicaMetaTable.put(tabletId, replica.getBackendId(), replica);
+            Replica[] replicas = replicaMetaTable.getOrDefault(tabletId, EMPTY_REPLICAS);
+            int pos = indexOfBackend(replicas, replica.getBackendId());
+            Replica[] newReplicas;
+            if (pos >= 0) {
+                newReplicas = replicas.clone();
+                newReplicas[pos] = replica;
+            } else {
+                newReplicas = Arrays.copyOf(replicas, replicas.length + 1);
+                newReplicas[replicas.length] = replica;
+                replicaCount.incrementAndGet();
+            }
+            replicaMetaTable.put(tabletId, newReplicas);
             replicaToTabletMap.put(replica.getId(), tabletId);
-            backingReplicaMetaTable.put(replica.getBackendId(), tabletId, replica);
+            backingReplicaMetaTable.computeIfAbsent(replica.getBackendId(), k -> new ConcurrentHashMap<>())
+                    .put(tabletId, replica);
             LOG.debug("add replica {} of tablet {} in backend {}",
                     replica.getId(), tabletId, replica.getBackendId());
         } finally {
-            writeUnlock();
+            lock.unlock();
         }
     }
 
@@ -267,17 +227,30 @@ public class TabletInvertedIndex implements MemoryTrackable {
         if (GlobalStateMgr.isCheckpointThread()) {
             return;
         }
-        writeLock();
+        Lock lock = lockTablet(tabletId);
         try {
             if (!tabletMetaMap.containsKey(tabletId)) {
                 return;
             }
-            if (replicaMetaTable.containsRow(tabletId)) {
-                Replica replica = replicaMetaTable.remove(tabletId, backendId);
-                assert replica != null;
+            Replica[] replicas = replicaMetaTable.get(tabletId);
+            if (replicas != null) {
+                int pos = indexOfBackend(replicas, backendId);
+                assert pos >= 0;
+                if (pos < 0) {
+                    return;
+                }
+                Replica replica = replicas[pos];
+                if (replicas.length == 1) {
+                    replicaMetaTable.remove(tabletId);
+                } else {
+                    Replica[] newReplicas = new Replica[replicas.length - 1];
+                    System.arraycopy(replicas, 0, newReplicas, 0, pos);
+                    System.arraycopy(replicas, pos + 1, newReplicas, pos, replicas.length - pos - 1);
+                    replicaMetaTable.put(tabletId, newReplicas);
+                }
+                replicaCount.decrementAndGet();
                 replicaToTabletMap.remove(replica.getId());
-                replicaMetaTable.remove(tabletId, backendId);
-                backingReplicaMetaTable.remove(backendId, tabletId);
+                removeBackingReplica(backendId, tabletId);
                 LOG.debug("delete replica {} of tablet {} in backend {}",
                         replica.getId(), tabletId, backendId);
             } else {
@@ -286,29 +259,41 @@ public class TabletInvertedIndex implements MemoryTrackable {
                 LOG.error("tablet[{}] contains no replica in inverted index", tabletId);
             }
         } finally {
-            writeUnlock();
+            lock.unlock();
         }
     }
 
+    private void removeBackingReplica(long backendId, long tabletId) {
+        Map<Long, Replica> replicaMetaWithBackend = backingReplicaMetaTable.get(backendId);
+        if (replicaMetaWithBackend != null) {
+            replicaMetaWithBackend.remove(tabletId);
+        }
+    }
+
+    private static int indexOfBackend(Replica[] replicas, long backendId) {
+        for (int i = 0; i < replicas.length; i++) {
+            if (replicas[i].getBackendId() == backendId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     public Replica getReplica(long tabletId, long backendId) {
-        readLock();
-        try {
-            return replicaMetaTable.get(tabletId, backendId);
-        } finally {
-            readUnlock();
+        Replica[] replicas = replicaMetaTable.get(tabletId);
+        if (replicas == null) {
+            return null;
         }
+        int pos = indexOfBackend(replicas, backendId);
+        return pos >= 0 ? replicas[pos] : null;
     }
 
     public List<Replica> getReplicasByTabletId(long tabletId) {
-        readLock();
-        try {
-            if (replicaMetaTable.containsRow(tabletId)) {
-                return Lists.newArrayList(replicaMetaTable.row(tabletId).values());
-            }
-            return Lists.newArrayList();
-        } finally {
-            readUnlock();
+        Replica[] replicas = replicaMetaTable.get(tabletId);
+        if (replicas != null) {
+            return Lists.newArrayList(replicas);
         }
+        return Lists.newArrayList();
     }
 
     /**
@@ -319,83 +304,51 @@ public class TabletInvertedIndex implements MemoryTrackable {
      * @return list of replica or null if backend not found
      */
     public List<Replica> getReplicasOnBackendByTabletIds(List<Long> tabletIds, long backendId) {
-        readLock();
-        try {
-            Map<Long, Replica> replicaMetaWithBackend = backingReplicaMetaTable.row(backendId);
-            if (!replicaMetaWithBackend.isEmpty()) {
-                List<Replica> replicas = Lists.newArrayList();
-                for (long tabletId : tabletIds) {
-                    replicas.add(replicaMetaWithBackend.get(tabletId));
-                }
-                return replicas;
+        Map<Long, Replica> replicaMetaWithBackend = getReplicaMetaWithBackend(backendId);
+        if (!replicaMetaWithBackend.isEmpty()) {
+            List<Replica> replicas = Lists.newArrayList();
+            for (long tabletId : tabletIds) {
+                replicas.add(replicaMetaWithBackend.get(tabletId));
             }
-            return null;
-        } finally {
-            readUnlock();
+            return replicas;
         }
+        return null;
     }
 
     public List<Long> getTabletIdsByBackendId(long backendId) {
-        List<Long> tabletIds = Lists.newArrayList();
-        readLock();
-        try {
-            Map<Long, Replica> replicaMetaWithBackend = backingReplicaMetaTable.row(backendId);
-            tabletIds.addAll(replicaMetaWithBackend.keySet());
-        } finally {
-            readUnlock();
-        }
-        return tabletIds;
+        return Lists.newArrayList(getReplicaMetaWithBackend(backendId).keySet());
     }
 
     public List<Long> getTabletIdsByBackendIdAndStorageMedium(long backendId, TStorageMedium storageMedium) {
-        List<Long> tabletIds;
-        readLock();
-        try {
-            Map<Long, Replica> replicaMetaWithBackend = backingReplicaMetaTable.row(backendId);
-            tabletIds = replicaMetaWithBackend.keySet().stream().filter(
-                    id -> tabletMetaMap.get(id).getStorageMedium() == storageMedium).collect(Collectors.toList());
-        } finally {
-            readUnlock();
-        }
-        return tabletIds;
+        return getReplicaMetaWithBackend(backendId).keySet().stream().filter(id -> {
+            TabletMeta tabletMeta = tabletMetaMap.get(id);
+            return tabletMeta != null && tabletMeta.getStorageMedium() == storageMedium;
+        }).collect(Collectors.toList());
     }
 
     public long getTabletNumByBackendId(long backendId) {
-        readLock();
-        try {
-            Map<Long, Replica> replicaMetaWithBackend = backingReplicaMetaTable.row(backendId);
-            return replicaMetaWithBackend.size();
-        } finally {
-            readUnlock();
-        }
+        return getReplicaMetaWithBackend(backendId).size();
     }
 
     public long getTabletNumByBackendIdAndPathHash(long backendId, long pathHash) {
-        readLock();
-        try {
-            Map<Long, Replica> replicaMetaWithBackend = backingReplicaMetaTable.row(backendId);
-            return replicaMetaWithBackend.values().stream().filter(r -> r.getPathHash() == pathHash).count();
-        } finally {
-            readUnlock();
-        }
+        return getReplicaMetaWithBackend(backendId).values().stream().filter(r -> r.getPathHash() == pathHash).count();
     }
 
     public Map<TStorageMedium, Long> getReplicaNumByBeIdAndStorageMedium(long backendId) {
         Map<TStorageMedium, Long> replicaNumMap = Maps.newHashMap();
         long hddNum = 0;
         long ssdNum = 0;
-        readLock();
-        try {
-            Map<Long, Replica> replicaMetaWithBackend = backingReplicaMetaTable.row(backendId);
-            for (long tabletId : replicaMetaWithBackend.keySet()) {
-                if (tabletMetaMap.get(tabletId).getStorageMedium() == TStorageMedium.HDD) {
-                    hddNum++;
-                } else {
-                    ssdNum++;
-                }
+        for (long tabletId : getReplicaMetaWithBackend(backendId).keySet()) {
+            TabletMeta tabletMeta = tabletMetaMap.get(tabletId);
+            if (tabletMeta == null) {
+                // tablet is dropped concurrently
+                continue;
+            }
+            if (tabletMeta.getStorageMedium() == TStorageMedium.HDD) {
+                hddNum++;
+            } else {
+                ssdNum++;
             }
-        } finally {
-            readUnlock();
         }
         replicaNumMap.put(TStorageMedium.HDD, hddNum);
         replicaNumMap.put(TStorageMedium.SSD, ssdNum);
@@ -407,29 +360,28 @@ public class TabletInvertedIndex implements MemoryTrackable {
     }
 
     public long getReplicaCount() {
-        readLock();
-        try {
-            return this.replicaMetaTable.size();
-        } finally {
-            readUnlock();
-        }
+        return replicaCount.get();
     }
 
-    public Map<Long, Replica> getReplicaMetaWithBackend(Long backendId) {
-        return backingReplicaMetaTable.row(backendId);
+    /**
+     * Returns a read-only, weakly consistent view of the replicas on the backend (tablet id -> replica).
+     * Iterating it does not block concurrent writers, and never returns null.
+     */
+    public Map<Long, Replica> getReplicaMetaWithBackend(long backendId) {
+        Map<Long, Replica> replicaMetaWithBackend = backingReplicaMetaTable.get(backendId);
+        if (replicaMetaWithBackend == null) {
+            return Collections.emptyMap();
+        }
+        return Collections.unmodifiableMap(replicaMetaWithBackend);
     }
 
     // just for test
     public void clear() {
-        writeLock();
-        try {
-            tabletMetaMap.clear();
-            replicaToTabletMap.clear();
-            replicaMetaTable.clear();
-            backingReplicaMetaTable.clear();
-        } finally {
-            writeUnlock();
-        }
+        tabletMetaMap.clear();
+        replicaToTabletMap.clear();
+        replicaMetaTable.clear();
+        backingReplicaMetaTable.clear();
+        replicaCount.set(0);
     }
 
     @Override
@@ -441,21 +393,16 @@ public class TabletInvertedIndex implements MemoryTrackable {
 
     @Override
     public List<Pair<List<Object>, Long>> getSamples() {
-        readLock();
-        try {
-            List<Object> tabletMetaSamples = tabletMetaMap.values()
-                    .stream()
-                    .limit(1)
-                    .collect(Collectors.toList());
+        List<Object> tabletMetaSamples = tabletMetaMap.values()
+                .stream()
+                .limit(1)
+                .collect(Collectors.toList());
 
-            List<Object> longSamples = Lists.newArrayList(0L);
-            long longSize = tabletMetaMap.size() + replicaToTabletMap.size() * 2L + forceDeleteTablets.size() * 4L
-                    + replicaMetaTable.size() * 2L + backingReplicaMetaTable.size() * 2L;
+        List<Object> longSamples = Lists.newArrayList(0L);
+        long longSize = tabletMetaMap.size() + replicaToTabletMap.size() * 2L + forceDeleteTablets.size() * 4L
+                + replicaMetaTable.size() + getReplicaCount() * 2L;
 
-            return Lists.newArrayList(Pair.create(tabletMetaSamples, (long) tabletMetaMap.size()),
-                    Pair.create(longSamples, longSize));
-        } finally {
-            readUnlock();
-        }
+        return Lists.newArrayList(Pair.create(tabletMetaSamples, (long) tabletMetaMap.size()),
+                Pair.create(longSamples, longSize));
     }
 }
@@ -453,6 +453,30 @@ public class Config extends ConfigBase {
     @ConfField(mutable = true)
     public static int edit_log_write_slow_log_threshold_ms = 2000;
 
+    /**
+     * Number of threads used by checkpoint to save the meta blocks of image.
+     * If it's greater than 1, meta blocks are saved in parallel into separately checksummed segments,
+     * and an index of the segments is written before them, so the image can also be loaded in parallel.
+     * The image is still readable by FEs which load image sequentially.
+     */
+    @ConfField(mutable = true)
+    public static int image_save_parallelism = 1;
+
+    /**
+     * Number of threads used to load an image whose meta blocks are saved in segments.
+     * Set to 1 to load the segments one by one.
+     */
+    @ConfField(mutable = true)
+    public static int image_load_parallelism = 8;
+
+    /**
+     * Codec to compress the segments of image, can be NONE, LZ4 or ZSTD.
+     * If it's not NONE, meta blocks are always saved in segments, even if image_save_parallelism is 1.
+     * FEs of older versions can't load a compressed image, so only enable it after all FEs are upgraded.
+     */
+    @ConfField(mutable = true)
+    public static String image_compression_codec = "NONE";
+
     /**
      * hdfs_read_buffer_size_kb for reading hdfs
      */
@@ -855,6 +879,16 @@ public class Config extends ConfigBase {
     @ConfField
     public static int max_mysql_service_task_threads_num = 4096;
 
+    /**
+     * Whether to handle mysql connections on virtual threads instead of the platform threads of
+     * starrocks-mysql-nio-pool and connect-scheduler-pool, so that a lot of connections blocked on RPC or journal
+     * don't exhaust threads. max_mysql_service_task_threads_num and max_connection_scheduler_threads_num
+     * don't take effect if enabled.
+     * Requires JDK 21+, otherwise platform threads are still used.
+     */
+    @ConfField
+    public static boolean mysql_service_virtual_threads_enabled = false;
+
     /**
      * max num of thread to handle task for http sql.
      */
@@ -909,6 +943,11 @@ public class Config extends ConfigBase {
     @ConfField(mutable = true)
     public static int lake_batch_publish_min_version_num = 1;
 
+    @ConfField(mutable = true, comment = "The max time in milliseconds to hold the committed transactions of " +
+            "a lake table to publish them together with the following ones, when the table is loaded frequently " +
+            "or its ingestion is slowed down by compaction. 0 means to publish them at once.")
+    public static long lake_batch_publish_max_delay_ms = 0;
+
     @ConfField(mutable = true)
     public static boolean lake_use_combined_txn_log = false;
 
@@ -2019,6 +2058,23 @@ public class Config extends ConfigBase {
     @ConfField(mutable = true)
     public static long statistic_update_interval_sec = 24L * 60L * 60L;
 
+    /**
+     * Load the statistics of the hot tables into the statistic cache in background, so the first queries on them
+     * after FE starts are not planned without statistics. The hot tables are the tables in the recent query details
+     * (see enable_collect_query_detail_info), or the recently analyzed tables when FE starts.
+     */
+    @ConfField(mutable = true)
+    public static boolean enable_statistic_cache_warm_up = true;
+
+    @ConfField(mutable = true)
+    public static long statistic_cache_warm_up_interval_sec = 30;
+
+    /**
+     * The max number of tables to warm up in each round
+     */
+    @ConfField(mutable = true)
+    public static int statistic_cache_warm_up_table_num = 100;
+
     @ConfField(mutable = true)
     public static long statistic_collect_too_many_version_sleep = 600000; // 10min
     /**
@@ -2646,6 +2702,14 @@ public class Config extends ConfigBase {
     @ConfField(mutable = true)
     public static int metadata_journal_max_batch_cnt = 100;
 
+    /**
+     * Whether to prepare the next journal batch while the current batch is being committed.
+     * If it's true, journals are taken from the queue by one thread and committed by another thread,
+     * and batches are still committed one by one in order.
+     */
+    @ConfField
+    public static boolean metadata_journal_enable_pipeline = false;
+
     /**
      * Endpoint for exporting Jaeger gRPC spans.
      * Empty string disables span export.
@@ -2785,6 +2849,14 @@ public class Config extends ConfigBase {
     @ConfField
     public static boolean metadata_journal_ignore_replay_failure = true;
 
+    /**
+     * Number of threads to replay the journals which only change the metadata of one database,
+     * e.g. the transaction states of loads, concurrently with the journals of other databases.
+     * Other journals are still replayed one by one. Set to 1 to replay all journals in the replayer thread.
+     */
+    @ConfField
+    public static int metadata_journal_replay_parallelism = 1;
+
     /**
      * In this mode, system will start some damon to recover metadata (Currently only partition version is supported)
      * and any kind of loads will be rejected.
@@ -3108,6 +3180,24 @@ public class Config extends ConfigBase {
             "materialized views(>10) or query is complex(multi table joins).")
     public static long mv_query_context_cache_max_size = 1000;
 
+    /**
+     * Whether to reuse the optimized plans of repeated ad-hoc queries on native tables across sessions
+     */
+    @ConfField(mutable = true)
+    public static boolean enable_query_plan_cache = false;
+
+    /**
+     * query plan cache max size, take effect after the cache is rebuilt
+     */
+    @ConfField(mutable = true)
+    public static long query_plan_cache_max_size = 1000;
+
+    /**
+     * query plan cache expire interval in seconds
+     */
+    @ConfField(mutable = true)
+    public static long query_plan_cache_expire_interval_sec = 60L * 60L;
+
     /**
      * Checking the connectivity of port opened by FE,
      * mainly used for checking edit log port currently.
@@ -3148,6 +3238,13 @@ public class Config extends ConfigBase {
     @ConfField(mutable = true)
     public static boolean lock_manager_enable_resolve_deadlock = false;
 
+    /**
+     * Whether to acquire READ and intention locks without the lock table when they don't conflict with the held locks,
+     * so concurrent queries on the same database don't contend on the lock table mutex.
+     */
+    @ConfField(mutable = true)
+    public static boolean lock_manager_enable_fast_path = true;
+
     /**
      * Whether to use table level lock
      */
@@ -3239,6 +3336,13 @@ public class Config extends ConfigBase {
     @ConfField(mutable = true)
     public static int thrift_max_recursion_depth = 64;
 
+    /**
+     * Serialize the common params of the fragment instances only once, e.g. the plan fragment and descriptor table,
+     * and only serialize the unique params for each instance when deploying them, if the plan protocol is binary.
+     */
+    @ConfField(mutable = true)
+    public static boolean enable_plan_fragment_common_params_serialize_once = true;
+
     @ConfField(mutable = true)
     public static double partition_hash_join_min_cardinality_rate = 0.3;
 
@@ -110,6 +110,10 @@ public class Status {
         return this.errorCode == TStatusCode.THRIFT_RPC_ERROR;
     }
 
+    public boolean isMemLimitExceeded() {
+        return this.errorCode == TStatusCode.MEM_LIMIT_EXCEEDED;
+    }
+
     public boolean isRemoteFileNotFound() {
         return this.errorCode == TStatusCode.REMOTE_FILE_NOT_FOUND;
     }
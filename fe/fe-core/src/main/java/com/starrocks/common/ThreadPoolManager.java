@@ -45,6 +45,8 @@ import org.apache.logging.log4j.Logger;
 
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
@@ -76,6 +78,7 @@ import java.util.concurrent.TimeUnit;
  */
 
 public class ThreadPoolManager {
+    private static final Logger LOG = LogManager.getLogger(ThreadPoolManager.class);
 
     private static Map<String, ThreadPoolExecutor> nameToThreadPoolMap = Maps.newConcurrentMap();
 
@@ -165,6 +168,46 @@ public class ThreadPoolManager {
         return threadPool;
     }
 
+    /**
+     * Create an executor for tasks blocking on network IO and RPC most of the time, e.g. handling mysql connections.
+     * If useVirtualThread is true and the JVM supports virtual thread (JDK 21+), each task runs on a new virtual
+     * thread, so the number of blocked tasks is not limited by platform threads. Otherwise, it's a cached thread pool
+     * with at most maxNumThread threads.
+     */
+    public static ExecutorService newDaemonBlockingTaskExecutor(boolean useVirtualThread, int maxNumThread,
+                                                                String poolName, boolean needRegisterMetric) {
+        if (useVirtualThread) {
+            ExecutorService executor = newVirtualThreadPerTaskExecutor(poolName);
+            if (executor != null) {
+                LOG.info("run tasks of {} on virtual threads", poolName);
+                return executor;
+            }
+            LOG.warn("virtual thread is not supported by java {}, run tasks of {} on platform threads",
+                    System.getProperty("java.version"), poolName);
+        }
+        return newDaemonCacheThreadPool(maxNumThread, poolName, needRegisterMetric);
+    }
+
+    /**
+     * Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(poolName + "-", 0).factory()),
+     * called by reflection because FE is still compiled for java 11.
+     *
+     * @return null if virtual thread is not supported
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor(String poolName) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, poolName + "-", 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // not supported, or preview feature is not enabled
+            return null;
+        }
+    }
+
     // Now, we have no delay task num limit and thread num limit in ScheduledThreadPoolExecutor,
     // so it may cause oom when there are too many delay tasks or threads in ScheduledThreadPoolExecutor
     // Please use this api only for scheduling short task at fix rate.
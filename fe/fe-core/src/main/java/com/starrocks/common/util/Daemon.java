@@ -34,6 +34,9 @@ public class Daemon extends Thread {
 
     private MetaContext metaContext = null;
 
+    private final Object wakeUpLock = new Object();
+    private boolean wakeUpRequested = false;
+
     {
         setDaemon(true);
     }
@@ -89,6 +92,31 @@ public class Daemon extends Thread {
         this.intervalMs = intervalMs;
     }
 
+    /**
+     * Run the next cycle as soon as the current one is done, instead of waiting for the interval, used by the
+     * daemons whose work is triggered by events, e.g. a committed transaction to publish.
+     */
+    public void wakeUp() {
+        synchronized (wakeUpLock) {
+            wakeUpRequested = true;
+            wakeUpLock.notifyAll();
+        }
+    }
+
+    private void waitForNextCycle() throws InterruptedException {
+        synchronized (wakeUpLock) {
+            long deadline = System.currentTimeMillis() + intervalMs;
+            while (!wakeUpRequested) {
+                long waitMs = deadline - System.currentTimeMillis();
+                if (waitMs <= 0) {
+                    break;
+                }
+                wakeUpLock.wait(waitMs);
+            }
+            wakeUpRequested = false;
+        }
+    }
+
     /**
      * implement in child
      */
@@ -110,7 +138,7 @@ public class Daemon extends Thread {
             }
 
             try {
-                Thread.sleep(intervalMs);
+                waitForNextCycle();
             } catch (InterruptedException e) {
                 LOG.error("InterruptedException: ", e);
             }
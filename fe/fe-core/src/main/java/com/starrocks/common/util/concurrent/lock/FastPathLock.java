@@ -0,0 +1,255 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package com.starrocks.common.util.concurrent.lock;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * READ, INTENTION_SHARED and INTENTION_EXCLUSIVE locks of a resource acquired without the lock table of LockManager,
+ * e.g. the intention locks acquired by the concurrent queries on the same database.
+ * <p>
+ * The state word records how many lockers hold each type of lock, so a lock compatible with the held ones is
+ * acquired by one CAS instead of the lock table mutex. The holders are recorded by locker, so reentrant locks
+ * and lock releasing only touch the entry of the locker.
+ * <p>
+ * Once any lock of the resource has to be acquired through the lock table, the lock is marked as SLOW and all the
+ * fast path holders are taken over by the lock in the lock table, see {@link #takeOver()}. Then all the locks of
+ * the resource are acquired through the lock table, until the lock is removed from the lock table.
+ */
+public class FastPathLock {
+    private static final int SLOT_NUM = 3;
+    private static final int READ_SLOT = 0;
+    private static final int INTENTION_SHARED_SLOT = 1;
+    private static final int INTENTION_EXCLUSIVE_SLOT = 2;
+
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    /* New lock can only be acquired through the lock table. */
+    private static final long SLOW = 1L << 62;
+    /* Removed from LockManager, and can't be used anymore. */
+    private static final long REMOVED = 1L << 63;
+
+    private final AtomicLong state = new AtomicLong();
+
+    /*
+     * The locks held by each locker, indexed by slot. Lockers of the same thread are equal,
+     * so a lock acquired by one of them can be released by another one, which is the same as the lock table.
+     */
+    private final Map<Locker, LockHolder[]> holders = new ConcurrentHashMap<>();
+
+    private static int getSlot(LockType lockType) {
+        if (lockType == LockType.READ) {
+            return READ_SLOT;
+        } else if (lockType == LockType.INTENTION_SHARED) {
+            return INTENTION_SHARED_SLOT;
+        } else if (lockType == LockType.INTENTION_EXCLUSIVE) {
+            return INTENTION_EXCLUSIVE_SLOT;
+        } else {
+            return -1;
+        }
+    }
+
+    public static boolean isSupported(LockType lockType) {
+        return getSlot(lockType) >= 0;
+    }
+
+    private static long getCount(long state, int slot) {
+        return (state >>> (slot * COUNT_BITS)) & COUNT_MASK;
+    }
+
+    private static long getUnit(int slot) {
+        return 1L << (slot * COUNT_BITS);
+    }
+
+    private boolean tryAcquire(int slot) {
+        while (true) {
+            long s = state.get();
+            if ((s & (SLOW | REMOVED)) != 0 || getCount(s, slot) == COUNT_MASK) {
+                return false;
+            }
+            // READ conflicts with INTENTION_EXCLUSIVE, and INTENTION_SHARED is compatible with both of them
+            if ((slot == READ_SLOT && getCount(s, INTENTION_EXCLUSIVE_SLOT) > 0)
+                    || (slot == INTENTION_EXCLUSIVE_SLOT && getCount(s, READ_SLOT) > 0)) {
+                return false;
+            }
+            if (state.compareAndSet(s, s + getUnit(slot))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Try to acquire the lock without the lock table.
+     *
+     * @return false if the lock must be acquired through the lock table, or this lock has been removed
+     */
+    public boolean tryLock(Locker locker, LockType lockType) {
+        int slot = getSlot(lockType);
+        if (slot < 0) {
+            return false;
+        }
+        boolean[] acquired = new boolean[1];
+        holders.compute(locker, (k, holds) -> {
+            if (holds != null) {
+                if (holds[slot] != null) {
+                    holds[slot].increaseRefCount();
+                    acquired[0] = true;
+                }
+                /*
+                 * The locker requests another type of lock, the request is checked by MultiUserLock
+                 * after the held locks are taken over.
+                 */
+                return holds;
+            }
+            if (!tryAcquire(slot)) {
+                return null;
+            }
+            LockHolder lockHolder = new LockHolder(locker, lockType);
+            lockHolder.setLockAcquireTimeMs(System.currentTimeMillis());
+            holds = new LockHolder[SLOT_NUM];
+            holds[slot] = lockHolder;
+            acquired[0] = true;
+            return holds;
+        });
+        return acquired[0];
+    }
+
+    /**
+     * @return false if the lock is not held by the locker without the lock table
+     */
+    public boolean release(Locker locker, LockType lockType) {
+        int slot = getSlot(lockType);
+        if (slot < 0) {
+            return false;
+        }
+        boolean[] released = new boolean[1];
+        holders.computeIfPresent(locker, (k, holds) -> {
+            LockHolder lockHolder = holds[slot];
+            if (lockHolder == null) {
+                return holds;
+            }
+            released[0] = true;
+            lockHolder.decreaseRefCount();
+            if (lockHolder.getRefCount() > 0) {
+                return holds;
+            }
+            holds[slot] = null;
+            state.getAndAdd(-getUnit(slot));
+            for (LockHolder other : holds) {
+                if (other != null) {
+                    return holds;
+                }
+            }
+            return null;
+        });
+        return released[0];
+    }
+
+    public boolean isOwner(Locker locker, LockType lockType) {
+        int slot = getSlot(lockType);
+        if (slot < 0) {
+            return false;
+        }
+        LockHolder[] holds = holders.get(locker);
+        return holds != null && holds[slot] != null;
+    }
+
+    /**
+     * Mark the lock as SLOW and take over all the locks held without the lock table.
+     * Must be called with the lock table mutex of the resource held.
+     *
+     * @return the holders taken over, or null if this lock has been removed
+     */
+    public List<LockHolder> takeOver() {
+        while (true) {
+            long s = state.get();
+            if ((s & REMOVED) != 0) {
+                return null;
+            }
+            if ((s & SLOW) != 0 || state.compareAndSet(s, s | SLOW)) {
+                break;
+            }
+        }
+
+        List<LockHolder> owners = new ArrayList<>();
+        while (true) {
+            for (Locker locker : holders.keySet()) {
+                holders.computeIfPresent(locker, (k, holds) -> {
+                    for (int slot = 0; slot < SLOT_NUM; slot++) {
+                        if (holds[slot] != null) {
+                            owners.add(holds[slot]);
+                            state.getAndAdd(-getUnit(slot));
+                        }
+                    }
+                    return null;
+                });
+            }
+            if ((state.get() & ~(SLOW | REMOVED)) == 0) {
+                return owners;
+            }
+            // some locker acquired the lock before it's marked as SLOW, and is recording the holder
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Resume acquiring lock without the lock table, called after the lock is removed from the lock table.
+     * Must be called with the lock table mutex of the resource held.
+     */
+    public void resume() {
+        // all the holders have been taken over, and no one can acquire the lock by CAS when it's SLOW
+        state.compareAndSet(SLOW, 0);
+    }
+
+    /**
+     * Remove this lock if it's not held and not SLOW, the lockers using it must retry with a new one.
+     */
+    public boolean tryRemove() {
+        return state.compareAndSet(0, REMOVED);
+    }
+
+    public boolean isRemoved() {
+        return (state.get() & REMOVED) != 0;
+    }
+
+    public Set<LockHolder> cloneOwners() {
+        Set<LockHolder> owners = new HashSet<>();
+        for (LockHolder[] holds : holders.values()) {
+            for (LockHolder lockHolder : holds) {
+                if (lockHolder != null) {
+                    owners.add(lockHolder.clone());
+                }
+            }
+        }
+        return owners;
+    }
+
+    @Override
+    public String toString() {
+        long s = state.get();
+        return " LockAddr:" + System.identityHashCode(this)
+                + " READ:" + getCount(s, READ_SLOT)
+                + " INTENTION_SHARED:" + getCount(s, INTENTION_SHARED_SLOT)
+                + " INTENTION_EXCLUSIVE:" + getCount(s, INTENTION_EXCLUSIVE_SLOT)
+                + ((s & SLOW) != 0 ? " SLOW" : "")
+                + ((s & REMOVED) != 0 ? " REMOVED" : "");
+    }
+}
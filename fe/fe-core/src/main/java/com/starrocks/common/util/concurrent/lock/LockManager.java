@@ -26,6 +26,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class LockManager {
     private static final Logger LOG = LogManager.getLogger(LockManager.class);
@@ -34,6 +35,12 @@ public class LockManager {
     private final Object[] lockTableMutexes;
     private final Map<Long, Lock>[] lockTables;
 
+    /*
+     * Locks acquired without the lock table, see FastPathLock.
+     * If a resource has a lock in the lock table, its FastPathLock must be SLOW.
+     */
+    private final Map<Long, FastPathLock> fastPathLocks = new ConcurrentHashMap<>();
+
     public LockManager() {
         lockTablesSize = Config.lock_manager_lock_table_num;
         lockTableMutexes = new Object[lockTablesSize];
@@ -60,6 +67,10 @@ public class LockManager {
         final long startTime = System.currentTimeMillis();
         locker.setLockRequestTimeMs(startTime);
 
+        if (Config.lock_manager_enable_fast_path && tryLockFastPath(rid, locker, lockType)) {
+            return;
+        }
+
         synchronized (locker) {
             int lockTableIdx = getLockTableIndex(rid);
             synchronized (lockTableMutexes[lockTableIdx]) {
@@ -67,7 +78,16 @@ public class LockManager {
                 Lock lock = lockTable.get(rid);
 
                 if (lock == null) {
-                    lock = new LightWeightLock();
+                    List<LockHolder> fastPathOwners = takeOverFastPathLock(rid);
+                    if (fastPathOwners.isEmpty()) {
+                        lock = new LightWeightLock();
+                    } else {
+                        MultiUserLock multiUserLock = new MultiUserLock(fastPathOwners.get(0));
+                        for (int i = 1; i < fastPathOwners.size(); i++) {
+                            multiUserLock.addFastPathOwner(fastPathOwners.get(i));
+                        }
+                        lock = multiUserLock;
+                    }
                     lockTable.put(rid, lock);
                 } else if (lock instanceof LightWeightLock) {
                     List<LockHolder> owners = new ArrayList<>(lock.getOwners());
@@ -261,7 +281,69 @@ public class LockManager {
         }
     }
 
+    private boolean tryLockFastPath(long rid, Locker locker, LockType lockType) {
+        if (!FastPathLock.isSupported(lockType)) {
+            return false;
+        }
+
+        while (true) {
+            FastPathLock fastPathLock = fastPathLocks.get(rid);
+            if (fastPathLock == null) {
+                fastPathLock = fastPathLocks.computeIfAbsent(rid, k -> new FastPathLock());
+            }
+            if (fastPathLock.tryLock(locker, lockType)) {
+                return true;
+            }
+            if (!fastPathLock.isRemoved()) {
+                return false;
+            }
+            /* The lock is removed after the last holder released it, retry with a new one */
+        }
+    }
+
+    /*
+     * Stop acquiring the lock of rid without the lock table, and return the lock holders acquired it by fast path.
+     * Must be called with the lock table mutex held, before the lock of rid is added to the lock table.
+     */
+    private List<LockHolder> takeOverFastPathLock(long rid) {
+        while (true) {
+            FastPathLock fastPathLock = fastPathLocks.computeIfAbsent(rid, k -> new FastPathLock());
+            List<LockHolder> owners = fastPathLock.takeOver();
+            if (owners != null) {
+                return owners;
+            }
+        }
+    }
+
+    /*
+     * Must be called with the lock table mutex held, after the lock of rid is removed from the lock table.
+     */
+    private void resumeFastPathLock(long rid) {
+        FastPathLock fastPathLock = fastPathLocks.get(rid);
+        if (fastPathLock != null) {
+            fastPathLock.resume();
+            if (fastPathLock.tryRemove()) {
+                fastPathLocks.remove(rid, fastPathLock);
+            }
+        }
+    }
+
+    private boolean releaseFastPath(long rid, Locker locker, LockType lockType) {
+        FastPathLock fastPathLock = fastPathLocks.get(rid);
+        if (fastPathLock == null || !fastPathLock.release(locker, lockType)) {
+            return false;
+        }
+        if (fastPathLock.tryRemove()) {
+            fastPathLocks.remove(rid, fastPathLock);
+        }
+        return true;
+    }
+
     public void release(long rid, Locker locker, LockType lockType) throws LockException {
+        if (releaseFastPath(rid, locker, lockType)) {
+            return;
+        }
+
         Set<Locker> newOwners;
 
         int lockTableIdx = getLockTableIndex(rid);
@@ -276,6 +358,7 @@ public class LockManager {
 
             if (lock.waiterNum() == 0 && lock.ownerNum() == 0) {
                 lockTable.remove(rid);
+                resumeFastPathLock(rid);
             }
         }
 
@@ -289,6 +372,11 @@ public class LockManager {
     }
 
     public boolean isOwner(long rid, Locker locker, LockType lockType) {
+        FastPathLock fastPathLock = fastPathLocks.get(rid);
+        if (fastPathLock != null && fastPathLock.isOwner(locker, lockType)) {
+            return true;
+        }
+
         int lockTableIndex = getLockTableIndex(rid);
         synchronized (lockTableMutexes[lockTableIndex]) {
             return isOwnerInternal(rid, locker, lockType, lockTableIndex);
@@ -324,6 +412,11 @@ public class LockManager {
             Map<Long, Lock> lockTable = lockTables[lockTableIndex];
             Lock lock = lockTable.get(rid);
             lock.removeWaiter(locker, lockType);
+
+            if (lock.waiterNum() == 0 && lock.ownerNum() == 0) {
+                lockTable.remove(rid);
+                resumeFastPathLock(rid);
+            }
         }
     }
 
@@ -343,6 +436,13 @@ public class LockManager {
             }
         }
 
+        for (Map.Entry<Long, FastPathLock> lockEntry : fastPathLocks.entrySet()) {
+            Set<LockHolder> owners = lockEntry.getValue().cloneOwners();
+            if (!owners.isEmpty()) {
+                lockInfoList.add(new LockInfo(lockEntry.getKey(), new ArrayList<>(owners), new ArrayList<>()));
+            }
+        }
+
         return lockInfoList;
     }
 
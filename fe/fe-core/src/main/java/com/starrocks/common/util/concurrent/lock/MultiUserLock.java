@@ -273,6 +273,18 @@ public class MultiUserLock extends Lock {
     }
 
     private void addOwner(LockHolder lockHolder) {
+        addOwnerInternal(lockHolder);
+        lockHolder.setLockAcquireTimeMs(System.currentTimeMillis());
+    }
+
+    /*
+     * Add the owner taken over from FastPathLock, which keeps the time it acquired the lock.
+     */
+    void addFastPathOwner(LockHolder lockHolder) {
+        addOwnerInternal(lockHolder);
+    }
+
+    private void addOwnerInternal(LockHolder lockHolder) {
         if (firstOwner == null) {
             firstOwner = lockHolder;
         } else {
@@ -281,8 +293,6 @@ public class MultiUserLock extends Lock {
             }
             otherOwners.add(lockHolder);
         }
-
-        lockHolder.setLockAcquireTimeMs(System.currentTimeMillis());
     }
 
     @Override
@@ -18,6 +18,7 @@ package com.starrocks.journal;
 import com.starrocks.common.io.DataOutputBuffer;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -32,6 +33,8 @@ public class JournalTask implements Future<Boolean> {
     // count down latch, the producer which called logEdit() will wait on it.
     // JournalWriter will call notify() after log is committed.
     protected CountDownLatch latch;
+    // completed together with the latch, for the callers that don't want to block a thread on waiting
+    private final CompletableFuture<Boolean> completion = new CompletableFuture<>();
     // JournalWrite will commit immediately if received a log with betterCommitBeforeTime > now
     protected long betterCommitBeforeTimeInNano;
     private final long startTimeNano;
@@ -54,11 +57,21 @@ public class JournalTask implements Future<Boolean> {
     public void markSucceed() {
         isSucceed = true;
         latch.countDown();
+        completion.complete(true);
     }
 
     public void markAbort() {
         isSucceed = false;
         latch.countDown();
+        completion.complete(false);
+    }
+
+    /**
+     * Returns a future which is completed with the write result after the batch of this journal is committed.
+     * Dependent actions are executed by JournalWriter if they are not async, so they must be lightweight.
+     */
+    public CompletableFuture<Boolean> toCompletableFuture() {
+        return completion;
     }
 
     public long getBetterCommitBeforeTimeInNano() {
@@ -24,6 +24,7 @@ import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 
 /**
@@ -37,6 +38,8 @@ public class JournalWriter {
     // other threads can put log to this queue by calling Editlog.logEdit()
     private final BlockingQueue<JournalTask> journalQueue;
     private final Journal journal;
+    // batches prepared but not committed yet, only used if metadata_journal_enable_pipeline is true
+    private final BlockingQueue<List<JournalTask>> preparedBatches = new ArrayBlockingQueue<>(1);
 
     // used for checking if edit log need to roll
     protected long rollJournalCounter = 0;
@@ -82,48 +85,106 @@ public class JournalWriter {
     public void startDaemon() {
         // ensure init() is called.
         assert (nextVisibleJournalId > 0);
+        if (Config.metadata_journal_enable_pipeline) {
+            startPipelineDaemons();
+            return;
+        }
         Daemon d = new Daemon("JournalWriter", 0L) {
             @Override
             protected void runOneCycle() {
                 try {
                     writeOneBatch();
                 } catch (InterruptedException e) {
-                    String msg = "got interrupted exception when trying to write one batch, will exit now.";
-                    LOG.error(msg, e);
-                    // TODO we should exit gracefully on InterruptedException
-                    Util.stdoutWithTime(msg);
-                    System.exit(-1);
+                    exitOnInterrupted(e);
                 }
             }
         };
         d.start();
     }
 
+    /**
+     * One thread takes journals from the queue and prepares the next batch, while another thread commits the
+     * prepared batches one by one. So the next batch is ready to be written as soon as the current one is committed.
+     */
+    private void startPipelineDaemons() {
+        Daemon committer = new Daemon("JournalCommitter", 0L) {
+            @Override
+            protected void runOneCycle() {
+                try {
+                    commitBatch(preparedBatches.take());
+                } catch (InterruptedException e) {
+                    exitOnInterrupted(e);
+                }
+            }
+        };
+        committer.start();
+        Daemon preparer = new Daemon("JournalWriter", 0L) {
+            @Override
+            protected void runOneCycle() {
+                try {
+                    preparedBatches.put(prepareBatch());
+                } catch (InterruptedException e) {
+                    exitOnInterrupted(e);
+                }
+            }
+        };
+        preparer.start();
+    }
+
+    private static void exitOnInterrupted(InterruptedException e) {
+        String msg = "got interrupted exception when trying to write one batch, will exit now.";
+        LOG.error(msg, e);
+        // TODO we should exit gracefully on InterruptedException
+        Util.stdoutWithTime(msg);
+        System.exit(-1);
+    }
+
     protected void writeOneBatch() throws InterruptedException {
-        // waiting if necessary until an element becomes available
-        currentJournal = journalQueue.take();
+        commitBatch(prepareBatch());
+    }
+
+    /**
+     * Take as many journals as possible from the queue for the next batch,
+     * waiting if necessary until the first one becomes available.
+     */
+    protected List<JournalTask> prepareBatch() throws InterruptedException {
+        List<JournalTask> tasks = new ArrayList<>();
+        long estimatedBytes = 0;
+        while (true) {
+            JournalTask task = journalQueue.take();
+            tasks.add(task);
+            estimatedBytes += task.estimatedSizeByte();
+            if (shouldCommitNow(task, tasks.size(), estimatedBytes)) {
+                return tasks;
+            }
+        }
+    }
+
+    protected void commitBatch(List<JournalTask> tasks) throws InterruptedException {
         long nextJournalId = nextVisibleJournalId;
         initBatch();
+        updateQueueWaitMetrics(tasks);
 
+        int appended = 0;
         try {
             this.journal.batchWriteBegin();
 
-            while (true) {
-                journal.batchWriteAppend(nextJournalId, currentJournal.getBuffer());
-                currentBatchTasks.add(currentJournal);
+            for (JournalTask task : tasks) {
+                currentJournal = task;
+                journal.batchWriteAppend(nextJournalId, task.getBuffer());
+                currentBatchTasks.add(task);
+                uncommittedEstimatedBytes += task.estimatedSizeByte();
                 nextJournalId += 1;
-
-                if (shouldCommitNow()) {
-                    break;
-                }
-
-                currentJournal = journalQueue.take();
+                appended++;
             }
         } catch (JournalException e) {
-            // abort current task
+            // abort current task and the ones after it
             LOG.warn("failed to write batch, will abort current journal {} and commit", currentJournal, e);
-            abortJournalTask(currentJournal, e.getMessage());
+            for (JournalTask task : tasks.subList(appended, tasks.size())) {
+                abortJournalTask(task, e.getMessage());
+            }
         } finally {
+            long commitStartTimeNano = System.nanoTime();
             try {
                 // commit
                 journal.batchWriteCommit();
@@ -141,6 +202,9 @@ public class JournalWriter {
                 }
                 abortCurrentBatch(e.getMessage());
             }
+            if (MetricRepo.hasInit) {
+                MetricRepo.HISTO_JOURNAL_COMMIT_LATENCY.update((System.nanoTime() - commitStartTimeNano) / 1000000);
+            }
         }
 
         rollJournalAfterBatch();
@@ -178,34 +242,33 @@ public class JournalWriter {
         System.exit(-1);
     }
 
-    private boolean shouldCommitNow() {
+    private boolean shouldCommitNow(JournalTask task, int batchSize, long batchEstimatedBytes) {
         // 1. check if is an emergency journal
-        if (currentJournal.getBetterCommitBeforeTimeInNano() > 0) {
-            long delayNanos = System.nanoTime() - currentJournal.getBetterCommitBeforeTimeInNano();
+        if (task.getBetterCommitBeforeTimeInNano() > 0) {
+            long delayNanos = System.nanoTime() - task.getBetterCommitBeforeTimeInNano();
             if (delayNanos >= 0) {
                 long logTime = System.currentTimeMillis();
                 // avoid logging too many messages if triggered frequently
                 if (lastLogTimeForDelayTriggeredCommit + 500 < logTime) {
                     lastLogTimeForDelayTriggeredCommit = logTime;
                     LOG.warn("journal expect commit before {} is delayed {} nanos, will commit now",
-                            currentJournal.getBetterCommitBeforeTimeInNano(), delayNanos);
+                            task.getBetterCommitBeforeTimeInNano(), delayNanos);
                 }
                 return true;
             }
         }
 
         // 2. check uncommitted journal by count
-        if (currentBatchTasks.size() >= Config.metadata_journal_max_batch_cnt) {
+        if (batchSize >= Config.metadata_journal_max_batch_cnt) {
             LOG.warn("uncommitted journal {} >= {}, will commit now",
-                    currentBatchTasks.size(), Config.metadata_journal_max_batch_cnt);
+                    batchSize, Config.metadata_journal_max_batch_cnt);
             return true;
         }
 
         // 3. check uncommitted journals by size
-        uncommittedEstimatedBytes += currentJournal.estimatedSizeByte();
-        if (uncommittedEstimatedBytes >= (long) Config.metadata_journal_max_batch_size_mb * 1024 * 1024) {
+        if (batchEstimatedBytes >= (long) Config.metadata_journal_max_batch_size_mb * 1024 * 1024) {
             LOG.warn("uncommitted estimated bytes {} >= {}MB, will commit now",
-                    uncommittedEstimatedBytes, Config.metadata_journal_max_batch_size_mb);
+                    batchEstimatedBytes, Config.metadata_journal_max_batch_size_mb);
             return true;
         }
 
@@ -213,6 +276,14 @@ public class JournalWriter {
         return journalQueue.peek() == null;
     }
 
+    private void updateQueueWaitMetrics(List<JournalTask> tasks) {
+        if (MetricRepo.hasInit) {
+            for (JournalTask task : tasks) {
+                MetricRepo.HISTO_JOURNAL_QUEUE_WAIT.update((startTimeNano - task.getStartTimeNano()) / 1000000);
+            }
+        }
+    }
+
     /**
      * update all metrics after batch write
      */
@@ -26,6 +26,7 @@ import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Set;
 import javax.validation.constraints.NotNull;
@@ -134,8 +135,27 @@ public class CommitRateLimiter {
         }
     }
 
+    /**
+     * Checks whether the commits to any of the given partitions are slowed down, i.e. their compaction score
+     * exceeds the slowdown threshold.
+     */
+    public static boolean isUnderPressure(@NotNull CompactionMgr compactionMgr, long dbId, long tableId,
+                                          @NotNull Collection<Long> partitionIds) {
+        double threshold = slowdownThreshold();
+        for (Long partitionId : partitionIds) {
+            if (getPartitionCompactionScore(compactionMgr, dbId, tableId, partitionId) > threshold) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private double getPartitionCompactionScore(@NotNull Long partitionId) {
-        long dbId = transactionState.getDbId();
+        return getPartitionCompactionScore(compactionMgr, transactionState.getDbId(), tableId, partitionId);
+    }
+
+    private static double getPartitionCompactionScore(@NotNull CompactionMgr compactionMgr, long dbId, long tableId,
+                                                      @NotNull Long partitionId) {
         // TODO: Should be able to fetch statistics by partition id
         PartitionIdentifier partitionIdentifier = new PartitionIdentifier(dbId, tableId, partitionId);
         PartitionStatistics statistics = compactionMgr.getStatistics(partitionIdentifier);
@@ -723,6 +723,8 @@ public class LeaderImpl {
         if (txnState != null) {
             txnState.updatePublishTaskFinishTime();
         }
+        // try to finish the transaction at once
+        GlobalStateMgr.getCurrentState().getPublishVersionDaemon().wakeUp();
 
         if (request.getTask_status().getStatus_code() != TStatusCode.OK) {
             // not remove the task from queue and be will retry
@@ -147,6 +147,7 @@ public final class MetricRepo {
     public static LongCounterMetric COUNTER_LOAD_FINISHED;
     public static LongCounterMetric COUNTER_EDIT_LOG_WRITE;
     public static LongCounterMetric COUNTER_EDIT_LOG_READ;
+    public static LongCounterMetric COUNTER_EDIT_LOG_REPLAY_CONCURRENT;
     public static LongCounterMetric COUNTER_EDIT_LOG_SIZE_BYTES;
     public static LongCounterMetric COUNTER_IMAGE_WRITE;
     public static LongCounterMetric COUNTER_IMAGE_PUSH;
@@ -166,7 +167,14 @@ public final class MetricRepo {
     public static Histogram HISTO_JOURNAL_WRITE_LATENCY;
     public static Histogram HISTO_JOURNAL_WRITE_BATCH;
     public static Histogram HISTO_JOURNAL_WRITE_BYTES;
+    public static Histogram HISTO_JOURNAL_QUEUE_WAIT;
+    public static Histogram HISTO_JOURNAL_COMMIT_LATENCY;
     public static Histogram HISTO_SHORTCIRCUIT_RPC_LATENCY;
+    // the stages from the commit to the visible of load transactions
+    public static Histogram HISTO_TXN_PUBLISH_WAIT;
+    public static Histogram HISTO_TXN_PUBLISH_LATENCY;
+    public static Histogram HISTO_TXN_FINISH_LATENCY;
+    public static Histogram HISTO_TXN_VISIBLE_LATENCY;
 
     // following metrics will be updated by metric calculator
     public static GaugeMetricImpl<Double> GAUGE_QUERY_PER_SECOND;
@@ -297,6 +305,20 @@ public final class MetricRepo {
         };
         STARROCKS_METRIC_REGISTER.addMetric(metaLogCount);
 
+        // number of the journals not replayed yet
+        GaugeMetric<Long> metaReplayLag = new GaugeMetric<Long>(
+                "meta_replay_lag", MetricUnit.NOUNIT, "number of journals which are not replayed yet") {
+            @Override
+            public Long getValue() {
+                GlobalStateMgr globalStateMgr = GlobalStateMgr.getCurrentState();
+                if (globalStateMgr.isLeader()) {
+                    return 0L;
+                }
+                return Math.max(globalStateMgr.getMaxJournalId() - globalStateMgr.getReplayedJournalId(), 0L);
+            }
+        };
+        STARROCKS_METRIC_REGISTER.addMetric(metaReplayLag);
+
         // scheduled tablet num
         GaugeMetric<Long> scheduledTabletNum = (GaugeMetric<Long>) new GaugeMetric<Long>(
                 "scheduled_tablet_num", MetricUnit.NOUNIT, "number of tablets being scheduled") {
@@ -446,6 +468,9 @@ public final class MetricRepo {
         COUNTER_EDIT_LOG_READ =
                 new LongCounterMetric("edit_log_read", MetricUnit.OPERATIONS, "counter of edit log read from bdbje");
         STARROCKS_METRIC_REGISTER.addMetric(COUNTER_EDIT_LOG_READ);
+        COUNTER_EDIT_LOG_REPLAY_CONCURRENT = new LongCounterMetric("edit_log_replay_concurrent", MetricUnit.OPERATIONS,
+                "counter of edit log replayed concurrently with the edit logs of other databases");
+        STARROCKS_METRIC_REGISTER.addMetric(COUNTER_EDIT_LOG_REPLAY_CONCURRENT);
         COUNTER_EDIT_LOG_SIZE_BYTES =
                 new LongCounterMetric("edit_log_size_bytes", MetricUnit.BYTES, "size of edit log");
         STARROCKS_METRIC_REGISTER.addMetric(COUNTER_EDIT_LOG_SIZE_BYTES);
@@ -521,7 +546,15 @@ public final class MetricRepo {
                 METRIC_REGISTER.histogram(MetricRegistry.name("journal", "write", "batch"));
         HISTO_JOURNAL_WRITE_BYTES =
                 METRIC_REGISTER.histogram(MetricRegistry.name("journal", "write", "bytes"));
+        HISTO_JOURNAL_QUEUE_WAIT =
+                METRIC_REGISTER.histogram(MetricRegistry.name("journal", "queue", "wait", "ms"));
+        HISTO_JOURNAL_COMMIT_LATENCY =
+                METRIC_REGISTER.histogram(MetricRegistry.name("journal", "commit", "latency", "ms"));
         HISTO_SHORTCIRCUIT_RPC_LATENCY = METRIC_REGISTER.histogram(MetricRegistry.name("shortcircuit", "latency", "ms"));
+        HISTO_TXN_PUBLISH_WAIT = METRIC_REGISTER.histogram(MetricRegistry.name("txn", "publish", "wait", "ms"));
+        HISTO_TXN_PUBLISH_LATENCY = METRIC_REGISTER.histogram(MetricRegistry.name("txn", "publish", "latency", "ms"));
+        HISTO_TXN_FINISH_LATENCY = METRIC_REGISTER.histogram(MetricRegistry.name("txn", "finish", "latency", "ms"));
+        HISTO_TXN_VISIBLE_LATENCY = METRIC_REGISTER.histogram(MetricRegistry.name("txn", "visible", "latency", "ms"));
 
         // init system metrics
         initSystemMetrics();
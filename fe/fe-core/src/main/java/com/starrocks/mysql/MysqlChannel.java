@@ -43,6 +43,7 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * This class used to read/write MySQL logical packet.
@@ -75,6 +76,8 @@ public class MysqlChannel {
     protected String remoteIp;
     protected boolean isSend;
     protected boolean closed;
+    // Not a monitor, so a virtual thread closing the channel won't pin its carrier thread
+    protected final ReentrantLock closeLock = new ReentrantLock();
 
     protected MysqlChannel() {
         this(null);
@@ -133,16 +136,18 @@ public class MysqlChannel {
     }
 
     // Close channel
-    public synchronized void close() {
-        if (closed) {
-            return;
-        }
+    public void close() {
+        closeLock.lock();
         try {
+            if (closed) {
+                return;
+            }
             channel.close();
         } catch (IOException e) {
             LOG.warn("Close channel exception, ignore.");
         } finally {
             closed = true;
+            closeLock.unlock();
         }
     }
 
@@ -322,6 +327,35 @@ public class MysqlChannel {
         accSequenceId();
     }
 
+    /**
+     * Same as {@link #sendOnePacket(ByteBuffer)}, but the packet is a slice of the byte array,
+     * e.g. a row in the serialized result batch received from BE.
+     */
+    public void sendOnePacket(byte[] packet, int offset, int length) throws IOException {
+        initBuffer(DEFAULT_BUFFER_SIZE);
+        int end = offset + length;
+        while (end - offset >= MAX_PHYSICAL_PACKET_LENGTH) {
+            writeHeader(MAX_PHYSICAL_PACKET_LENGTH);
+            writeBytes(packet, offset, MAX_PHYSICAL_PACKET_LENGTH);
+            offset += MAX_PHYSICAL_PACKET_LENGTH;
+            accSequenceId();
+        }
+        writeHeader(end - offset);
+        writeBytes(packet, offset, end - offset);
+        accSequenceId();
+    }
+
+    private void writeBytes(byte[] bytes, int offset, int length) throws IOException {
+        if (sendBuffer.remaining() < length) {
+            flush();
+        }
+        if (length > sendBuffer.remaining()) {
+            send(ByteBuffer.wrap(bytes, offset, length));
+            return;
+        }
+        sendBuffer.put(bytes, offset, length);
+    }
+
     public void sendAndFlush(ByteBuffer packet) throws IOException {
         sendOnePacket(packet);
         flush();
@@ -53,13 +53,18 @@ public class NConnectContext extends ConnectContext {
     }
 
     @Override
-    public synchronized void cleanup() {
-        if (closed) {
-            return;
+    public void cleanup() {
+        cleanupLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            mysqlChannel.close();
+            returnRows = 0;
+        } finally {
+            cleanupLock.unlock();
         }
-        closed = true;
-        mysqlChannel.close();
-        returnRows = 0;
     }
 
     public void startAcceptQuery(ConnectProcessor connectProcessor) {
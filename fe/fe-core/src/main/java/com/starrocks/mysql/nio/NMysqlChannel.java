@@ -73,16 +73,18 @@ public class NMysqlChannel extends MysqlChannel {
     }
 
     @Override
-    public synchronized void close() {
-        if (closed) {
-            return;
-        }
+    public void close() {
+        closeLock.lock();
         try {
+            if (closed) {
+                return;
+            }
             conn.close();
         } catch (IOException e) {
             LOG.warn("Close channel exception, ignore.");
         } finally {
             closed = true;
+            closeLock.unlock();
         }
     }
 
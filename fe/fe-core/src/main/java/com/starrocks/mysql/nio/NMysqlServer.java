@@ -64,8 +64,9 @@ public class NMysqlServer extends MysqlServer {
     private AcceptingChannel<StreamConnection> server;
 
     // default task service.
-    private ExecutorService taskService = ThreadPoolManager
-            .newDaemonCacheThreadPool(Config.max_mysql_service_task_threads_num, "starrocks-mysql-nio-pool", true);
+    private ExecutorService taskService = ThreadPoolManager.newDaemonBlockingTaskExecutor(
+            Config.mysql_service_virtual_threads_enabled, Config.max_mysql_service_task_threads_num,
+            "starrocks-mysql-nio-pool", true);
 
     public NMysqlServer(int port, ConnectScheduler connectScheduler, SSLContext sslContext) {
         this.port = port;
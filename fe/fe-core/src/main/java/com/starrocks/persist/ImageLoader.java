@@ -14,10 +14,18 @@
 
 package com.starrocks.persist;
 
+import com.google.common.io.ByteStreams;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.starrocks.common.ThreadPoolManager;
+import com.starrocks.persist.metablock.SRMetaBlockEOFException;
+import com.starrocks.persist.metablock.SRMetaBlockException;
+import com.starrocks.persist.metablock.SRMetaBlockID;
+import com.starrocks.persist.metablock.SRMetaBlockLoader;
 import com.starrocks.persist.metablock.SRMetaBlockReader;
 import com.starrocks.persist.metablock.SRMetaBlockReaderV1;
 import com.starrocks.persist.metablock.SRMetaBlockReaderV2;
+import com.starrocks.server.GlobalStateMgr;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -26,9 +34,19 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.zip.CRC32;
 import java.util.zip.CheckedInputStream;
 
@@ -90,6 +108,103 @@ public class ImageLoader {
         }
     }
 
+    /**
+     * Load the meta blocks saved in segments, see {@link ImageSegmentIndex}.
+     * Segments are visited in the order of the index. A segment whose meta blocks are all in concurrentBlockIds
+     * is loaded by the thread pool, and it's submitted after all the serial segments before it are loaded.
+     * Other segments are loaded in the calling thread after all the segments before them are loaded.
+     *
+     * @return ids of the loaded meta blocks
+     */
+    public Set<SRMetaBlockID> loadSegments(ImageSegmentIndex segmentIndex, Map<SRMetaBlockID, SRMetaBlockLoader> loaders,
+                                           Set<SRMetaBlockID> concurrentBlockIds, int parallelism)
+            throws IOException, SRMetaBlockException {
+        Set<SRMetaBlockID> loadedBlockIds = ConcurrentHashMap.newKeySet();
+        List<ImageSegmentIndex.Segment> segments = segmentIndex.getSegments();
+        long offset = imageFile.length() - segmentIndex.getTotalLength();
+        if (offset < 0) {
+            throw new IOException(String.format("invalid image segment index, image length %d < segments length %d",
+                    imageFile.length(), segmentIndex.getTotalLength()));
+        }
+
+        ExecutorService executor = ThreadPoolManager.newDaemonFixedThreadPool(
+                parallelism, Math.max(segments.size(), 1), "image-loader", false);
+        try {
+            List<Future<Void>> runningSegments = new ArrayList<>();
+            for (ImageSegmentIndex.Segment segment : segments) {
+                long segmentOffset = offset;
+                offset += segment.getLength();
+                if (concurrentBlockIds.containsAll(segment.getBlockIds())) {
+                    runningSegments.add(executor.submit(GlobalStateMgr.wrapCheckpointWorkerTask(() -> {
+                        loadSegment(segment, segmentIndex.getCodec(), segmentOffset, loaders, loadedBlockIds);
+                        return null;
+                    })));
+                } else {
+                    // may depend on any meta block before it
+                    for (Future<Void> future : runningSegments) {
+                        ImageSegmentIndex.waitFor(future);
+                    }
+                    runningSegments.clear();
+                    loadSegment(segment, segmentIndex.getCodec(), segmentOffset, loaders, loadedBlockIds);
+                }
+            }
+            for (Future<Void> future : runningSegments) {
+                ImageSegmentIndex.waitFor(future);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        LOG.info("loaded {} image segments with parallelism {} and codec {}",
+                segments.size(), parallelism, segmentIndex.getCodec());
+        return loadedBlockIds;
+    }
+
+    private void loadSegment(ImageSegmentIndex.Segment segment, ImageCompressionCodec codec, long offset,
+                             Map<SRMetaBlockID, SRMetaBlockLoader> loaders, Set<SRMetaBlockID> loadedBlockIds)
+            throws IOException, SRMetaBlockException {
+        try (FileChannel channel = FileChannel.open(imageFile.toPath(), StandardOpenOption.READ)) {
+            channel.position(offset);
+            CheckedInputStream segmentStream = new CheckedInputStream(ByteStreams.limit(
+                    new BufferedInputStream(Channels.newInputStream(channel)), segment.getLength()), new CRC32());
+            try (InputStream dataStream = codec.decompress(segmentStream)) {
+                JsonReader segmentJsonReader = new JsonReader(new InputStreamReader(dataStream, StandardCharsets.UTF_8));
+                segmentJsonReader.setLenient(true);
+
+                while (segmentJsonReader.peek() != JsonToken.END_DOCUMENT) {
+                    SRMetaBlockReader reader = new SRMetaBlockReaderV2(segmentJsonReader);
+                    SRMetaBlockID srMetaBlockID = reader.getHeader().getSrMetaBlockID();
+                    try {
+                        SRMetaBlockLoader metaBlockLoader = loaders.get(srMetaBlockID);
+                        if (metaBlockLoader == null) {
+                            LOG.warn("Ignore this invalid meta block, sr meta block id mismatch" +
+                                    "(expect sr meta block id {})", srMetaBlockID);
+                            continue;
+                        }
+                        metaBlockLoader.apply(reader);
+                        loadedBlockIds.add(srMetaBlockID);
+                        LOG.info("Success load StarRocks meta block {} from image segment", srMetaBlockID);
+                    } catch (SRMetaBlockEOFException srMetaBlockEOFException) {
+                        loadedBlockIds.add(srMetaBlockID);
+                        LOG.warn("Got EOF exception, ignore, ", srMetaBlockEOFException);
+                    } catch (Throwable t) {
+                        LOG.warn("load meta block {} failed", srMetaBlockID, t);
+                        throw t;
+                    } finally {
+                        reader.close();
+                    }
+                }
+
+                ByteStreams.exhaust(dataStream);
+                ByteStreams.exhaust(segmentStream);
+                long realCheckSum = segmentStream.getChecksum().getValue();
+                if (realCheckSum != segment.getChecksum()) {
+                    throw new IOException(String.format("checksum mismatch of image segment %s! expect %d actual %d",
+                            segment.getBlockIds(), segment.getChecksum(), realCheckSum));
+                }
+            }
+        }
+    }
+
     public void readTheRemainingBytes() {
         if (imageFormatVersion == ImageFormatVersion.v2) {
             byte[] bytes = new byte[8192];
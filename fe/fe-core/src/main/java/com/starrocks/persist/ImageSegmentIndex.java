@@ -0,0 +1,127 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package com.starrocks.persist;
+
+import com.google.gson.annotations.SerializedName;
+import com.starrocks.persist.metablock.SRMetaBlockException;
+import com.starrocks.persist.metablock.SRMetaBlockID;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Index of the segments of an image whose meta blocks are saved in parallel.
+ * <p>
+ * +------------------+
+ * |   image header   |
+ * +------------------+
+ * |  segment index   | meta block of IMAGE_SEGMENT_INDEX, skipped by loaders that don't know it
+ * +------------------+
+ * |    segment 1     | meta blocks saved by one saver, e.g. LOCAL_META_STORE
+ * +------------------+
+ * |      ...         |
+ * +------------------+
+ * |    segment n     |
+ * +------------------+
+ *
+ * Every segment is a sequence of V2 meta blocks, so the whole image can still be read sequentially by
+ * SRMetaBlockReaderV2, unless the segments are compressed by the codec. The segments are stored at the end of
+ * the image, one after another, so the offset of a segment is derived from the image length and the lengths
+ * of the segments. The length and checksum of a segment are those of the stored, maybe compressed, bytes.
+ */
+public class ImageSegmentIndex {
+    @SerializedName("s")
+    private final List<Segment> segments = new ArrayList<>();
+    // null in the images saved by older versions
+    @SerializedName("cc")
+    private ImageCompressionCodec codec;
+
+    public ImageSegmentIndex() {
+        this(ImageCompressionCodec.NONE);
+    }
+
+    public ImageSegmentIndex(ImageCompressionCodec codec) {
+        this.codec = codec;
+    }
+
+    public ImageCompressionCodec getCodec() {
+        return codec == null ? ImageCompressionCodec.NONE : codec;
+    }
+
+    public boolean isCompressed() {
+        return getCodec() != ImageCompressionCodec.NONE;
+    }
+
+    public List<Segment> getSegments() {
+        return segments;
+    }
+
+    public void addSegment(Segment segment) {
+        segments.add(segment);
+    }
+
+    public long getTotalLength() {
+        return segments.stream().mapToLong(Segment::getLength).sum();
+    }
+
+    /**
+     * Wait for the saving or loading of a segment, and rethrow its exception.
+     */
+    static <T> T waitFor(Future<T> future) throws IOException, SRMetaBlockException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while waiting for image segment", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof SRMetaBlockException) {
+                throw (SRMetaBlockException) cause;
+            }
+            throw new IOException("image segment failed", cause);
+        }
+    }
+
+    public static class Segment {
+        @SerializedName("b")
+        private final List<SRMetaBlockID> blockIds;
+        @SerializedName("l")
+        private final long length;
+        @SerializedName("c")
+        private final long checksum;
+
+        public Segment(List<SRMetaBlockID> blockIds, long length, long checksum) {
+            this.blockIds = blockIds;
+            this.length = length;
+            this.checksum = checksum;
+        }
+
+        public List<SRMetaBlockID> getBlockIds() {
+            return blockIds;
+        }
+
+        public long getLength() {
+            return length;
+        }
+
+        public long getChecksum() {
+            return checksum;
+        }
+    }
+}
@@ -14,24 +14,40 @@
 
 package com.starrocks.persist;
 
+import com.google.common.collect.ImmutableList;
 import com.google.gson.stream.JsonWriter;
+import com.starrocks.common.ThreadPoolManager;
 import com.starrocks.persist.metablock.SRMetaBlockException;
 import com.starrocks.persist.metablock.SRMetaBlockID;
+import com.starrocks.persist.metablock.SRMetaBlockSaver;
 import com.starrocks.persist.metablock.SRMetaBlockWriter;
 import com.starrocks.persist.metablock.SRMetaBlockWriterV1;
 import com.starrocks.persist.metablock.SRMetaBlockWriterV2;
+import com.starrocks.server.GlobalStateMgr;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
+import java.io.BufferedOutputStream;
 import java.io.DataOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.zip.CRC32;
 import java.util.zip.CheckedOutputStream;
 
 public class ImageWriter {
+    private static final Logger LOG = LogManager.getLogger(ImageWriter.class);
+
+    private static final String SEGMENT_FILE_PREFIX = "segment.";
+
     private final ImageFormatVersion imageFormatVersion;
     private final String imageDir;
     private final long imageJournalId;
@@ -40,6 +56,8 @@ public class ImageWriter {
     private CheckedOutputStream checkedOutputStream;
     private JsonWriter jsonWriter;
     private DataOutputStream dataOutputStream;
+    // ids of the meta blocks written by this writer
+    private final List<SRMetaBlockID> blockIds = new ArrayList<>();
 
     public ImageWriter(String imageDir, ImageFormatVersion imageFormatVersion, long imageJournalId) {
         this.imageDir = imageDir;
@@ -55,6 +73,7 @@ public class ImageWriter {
     }
 
     public SRMetaBlockWriter getBlockWriter(SRMetaBlockID id, int numJson) throws SRMetaBlockException {
+        blockIds.add(id);
         if (imageFormatVersion == ImageFormatVersion.v1) {
             return new SRMetaBlockWriterV1(outputStream, id, numJson);
         } else {
@@ -66,6 +85,81 @@ public class ImageWriter {
         return dataOutputStream;
     }
 
+    public void saveMetaBlocks(List<SRMetaBlockSaver> savers, int parallelism) throws IOException, SRMetaBlockException {
+        saveMetaBlocks(savers, parallelism, ImageCompressionCodec.NONE);
+    }
+
+    /**
+     * Save the meta blocks of all savers after the image header.
+     * If the format is v2, and parallelism is greater than 1 or the codec is not NONE, every saver is run in a
+     * separate thread and writes its meta blocks to a separate segment file compressed by the codec, then the
+     * segment index and all segments are appended to the image in the order of savers.
+     * See {@link ImageSegmentIndex} for the layout.
+     */
+    public void saveMetaBlocks(List<SRMetaBlockSaver> savers, int parallelism, ImageCompressionCodec codec)
+            throws IOException, SRMetaBlockException {
+        if (imageFormatVersion == ImageFormatVersion.v1 || (parallelism <= 1 && codec == ImageCompressionCodec.NONE)) {
+            for (SRMetaBlockSaver saver : savers) {
+                saver.apply(this);
+            }
+            return;
+        }
+
+        List<File> segmentFiles = new ArrayList<>(savers.size());
+        for (int i = 0; i < savers.size(); i++) {
+            segmentFiles.add(new File(imageDir, SEGMENT_FILE_PREFIX + imageJournalId + "." + i));
+        }
+        ExecutorService executor = ThreadPoolManager.newDaemonFixedThreadPool(
+                Math.max(parallelism, 1), savers.size(), "image-saver", false);
+        try {
+            List<Future<ImageSegmentIndex.Segment>> futures = new ArrayList<>(savers.size());
+            for (int i = 0; i < savers.size(); i++) {
+                SRMetaBlockSaver saver = savers.get(i);
+                File segmentFile = segmentFiles.get(i);
+                futures.add(executor.submit(GlobalStateMgr.wrapCheckpointWorkerTask(
+                        () -> saveSegment(saver, segmentFile, codec))));
+            }
+
+            ImageSegmentIndex segmentIndex = new ImageSegmentIndex(codec);
+            for (Future<ImageSegmentIndex.Segment> future : futures) {
+                segmentIndex.addSegment(ImageSegmentIndex.waitFor(future));
+            }
+
+            SRMetaBlockWriter writer = getBlockWriter(SRMetaBlockID.IMAGE_SEGMENT_INDEX, 1);
+            writer.writeJson(segmentIndex);
+            writer.close();
+
+            for (File segmentFile : segmentFiles) {
+                Files.copy(segmentFile.toPath(), checkedOutputStream);
+            }
+            checkedOutputStream.flush();
+            LOG.info("saved {} image segments with parallelism {} and codec {}, total length {}",
+                    segmentFiles.size(), parallelism, codec, segmentIndex.getTotalLength());
+        } finally {
+            executor.shutdownNow();
+            for (File segmentFile : segmentFiles) {
+                Files.deleteIfExists(segmentFile.toPath());
+            }
+        }
+    }
+
+    private ImageSegmentIndex.Segment saveSegment(SRMetaBlockSaver saver, File segmentFile, ImageCompressionCodec codec)
+            throws IOException, SRMetaBlockException {
+        ImageWriter segmentWriter = new ImageWriter(imageDir, imageFormatVersion, imageJournalId);
+        // checksum of the stored bytes, so a segment can be verified before it's decompressed
+        CheckedOutputStream storedStream = new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(segmentFile.toPath())), new CRC32());
+        try (OutputStream out = codec.compress(storedStream)) {
+            segmentWriter.setOutputStream(out);
+            saver.apply(segmentWriter);
+            segmentWriter.checkedOutputStream.flush();
+        } finally {
+            storedStream.close();
+        }
+        return new ImageSegmentIndex.Segment(ImmutableList.copyOf(segmentWriter.blockIds), segmentFile.length(),
+                storedStream.getChecksum().getValue());
+    }
+
     public void saveChecksum() throws IOException {
         if (imageFormatVersion == ImageFormatVersion.v2) {
             Path path = Path.of(imageDir, Storage.CHECKSUM + "." + imageJournalId);
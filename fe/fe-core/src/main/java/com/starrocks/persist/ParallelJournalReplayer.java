@@ -0,0 +1,171 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.persist;
+
+import com.starrocks.common.Config;
+import com.starrocks.common.ThreadPoolManager;
+import com.starrocks.journal.JournalEntity;
+import com.starrocks.journal.JournalInconsistentException;
+import com.starrocks.metric.MetricRepo;
+import com.starrocks.server.GlobalStateMgr;
+import com.starrocks.transaction.TransactionState;
+import com.starrocks.transaction.TransactionStateBatch;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Replays the journals which only change the metadata of one database concurrently with the journals of other
+ * databases, e.g. the transaction states written by loads.
+ * <p>
+ * Journals of the same database are replayed by the same worker in the order of journal id. Any other journal is
+ * a barrier: the caller must wait for all the submitted journals by {@link #waitAll()} before replaying it, and
+ * advance the replayed journal id only after waitAll() returns, so the visible replay progress is always a prefix
+ * of the journals written by the leader.
+ * <p>
+ * A failed journal can't be retried, because the journals after it may have been replayed by other workers,
+ * so the failure is reported as a JournalInconsistentException unless it's skipped by the given handler.
+ */
+public class ParallelJournalReplayer {
+    private static final Logger LOG = LogManager.getLogger(ParallelJournalReplayer.class);
+
+    // workers are shared by the replayer of serving state and checkpoint, one task is replayed by one thread.
+    private static volatile ExecutorService[] workers;
+
+    private final SkipHandler skipHandler;
+    private final List<Future<?>> pendingTasks = new ArrayList<>();
+    private JournalInconsistentException failure;
+
+    public interface ReplayTask {
+        void replay() throws Exception;
+    }
+
+    public interface SkipHandler {
+        boolean canSkip(Throwable t, long journalId);
+    }
+
+    public ParallelJournalReplayer(SkipHandler skipHandler) {
+        this.skipHandler = skipHandler;
+    }
+
+    public static boolean isEnabled() {
+        return Config.metadata_journal_replay_parallelism > 1;
+    }
+
+    /**
+     * Returns the id of the only database changed by replaying the journal,
+     * or -1 if the journal must be replayed exclusively.
+     */
+    public static long getPartitionKey(JournalEntity entity) {
+        switch (entity.getOpCode()) {
+            case OperationType.OP_UPSERT_TRANSACTION_STATE_V2:
+                return ((TransactionState) entity.getData()).getDbId();
+            case OperationType.OP_UPSERT_TRANSACTION_STATE_BATCH:
+                return ((TransactionStateBatch) entity.getData()).getDbId();
+            default:
+                return -1;
+        }
+    }
+
+    private static ExecutorService[] getWorkers() {
+        if (workers == null) {
+            synchronized (ParallelJournalReplayer.class) {
+                if (workers == null) {
+                    int parallelism = Math.max(Config.metadata_journal_replay_parallelism, 1);
+                    ExecutorService[] executors = new ExecutorService[parallelism];
+                    for (int i = 0; i < parallelism; i++) {
+                        executors[i] = ThreadPoolManager.newDaemonFixedThreadPool(1, Integer.MAX_VALUE,
+                                "journal-replayer-" + i, false);
+                    }
+                    workers = executors;
+                }
+            }
+        }
+        return workers;
+    }
+
+    /**
+     * Submit the journal to be replayed concurrently if it only changes one database.
+     *
+     * @param journalId id of the journal, used to check if the failure can be skipped
+     * @return false if the journal must be replayed exclusively by the caller after {@link #waitAll()}
+     */
+    public boolean submit(JournalEntity entity, long journalId, ReplayTask task) {
+        long key = getPartitionKey(entity);
+        if (key < 0) {
+            return false;
+        }
+        ExecutorService[] executors = getWorkers();
+        ExecutorService executor = executors[(int) Math.floorMod(key, (long) executors.length)];
+        pendingTasks.add(executor.submit(GlobalStateMgr.wrapCheckpointWorkerTask(() -> {
+            try {
+                task.replay();
+            } catch (Throwable t) {
+                if (!skipHandler.canSkip(t, journalId)) {
+                    LOG.warn("catch exception when replaying journal concurrently, id: {}, op code: {}",
+                            journalId, entity.getOpCode(), t);
+                    if (t instanceof Exception) {
+                        throw (Exception) t;
+                    }
+                    throw (Error) t;
+                }
+                LOG.error("!!! DANGER: SKIP JOURNAL, id: {}, op code: {} !!!", journalId, entity.getOpCode(), t);
+            }
+            return null;
+        })));
+        return true;
+    }
+
+    public int getPendingNum() {
+        return pendingTasks.size();
+    }
+
+    /**
+     * Wait for all the submitted journals.
+     *
+     * @return number of the journals replayed since last call
+     */
+    public int waitAll() throws JournalInconsistentException, InterruptedException {
+        if (failure != null) {
+            throw failure;
+        }
+        int replayed = pendingTasks.size();
+        Throwable firstFailure = null;
+        for (Future<?> task : pendingTasks) {
+            try {
+                task.get();
+            } catch (ExecutionException e) {
+                if (firstFailure == null) {
+                    firstFailure = e.getCause();
+                }
+            }
+        }
+        pendingTasks.clear();
+        if (firstFailure != null) {
+            failure = new JournalInconsistentException("failed to replay journal concurrently: " + firstFailure);
+            failure.initCause(firstFailure);
+            throw failure;
+        }
+        if (replayed > 0 && MetricRepo.hasInit) {
+            MetricRepo.COUNTER_EDIT_LOG_REPLAY_CONCURRENT.increase((long) replayed);
+        }
+        return replayed;
+    }
+}
@@ -38,9 +38,7 @@ package com.starrocks.persist.gson;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
 import com.google.gson.TypeAdapter;
 import com.google.gson.TypeAdapterFactory;
 import com.google.gson.internal.Streams;
@@ -49,6 +47,7 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -396,26 +395,188 @@ public final class RuntimeTypeAdapterFactory<T> implements TypeAdapterFactory {
                     throw new JsonParseException(
                             "cannot serialize " + srcType.getName() + "; did you forget to register a subtype?");
                 }
-                JsonObject jsonObject = delegate.toJsonTree(value).getAsJsonObject();
-
                 if (maintainType) {
-                    Streams.write(jsonObject, out);
+                    delegate.write(out, value);
                     return;
                 }
 
-                JsonObject clone = new JsonObject();
+                // Stream the object and insert the type field right after its opening brace, instead of building
+                // the whole json tree of the object, which may be very large, e.g. an OlapTable in the image.
+                LabeledJsonWriter labeledOut = new LabeledJsonWriter(out, typeFieldName, label, srcType);
+                delegate.write(labeledOut, value);
+                labeledOut.checkComplete();
+            }
+        }.nullSafe();
+    }
+
+    /**
+     * A JsonWriter which forwards everything to the underlying writer, and writes the type field as the first field
+     * of the top level object. It's the streaming equivalent of copying the json tree of the object into a new
+     * JsonObject which starts with the type field.
+     */
+    private static class LabeledJsonWriter extends JsonWriter {
+        private static final Writer UNWRITABLE_WRITER = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int counter) {
+                throw new AssertionError();
+            }
+
+            @Override
+            public void flush() {
+                throw new AssertionError();
+            }
+
+            @Override
+            public void close() {
+                throw new AssertionError();
+            }
+        };
+
+        private final JsonWriter out;
+        private final String typeFieldName;
+        private final String label;
+        private final Class<?> srcType;
+        // depth of the current object or array, 0 means the top level object is not started or already ended
+        private int depth = 0;
+        private boolean started = false;
+
+        LabeledJsonWriter(JsonWriter out, String typeFieldName, String label, Class<?> srcType) {
+            super(UNWRITABLE_WRITER);
+            this.out = out;
+            this.typeFieldName = typeFieldName;
+            this.label = label;
+            this.srcType = srcType;
+            setLenient(out.isLenient());
+            setHtmlSafe(out.isHtmlSafe());
+            setSerializeNulls(out.getSerializeNulls());
+        }
+
+        private void beforeValue() {
+            if (depth == 0) {
+                throw new JsonParseException("cannot serialize " + srcType.getName() + " because it's not a json object");
+            }
+        }
+
+        void checkComplete() {
+            if (!started || depth != 0) {
+                throw new JsonParseException("cannot serialize " + srcType.getName() + " because it's not a json object");
+            }
+        }
+
+        @Override
+        public JsonWriter beginArray() throws IOException {
+            beforeValue();
+            depth++;
+            out.beginArray();
+            return this;
+        }
+
+        @Override
+        public JsonWriter endArray() throws IOException {
+            depth--;
+            out.endArray();
+            return this;
+        }
 
-                if (jsonObject.has(typeFieldName)) {
+        @Override
+        public JsonWriter beginObject() throws IOException {
+            if (depth == 0) {
+                if (started) {
                     throw new JsonParseException("cannot serialize " + srcType.getName()
-                            + " because it already defines a field named " + typeFieldName);
+                            + " because it's not a single json object");
                 }
-                clone.add(typeFieldName, new JsonPrimitive(label));
+                started = true;
+                depth++;
+                out.beginObject();
+                out.name(typeFieldName).value(label);
+                return this;
+            }
+            depth++;
+            out.beginObject();
+            return this;
+        }
 
-                for (Map.Entry<String, JsonElement> e : jsonObject.entrySet()) {
-                    clone.add(e.getKey(), e.getValue());
-                }
-                Streams.write(clone, out);
+        @Override
+        public JsonWriter endObject() throws IOException {
+            depth--;
+            out.endObject();
+            return this;
+        }
+
+        @Override
+        public JsonWriter name(String name) throws IOException {
+            if (depth == 1 && typeFieldName.equals(name)) {
+                throw new JsonParseException("cannot serialize " + srcType.getName()
+                        + " because it already defines a field named " + typeFieldName);
             }
-        }.nullSafe();
+            out.name(name);
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(String value) throws IOException {
+            beforeValue();
+            out.value(value);
+            return this;
+        }
+
+        @Override
+        public JsonWriter jsonValue(String value) throws IOException {
+            beforeValue();
+            out.jsonValue(value);
+            return this;
+        }
+
+        @Override
+        public JsonWriter nullValue() throws IOException {
+            beforeValue();
+            out.nullValue();
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(boolean value) throws IOException {
+            beforeValue();
+            out.value(value);
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(Boolean value) throws IOException {
+            beforeValue();
+            out.value(value);
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(double value) throws IOException {
+            beforeValue();
+            out.value(value);
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(long value) throws IOException {
+            beforeValue();
+            out.value(value);
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(Number value) throws IOException {
+            beforeValue();
+            out.value(value);
+            return this;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            // the underlying writer is owned by the caller
+        }
     }
 }
\ No newline at end of file
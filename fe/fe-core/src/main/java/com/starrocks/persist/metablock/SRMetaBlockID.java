@@ -97,6 +97,11 @@ public class SRMetaBlockID {
 
     public static final SRMetaBlockID PIPE_MGR = new SRMetaBlockID(32);
 
+    /**
+     * NOTICE: this block is not a meta manager, it's the index of the image segments, see ImageSegmentIndex
+     */
+    public static final SRMetaBlockID IMAGE_SEGMENT_INDEX = new SRMetaBlockID(33);
+
     @Override
     public String toString() {
         return String.valueOf(id);
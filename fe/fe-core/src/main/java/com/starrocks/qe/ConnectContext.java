@@ -97,6 +97,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import javax.net.ssl.SSLContext;
 
 // When one client connect in, we create a connection context for it.
@@ -193,6 +194,8 @@ public class ConnectContext {
     protected String remoteIP;
 
     protected volatile boolean closed;
+    // Not a monitor, so a virtual thread closing the channel won't pin its carrier thread
+    protected final ReentrantLock cleanupLock = new ReentrantLock();
 
     // set with the randomstring extracted from the handshake data at connecting stage
     // used for authdata(password) salting
@@ -644,14 +647,19 @@ public class ConnectContext {
         this.executor = executor;
     }
 
-    public synchronized void cleanup() {
-        if (closed) {
-            return;
+    public void cleanup() {
+        cleanupLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            mysqlChannel.close();
+            threadLocalInfo.remove();
+            returnRows = 0;
+        } finally {
+            cleanupLock.unlock();
         }
-        closed = true;
-        mysqlChannel.close();
-        threadLocalInfo.remove();
-        returnRows = 0;
     }
 
     public boolean isKilled() {
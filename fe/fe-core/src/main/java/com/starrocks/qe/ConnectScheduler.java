@@ -73,8 +73,9 @@ public class ConnectScheduler {
     private final Map<Long, ConnectContext> connectionMap = Maps.newConcurrentMap();
     private final Map<String, AtomicInteger> connCountByUser = Maps.newConcurrentMap();
     private final ReentrantLock connStatsLock = new ReentrantLock();
-    private final ExecutorService executor = ThreadPoolManager
-            .newDaemonCacheThreadPool(Config.max_connection_scheduler_threads_num, "connect-scheduler-pool", true);
+    private final ExecutorService executor = ThreadPoolManager.newDaemonBlockingTaskExecutor(
+            Config.mysql_service_virtual_threads_enabled, Config.max_connection_scheduler_threads_num,
+            "connect-scheduler-pool", true);
 
     public ConnectScheduler(int maxConnections) {
         this.maxConnections = new AtomicInteger(maxConnections);
@@ -45,6 +45,7 @@ import com.starrocks.catalog.ResourceGroup;
 import com.starrocks.common.AnalysisException;
 import com.starrocks.common.Config;
 import com.starrocks.common.FeConstants;
+import com.starrocks.common.MemLimitExceededException;
 import com.starrocks.common.Status;
 import com.starrocks.common.ThriftServer;
 import com.starrocks.common.UserException;
@@ -901,6 +902,9 @@ public class DefaultCoordinator extends Coordinator {
                 if (hostIndex != -1) {
                     errMsg = errMsg.substring(0, hostIndex);
                 }
+                if (copyStatus.isMemLimitExceeded()) {
+                    throw new MemLimitExceededException(errMsg);
+                }
                 throw new UserException(errMsg);
             }
         }
@@ -920,7 +924,7 @@ public class DefaultCoordinator extends Coordinator {
                 }
             }
         } else {
-            numReceivedRows += resultBatch.getBatch().getRowsSize();
+            numReceivedRows += resultBatch.getRowNum();
         }
 
         return resultBatch;
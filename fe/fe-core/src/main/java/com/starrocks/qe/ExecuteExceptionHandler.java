@@ -14,15 +14,20 @@
 
 package com.starrocks.qe;
 
+import com.google.common.base.Predicates;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
 import com.starrocks.catalog.HiveTable;
 import com.starrocks.common.Config;
+import com.starrocks.common.MemLimitExceededException;
 import com.starrocks.common.UserException;
 import com.starrocks.common.profile.Tracers;
 import com.starrocks.common.util.DebugUtil;
 import com.starrocks.connector.ConnectorMetadata;
 import com.starrocks.connector.exception.RemoteFileNotFoundException;
 import com.starrocks.planner.HdfsScanNode;
+import com.starrocks.planner.JoinNode;
+import com.starrocks.planner.PlanFragment;
 import com.starrocks.planner.ScanNode;
 import com.starrocks.rpc.RpcException;
 import com.starrocks.server.CatalogMgr;
@@ -50,6 +55,8 @@ public class ExecuteExceptionHandler {
             handleRemoteFileNotFound((RemoteFileNotFoundException) e, context);
         } else if (e instanceof RpcException) {
             handleRpcException((RpcException) e, context);
+        } else if (e instanceof MemLimitExceededException) {
+            handleMemLimitExceeded((MemLimitExceededException) e, context);
         } else if (e instanceof UserException) {
             handleUserException((UserException) e, context);
         } else {
@@ -102,6 +109,51 @@ public class ExecuteExceptionHandler {
         }
     }
 
+    // The broadcast join is chosen by the estimated rows of build side, and broadcasting a build side which is
+    // underestimated by orders of magnitude makes every backend build the whole hash table, which is the common
+    // cause of exceeding the memory limit. Before retrying such a query, re-plan it with the shuffle joins.
+    private static void handleMemLimitExceeded(MemLimitExceededException e, RetryContext context) throws Exception {
+        ConnectContext connectContext = context.connectContext;
+        SessionVariable sessionVariable = connectContext.getSessionVariable();
+        if (!(context.parsedStmt instanceof QueryStatement) || !sessionVariable.isEnableReplanOnMemLimitExceeded() ||
+                !sessionVariable.isEnableBroadcastJoin() || !hasShufflableBroadcastJoin(context.execPlan)) {
+            throw e;
+        }
+
+        ExecPlan execPlan;
+        sessionVariable.setEnableBroadcastJoin(false);
+        try {
+            execPlan = StatementPlanner.plan(context.parsedStmt, connectContext);
+        } catch (Exception e1) {
+            // encounter exception when re-plan, just log the new error but throw the original cause.
+            LOG.warn("encounter exception when re-plan the query exceeding memory limit, [QueryId={}]",
+                    DebugUtil.printId(connectContext.getExecutionId()), e1);
+            throw e;
+        } finally {
+            sessionVariable.setEnableBroadcastJoin(true);
+        }
+
+        if (hasShufflableBroadcastJoin(execPlan)) {
+            throw e;
+        }
+        LOG.info("re-plan the query exceeding memory limit with shuffle joins, [QueryId={}]",
+                DebugUtil.printId(connectContext.getExecutionId()));
+        context.execPlan = execPlan;
+    }
+
+    private static boolean hasShufflableBroadcastJoin(ExecPlan execPlan) {
+        for (PlanFragment fragment : execPlan.getFragments()) {
+            List<JoinNode> joinNodes = Lists.newArrayList();
+            fragment.getPlanRoot().collectAll(Predicates.instanceOf(JoinNode.class), joinNodes);
+            for (JoinNode joinNode : joinNodes) {
+                if (joinNode.isBroadcast() && !joinNode.getEqJoinConjuncts().isEmpty()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     private static void handleUserException(UserException e, RetryContext context) throws Exception {
         String msg = e.getMessage();
         if (context.parsedStmt instanceof QueryStatement) {
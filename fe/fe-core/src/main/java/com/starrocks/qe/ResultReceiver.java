@@ -40,16 +40,13 @@ import com.starrocks.metric.MetricRepo;
 import com.starrocks.proto.PFetchDataResult;
 import com.starrocks.proto.PUniqueId;
 import com.starrocks.rpc.BackendServiceClient;
-import com.starrocks.rpc.ConfigurableSerDesFactory;
 import com.starrocks.rpc.PFetchDataRequest;
 import com.starrocks.rpc.RpcException;
 import com.starrocks.thrift.TNetworkAddress;
-import com.starrocks.thrift.TResultBatch;
 import com.starrocks.thrift.TStatusCode;
 import com.starrocks.thrift.TUniqueId;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.apache.thrift.TDeserializer;
 import org.apache.thrift.TException;
 
 import java.util.concurrent.ExecutionException;
@@ -123,10 +120,8 @@ public class ResultReceiver {
 
                 byte[] serialResult = request.getSerializedResult();
                 if (serialResult != null && serialResult.length > 0) {
-                    TResultBatch resultBatch = new TResultBatch();
-                    TDeserializer deserializer = ConfigurableSerDesFactory.getTDeserializer();
-                    deserializer.deserialize(resultBatch, serialResult);
-                    rowBatch.setBatch(resultBatch);
+                    // the rows are sent to the client from the serialized result without being deserialized
+                    rowBatch.setSerializedBatch(SerializedResultBatch.parse(serialResult));
                     rowBatch.setEos(pResult.eos);
                     return rowBatch;
                 }
@@ -22,6 +22,8 @@ import com.starrocks.thrift.TResultBatch;
 
 public final class RowBatch {
     private TResultBatch batch;
+    // the batch is decoded from it lazily, see SerializedResultBatch
+    private SerializedResultBatch serializedBatch;
     private PQueryStatistics statistics;
     private boolean eos;
 
@@ -30,6 +32,9 @@ public final class RowBatch {
     }
 
     public TResultBatch getBatch() {
+        if (batch == null && serializedBatch != null) {
+            batch = serializedBatch.decode();
+        }
         return batch;
     }
 
@@ -37,6 +42,26 @@ public final class RowBatch {
         this.batch = batch;
     }
 
+    public boolean hasBatch() {
+        return batch != null || serializedBatch != null;
+    }
+
+    public int getRowNum() {
+        if (batch != null) {
+            return batch.getRowsSize();
+        }
+        return serializedBatch == null ? 0 : serializedBatch.getRowNum();
+    }
+
+    // null if the batch is not received from BE
+    public SerializedResultBatch getSerializedBatch() {
+        return serializedBatch;
+    }
+
+    public void setSerializedBatch(SerializedResultBatch serializedBatch) {
+        this.serializedBatch = serializedBatch;
+    }
+
     public PQueryStatistics getQueryStatistics() {
         return statistics;
     }
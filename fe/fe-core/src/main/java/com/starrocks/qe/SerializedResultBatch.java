@@ -0,0 +1,146 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.qe;
+
+import com.starrocks.mysql.MysqlChannel;
+import com.starrocks.thrift.TResultBatch;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TField;
+import org.apache.thrift.protocol.TList;
+import org.apache.thrift.protocol.TProtocolException;
+import org.apache.thrift.protocol.TProtocolUtil;
+import org.apache.thrift.protocol.TType;
+import org.apache.thrift.transport.TMemoryInputTransport;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The TResultBatch serialized by BE, whose rows are already encoded as MySQL protocol rows.
+ * Deserializing it creates a TResultBatch with a ByteBuffer for every row, which is only garbage for a large
+ * result set, so only the positions of the rows in the serialized bytes are recorded here, and the rows are
+ * written to the MySQL channel from the serialized bytes directly.
+ * It's decoded to TResultBatch lazily, when the rows are needed by other consumers, e.g. the http result sender.
+ */
+public final class SerializedResultBatch {
+    private static final short ROWS_FIELD_ID = 1;
+    private static final short IS_COMPRESSED_FIELD_ID = 2;
+    private static final short PACKET_SEQ_FIELD_ID = 3;
+
+    private final byte[] serialized;
+    private final int[] rowOffsets;
+    private final int[] rowLengths;
+    private final long rowsLength;
+    private final boolean isCompressed;
+    private final long packetSeq;
+
+    private SerializedResultBatch(byte[] serialized, int[] rowOffsets, int[] rowLengths, long rowsLength,
+                                  boolean isCompressed, long packetSeq) {
+        this.serialized = serialized;
+        this.rowOffsets = rowOffsets;
+        this.rowLengths = rowLengths;
+        this.rowsLength = rowsLength;
+        this.isCompressed = isCompressed;
+        this.packetSeq = packetSeq;
+    }
+
+    /**
+     * Walk the TResultBatch serialized with TBinaryProtocol, without copying the rows.
+     */
+    public static SerializedResultBatch parse(byte[] serialized) throws TException {
+        TMemoryInputTransport transport = new TMemoryInputTransport(serialized);
+        TBinaryProtocol protocol = new TBinaryProtocol(transport);
+
+        int[] rowOffsets = null;
+        int[] rowLengths = null;
+        long rowsLength = 0;
+        boolean isCompressed = false;
+        long packetSeq = 0;
+
+        protocol.readStructBegin();
+        while (true) {
+            TField field = protocol.readFieldBegin();
+            if (field.type == TType.STOP) {
+                break;
+            }
+            if (field.id == ROWS_FIELD_ID && field.type == TType.LIST) {
+                TList list = protocol.readListBegin();
+                if (list.elemType != TType.STRING) {
+                    throw new TProtocolException(TProtocolException.INVALID_DATA,
+                            "unexpected element type of result rows: " + list.elemType);
+                }
+                rowOffsets = new int[list.size];
+                rowLengths = new int[list.size];
+                for (int i = 0; i < list.size; i++) {
+                    int length = protocol.readI32();
+                    if (length < 0 || length > transport.getBytesRemainingInBuffer()) {
+                        throw new TProtocolException(TProtocolException.INVALID_DATA,
+                                "invalid length of result row: " + length);
+                    }
+                    rowOffsets[i] = transport.getBufferPosition();
+                    rowLengths[i] = length;
+                    rowsLength += length;
+                    transport.consumeBuffer(length);
+                }
+                protocol.readListEnd();
+            } else if (field.id == IS_COMPRESSED_FIELD_ID && field.type == TType.BOOL) {
+                isCompressed = protocol.readBool();
+            } else if (field.id == PACKET_SEQ_FIELD_ID && field.type == TType.I64) {
+                packetSeq = protocol.readI64();
+            } else {
+                TProtocolUtil.skip(protocol, field.type);
+            }
+            protocol.readFieldEnd();
+        }
+        protocol.readStructEnd();
+
+        if (rowOffsets == null) {
+            throw new TProtocolException("Required field 'rows' was not present! Struct: TResultBatch");
+        }
+        return new SerializedResultBatch(serialized, rowOffsets, rowLengths, rowsLength, isCompressed, packetSeq);
+    }
+
+    public int getRowNum() {
+        return rowOffsets.length;
+    }
+
+    // total length of the rows, without the packet headers
+    public long getRowsLength() {
+        return rowsLength;
+    }
+
+    /**
+     * Same as the TResultBatch deserialized by TDeserializer, whose rows are also slices of the serialized bytes.
+     */
+    public TResultBatch decode() {
+        List<ByteBuffer> rows = new ArrayList<>(rowOffsets.length);
+        for (int i = 0; i < rowOffsets.length; i++) {
+            rows.add(ByteBuffer.wrap(serialized, rowOffsets[i], rowLengths[i]));
+        }
+        return new TResultBatch(rows, isCompressed, packetSeq);
+    }
+
+    /**
+     * Send every row as one MySQL packet.
+     */
+    public void sendTo(MysqlChannel channel) throws IOException {
+        for (int i = 0; i < rowOffsets.length; i++) {
+            channel.sendOnePacket(serialized, rowOffsets[i], rowLengths[i]);
+        }
+    }
+}
@@ -59,6 +59,7 @@ import com.starrocks.server.StorageVolumeMgr;
 import com.starrocks.server.WarehouseManager;
 import com.starrocks.sql.analyzer.SemanticException;
 import com.starrocks.sql.common.QueryDebugOptions;
+import com.starrocks.sql.optimizer.cost.CostModel;
 import com.starrocks.storagevolume.StorageVolume;
 import com.starrocks.system.BackendResourceStat;
 import com.starrocks.thrift.TCloudConfiguration;
@@ -339,9 +340,13 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
     public static final String CBO_MAX_REORDER_NODE_USE_EXHAUSTIVE = "cbo_max_reorder_node_use_exhaustive";
     public static final String CBO_ENABLE_DP_JOIN_REORDER = "cbo_enable_dp_join_reorder";
     public static final String CBO_MAX_REORDER_NODE_USE_DP = "cbo_max_reorder_node_use_dp";
+    public static final String CBO_MAX_REORDER_NODE_USE_DPCCP = "cbo_max_reorder_node_use_dpccp";
     public static final String CBO_ENABLE_GREEDY_JOIN_REORDER = "cbo_enable_greedy_join_reorder";
+    public static final String CBO_ENABLE_PARALLEL_SEARCH = "cbo_enable_parallel_search";
+    public static final String CBO_ENABLE_DERIVED_STATS_CACHE = "cbo_enable_derived_stats_cache";
     public static final String CBO_ENABLE_REPLICATED_JOIN = "cbo_enable_replicated_join";
     public static final String CBO_USE_CORRELATED_JOIN_ESTIMATE = "cbo_use_correlated_join_estimate";
+    public static final String CBO_USE_HISTOGRAM_JOIN_ESTIMATE = "cbo_use_histogram_join_estimate";
     public static final String ALWAYS_COLLECT_LOW_CARD_DICT = "always_collect_low_card_dict";
     public static final String CBO_ENABLE_LOW_CARDINALITY_OPTIMIZE = "cbo_enable_low_cardinality_optimize";
     public static final String LOW_CARDINALITY_OPTIMIZE_V2 = "low_cardinality_optimize_v2";
@@ -744,6 +749,10 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
 
     public static final String CROSS_JOIN_COST_PENALTY = "cross_join_cost_penalty";
 
+    public static final String CBO_CPU_COST_WEIGHT = "cbo_cpu_cost_weight";
+    public static final String CBO_MEMORY_COST_WEIGHT = "cbo_memory_cost_weight";
+    public static final String CBO_NETWORK_COST_WEIGHT = "cbo_network_cost_weight";
+
     public static final String CBO_DERIVE_RANGE_JOIN_PREDICATE = "cbo_derive_range_join_predicate";
 
     public static final String CBO_DERIVE_JOIN_IS_NULL_PREDICATE = "cbo_derive_join_is_null_predicate";
@@ -803,6 +812,10 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
 
     public static final String ENABLE_PLAN_ADVISOR = "enable_plan_advisor";
 
+    public static final String ENABLE_REPLAN_ON_MEM_LIMIT_EXCEEDED = "enable_replan_on_mem_limit_exceeded";
+
+    public static final String ENABLE_BROADCAST_JOIN = "enable_broadcast_join";
+
     public static final List<String> DEPRECATED_VARIABLES = ImmutableList.<String>builder()
             .add(CODEGEN_LEVEL)
             .add(MAX_EXECUTION_TIME)
@@ -1047,6 +1060,10 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
     @VariableMgr.VarAttr(name = CBO_USE_CORRELATED_JOIN_ESTIMATE, flag = VariableMgr.INVISIBLE)
     private boolean useCorrelatedJoinEstimate = true;
 
+    // Estimate the equal join by the most common values of the join keys' histograms if both sides have them
+    @VariableMgr.VarAttr(name = CBO_USE_HISTOGRAM_JOIN_ESTIMATE)
+    private boolean useHistogramJoinEstimate = false;
+
     @VariableMgr.VarAttr(name = CBO_USE_NTH_EXEC_PLAN, flag = VariableMgr.INVISIBLE)
     private int useNthExecPlan = 0;
 
@@ -1283,9 +1300,22 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
     @VariableMgr.VarAttr(name = CBO_MAX_REORDER_NODE_USE_DP)
     private long cboMaxReorderNodeUseDP = 10;
 
+    // The multi join node with more atoms than cbo_max_reorder_node_use_dp but no more than this is reordered by
+    // the DP over connected subgraphs, which only joins the connected atoms.
+    @VariableMgr.VarAttr(name = CBO_MAX_REORDER_NODE_USE_DPCCP)
+    private long cboMaxReorderNodeUseDPccp = 16;
+
     @VariableMgr.VarAttr(name = CBO_ENABLE_GREEDY_JOIN_REORDER, flag = VariableMgr.INVISIBLE)
     private boolean cboEnableGreedyJoinReorder = true;
 
+    // Run the independent searches of optimizer, e.g. join reorder of different multi-join groups, in parallel
+    @VariableMgr.VarAttr(name = CBO_ENABLE_PARALLEL_SEARCH)
+    private boolean cboEnableParallelSearch = false;
+
+    // Share the statistics derived for the same join between the memo groups and the join reorder algorithms
+    @VariableMgr.VarAttr(name = CBO_ENABLE_DERIVED_STATS_CACHE, flag = VariableMgr.INVISIBLE)
+    private boolean cboEnableDerivedStatsCache = true;
+
     @VariableMgr.VarAttr(name = CBO_DEBUG_ALIVE_BACKEND_NUMBER, flag = VariableMgr.INVISIBLE)
     private int cboDebugAliveBackendNumber = 0;
 
@@ -1560,6 +1590,15 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
     @VarAttr(name = ENABLE_PLAN_ADVISOR)
     private boolean enablePlanAdvisor = true;
 
+    // re-plan the query without broadcast joins and retry it once if it exceeds the memory limit,
+    // which is usually caused by broadcasting a build side with underestimated rows
+    @VarAttr(name = ENABLE_REPLAN_ON_MEM_LIMIT_EXCEEDED)
+    private boolean enableReplanOnMemLimitExceeded = true;
+
+    // only the joins which can't be shuffled are broadcast if disabled
+    @VarAttr(name = ENABLE_BROADCAST_JOIN, flag = VariableMgr.INVISIBLE)
+    private boolean enableBroadcastJoin = true;
+
 
     public int getCboPruneJsonSubfieldDepth() {
         return cboPruneJsonSubfieldDepth;
@@ -2065,6 +2104,17 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
     @VarAttr(name = CROSS_JOIN_COST_PENALTY, flag = VariableMgr.INVISIBLE)
     private long crossJoinCostPenalty = 1000000;
 
+    // The weights of cpu, memory and network cost when comparing the costs of plans. They could be calibrated for
+    // the hardware of cluster by `SET GLOBAL`, which is persisted, and compared with the default ones in a session.
+    @VarAttr(name = CBO_CPU_COST_WEIGHT)
+    private double cboCpuCostWeight = CostModel.DEFAULT_CPU_COST_WEIGHT;
+
+    @VarAttr(name = CBO_MEMORY_COST_WEIGHT)
+    private double cboMemoryCostWeight = CostModel.DEFAULT_MEMORY_COST_WEIGHT;
+
+    @VarAttr(name = CBO_NETWORK_COST_WEIGHT)
+    private double cboNetworkCostWeight = CostModel.DEFAULT_NETWORK_COST_WEIGHT;
+
     @VarAttr(name = CBO_PREPARE_METADATA_THREAD_POOL_SIZE)
     private int prepareMetadataPoolSize = 16;
 
@@ -2965,6 +3015,18 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
         return cboMaxReorderNodeUseDP;
     }
 
+    public void setCboMaxReorderNodeUseDP(long cboMaxReorderNodeUseDP) {
+        this.cboMaxReorderNodeUseDP = cboMaxReorderNodeUseDP;
+    }
+
+    public long getCboMaxReorderNodeUseDPccp() {
+        return cboMaxReorderNodeUseDPccp;
+    }
+
+    public void setCboMaxReorderNodeUseDPccp(long cboMaxReorderNodeUseDPccp) {
+        this.cboMaxReorderNodeUseDPccp = cboMaxReorderNodeUseDPccp;
+    }
+
     public boolean isCboEnableGreedyJoinReorder() {
         return cboEnableGreedyJoinReorder;
     }
@@ -2977,6 +3039,22 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
         this.cboEnableGreedyJoinReorder = true;
     }
 
+    public boolean isCboEnableParallelSearch() {
+        return cboEnableParallelSearch;
+    }
+
+    public void setCboEnableParallelSearch(boolean cboEnableParallelSearch) {
+        this.cboEnableParallelSearch = cboEnableParallelSearch;
+    }
+
+    public boolean isCboEnableDerivedStatsCache() {
+        return cboEnableDerivedStatsCache;
+    }
+
+    public void setCboEnableDerivedStatsCache(boolean cboEnableDerivedStatsCache) {
+        this.cboEnableDerivedStatsCache = cboEnableDerivedStatsCache;
+    }
+
     public int getCboMaxReorderNode() {
         return cboMaxReorderNode;
     }
@@ -3319,6 +3397,14 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
         this.useCorrelatedJoinEstimate = useCorrelatedJoinEstimate;
     }
 
+    public boolean isUseHistogramJoinEstimate() {
+        return useHistogramJoinEstimate;
+    }
+
+    public void setUseHistogramJoinEstimate(boolean useHistogramJoinEstimate) {
+        this.useHistogramJoinEstimate = useHistogramJoinEstimate;
+    }
+
     public boolean isAlwaysCollectDict() {
         return alwaysCollectDict;
     }
@@ -4080,6 +4166,30 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
         this.crossJoinCostPenalty = crossJoinCostPenalty;
     }
 
+    public double getCboCpuCostWeight() {
+        return cboCpuCostWeight;
+    }
+
+    public void setCboCpuCostWeight(double cboCpuCostWeight) {
+        this.cboCpuCostWeight = cboCpuCostWeight;
+    }
+
+    public double getCboMemoryCostWeight() {
+        return cboMemoryCostWeight;
+    }
+
+    public void setCboMemoryCostWeight(double cboMemoryCostWeight) {
+        this.cboMemoryCostWeight = cboMemoryCostWeight;
+    }
+
+    public double getCboNetworkCostWeight() {
+        return cboNetworkCostWeight;
+    }
+
+    public void setCboNetworkCostWeight(double cboNetworkCostWeight) {
+        this.cboNetworkCostWeight = cboNetworkCostWeight;
+    }
+
     public int getSkewJoinRandRange() {
         return skewJoinRandRange;
     }
@@ -4204,6 +4314,22 @@ public class SessionVariable implements Serializable, Writable, Cloneable {
         this.enablePlanAdvisor = enablePlanAdvisor;
     }
 
+    public boolean isEnableReplanOnMemLimitExceeded() {
+        return enableReplanOnMemLimitExceeded;
+    }
+
+    public void setEnableReplanOnMemLimitExceeded(boolean enableReplanOnMemLimitExceeded) {
+        this.enableReplanOnMemLimitExceeded = enableReplanOnMemLimitExceeded;
+    }
+
+    public boolean isEnableBroadcastJoin() {
+        return enableBroadcastJoin;
+    }
+
+    public void setEnableBroadcastJoin(boolean enableBroadcastJoin) {
+        this.enableBroadcastJoin = enableBroadcastJoin;
+    }
+
     public int getConnectorIncrementalScanRangeNumber() {
         return connectorIncrementalScanRangeSize;
     }
@@ -1206,30 +1206,38 @@ public class StmtExecutor {
             do {
                 batch = coord.getNext();
                 // for outfile query, there will be only one empty batch send back with eos flag
-                if (batch.getBatch() != null && !isOutfileQuery && needSendResult) {
+                if (batch.hasBatch() && !isOutfileQuery && needSendResult) {
                     // For some language driver, getting error packet after fields packet will be recognized as a success result
                     // so We need to send fields after first batch arrived
                     if (!isSendFields) {
                         sendFields(colNames, outputExprs);
                         isSendFields = true;
                     }
-                    if (!isProxy && channel.isSendBufferNull()) {
-                        int bufferSize = 0;
-                        for (ByteBuffer row : batch.getBatch().getRows()) {
-                            bufferSize += (row.position() - row.limit());
+                    SerializedResultBatch serializedBatch = batch.getSerializedBatch();
+                    if (isProxy) {
+                        proxyResultBuffer.addAll(batch.getBatch().getRows());
+                    } else if (serializedBatch != null) {
+                        if (channel.isSendBufferNull()) {
+                            // +4 for header size of each row
+                            channel.initBuffer((int) Math.min(Integer.MAX_VALUE,
+                                    serializedBatch.getRowsLength() + 4L * serializedBatch.getRowNum()));
                         }
-                        // +8 for header size
-                        channel.initBuffer(bufferSize + 8);
-                    }
-
-                    for (ByteBuffer row : batch.getBatch().getRows()) {
-                        if (isProxy) {
-                            proxyResultBuffer.add(row);
-                        } else {
+                        // send the rows from the bytes received from BE, without deserializing them
+                        serializedBatch.sendTo(channel);
+                    } else {
+                        if (channel.isSendBufferNull()) {
+                            int bufferSize = 0;
+                            for (ByteBuffer row : batch.getBatch().getRows()) {
+                                bufferSize += row.remaining();
+                            }
+                            // +8 for header size
+                            channel.initBuffer(bufferSize + 8);
+                        }
+                        for (ByteBuffer row : batch.getBatch().getRows()) {
                             channel.sendOnePacket(row);
                         }
                     }
-                    context.updateReturnRows(batch.getBatch().getRows().size());
+                    context.updateReturnRows(batch.getRowNum());
                 }
             } while (!batch.isEos());
             if (!isSendFields && !isOutfileQuery && !isExplainAnalyze && !isPlanAdvisorAnalyze) {
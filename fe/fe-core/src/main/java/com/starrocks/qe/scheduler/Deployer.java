@@ -191,9 +191,17 @@ public class Deployer {
                 curDescTable = emptyDescTable;
             }
 
+            // the instances of the stage share the serialized common params of their requests
+            boolean shareCommonParams = stageInstances.size() > 1
+                    && TFragmentInstanceSerializer.isSupported(jobSpec.getPlanProtocol(), fragment.getPlanFragment());
+            TFragmentInstanceSerializer requestSerializer = null;
+
             for (FragmentInstance instance : stageInstances) {
                 TExecPlanFragmentParams request =
                         tFragmentInstanceFactory.create(instance, curDescTable, accTabletSinkDop, totalTableSinkDop);
+                if (shareCommonParams && requestSerializer == null) {
+                    requestSerializer = new TFragmentInstanceSerializer(request);
+                }
                 if (enablePipelineTableSinkDop) {
                     accTabletSinkDop += instance.getTableSinkDop();
                 }
@@ -205,6 +213,7 @@ public class Deployer {
                         request,
                         instance.getWorker());
                 execution.setFragmentInstance(instance);
+                execution.setRequestSerializer(requestSerializer);
 
                 threeStageExecutionsToDeploy.get(stageIndex).add(execution);
 
@@ -19,6 +19,7 @@ import com.google.common.collect.Lists;
 import com.starrocks.planner.ExportSink;
 import com.starrocks.planner.MultiCastPlanFragment;
 import com.starrocks.planner.PlanFragment;
+import com.starrocks.planner.PlanFragmentId;
 import com.starrocks.qe.ConnectContext;
 import com.starrocks.qe.SessionVariable;
 import com.starrocks.qe.scheduler.dag.ExecutionDAG;
@@ -31,6 +32,7 @@ import com.starrocks.thrift.TDescriptorTable;
 import com.starrocks.thrift.TExecPlanFragmentParams;
 import com.starrocks.thrift.TFunctionVersion;
 import com.starrocks.thrift.TNetworkAddress;
+import com.starrocks.thrift.TPlanFragment;
 import com.starrocks.thrift.TPlanFragmentDestination;
 import com.starrocks.thrift.TPlanFragmentExecParams;
 import com.starrocks.thrift.TPredicateTreeParams;
@@ -42,12 +44,15 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class TFragmentInstanceFactory {
     private final ConnectContext context;
     private final JobSpec jobSpec;
     private final ExecutionDAG executionDAG;
     private final TNetworkAddress coordAddress;
+    // The thrift plan fragment shared by the requests of all the instances, see isPlanIdenticalForInstances.
+    private final Map<PlanFragmentId, TPlanFragment> thriftFragments = new HashMap<>();
 
     public TFragmentInstanceFactory(ConnectContext context,
                                     JobSpec jobSpec,
@@ -116,7 +121,11 @@ public class TFragmentInstanceFactory {
         boolean isEnablePipelineTableSinkDop = isEnablePipeline && fragment.hasTableSink();
 
         result.setProtocol_version(InternalServiceVersion.V1);
-        result.setFragment(fragment.toThrift());
+        if (isPlanIdenticalForInstances(fragment)) {
+            result.setFragment(thriftFragments.computeIfAbsent(fragment.getFragmentId(), id -> fragment.toThrift()));
+        } else {
+            result.setFragment(fragment.toThrift());
+        }
         result.setDesc_tbl(descTable);
         result.setFunc_version(TFunctionVersion.RUNTIME_FILTER_SERIALIZE_VERSION_2.getValue());
         result.setCoord(coordAddress);
@@ -185,6 +194,14 @@ public class TFragmentInstanceFactory {
         }
     }
 
+    /**
+     * Whether the instances of the fragment have the same plan fragment, which is not rewritten by each instance
+     * in toThriftForUniqueParams.
+     */
+    public static boolean isPlanIdenticalForInstances(PlanFragment fragment) {
+        return !(fragment instanceof MultiCastPlanFragment) && !(fragment.getSink() instanceof ExportSink);
+    }
+
     private void toThriftForUniqueParams(TExecPlanFragmentParams result,
                                          FragmentInstance instance,
                                          int accTabletSinkDop) {
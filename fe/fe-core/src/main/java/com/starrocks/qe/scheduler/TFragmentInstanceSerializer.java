@@ -0,0 +1,261 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.qe.scheduler;
+
+import com.google.common.collect.ImmutableSet;
+import com.starrocks.common.Config;
+import com.starrocks.planner.PlanFragment;
+import com.starrocks.rpc.ConfigurableSerDesFactory;
+import com.starrocks.rpc.ConfigurableTProtocolFactory;
+import com.starrocks.thrift.TExecPlanFragmentParams;
+import com.starrocks.thrift.TPlanFragmentExecParams;
+import org.apache.thrift.TBase;
+import org.apache.thrift.TException;
+import org.apache.thrift.TFieldIdEnum;
+import org.apache.thrift.TSerializer;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TField;
+import org.apache.thrift.protocol.TProtocolUtil;
+import org.apache.thrift.protocol.TType;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.apache.thrift.transport.TTransportException;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Serialize the requests of the fragment instances incrementally.
+ * <p>
+ * The requests of the instances of a fragment are identical except for a few unique params, e.g. the instance id and
+ * scan ranges, while the common params, e.g. the plan fragment and descriptor table, are the most of the payload.
+ * In TBinaryProtocol, a struct is encoded as its fields terminated by a STOP, and the fields can be in any order,
+ * so the common fields are serialized only once from the request of any instance, and only the unique fields are
+ * serialized for each instance and appended to the bytes of the common fields.
+ */
+public class TFragmentInstanceSerializer {
+    private static final Set<TExecPlanFragmentParams._Fields> UNIQUE_FIELDS = ImmutableSet.of(
+            TExecPlanFragmentParams._Fields.PARAMS,
+            TExecPlanFragmentParams._Fields.BACKEND_NUM,
+            TExecPlanFragmentParams._Fields.PIPELINE_DOP,
+            TExecPlanFragmentParams._Fields.GROUP_EXECUTION_SCAN_DOP);
+    private static final Set<TPlanFragmentExecParams._Fields> UNIQUE_EXEC_PARAMS_FIELDS = ImmutableSet.of(
+            TPlanFragmentExecParams._Fields.FRAGMENT_INSTANCE_ID,
+            TPlanFragmentExecParams._Fields.PER_NODE_SCAN_RANGES,
+            TPlanFragmentExecParams._Fields.NODE_TO_PER_DRIVER_SEQ_SCAN_RANGES,
+            TPlanFragmentExecParams._Fields.INSTANCES_NUMBER,
+            TPlanFragmentExecParams._Fields.SENDER_ID,
+            TPlanFragmentExecParams._Fields.PIPELINE_SINK_DOP,
+            TPlanFragmentExecParams._Fields.REPORT_WHEN_FINISH);
+    // The required common fields are also serialized with the unique fields to pass the validation,
+    // but only the ones in the common fields are sent.
+    private static final Set<TPlanFragmentExecParams._Fields> REQUIRED_COMMON_EXEC_PARAMS_FIELDS = ImmutableSet.of(
+            TPlanFragmentExecParams._Fields.QUERY_ID,
+            TPlanFragmentExecParams._Fields.PER_EXCH_NUM_SENDERS);
+
+    private static final short PARAMS_FIELD_ID = TExecPlanFragmentParams._Fields.PARAMS.getThriftFieldId();
+    private static final Set<Short> UNIQUE_FIELD_IDS = toFieldIds(UNIQUE_FIELDS);
+    private static final Set<Short> UNIQUE_EXEC_PARAMS_FIELD_IDS = toFieldIds(UNIQUE_EXEC_PARAMS_FIELDS);
+    // field type and id of TBinaryProtocol.writeFieldBegin
+    private static final int FIELD_HEADER_LENGTH = 3;
+
+    // The serializer reuses its output buffer, which is grown to the largest unique fields of the thread.
+    private static final ThreadLocal<TSerializer> SERIALIZER = ThreadLocal.withInitial(() -> {
+        try {
+            return ConfigurableSerDesFactory.getTSerializer(ConfigurableSerDesFactory.Protocol.BINARY.name());
+        } catch (TTransportException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final TExecPlanFragmentParams commonRequest;
+    private volatile CommonFields commonFields;
+
+    private static class CommonFields {
+        // the common fields of TExecPlanFragmentParams, without params and STOP
+        private final byte[] fields;
+        // the common fields of TExecPlanFragmentParams.params, without STOP
+        private final byte[] execParamsFields;
+
+        private CommonFields(byte[] fields, byte[] execParamsFields) {
+            this.fields = fields;
+            this.execParamsFields = execParamsFields;
+        }
+    }
+
+    @FunctionalInterface
+    private interface FieldVisitor {
+        /**
+         * @param start the start of the field header
+         * @param valueStart the start of the field value
+         * @param end the end of the field value, exclusive
+         */
+        void visit(TField field, int start, int valueStart, int end) throws TException;
+    }
+
+    /**
+     * @param commonRequest the request of any instance of the fragment, whose common params are used for all the
+     *                      instances.
+     */
+    public TFragmentInstanceSerializer(TExecPlanFragmentParams commonRequest) {
+        this.commonRequest = commonRequest;
+    }
+
+    /**
+     * Whether the instances of the fragment can share the serialized common params, which requires the same plan
+     * fragment for all the instances, see {@link TFragmentInstanceFactory#isPlanIdenticalForInstances}.
+     * Only TBinaryProtocol is supported, because TCompactProtocol encodes a field id as the delta from the previous
+     * field, and the serialized fields can't be concatenated.
+     */
+    public static boolean isSupported(String protocol, PlanFragment fragment) {
+        return Config.enable_plan_fragment_common_params_serialize_once
+                && ConfigurableSerDesFactory.Protocol.getProtocol(protocol) == ConfigurableSerDesFactory.Protocol.BINARY
+                && TFragmentInstanceFactory.isPlanIdenticalForInstances(fragment);
+    }
+
+    /**
+     * Serialize the request of an instance, which is the same as the request serialized by TSerializer with
+     * TBinaryProtocol, except for the order of fields.
+     */
+    public byte[] serialize(TExecPlanFragmentParams request) throws TException {
+        CommonFields common = getCommonFields();
+
+        TExecPlanFragmentParams uniqueRequest = new TExecPlanFragmentParams();
+        uniqueRequest.setProtocol_version(request.getProtocol_version());
+        copyFields(request, uniqueRequest, UNIQUE_FIELDS);
+        TPlanFragmentExecParams uniqueParams = new TPlanFragmentExecParams();
+        copyFields(request.getParams(), uniqueParams, UNIQUE_EXEC_PARAMS_FIELDS);
+        copyFields(request.getParams(), uniqueParams, REQUIRED_COMMON_EXEC_PARAMS_FIELDS);
+        uniqueRequest.setParams(uniqueParams);
+        byte[] uniqueBytes = SERIALIZER.get().serialize(uniqueRequest);
+
+        // [start, end) of the unique fields and the unique fields of params
+        List<int[]> fieldRanges = new ArrayList<>();
+        List<int[]> execParamsFieldRanges = new ArrayList<>();
+        forEachField(uniqueBytes, 0, uniqueBytes.length, (field, start, valueStart, end) -> {
+            if (field.id == PARAMS_FIELD_ID) {
+                forEachField(uniqueBytes, valueStart, end - valueStart, (paramsField, paramsStart, ignored, paramsEnd) -> {
+                    if (UNIQUE_EXEC_PARAMS_FIELD_IDS.contains(paramsField.id)) {
+                        execParamsFieldRanges.add(new int[] {paramsStart, paramsEnd});
+                    }
+                });
+            } else if (UNIQUE_FIELD_IDS.contains(field.id)) {
+                fieldRanges.add(new int[] {start, end});
+            }
+        });
+
+        int length = common.fields.length + FIELD_HEADER_LENGTH + common.execParamsFields.length + 1 + 1;
+        for (int[] range : fieldRanges) {
+            length += range[1] - range[0];
+        }
+        for (int[] range : execParamsFieldRanges) {
+            length += range[1] - range[0];
+        }
+
+        byte[] result = new byte[length];
+        int pos = 0;
+        System.arraycopy(common.fields, 0, result, pos, common.fields.length);
+        pos += common.fields.length;
+        for (int[] range : fieldRanges) {
+            pos = copyRange(uniqueBytes, range, result, pos);
+        }
+        // params
+        result[pos++] = TType.STRUCT;
+        result[pos++] = (byte) (PARAMS_FIELD_ID >> 8);
+        result[pos++] = (byte) PARAMS_FIELD_ID;
+        System.arraycopy(common.execParamsFields, 0, result, pos, common.execParamsFields.length);
+        pos += common.execParamsFields.length;
+        for (int[] range : execParamsFieldRanges) {
+            pos = copyRange(uniqueBytes, range, result, pos);
+        }
+        result[pos++] = TType.STOP;
+        // end of the request
+        result[pos] = TType.STOP;
+        return result;
+    }
+
+    private CommonFields getCommonFields() throws TException {
+        CommonFields fields = commonFields;
+        if (fields == null) {
+            synchronized (this) {
+                fields = commonFields;
+                if (fields == null) {
+                    fields = serializeCommonFields();
+                    commonFields = fields;
+                }
+            }
+        }
+        return fields;
+    }
+
+    private CommonFields serializeCommonFields() throws TException {
+        byte[] bytes = SERIALIZER.get().serialize(commonRequest);
+        ByteArrayOutputStream fields = new ByteArrayOutputStream(bytes.length);
+        ByteArrayOutputStream execParamsFields = new ByteArrayOutputStream();
+        forEachField(bytes, 0, bytes.length, (field, start, valueStart, end) -> {
+            if (field.id == PARAMS_FIELD_ID) {
+                forEachField(bytes, valueStart, end - valueStart, (paramsField, paramsStart, ignored, paramsEnd) -> {
+                    if (!UNIQUE_EXEC_PARAMS_FIELD_IDS.contains(paramsField.id)) {
+                        execParamsFields.write(bytes, paramsStart, paramsEnd - paramsStart);
+                    }
+                });
+            } else if (!UNIQUE_FIELD_IDS.contains(field.id)) {
+                fields.write(bytes, start, end - start);
+            }
+        });
+        return new CommonFields(fields.toByteArray(), execParamsFields.toByteArray());
+    }
+
+    private static void forEachField(byte[] bytes, int offset, int length, FieldVisitor visitor) throws TException {
+        TMemoryInputTransport transport = new TMemoryInputTransport(
+                ConfigurableTProtocolFactory.buildTConfiguration(), bytes, offset, length);
+        TBinaryProtocol protocol = new TBinaryProtocol(transport);
+        protocol.readStructBegin();
+        while (true) {
+            int start = transport.getBufferPosition();
+            TField field = protocol.readFieldBegin();
+            if (field.type == TType.STOP) {
+                break;
+            }
+            int valueStart = transport.getBufferPosition();
+            TProtocolUtil.skip(protocol, field.type);
+            protocol.readFieldEnd();
+            visitor.visit(field, start, valueStart, transport.getBufferPosition());
+        }
+        protocol.readStructEnd();
+    }
+
+    private static int copyRange(byte[] src, int[] range, byte[] dest, int destPos) {
+        int length = range[1] - range[0];
+        System.arraycopy(src, range[0], dest, destPos, length);
+        return destPos + length;
+    }
+
+    private static <T extends TBase<T, F>, F extends TFieldIdEnum> void copyFields(
+            T from, T to, Set<F> fields) {
+        for (F field : fields) {
+            if (from.isSet(field)) {
+                to.setFieldValue(field, from.getFieldValue(field));
+            }
+        }
+    }
+
+    private static <F extends TFieldIdEnum> Set<Short> toFieldIds(Set<F> fields) {
+        ImmutableSet.Builder<Short> ids = ImmutableSet.builder();
+        fields.forEach(field -> ids.add(field.getThriftFieldId()));
+        return ids.build();
+    }
+}
@@ -25,6 +25,7 @@ import com.starrocks.proto.PPlanFragmentCancelReason;
 import com.starrocks.proto.StatusPB;
 import com.starrocks.qe.QueryStatisticsItem;
 import com.starrocks.qe.SimpleScheduler;
+import com.starrocks.qe.scheduler.TFragmentInstanceSerializer;
 import com.starrocks.rpc.AttachmentRequest;
 import com.starrocks.rpc.BackendServiceClient;
 import com.starrocks.rpc.RpcException;
@@ -86,6 +87,8 @@ public class FragmentInstanceExecState {
      */
     private TExecPlanFragmentParams requestToDeploy;
     private byte[] serializedRequest;
+    // serialize the request with the common params shared by the instances of the fragment, if it's not null
+    private TFragmentInstanceSerializer requestSerializer;
     private Future<PExecPlanFragmentResult> deployFuture = null;
 
     private final int fragmentIndex;
@@ -162,11 +165,17 @@ public class FragmentInstanceExecState {
 
     public void serializeRequest() {
         try {
-            TSerializer serializer = AttachmentRequest.getSerializer(jobSpec.getPlanProtocol());
-            serializedRequest = serializer.serialize(requestToDeploy);
+            if (requestSerializer != null) {
+                serializedRequest = requestSerializer.serialize(requestToDeploy);
+            } else {
+                TSerializer serializer = AttachmentRequest.getSerializer(jobSpec.getPlanProtocol());
+                serializedRequest = serializer.serialize(requestToDeploy);
+            }
             requestToDeploy = null;
         } catch (TException ignore) {
             // throw exception means serializedRequest will be empty, and then we will treat it as not serialized
+        } finally {
+            requestSerializer = null;
         }
     }
 
@@ -178,6 +187,9 @@ public class FragmentInstanceExecState {
         transitionState(State.DEPLOYING);
 
         TNetworkAddress brpcAddress = worker.getBrpcAddress();
+        if (serializedRequest == null && requestSerializer != null) {
+            serializeRequest();
+        }
         try {
             // when `set enable_plan_serialize_concurrently = false` or encountered exception when serializing.
             if (serializedRequest != null && serializedRequest.length != 0) {
@@ -504,5 +516,11 @@ public class FragmentInstanceExecState {
 
     public void setRequestToDeploy(TExecPlanFragmentParams requestToDeploy) {
         this.requestToDeploy = requestToDeploy;
+        this.serializedRequest = null;
+        this.requestSerializer = null;
+    }
+
+    public void setRequestSerializer(TFragmentInstanceSerializer requestSerializer) {
+        this.requestSerializer = requestSerializer;
     }
 }
@@ -37,7 +37,9 @@ package com.starrocks.server;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.starrocks.alter.AlterJobMgr;
@@ -160,11 +162,14 @@ import com.starrocks.meta.MetaContext;
 import com.starrocks.metric.MetricRepo;
 import com.starrocks.persist.BackendIdsUpdateInfo;
 import com.starrocks.persist.EditLog;
+import com.starrocks.persist.ImageCompressionCodec;
 import com.starrocks.persist.ImageFormatVersion;
 import com.starrocks.persist.ImageHeader;
 import com.starrocks.persist.ImageLoader;
+import com.starrocks.persist.ImageSegmentIndex;
 import com.starrocks.persist.ImageWriter;
 import com.starrocks.persist.OperationType;
+import com.starrocks.persist.ParallelJournalReplayer;
 import com.starrocks.persist.Storage;
 import com.starrocks.persist.gson.GsonUtils;
 import com.starrocks.persist.gson.SubtypeNotFoundException;
@@ -173,6 +178,7 @@ import com.starrocks.persist.metablock.SRMetaBlockException;
 import com.starrocks.persist.metablock.SRMetaBlockID;
 import com.starrocks.persist.metablock.SRMetaBlockLoader;
 import com.starrocks.persist.metablock.SRMetaBlockReader;
+import com.starrocks.persist.metablock.SRMetaBlockSaver;
 import com.starrocks.plugin.PluginMgr;
 import com.starrocks.privilege.AccessControlProvider;
 import com.starrocks.privilege.AuthorizationMgr;
@@ -213,6 +219,7 @@ import com.starrocks.sql.parser.AstBuilder;
 import com.starrocks.sql.parser.SqlParser;
 import com.starrocks.statistic.AnalyzeMgr;
 import com.starrocks.statistic.StatisticAutoCollector;
+import com.starrocks.statistic.StatisticCacheWarmUpDaemon;
 import com.starrocks.statistic.StatisticsMetaManager;
 import com.starrocks.system.Backend;
 import com.starrocks.system.ComputeNode;
@@ -253,6 +260,8 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
@@ -268,6 +277,8 @@ public class GlobalStateMgr {
     // will break the loop and refresh in-memory data after at most 10w logs or at most 1 seconds
     private static final long REPLAYER_MAX_MS_PER_LOOP = 1000L;
     private static final long REPLAYER_MAX_LOGS_PER_LOOP = 100000L;
+    // max number of journals replayed concurrently before advancing the replayed journal id
+    private static final int REPLAYER_MAX_PENDING_LOGS = 1000;
 
     /**
      * Meta and Image context
@@ -352,6 +363,38 @@ public class GlobalStateMgr {
 
     private static GlobalStateMgr CHECKPOINT = null;
     private static long checkpointThreadId = -1;
+    // threads working for the checkpoint thread, e.g. saving image in parallel
+    private static final Set<Long> CHECKPOINT_WORKER_THREAD_IDS = ConcurrentHashMap.newKeySet();
+
+    // Meta blocks whose loader only changes its own manager, and reads no other meta block than NODE_MGR,
+    // LOCAL_META_STORE, ALTER_MGR and CATALOG_RECYCLE_BIN, which are always loaded before them.
+    // They can be loaded concurrently with each other from a segmented image, see ImageLoader.loadSegments.
+    private static final Set<SRMetaBlockID> CONCURRENT_LOADABLE_META_BLOCKS = ImmutableSet.of(
+            SRMetaBlockID.VARIABLE_MGR,
+            SRMetaBlockID.RESOURCE_MGR,
+            SRMetaBlockID.EXPORT_MGR,
+            SRMetaBlockID.BACKUP_MGR,
+            SRMetaBlockID.GLOBAL_TRANSACTION_MGR,
+            SRMetaBlockID.COLOCATE_TABLE_INDEX,
+            SRMetaBlockID.ROUTINE_LOAD_MGR,
+            SRMetaBlockID.LOAD_MGR,
+            SRMetaBlockID.SMALL_FILE_MGR,
+            SRMetaBlockID.PLUGIN_MGR,
+            SRMetaBlockID.DELETE_MGR,
+            SRMetaBlockID.ANALYZE_MGR,
+            SRMetaBlockID.RESOURCE_GROUP_MGR,
+            SRMetaBlockID.AUTHENTICATION_MGR,
+            SRMetaBlockID.TASK_MGR,
+            SRMetaBlockID.INSERT_OVERWRITE_JOB_MGR,
+            SRMetaBlockID.COMPACTION_MGR,
+            SRMetaBlockID.STREAM_LOAD_MGR,
+            SRMetaBlockID.MATERIALIZED_VIEW_MGR,
+            SRMetaBlockID.GLOBAL_FUNCTION_MGR,
+            SRMetaBlockID.STORAGE_VOLUME_MGR,
+            SRMetaBlockID.DICTIONARY_MGR,
+            SRMetaBlockID.REPLICATION_MGR,
+            SRMetaBlockID.KEY_MGR,
+            SRMetaBlockID.PIPE_MGR);
     private Checkpoint checkpointer;
 
     private HAProtocol haProtocol = null;
@@ -411,6 +454,7 @@ public class GlobalStateMgr {
     private final StatisticsMetaManager statisticsMetaManager;
 
     private final StatisticAutoCollector statisticAutoCollector;
+    private final StatisticCacheWarmUpDaemon statisticCacheWarmUpDaemon;
 
     private final SafeModeChecker safeModeChecker;
 
@@ -575,6 +619,10 @@ public class GlobalStateMgr {
         return compactionMgr;
     }
 
+    public PublishVersionDaemon getPublishVersionDaemon() {
+        return publishVersionDaemon;
+    }
+
     public ConfigRefreshDaemon getConfigRefreshDaemon() {
         return configRefreshDaemon;
     }
@@ -637,6 +685,7 @@ public class GlobalStateMgr {
         this.updateDbUsedDataQuotaDaemon = new UpdateDbUsedDataQuotaDaemon();
         this.statisticsMetaManager = new StatisticsMetaManager();
         this.statisticAutoCollector = new StatisticAutoCollector();
+        this.statisticCacheWarmUpDaemon = new StatisticCacheWarmUpDaemon();
         this.safeModeChecker = new SafeModeChecker();
         this.statisticStorage = new CachedStatisticStorage();
 
@@ -893,7 +942,37 @@ public class GlobalStateMgr {
     }
 
     public static boolean isCheckpointThread() {
-        return Thread.currentThread().getId() == checkpointThreadId;
+        long threadId = Thread.currentThread().getId();
+        return threadId == checkpointThreadId
+                || (!CHECKPOINT_WORKER_THREAD_IDS.isEmpty() && CHECKPOINT_WORKER_THREAD_IDS.contains(threadId));
+    }
+
+    /**
+     * Wrap a task which will be run by a worker thread on behalf of the current thread.
+     * If the current thread is the checkpoint thread, the worker is treated as the checkpoint thread while running
+     * the task, so that {@link #getCurrentState()} returns the checkpoint GlobalStateMgr.
+     * The meta context of the current thread is also passed to the worker.
+     */
+    public static <T> Callable<T> wrapCheckpointWorkerTask(Callable<T> task) {
+        boolean isCheckpoint = isCheckpointThread();
+        MetaContext metaContext = MetaContext.get();
+        return () -> {
+            long threadId = Thread.currentThread().getId();
+            if (isCheckpoint) {
+                CHECKPOINT_WORKER_THREAD_IDS.add(threadId);
+            }
+            if (metaContext != null) {
+                metaContext.setThreadLocalInfo();
+            }
+            try {
+                return task.call();
+            } finally {
+                MetaContext.remove();
+                if (isCheckpoint) {
+                    CHECKPOINT_WORKER_THREAD_IDS.remove(threadId);
+                }
+            }
+        };
     }
 
     public StatisticStorage getStatisticStorage() {
@@ -1412,6 +1491,7 @@ public class GlobalStateMgr {
     private void startAllNodeTypeDaemonThreads() {
         portConnectivityChecker.start();
         tabletStatMgr.start();
+        statisticCacheWarmUpDaemon.start();
         // load and export job label cleaner thread
         labelCleaner.start();
         // ES state store
@@ -1523,6 +1603,7 @@ public class GlobalStateMgr {
                     .build();
 
         Set<SRMetaBlockID> metaMgrMustExists = new HashSet<>(loadImages.keySet());
+        ImageSegmentIndex segmentIndex = null;
         InputStream in = Files.newInputStream(curFile.toPath());
         try {
             imageLoader.setInputStream(in);
@@ -1532,6 +1613,18 @@ public class GlobalStateMgr {
                 SRMetaBlockID srMetaBlockID = reader.getHeader().getSrMetaBlockID();
 
                 try {
+                    if (srMetaBlockID.equals(SRMetaBlockID.IMAGE_SEGMENT_INDEX)) {
+                        // All the following meta blocks are in segments, which can be loaded in parallel.
+                        // Otherwise, just skip the index and read the segments one by one,
+                        // unless they are compressed.
+                        ImageSegmentIndex index = reader.readJson(ImageSegmentIndex.class);
+                        if (Config.image_load_parallelism > 1 || index.isCompressed()) {
+                            segmentIndex = index;
+                            break;
+                        }
+                        continue;
+                    }
+
                     SRMetaBlockLoader metaBlockLoader = loadImages.get(srMetaBlockID);
                     if (metaBlockLoader == null) {
                         /*
@@ -1564,22 +1657,30 @@ public class GlobalStateMgr {
                 }
             }
         } catch (EOFException exception) {
-            if (!metaMgrMustExists.isEmpty()) {
-                LOG.warn("Miss meta block [" + Joiner.on(",").join(new ArrayList<>(metaMgrMustExists)) + "], " +
-                            "This may not be a fatal error. It may be because there are new features in the version " +
-                            "you upgraded this time, but there is no relevant metadata.");
-            } else {
-                LOG.info("Load meta-image EOF, successful loading all requires meta module");
-            }
+            checkMissingMetaBlocks(metaMgrMustExists);
         } catch (SRMetaBlockException e) {
             LOG.error("load meta block failed ", e);
             throw new IOException("load meta block failed ", e);
         } finally {
-            imageLoader.readTheRemainingBytes();
+            if (segmentIndex == null) {
+                imageLoader.readTheRemainingBytes();
+            }
             in.close();
         }
 
-        imageLoader.checkCheckSum();
+        if (segmentIndex != null) {
+            // every segment is verified by its own checksum
+            try {
+                metaMgrMustExists.removeAll(imageLoader.loadSegments(segmentIndex, loadImages,
+                        CONCURRENT_LOADABLE_META_BLOCKS, Math.max(Config.image_load_parallelism, 1)));
+            } catch (SRMetaBlockException e) {
+                LOG.error("load meta block failed ", e);
+                throw new IOException("load meta block failed ", e);
+            }
+            checkMissingMetaBlocks(metaMgrMustExists);
+        } else {
+            imageLoader.checkCheckSum();
+        }
 
         try {
             postLoadImage();
@@ -1592,6 +1693,16 @@ public class GlobalStateMgr {
         LOG.info("finished to load image in " + (loadImageEndTime - loadImageStartTime) + " ms");
     }
 
+    private void checkMissingMetaBlocks(Set<SRMetaBlockID> metaMgrMustExists) {
+        if (!metaMgrMustExists.isEmpty()) {
+            LOG.warn("Miss meta block [" + Joiner.on(",").join(new ArrayList<>(metaMgrMustExists)) + "], " +
+                        "This may not be a fatal error. It may be because there are new features in the version " +
+                        "you upgraded this time, but there is no relevant metadata.");
+        } else {
+            LOG.info("Load meta-image EOF, successful loading all requires meta module");
+        }
+    }
+
     private void postLoadImage() {
         processMvRelatedMeta();
     }
@@ -1688,37 +1799,40 @@ public class GlobalStateMgr {
             imageWriter.setOutputStream(outputStream);
             try {
                 saveHeader(imageWriter.getDataOutputStream());
-                nodeMgr.save(imageWriter);
-                localMetastore.save(imageWriter);
-                alterJobMgr.save(imageWriter);
-                recycleBin.save(imageWriter);
-                variableMgr.save(imageWriter);
-                resourceMgr.saveResourcesV2(imageWriter);
-                exportMgr.saveExportJobV2(imageWriter);
-                backupHandler.saveBackupHandlerV2(imageWriter);
-                globalTransactionMgr.saveTransactionStateV2(imageWriter);
-                colocateTableIndex.saveColocateTableIndexV2(imageWriter);
-                routineLoadMgr.saveRoutineLoadJobsV2(imageWriter);
-                loadMgr.saveLoadJobsV2JsonFormat(imageWriter);
-                smallFileMgr.saveSmallFilesV2(imageWriter);
-                pluginMgr.save(imageWriter);
-                deleteMgr.save(imageWriter);
-                analyzeMgr.save(imageWriter);
-                resourceGroupMgr.save(imageWriter);
-                authenticationMgr.saveV2(imageWriter);
-                authorizationMgr.saveV2(imageWriter);
-                taskManager.saveTasksV2(imageWriter);
-                catalogMgr.save(imageWriter);
-                insertOverwriteJobMgr.save(imageWriter);
-                compactionMgr.save(imageWriter);
-                streamLoadMgr.save(imageWriter);
-                materializedViewMgr.save(imageWriter);
-                globalFunctionMgr.save(imageWriter);
-                storageVolumeMgr.save(imageWriter);
-                dictionaryMgr.save(imageWriter);
-                replicationMgr.save(imageWriter);
-                keyMgr.save(imageWriter);
-                pipeManager.getRepo().save(imageWriter);
+                List<SRMetaBlockSaver> savers = ImmutableList.of(
+                        nodeMgr::save,
+                        localMetastore::save,
+                        alterJobMgr::save,
+                        recycleBin::save,
+                        variableMgr::save,
+                        resourceMgr::saveResourcesV2,
+                        exportMgr::saveExportJobV2,
+                        backupHandler::saveBackupHandlerV2,
+                        globalTransactionMgr::saveTransactionStateV2,
+                        colocateTableIndex::saveColocateTableIndexV2,
+                        routineLoadMgr::saveRoutineLoadJobsV2,
+                        loadMgr::saveLoadJobsV2JsonFormat,
+                        smallFileMgr::saveSmallFilesV2,
+                        pluginMgr::save,
+                        deleteMgr::save,
+                        analyzeMgr::save,
+                        resourceGroupMgr::save,
+                        authenticationMgr::saveV2,
+                        authorizationMgr::saveV2,
+                        taskManager::saveTasksV2,
+                        catalogMgr::save,
+                        insertOverwriteJobMgr::save,
+                        compactionMgr::save,
+                        streamLoadMgr::save,
+                        materializedViewMgr::save,
+                        globalFunctionMgr::save,
+                        storageVolumeMgr::save,
+                        dictionaryMgr::save,
+                        replicationMgr::save,
+                        keyMgr::save,
+                        pipeManager.getRepo()::save);
+                imageWriter.saveMetaBlocks(savers, Config.image_save_parallelism,
+                        ImageCompressionCodec.fromName(Config.image_compression_codec));
             } catch (SRMetaBlockException e) {
                 LOG.error("Save meta block failed ", e);
                 throw new IOException("Save meta block failed ", e);
@@ -1930,9 +2044,12 @@ public class GlobalStateMgr {
         long startReplayId = replayedJournalId.get();
         long startTime = System.currentTimeMillis();
         long lineCnt = 0;
+        ParallelJournalReplayer parallelReplayer =
+                ParallelJournalReplayer.isEnabled() ? new ParallelJournalReplayer(this::canSkipBadReplayedJournal) : null;
         while (true) {
             JournalEntity entity = null;
             boolean readSucc = false;
+            boolean submitted = false;
             try {
                 entity = cursor.next();
 
@@ -1944,8 +2061,19 @@ public class GlobalStateMgr {
                 readSucc = true;
 
                 // apply
-                editLog.loadJournal(this, entity);
+                if (parallelReplayer != null) {
+                    JournalEntity journal = entity;
+                    long journalId = replayedJournalId.get() + parallelReplayer.getPendingNum() + 1;
+                    submitted = parallelReplayer.submit(journal, journalId, () -> editLog.loadJournal(this, journal));
+                }
+                if (!submitted) {
+                    // must be replayed after all the journals before it
+                    finishParallelReplay(parallelReplayer);
+                    editLog.loadJournal(this, entity);
+                }
             } catch (Throwable e) {
+                // the journals before this one must be replayed before skipping or retrying it
+                finishParallelReplay(parallelReplayer);
                 if (canSkipBadReplayedJournal(e)) {
                     LOG.error("!!! DANGER: SKIP JOURNAL, id: {}, data: {} !!!",
                                 replayedJournalId.incrementAndGet(), journalEntityToReadableString(entity), e);
@@ -1960,15 +2088,10 @@ public class GlobalStateMgr {
                 throw e;
             }
 
-            replayedJournalId.incrementAndGet();
-            LOG.debug("journal {} replayed.", replayedJournalId);
-
-            if (feType != FrontendNodeType.LEADER) {
-                journalObservable.notifyObservers(replayedJournalId.get());
-            }
-            if (MetricRepo.hasInit) {
-                // Metric repo may not init after this replay thread start
-                MetricRepo.COUNTER_EDIT_LOG_READ.increase(1L);
+            if (!submitted) {
+                onJournalReplayed();
+            } else if (parallelReplayer.getPendingNum() >= REPLAYER_MAX_PENDING_LOGS) {
+                finishParallelReplay(parallelReplayer);
             }
 
             if (flowControl) {
@@ -1987,6 +2110,7 @@ public class GlobalStateMgr {
             }
 
         }
+        finishParallelReplay(parallelReplayer);
         if (replayedJournalId.get() - startReplayId > 0) {
             LOG.info("replayed journal from {} - {}", startReplayId, replayedJournalId);
             return true;
@@ -1994,6 +2118,33 @@ public class GlobalStateMgr {
         return false;
     }
 
+    private void onJournalReplayed() {
+        replayedJournalId.incrementAndGet();
+        LOG.debug("journal {} replayed.", replayedJournalId);
+
+        if (feType != FrontendNodeType.LEADER) {
+            journalObservable.notifyObservers(replayedJournalId.get());
+        }
+        if (MetricRepo.hasInit) {
+            // Metric repo may not init after this replay thread start
+            MetricRepo.COUNTER_EDIT_LOG_READ.increase(1L);
+        }
+    }
+
+    /**
+     * Wait for the journals replayed concurrently, and advance the replayed journal id.
+     */
+    private void finishParallelReplay(ParallelJournalReplayer parallelReplayer)
+            throws JournalInconsistentException, InterruptedException {
+        if (parallelReplayer == null || parallelReplayer.getPendingNum() == 0) {
+            return;
+        }
+        int replayed = parallelReplayer.waitAll();
+        for (int i = 0; i < replayed; i++) {
+            onJournalReplayed();
+        }
+    }
+
     private String journalEntityToReadableString(JournalEntity entity) {
         if (entity == null) {
             return "null";
@@ -2008,6 +2159,10 @@ public class GlobalStateMgr {
     }
 
     protected boolean canSkipBadReplayedJournal(Throwable t) {
+        return canSkipBadReplayedJournal(t, replayedJournalId.get() + 1);
+    }
+
+    protected boolean canSkipBadReplayedJournal(Throwable t, long journalId) {
         // 1. metadata_enable_recovery_mode = true will skip all kind of failure
         if (Config.metadata_enable_recovery_mode) {
             LOG.warn("skip journal load failure because cluster is in recovery mode");
@@ -2017,7 +2172,7 @@ public class GlobalStateMgr {
         // 2. metadata_journal_skip_bad_journal_ids will skip the failure of specified journal ids
         try {
             for (String idStr : Config.metadata_journal_skip_bad_journal_ids.split(",")) {
-                if (!StringUtils.isEmpty(idStr) && Long.parseLong(idStr) == replayedJournalId.get() + 1) {
+                if (!StringUtils.isEmpty(idStr) && Long.parseLong(idStr) == journalId) {
                     LOG.warn("skip bad replayed journal id {} because configured {}",
                                 idStr, Config.metadata_journal_skip_bad_journal_ids);
                     return true;
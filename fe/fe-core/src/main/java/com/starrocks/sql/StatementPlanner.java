@@ -74,6 +74,7 @@ import com.starrocks.sql.optimizer.transformer.RelationTransformer;
 import com.starrocks.sql.optimizer.transformer.TransformerContext;
 import com.starrocks.sql.plan.ExecPlan;
 import com.starrocks.sql.plan.PlanFragmentBuilder;
+import com.starrocks.sql.plan.QueryPlanCache;
 import com.starrocks.thrift.TAuthenticateParams;
 import com.starrocks.thrift.TResultSinkType;
 import com.starrocks.transaction.BeginTransactionException;
@@ -130,6 +131,16 @@ public class StatementPlanner {
             if (stmt instanceof QueryStatement) {
                 QueryStatement queryStmt = (QueryStatement) stmt;
                 resultSinkType = queryStmt.hasOutFileClause() ? TResultSinkType.FILE : resultSinkType;
+                QueryPlanCache.Lookup planCacheLookup =
+                        QueryPlanCache.getInstance().createLookup(queryStmt, session, resultSinkType);
+                if (planCacheLookup != null) {
+                    try (Timer ignored = Tracers.watchScope("PlanCache")) {
+                        ExecPlan cachedPlan = QueryPlanCache.getInstance().getPlan(planCacheLookup, queryStmt, session);
+                        if (cachedPlan != null) {
+                            return cachedPlan;
+                        }
+                    }
+                }
                 boolean areTablesCopySafe = AnalyzerUtils.areTablesCopySafe(queryStmt);
                 needWholePhaseLock = isLockFree(areTablesCopySafe, session) ? false : true;
                 ExecPlan plan;
@@ -143,6 +154,9 @@ public class StatementPlanner {
                                                     planStartTime, vectorSearchOptions);
                 }
                 setOutfileSink(queryStmt, plan);
+                if (planCacheLookup != null) {
+                    QueryPlanCache.getInstance().putPlan(planCacheLookup, plan);
+                }
                 return plan;
             } else if (stmt instanceof InsertStmt) {
                 return planInsertStmt(plannerMetaLocker, (InsertStmt) stmt, session);
@@ -94,6 +94,9 @@ public class MaterializationContext {
     // Cache partition compensates predicates for each ScanNode and isCompensate pair.
     private Map<Pair<LogicalScanOperator, Boolean>, List<ScalarOperator>> scanOpToPartitionCompensatePredicates;
 
+    // Cache the join graph of the mv which is checked against every query expression in view delta mode.
+    private List<TableScanDesc> mvTableScanDescs = null;
+
     public MaterializationContext(OptimizerContext optimizerContext,
                                   MaterializedView mv,
                                   OptExpression mvExpression,
@@ -170,6 +173,13 @@ public class MaterializationContext {
         return intersectingTables;
     }
 
+    public List<TableScanDesc> getMvTableScanDescs() {
+        if (mvTableScanDescs == null) {
+            mvTableScanDescs = MvUtils.getTableScanDescs(mvExpression, mvColumnRefFactory);
+        }
+        return mvTableScanDescs;
+    }
+
     public void addMatchedGroup(int matchedGroupId) {
         matchedGroups.add(matchedGroupId);
     }
@@ -217,9 +227,18 @@ public class MaterializationContext {
      * @return false if this MV is not applicable
      */
     public boolean prune(OptimizerContext ctx, OptExpression queryExpression) {
+        return prune(ctx, queryExpression, MvUtils.getAllTables(queryExpression));
+    }
+
+    /**
+     * Try to prune this MV during MV rewrite
+     *
+     * @param queryTables all tables of the query expression which are shared by the candidate MVs
+     * @return false if this MV is not applicable
+     */
+    public boolean prune(OptimizerContext ctx, OptExpression queryExpression, List<Table> queryTables) {
         final String mvName = getMv().getName();
         final OptExpression mvExpression = getMvExpression();
-        final List<Table> queryTables = MvUtils.getAllTables(queryExpression);
         final List<Table> mvTables = getBaseTables();
         final OperatorType queryOp = queryExpression.getOp().getOpType();
 
@@ -265,7 +284,7 @@ public class MaterializationContext {
             }
 
             List<TableScanDesc> queryTableScanDescs = MvUtils.getTableScanDescs(queryExpression, queryRefFactory);
-            List<TableScanDesc> mvTableScanDescs = MvUtils.getTableScanDescs(mvExpression, mvColumnRefFactory);
+            List<TableScanDesc> mvTableScanDescs = getMvTableScanDescs();
             // there should be at least one same join type in mv scan descs for every query scan desc.
             // to forbid rewrite for:
             // query: a left outer join b
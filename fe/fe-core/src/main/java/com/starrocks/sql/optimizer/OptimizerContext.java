@@ -32,6 +32,8 @@ import com.starrocks.sql.optimizer.operator.scalar.IsNullPredicateOperator;
 import com.starrocks.sql.optimizer.rewrite.JoinPredicatePushdown;
 import com.starrocks.sql.optimizer.rule.RuleSet;
 import com.starrocks.sql.optimizer.rule.RuleType;
+import com.starrocks.sql.optimizer.statistics.DerivedStatisticsCache;
+import com.starrocks.sql.optimizer.task.ParallelTaskScheduler;
 import com.starrocks.sql.optimizer.task.SeriallyTaskScheduler;
 import com.starrocks.sql.optimizer.task.TaskContext;
 import com.starrocks.sql.optimizer.task.TaskScheduler;
@@ -71,6 +73,7 @@ public class OptimizerContext {
     // QueryMaterializationContext is different from MaterializationContext that it keeps the context during the query
     // lifecycle instead of per materialized view.
     private QueryMaterializationContext queryMaterializationContext = new QueryMaterializationContext();
+    private final DerivedStatisticsCache derivedStatisticsCache = new DerivedStatisticsCache();
 
     private boolean isShortCircuit = false;
     private boolean inMemoPhase = false;
@@ -110,7 +113,8 @@ public class OptimizerContext {
         this.memo = memo;
         this.ruleSet = new RuleSet();
         this.globalStateMgr = GlobalStateMgr.getCurrentState();
-        this.taskScheduler = SeriallyTaskScheduler.create();
+        this.taskScheduler = connectContext.getSessionVariable().isCboEnableParallelSearch() ?
+                ParallelTaskScheduler.create() : SeriallyTaskScheduler.create();
         this.columnRefFactory = columnRefFactory;
         this.queryId = connectContext.getQueryId();
         this.sessionVariable = connectContext.getSessionVariable();
@@ -278,6 +282,12 @@ public class OptimizerContext {
         if (this.queryMaterializationContext != null) {
             this.queryMaterializationContext.clear();
         }
+        OptimizerTraceUtil.logDerivedStatisticsCache(this);
+        derivedStatisticsCache.clear();
+    }
+
+    public DerivedStatisticsCache getDerivedStatisticsCache() {
+        return derivedStatisticsCache;
     }
 
     public void setInMemoPhase(boolean inMemoPhase) {
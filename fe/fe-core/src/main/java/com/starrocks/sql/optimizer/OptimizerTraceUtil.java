@@ -133,6 +133,13 @@ public class OptimizerTraceUtil {
         });
     }
 
+    public static void logDerivedStatisticsCache(OptimizerContext ctx) {
+        Tracers.log(Tracers.Module.OPTIMIZER, args -> String.format("[TRACE QUERY %s] DERIVED STATISTICS CACHE %s\n",
+                ctx.getQueryId(), ctx.getDerivedStatisticsCache()));
+        Tracers.record(Tracers.Module.OPTIMIZER, "DerivedStatisticsCacheHitRate",
+                String.format("%.2f%%", ctx.getDerivedStatisticsCache().getHitRate() * 100));
+    }
+
     public static void logRuleExhausted(OptimizerContext ctx, Rule rule) {
         Tracers.log(Tracers.Module.OPTIMIZER,
                 args -> String.format("[TRACE QUERY %s] RULE %s exhausted \n", ctx.getQueryId(), rule));
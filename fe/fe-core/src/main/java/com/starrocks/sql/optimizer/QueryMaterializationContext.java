@@ -33,6 +33,7 @@ import com.starrocks.sql.optimizer.operator.logical.LogicalViewScanOperator;
 import com.starrocks.sql.optimizer.operator.scalar.ScalarOperator;
 import com.starrocks.sql.optimizer.rewrite.ReplaceColumnRefRewriter;
 import com.starrocks.sql.optimizer.rewrite.ScalarOperatorRewriter;
+import com.starrocks.sql.optimizer.rule.transformation.materialization.MvCandidateIndex;
 import com.starrocks.sql.optimizer.rule.transformation.materialization.PredicateSplit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -53,6 +54,8 @@ public class QueryMaterializationContext {
     private Set<MaterializedView> relatedMVs = Sets.newHashSet();
     // MVs with context that are valid (SPJG pattern) candidates for materialization rewrite
     private List<MaterializationContext> validCandidateMVs = Lists.newArrayList();
+    // Index of `validCandidateMVs` by their structural signatures, which is rebuilt after candidates are added
+    private MvCandidateIndex validCandidateMVIndex = null;
     // MV with the cached timeliness update info which should be initialized once in one query context.
     private Map<MaterializedView, MvUpdateInfo> mvTimelinessInfos = Maps.newHashMap();
 
@@ -180,6 +183,7 @@ public class QueryMaterializationContext {
      */
     public void addValidCandidateMV(MaterializationContext mv) {
         validCandidateMVs.add(mv);
+        validCandidateMVIndex = null;
     }
 
     /**
@@ -217,8 +221,22 @@ public class QueryMaterializationContext {
         return validCandidateMVs;
     }
 
+    /**
+     * Get the index of valid candidate materialized views to prune the candidates which are not structurally
+     * compatible with a query expression.
+     */
+    public MvCandidateIndex getValidCandidateMVIndex() {
+        if (validCandidateMVIndex == null) {
+            validCandidateMVIndex = new MvCandidateIndex(validCandidateMVs);
+        }
+        return validCandidateMVIndex;
+    }
+
     // Invalidate all caches by hand to avoid memory allocation after query optimization.
     public void clear() {
+        if (validCandidateMVIndex != null) {
+            Tracers.record(Tracers.Module.MV, "MVCandidateIndexStats", validCandidateMVIndex.toString());
+        }
         if (mvQueryContextCache == null) {
             return;
         }
@@ -73,6 +73,10 @@ public class CostModel {
     private static final Logger LOG = LogManager.getLogger(CostModel.class);
     public static final Double MAX_COST = Double.MAX_VALUE / 2;
 
+    public static final double DEFAULT_CPU_COST_WEIGHT = 0.5;
+    public static final double DEFAULT_MEMORY_COST_WEIGHT = 2;
+    public static final double DEFAULT_NETWORK_COST_WEIGHT = 1.5;
+
     public static double calculateCost(GroupExpression expression) {
         ExpressionContext expressionContext = new ExpressionContext(expression);
         return calculateCost(expressionContext);
@@ -117,9 +121,16 @@ public class CostModel {
     }
 
     public static double getRealCost(CostEstimate costEstimate) {
-        double cpuCostWeight = 0.5;
-        double memoryCostWeight = 2;
-        double networkCostWeight = 1.5;
+        double cpuCostWeight = DEFAULT_CPU_COST_WEIGHT;
+        double memoryCostWeight = DEFAULT_MEMORY_COST_WEIGHT;
+        double networkCostWeight = DEFAULT_NETWORK_COST_WEIGHT;
+        ConnectContext ctx = ConnectContext.get();
+        if (ctx != null) {
+            SessionVariable sessionVariable = ctx.getSessionVariable();
+            cpuCostWeight = sessionVariable.getCboCpuCostWeight();
+            memoryCostWeight = sessionVariable.getCboMemoryCostWeight();
+            networkCostWeight = sessionVariable.getCboNetworkCostWeight();
+        }
         return costEstimate.getCpuCost() * cpuCostWeight +
                 costEstimate.getMemoryCost() * memoryCostWeight +
                 costEstimate.getNetworkCost() * networkCostWeight;
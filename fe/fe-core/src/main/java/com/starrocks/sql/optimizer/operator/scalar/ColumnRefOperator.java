@@ -21,7 +21,6 @@ import com.starrocks.sql.optimizer.operator.OperatorType;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
 import java.util.StringJoiner;
 
 import static java.util.Collections.emptyList;
@@ -123,7 +122,8 @@ public final class ColumnRefOperator extends ScalarOperator {
 
     @Override
     public int hashCode() {
-        return Objects.hash(id);
+        // same as Objects.hash(id) without boxing the id, the column refs are hashed by every statistics map access
+        return 31 + id;
     }
 
     @Override
@@ -24,6 +24,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -43,6 +44,11 @@ public class CompoundPredicateOperator extends PredicateOperator {
     private int compoundTreeLeafNodeNumber;
     private Set<ScalarOperator> compoundTreeUniqueLeaves;
 
+    // These two fields are used in MvNormalizePredicateRule to sort the leaves of compound tree incrementally:
+    // the unique leaves keyed and sorted by their strings, and whether the leaves are already in sorted order in tree.
+    private NavigableMap<String, ScalarOperator> compoundTreeSortedLeaves;
+    private boolean compoundTreeLeavesInOrder;
+
     public CompoundPredicateOperator(CompoundType compoundType, ScalarOperator... arguments) {
         super(OperatorType.COMPOUND, arguments);
         this.type = compoundType;
@@ -67,6 +73,20 @@ public class CompoundPredicateOperator extends PredicateOperator {
         this.compoundTreeUniqueLeaves = compoundTreeUniqueLeaves;
     }
 
+    public NavigableMap<String, ScalarOperator> getCompoundTreeSortedLeaves() {
+        return compoundTreeSortedLeaves;
+    }
+
+    public boolean isCompoundTreeLeavesInOrder() {
+        return compoundTreeLeavesInOrder;
+    }
+
+    public void setCompoundTreeSortedLeaves(NavigableMap<String, ScalarOperator> compoundTreeSortedLeaves,
+                                            boolean compoundTreeLeavesInOrder) {
+        this.compoundTreeSortedLeaves = compoundTreeSortedLeaves;
+        this.compoundTreeLeavesInOrder = compoundTreeLeavesInOrder;
+    }
+
     public int getCompoundTreeLeafNodeNumber() {
         return compoundTreeLeafNodeNumber;
     }
@@ -120,12 +140,10 @@ public class CompoundPredicateOperator extends PredicateOperator {
         List<ScalarOperator> sortedChildren;
         switch (type) {
             case AND:
-                sortedChildren = Utils.extractConjuncts(this).stream()
-                        .sorted(Comparator.comparingInt(ScalarOperator::hashCode)).collect(Collectors.toList());
+                sortedChildren = sortByHashCode(Utils.extractConjuncts(this));
                 break;
             case OR:
-                sortedChildren = Utils.extractDisjunctive(this).stream()
-                        .sorted(Comparator.comparingInt(ScalarOperator::hashCode)).collect(Collectors.toList());
+                sortedChildren = sortByHashCode(Utils.extractDisjunctive(this));
                 break;
             default:
                 sortedChildren = Lists.newArrayList(this.getChildren());
@@ -133,6 +151,16 @@ public class CompoundPredicateOperator extends PredicateOperator {
         return sortedChildren;
     }
 
+    // the hash code of scalar operator is computed recursively, so compute it only once for each child
+    // instead of in every comparison, which matters for the wide AND/OR trees
+    private static List<ScalarOperator> sortByHashCode(List<ScalarOperator> children) {
+        return children.stream()
+                .map(HashCachedScalarOperator::new)
+                .sorted(Comparator.comparingInt(HashCachedScalarOperator::hashCode))
+                .map(HashCachedScalarOperator::getOperator)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -42,6 +42,10 @@ public class ExtractCommonPredicateRule extends TopDownScalarOperatorRewriteRule
     @Override
     public ScalarOperator visitCompoundPredicate(CompoundPredicateOperator predicate,
                                                  ScalarOperatorRewriteContext context) {
+        if (!mayHaveCommonPredicate(predicate)) {
+            return predicate;
+        }
+
         List<ScalarOperator> orLists = Utils.extractDisjunctive(predicate);
         if (orLists.size() <= 1) {
             return predicate;
@@ -79,4 +83,28 @@ public class ExtractCommonPredicateRule extends TopDownScalarOperatorRewriteRule
 
         return Utils.compoundAnd(Utils.compoundAnd(common), newOr);
     }
+
+    // The common predicates must be in the adjacent disjunctive predicates of the two children, which could be found
+    // without extracting all the disjunctive predicates. The rule is top down, so it returns early for the inner OR
+    // nodes of long OR chains instead of extracting the remaining chain at every level.
+    private static boolean mayHaveCommonPredicate(CompoundPredicateOperator predicate) {
+        if (!predicate.isOr()) {
+            return false;
+        }
+        ScalarOperator left = predicate.getChild(0);
+        while (isOr(left)) {
+            left = left.getChild(1);
+        }
+        ScalarOperator right = predicate.getChild(1);
+        while (isOr(right)) {
+            right = right.getChild(0);
+        }
+        List<ScalarOperator> common = Utils.extractConjuncts(left);
+        common.retainAll(Utils.extractConjuncts(right));
+        return !common.isEmpty();
+    }
+
+    private static boolean isOr(ScalarOperator operator) {
+        return operator instanceof CompoundPredicateOperator && ((CompoundPredicateOperator) operator).isOr();
+    }
 }
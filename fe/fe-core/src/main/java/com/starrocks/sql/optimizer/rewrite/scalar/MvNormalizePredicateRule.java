@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.stream.Collectors;
 
 public class MvNormalizePredicateRule extends NormalizePredicateRule {
@@ -67,30 +68,66 @@ public class MvNormalizePredicateRule extends NormalizePredicateRule {
     // should maintain sequence for case:
     // a like "%hello%" and (b * c = 100 or b * c = 200)
     // (b * c = 200 or b * c = 100) and a like "%hello%"
+    //
+    // The rule is bottom up, so the sorted leaves of a compound child with the same type are reused rather than
+    // extracting and sorting the whole compound tree at every level, which is quadratic for the long left-deep
+    // AND/OR chains built by parser.
     @Override
     public ScalarOperator visitCompoundPredicate(CompoundPredicateOperator predicate,
                                                  ScalarOperatorRewriteContext context) {
-        Map<String, ScalarOperator> sorted = Maps.newTreeMap(String.CASE_INSENSITIVE_ORDER);
-        if (predicate.isAnd()) {
-            List<ScalarOperator> before = Utils.extractConjuncts(predicate);
-            before.forEach(x -> sorted.put(x.toString(), x));
-            List<ScalarOperator> after = Lists.newArrayList(sorted.values());
-            if ((after).equals(before)) {
-                return predicate;
+        if (predicate.isNot()) {
+            return predicate;
+        }
+
+        NavigableMap<String, ScalarOperator> sorted = null;
+        boolean isInOrder = true;
+        for (ScalarOperator child : predicate.getChildren()) {
+            NavigableMap<String, ScalarOperator> childSorted;
+            boolean isChildInOrder;
+            if (child instanceof CompoundPredicateOperator &&
+                    ((CompoundPredicateOperator) child).getCompoundType() == predicate.getCompoundType() &&
+                    ((CompoundPredicateOperator) child).getCompoundTreeSortedLeaves() != null) {
+                CompoundPredicateOperator compoundChild = (CompoundPredicateOperator) child;
+                childSorted = compoundChild.getCompoundTreeSortedLeaves();
+                isChildInOrder = compoundChild.isCompoundTreeLeavesInOrder();
+                // the sorted leaves are taken over by parent
+                compoundChild.setCompoundTreeSortedLeaves(null, false);
+            } else {
+                List<ScalarOperator> leaves = predicate.isAnd() ?
+                        Utils.extractConjuncts(child) : Utils.extractDisjunctive(child);
+                childSorted = Maps.newTreeMap(String.CASE_INSENSITIVE_ORDER);
+                for (ScalarOperator leaf : leaves) {
+                    childSorted.put(leaf.toString(), leaf);
+                }
+                isChildInOrder = Lists.newArrayList(childSorted.values()).equals(leaves);
             }
-            return Utils.compoundAnd((after));
-        } else if (predicate.isOr()) {
-            List<ScalarOperator> before = Utils.extractDisjunctive(predicate);
-            before.forEach(x -> sorted.put(x.toString(), x));
-            List<ScalarOperator> after = Lists.newArrayList(sorted.values());
-            if ((after).equals(before)) {
-                return predicate;
+
+            if (sorted == null) {
+                sorted = childSorted;
+                isInOrder = isChildInOrder;
+                continue;
             }
-            return Utils.compoundOr((after));
-        } else {
-            // for not
+            isInOrder = isInOrder && isChildInOrder &&
+                    String.CASE_INSENSITIVE_ORDER.compare(sorted.lastKey(), childSorted.firstKey()) < 0;
+            // the latter leaf wins if the strings of leaves are the same
+            if (sorted.size() >= childSorted.size()) {
+                sorted.putAll(childSorted);
+            } else {
+                sorted.forEach(childSorted::putIfAbsent);
+                sorted = childSorted;
+            }
+        }
+
+        if (isInOrder) {
+            predicate.setCompoundTreeSortedLeaves(sorted, true);
             return predicate;
         }
+        ScalarOperator result = predicate.isAnd() ?
+                Utils.compoundAnd(sorted.values()) : Utils.compoundOr(sorted.values());
+        if (result instanceof CompoundPredicateOperator) {
+            ((CompoundPredicateOperator) result).setCompoundTreeSortedLeaves(sorted, true);
+        }
+        return result;
     }
 
     @Override
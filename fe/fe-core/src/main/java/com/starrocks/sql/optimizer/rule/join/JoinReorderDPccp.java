@@ -0,0 +1,315 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.sql.optimizer.rule.join;
+
+import com.starrocks.sql.optimizer.OptExpression;
+import com.starrocks.sql.optimizer.OptimizerContext;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reorder multi join node by dynamic programming over the connected subgraphs of the join graph, which is DPccp in
+ * "Analysis of Two Existing and One New Dynamic Programming Algorithm for the Generation of Optimal Bushy Join Trees
+ * without Cross Products" (Moerkotte and Neumann, VLDB 2006).
+ * <p>
+ * Unlike {@link JoinReorderDP}, which tries all the partitions of every subset of atoms, only the pairs of connected
+ * subgraphs that are connected to each other (csg-cmp pairs) are joined, and the sets of atoms are long bitmasks,
+ * so it could reorder more atoms, e.g. a chain or star join of 15+ atoms.
+ * <p>
+ * Atoms connected by a predicate of more than two atoms are treated as connected to each other, and the components
+ * of a disconnected join graph are connected by their first atoms, which are cross joined.
+ */
+public class JoinReorderDPccp extends JoinOrder {
+    public static final int MAX_ATOMS = Long.SIZE - 1;
+    // Bound the planning time of dense join graphs, e.g. a clique of 16 atoms has 21M csg-cmp pairs
+    private static final int MAX_CSG_CMP_PAIRS = 1 << 20;
+
+    private final GroupInfoMap bestPlans = new GroupInfoMap();
+    private long[] neighbors;
+    // The csg-cmp pairs grouped by the number of their atoms, which are joined from the smaller ones
+    private PairList[] pairsBySize;
+    private int numPairs;
+    private boolean exhausted;
+
+    public JoinReorderDPccp(OptimizerContext context) {
+        super(context);
+    }
+
+    @Override
+    protected void enumerate() {
+        if (atomSize > MAX_ATOMS) {
+            exhausted = true;
+            return;
+        }
+        buildJoinGraph();
+
+        pairsBySize = new PairList[atomSize + 1];
+        for (int i = atomSize - 1; i >= 0 && !exhausted; i--) {
+            long atom = 1L << i;
+            emitCsg(atom);
+            enumerateCsgRec(atom, lowerOrEqualMask(i));
+        }
+        if (exhausted) {
+            return;
+        }
+
+        for (int size = 2; size <= atomSize; size++) {
+            PairList pairs = pairsBySize[size];
+            if (pairs == null) {
+                continue;
+            }
+            for (int i = 0; i < pairs.size; i++) {
+                joinGroups(pairs.lefts[i], pairs.rights[i]);
+            }
+        }
+    }
+
+    @Override
+    public List<OptExpression> getResult() {
+        if (exhausted) {
+            return Collections.emptyList();
+        }
+        GroupInfo group = bestPlans.get(lowerOrEqualMask(atomSize - 1));
+        return group == null ? Collections.emptyList() : Collections.singletonList(group.bestExprInfo.expr);
+    }
+
+    // Whether the join graph has more csg-cmp pairs than the limit, and there is no result
+    public boolean isExhausted() {
+        return exhausted;
+    }
+
+    private void buildJoinGraph() {
+        neighbors = new long[atomSize];
+        for (Edge edge : edges) {
+            long vertexes = toMask(edge.vertexes);
+            for (long rest = vertexes; rest != 0; rest &= rest - 1) {
+                int atom = Long.numberOfTrailingZeros(rest);
+                neighbors[atom] |= vertexes & ~(1L << atom);
+            }
+        }
+
+        // connect the components by their first atoms
+        long visited = 0;
+        int previousComponentAtom = -1;
+        for (int atom = 0; atom < atomSize; atom++) {
+            if ((visited & (1L << atom)) != 0) {
+                continue;
+            }
+            long component = 1L << atom;
+            long frontier = component;
+            while (frontier != 0) {
+                long next = 0;
+                for (long rest = frontier; rest != 0; rest &= rest - 1) {
+                    next |= neighbors[Long.numberOfTrailingZeros(rest)];
+                }
+                frontier = next & ~component;
+                component |= next;
+            }
+            visited |= component;
+            if (previousComponentAtom >= 0) {
+                neighbors[previousComponentAtom] |= 1L << atom;
+                neighbors[atom] |= 1L << previousComponentAtom;
+            }
+            previousComponentAtom = atom;
+        }
+    }
+
+    private void emitCsg(long csg) {
+        long exclusion = csg | lowerOrEqualMask(Long.numberOfTrailingZeros(csg));
+        long neighborhood = neighborhood(csg, exclusion);
+        for (long rest = neighborhood; rest != 0 && !exhausted; ) {
+            int atom = Long.SIZE - 1 - Long.numberOfLeadingZeros(rest);
+            rest &= ~(1L << atom);
+            emitCsgCmp(csg, 1L << atom);
+            enumerateCmpRec(csg, 1L << atom, exclusion | (neighborhood & lowerOrEqualMask(atom)));
+        }
+    }
+
+    private void enumerateCsgRec(long csg, long exclusion) {
+        long neighborhood = neighborhood(csg, exclusion);
+        if (neighborhood == 0) {
+            return;
+        }
+        for (long subset = neighborhood; subset != 0 && !exhausted; subset = (subset - 1) & neighborhood) {
+            emitCsg(csg | subset);
+        }
+        for (long subset = neighborhood; subset != 0 && !exhausted; subset = (subset - 1) & neighborhood) {
+            enumerateCsgRec(csg | subset, exclusion | neighborhood);
+        }
+    }
+
+    private void enumerateCmpRec(long csg, long cmp, long exclusion) {
+        long neighborhood = neighborhood(cmp, exclusion);
+        if (neighborhood == 0) {
+            return;
+        }
+        for (long subset = neighborhood; subset != 0 && !exhausted; subset = (subset - 1) & neighborhood) {
+            emitCsgCmp(csg, cmp | subset);
+        }
+        for (long subset = neighborhood; subset != 0 && !exhausted; subset = (subset - 1) & neighborhood) {
+            enumerateCmpRec(csg, cmp | subset, exclusion | neighborhood);
+        }
+    }
+
+    private void emitCsgCmp(long csg, long cmp) {
+        if (++numPairs > MAX_CSG_CMP_PAIRS) {
+            exhausted = true;
+            return;
+        }
+        int size = Long.bitCount(csg | cmp);
+        if (pairsBySize[size] == null) {
+            pairsBySize[size] = new PairList();
+        }
+        pairsBySize[size].add(csg, cmp);
+    }
+
+    private long neighborhood(long atoms, long exclusion) {
+        long result = 0;
+        for (long rest = atoms; rest != 0; rest &= rest - 1) {
+            result |= neighbors[Long.numberOfTrailingZeros(rest)];
+        }
+        return result & ~atoms & ~exclusion;
+    }
+
+    private void joinGroups(long leftAtoms, long rightAtoms) {
+        GroupInfo leftGroup = getGroup(leftAtoms);
+        GroupInfo rightGroup = getGroup(rightAtoms);
+        // the atoms couldn't be joined, see buildJoinExpr
+        if (leftGroup == null || rightGroup == null) {
+            return;
+        }
+
+        long atoms = leftAtoms | rightAtoms;
+        GroupInfo group = bestPlans.get(atoms);
+        // The row count of the atoms is almost the same for different join orders, so skip building the join
+        // expression and deriving its statistics if it's not cheaper even with the row count of the best one.
+        if (group != null && leftGroup.bestExprInfo.cost + rightGroup.bestExprInfo.cost +
+                group.bestExprInfo.rowCount >= group.lowestExprCost) {
+            return;
+        }
+
+        Optional<ExpressionInfo> joinExpr = buildJoinExpr(leftGroup, rightGroup);
+        if (joinExpr.isEmpty()) {
+            return;
+        }
+        joinExpr.get().expr.deriveLogicalPropertyItself();
+        calculateStatistics(joinExpr.get().expr);
+        computeCost(joinExpr.get());
+
+        if (group == null) {
+            group = new GroupInfo(toBitSet(atoms));
+            bestPlans.put(atoms, group);
+        }
+        if (joinExpr.get().cost < group.lowestExprCost) {
+            group.bestExprInfo = joinExpr.get();
+            group.lowestExprCost = joinExpr.get().cost;
+        }
+    }
+
+    private GroupInfo getGroup(long atoms) {
+        if (Long.bitCount(atoms) == 1) {
+            return joinLevels.get(1).groups.get(Long.numberOfTrailingZeros(atoms));
+        }
+        return bestPlans.get(atoms);
+    }
+
+    // the atoms whose index <= atom
+    private static long lowerOrEqualMask(int atom) {
+        return (1L << (atom + 1)) - 1;
+    }
+
+    private static long toMask(BitSet atoms) {
+        long[] words = atoms.toLongArray();
+        return words.length == 0 ? 0 : words[0];
+    }
+
+    private static BitSet toBitSet(long atoms) {
+        return BitSet.valueOf(new long[] {atoms});
+    }
+
+    private static class PairList {
+        private long[] lefts = new long[16];
+        private long[] rights = new long[16];
+        private int size;
+
+        private void add(long left, long right) {
+            if (size == lefts.length) {
+                lefts = Arrays.copyOf(lefts, size * 2);
+                rights = Arrays.copyOf(rights, size * 2);
+            }
+            lefts[size] = left;
+            rights[size] = right;
+            size++;
+        }
+    }
+
+    /**
+     * Open addressing map from the bitmask of atoms to the GroupInfo, which avoids boxing and hashing BitSet keys.
+     * The empty set of atoms is never a key, so 0 marks an empty slot.
+     */
+    private static class GroupInfoMap {
+        private long[] keys = new long[64];
+        private GroupInfo[] values = new GroupInfo[64];
+        private int size;
+
+        private GroupInfo get(long key) {
+            int mask = keys.length - 1;
+            for (int i = hash(key) & mask; keys[i] != 0; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return null;
+        }
+
+        private void put(long key, GroupInfo value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            while (keys[i] != 0 && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (keys[i] == 0) {
+                keys[i] = key;
+                size++;
+            }
+            values[i] = value;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            GroupInfo[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new GroupInfo[oldValues.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int hash(long key) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32));
+        }
+    }
+}
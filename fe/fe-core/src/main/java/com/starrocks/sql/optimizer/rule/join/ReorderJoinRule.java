@@ -53,6 +53,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class ReorderJoinRule extends Rule {
@@ -89,8 +90,10 @@ public class ReorderJoinRule extends Rule {
         }
     }
 
-    Optional<OptExpression> enumerate(JoinOrder reorderAlgorithm, OptimizerContext context, OptExpression innerJoinRoot,
-                                      MultiJoinNode multiJoinNode, boolean copyIntoMemo) {
+    // Reorder the multi join node and return the reordered join trees, or only the best one if onlyBest is true.
+    // It doesn't modify the memo, so the join trees of different multi join nodes could be searched in parallel.
+    List<OptExpression> enumerate(JoinOrder reorderAlgorithm, OptimizerContext context, OptExpression innerJoinRoot,
+                                  MultiJoinNode multiJoinNode, boolean onlyBest) {
         try (Timer ignore = Tracers.watchScope(Tracers.Module.OPTIMIZER, reorderAlgorithm.getClass().getSimpleName())) {
             reorderAlgorithm.reorder(Lists.newArrayList(multiJoinNode.getAtoms()),
                     multiJoinNode.getPredicates(), multiJoinNode.getExpressionMap());
@@ -106,6 +109,7 @@ public class ReorderJoinRule extends Rule {
             }
         }
 
+        List<OptExpression> results = Lists.newArrayList();
         OutputColumnsPrune prune = new OutputColumnsPrune(context);
         for (OptExpression joinExpr : reorderTopKResult) {
             ColumnRefSet outputColumns = new ColumnRefSet();
@@ -153,13 +157,12 @@ public class ReorderJoinRule extends Rule {
             }
 
             joinExpr = new RemoveDuplicateProject(context).rewrite(joinExpr);
-            if (copyIntoMemo) {
-                context.getMemo().copyIn(innerJoinRoot.getGroupExpression().getGroup(), joinExpr);
-            } else {
-                return Optional.of(joinExpr);
+            results.add(joinExpr);
+            if (onlyBest) {
+                break;
             }
         }
-        return Optional.empty();
+        return results;
     }
 
     // This method is only called in RBO phase, so it return the rewritten plan instead of copying its into memo,
@@ -183,8 +186,8 @@ public class ReorderJoinRule extends Rule {
                 if (!multiJoinNode.checkDependsPredicate()) {
                     continue;
                 }
-                Optional<OptExpression> newChild =
-                        enumerate(joinReorderFactory.create(context), context, child, multiJoinNode, false);
+                Optional<OptExpression> newChild = enumerate(joinReorderFactory.create(context), context, child,
+                        multiJoinNode, true).stream().findFirst();
                 if (newChild.isPresent()) {
                     int prevNumCrossJoins =
                             Utils.countJoinNodeSize(child, Sets.newHashSet(JoinOperator.CROSS_JOIN));
@@ -212,6 +215,9 @@ public class ReorderJoinRule extends Rule {
         List<OptExpression> innerJoinTrees =
                 innerJoinTreesAndParents.stream().map(p -> p.first).collect(Collectors.toList());
         if (!innerJoinTrees.isEmpty()) {
+            // The searches of the join orders, and the multi join roots whose groups their results are copied into
+            List<Supplier<List<OptExpression>>> searches = Lists.newArrayList();
+            List<OptExpression> searchRoots = Lists.newArrayList();
             // In order to reorder the bottom join tree firstly
             Collections.reverse(innerJoinTrees);
             for (OptExpression innerJoinRoot : innerJoinTrees) {
@@ -219,7 +225,12 @@ public class ReorderJoinRule extends Rule {
                 if (!multiJoinNode.checkDependsPredicate()) {
                     continue;
                 }
-                enumerate(new JoinReorderLeftDeep(context), context, innerJoinRoot, multiJoinNode, true);
+                // The left deep reorder is cheap and always runs in the current thread, because it derives the
+                // statistics of atoms, which are shared by the searches of the multi join node.
+                List<OptExpression> leftDeepResults =
+                        enumerate(new JoinReorderLeftDeep(context), context, innerJoinRoot, multiJoinNode, false);
+                searches.add(() -> leftDeepResults);
+                searchRoots.add(innerJoinRoot);
                 // If there is no statistical information, the DP and greedy reorder algorithm are disabled,
                 // and the query plan degenerates to the left deep tree
                 if (Utils.hasUnknownColumnsStats(innerJoinRoot) &&
@@ -227,15 +238,36 @@ public class ReorderJoinRule extends Rule {
                     continue;
                 }
 
-                if (multiJoinNode.getAtoms().size() <= context.getSessionVariable().getCboMaxReorderNodeUseDP()
+                int atomNum = multiJoinNode.getAtoms().size();
+                if (atomNum <= context.getSessionVariable().getCboMaxReorderNodeUseDP()
                         && context.getSessionVariable().isCboEnableDPJoinReorder()) {
                     // 10 table join reorder takes more than 100ms,
                     // so the join reorder using dp is currently controlled below 10.
-                    enumerate(new JoinReorderDP(context), context, innerJoinRoot, multiJoinNode, true);
+                    searches.add(() -> enumerate(new JoinReorderDP(context), context, innerJoinRoot, multiJoinNode,
+                            false));
+                    searchRoots.add(innerJoinRoot);
+                } else if (atomNum <= context.getSessionVariable().getCboMaxReorderNodeUseDPccp()
+                        && context.getSessionVariable().isCboEnableDPJoinReorder()) {
+                    // DPccp only joins the connected subgraphs, which could reorder more atoms than JoinReorderDP
+                    // in the same time, and gives up if the join graph is too dense.
+                    searches.add(() -> enumerate(new JoinReorderDPccp(context), context, innerJoinRoot,
+                            multiJoinNode, false));
+                    searchRoots.add(innerJoinRoot);
                 }
 
                 if (context.getSessionVariable().isCboEnableGreedyJoinReorder()) {
-                    enumerate(new JoinReorderGreedy(context), context, innerJoinRoot, multiJoinNode, true);
+                    searches.add(() -> enumerate(new JoinReorderGreedy(context), context, innerJoinRoot,
+                            multiJoinNode, false));
+                    searchRoots.add(innerJoinRoot);
+                }
+            }
+
+            // Copy the results into memo in the order of searches, which keeps the memo and the final plan the same
+            // no matter whether the searches run in parallel or not.
+            List<List<OptExpression>> searchResults = context.getTaskScheduler().forkJoin(searches);
+            for (int i = 0; i < searchResults.size(); i++) {
+                for (OptExpression joinExpr : searchResults.get(i)) {
+                    context.getMemo().copyIn(searchRoots.get(i).getGroupExpression().getGroup(), joinExpr);
                 }
             }
         }
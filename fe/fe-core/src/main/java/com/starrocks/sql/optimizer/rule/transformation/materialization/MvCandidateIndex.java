@@ -0,0 +1,143 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.sql.optimizer.rule.transformation.materialization;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.starrocks.catalog.Table;
+import com.starrocks.sql.optimizer.MaterializationContext;
+import com.starrocks.sql.optimizer.operator.OperatorType;
+
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the candidate materialized views of a query by their structural signatures, so a query expression
+ * is only checked against the candidates which could match it rather than all the candidates:
+ * - base table set: the query and the mv must be in MatchMode COMPLETE (the same number of tables, and the query's
+ *   tables contain the mv's tables) or VIEW_DELTA (more tables in the mv, and the mv's tables contain the query's)
+ * - operator signature: an aggregate query can only be rewritten by an SPJG mv, otherwise by an SPJ mv
+ * <p>
+ * These are the first checks of {@link MaterializationContext#prune}, so the index only prunes the candidates
+ * which `prune` would reject.
+ */
+public class MvCandidateIndex {
+    private final List<MaterializationContext> candidates;
+    // candidate -> position in the bitsets
+    private final Map<MaterializationContext, Integer> positions = new IdentityHashMap<>();
+    // base table -> candidates whose base tables contain it
+    private final Map<Table, BitSet> tableToCandidates = Maps.newHashMap();
+    // number of base tables -> candidates with the number of base tables
+    private final Map<Integer, BitSet> tableNumToCandidates = Maps.newHashMap();
+    // candidates without base tables which are not pruned by the index
+    private final BitSet unindexedCandidates = new BitSet();
+    private final BitSet spjCandidates = new BitSet();
+    private final BitSet spjgCandidates = new BitSet();
+
+    // The number of candidates checked and pruned by the index in the query
+    private long checkedCount = 0;
+    private long prunedCount = 0;
+
+    public MvCandidateIndex(List<MaterializationContext> candidates) {
+        this.candidates = Lists.newArrayList(candidates);
+        for (int i = 0; i < candidates.size(); i++) {
+            MaterializationContext candidate = candidates.get(i);
+            positions.put(candidate, i);
+            List<Table> baseTables = candidate.getBaseTables();
+            if (baseTables == null) {
+                unindexedCandidates.set(i);
+                continue;
+            }
+            tableNumToCandidates.computeIfAbsent(baseTables.size(), n -> new BitSet()).set(i);
+            for (Table table : baseTables) {
+                tableToCandidates.computeIfAbsent(table, t -> new BitSet()).set(i);
+            }
+            if (MvUtils.isLogicalSPJ(candidate.getMvExpression())) {
+                spjCandidates.set(i);
+            }
+            if (MvUtils.isLogicalSPJG(candidate.getMvExpression())) {
+                spjgCandidates.set(i);
+            }
+        }
+    }
+
+    /**
+     * Filter the candidates which are structurally compatible with the query expression.
+     * @param queryOp: operator type of the query expression's root
+     * @param queryTables: all tables of the query expression
+     * @param mvCandidateContexts: candidates to filter, which are kept if they are not in the index
+     * @return: the compatible candidates in the order of `mvCandidateContexts`
+     */
+    public List<MaterializationContext> filter(OperatorType queryOp,
+                                               List<Table> queryTables,
+                                               List<MaterializationContext> mvCandidateContexts) {
+        BitSet operatorCompatible = queryOp == OperatorType.LOGICAL_AGGR ? spjgCandidates : spjCandidates;
+        Set<Table> queryTableSet = Sets.newHashSet(queryTables);
+
+        // VIEW_DELTA: candidates with all the query's tables and more tables
+        BitSet compatible = (BitSet) operatorCompatible.clone();
+        for (Table table : queryTableSet) {
+            BitSet candidatesWithTable = tableToCandidates.get(table);
+            if (candidatesWithTable == null) {
+                compatible.clear();
+                break;
+            }
+            compatible.and(candidatesWithTable);
+        }
+        for (int i = compatible.nextSetBit(0); i >= 0; i = compatible.nextSetBit(i + 1)) {
+            if (candidates.get(i).getBaseTables().size() <= queryTables.size()) {
+                compatible.clear(i);
+            }
+        }
+        // COMPLETE: candidates with the same number of tables which are all in the query's tables
+        BitSet sameTableNum = tableNumToCandidates.get(queryTables.size());
+        if (sameTableNum != null) {
+            for (int i = sameTableNum.nextSetBit(0); i >= 0; i = sameTableNum.nextSetBit(i + 1)) {
+                if (operatorCompatible.get(i) && queryTableSet.containsAll(candidates.get(i).getBaseTables())) {
+                    compatible.set(i);
+                }
+            }
+        }
+        compatible.or(unindexedCandidates);
+
+        List<MaterializationContext> result = Lists.newArrayListWithCapacity(mvCandidateContexts.size());
+        for (MaterializationContext mvContext : mvCandidateContexts) {
+            Integer position = positions.get(mvContext);
+            if (position == null || compatible.get(position)) {
+                result.add(mvContext);
+            }
+        }
+        checkedCount += mvCandidateContexts.size();
+        prunedCount += mvCandidateContexts.size() - result.size();
+        return result;
+    }
+
+    public long getCheckedCount() {
+        return checkedCount;
+    }
+
+    public long getPrunedCount() {
+        return prunedCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("candidates: %d, checked: %d, pruned: %d", candidates.size(), checkedCount, prunedCount);
+    }
+}
@@ -36,6 +36,7 @@ import com.starrocks.sql.optimizer.rule.transformation.TransformationRule;
 import com.starrocks.sql.optimizer.rule.transformation.materialization.BestMvSelector;
 import com.starrocks.sql.optimizer.rule.transformation.materialization.IMaterializedViewRewriter;
 import com.starrocks.sql.optimizer.rule.transformation.materialization.MaterializedViewRewriter;
+import com.starrocks.sql.optimizer.rule.transformation.materialization.MvCandidateIndex;
 import com.starrocks.sql.optimizer.rule.transformation.materialization.MvUtils;
 import com.starrocks.sql.optimizer.rule.transformation.materialization.PredicateSplit;
 import com.starrocks.sql.optimizer.rule.transformation.materialization.compensation.MVCompensation;
@@ -119,8 +120,13 @@ public abstract class BaseMaterializedViewRewriteRule extends TransformationRule
     public List<MaterializationContext> doPrune(OptExpression queryExpression,
                                                 OptimizerContext context,
                                                 List<MaterializationContext> mvCandidateContexts) {
-        mvCandidateContexts.removeIf(x -> !x.prune(context, queryExpression));
-        return mvCandidateContexts;
+        // Filter the structurally compatible candidates by the index first, then check them one by one.
+        final List<Table> queryTables = MvUtils.getAllTables(queryExpression);
+        MvCandidateIndex candidateIndex = context.getQueryMaterializationContext().getValidCandidateMVIndex();
+        List<MaterializationContext> compatibleContexts =
+                candidateIndex.filter(queryExpression.getOp().getOpType(), queryTables, mvCandidateContexts);
+        compatibleContexts.removeIf(x -> !x.prune(context, queryExpression, queryTables));
+        return compatibleContexts;
     }
 
     public List<OptExpression> doTransform(OptExpression queryExpression, OptimizerContext context) {
@@ -345,6 +345,70 @@ public class BinaryPredicateStatisticCalculator {
         return builder.build();
     }
 
+    /**
+     * Estimate the selectivity of the equal join predicate `left = right` by the most common values of both sides'
+     * histograms, refers to eqjoinsel_inner of PostgreSQL: the frequencies of the matched MCVs are multiplied exactly,
+     * the other values are assumed to be uniformly distributed over the distinct values which are not in the MCVs.
+     * It's more accurate than 1 / max(ndv) for skewed join keys, and for the NDVs underestimated by sampling.
+     *
+     * @return the selectivity among the not null rows, or empty if any side has no MCVs
+     */
+    public static Optional<Double> estimateColumnEqualToColumnSelectivityByMCV(ColumnStatistic leftColumnStatistic,
+                                                                               ColumnStatistic rightColumnStatistic) {
+        Histogram leftHistogram = leftColumnStatistic.getHistogram();
+        Histogram rightHistogram = rightColumnStatistic.getHistogram();
+        if (leftHistogram == null || rightHistogram == null || leftHistogram.getMCV() == null ||
+                rightHistogram.getMCV() == null || leftHistogram.getMCV().isEmpty() ||
+                rightHistogram.getMCV().isEmpty()) {
+            return Optional.empty();
+        }
+        Map<String, Long> leftMCV = leftHistogram.getMCV();
+        Map<String, Long> rightMCV = rightHistogram.getMCV();
+        double leftTotalRows = leftHistogram.getTotalRows();
+        double rightTotalRows = rightHistogram.getTotalRows();
+
+        double matchProductFreq = 0;
+        double leftMatchFreq = 0;
+        double rightMatchFreq = 0;
+        int matchCount = 0;
+        for (Map.Entry<String, Long> entry : leftMCV.entrySet()) {
+            Long rightRows = rightMCV.get(entry.getKey());
+            if (rightRows != null) {
+                double leftFreq = entry.getValue() / leftTotalRows;
+                double rightFreq = rightRows / rightTotalRows;
+                matchProductFreq += leftFreq * rightFreq;
+                leftMatchFreq += leftFreq;
+                rightMatchFreq += rightFreq;
+                matchCount++;
+            }
+        }
+        double leftMCVFreq = leftMCV.values().stream().mapToLong(Long::longValue).sum() / leftTotalRows;
+        double rightMCVFreq = rightMCV.values().stream().mapToLong(Long::longValue).sum() / rightTotalRows;
+        double leftUnmatchFreq = Math.max(0, leftMCVFreq - leftMatchFreq);
+        double rightUnmatchFreq = Math.max(0, rightMCVFreq - rightMatchFreq);
+        double leftOtherFreq = Math.max(0, 1 - leftMCVFreq);
+        double rightOtherFreq = Math.max(0, 1 - rightMCVFreq);
+        double leftDistinctValues = leftColumnStatistic.getDistinctValuesCount();
+        double rightDistinctValues = rightColumnStatistic.getDistinctValuesCount();
+
+        // the left's values which are not in the matched MCVs join the right's values which are not in its MCVs
+        double leftSelectivity = matchProductFreq;
+        if (rightDistinctValues > rightMCV.size()) {
+            leftSelectivity += leftUnmatchFreq * rightOtherFreq / (rightDistinctValues - rightMCV.size());
+        }
+        if (rightDistinctValues > matchCount) {
+            leftSelectivity += leftOtherFreq * (rightOtherFreq + rightUnmatchFreq) / (rightDistinctValues - matchCount);
+        }
+        double rightSelectivity = matchProductFreq;
+        if (leftDistinctValues > leftMCV.size()) {
+            rightSelectivity += rightUnmatchFreq * leftOtherFreq / (leftDistinctValues - leftMCV.size());
+        }
+        if (leftDistinctValues > matchCount) {
+            rightSelectivity += rightOtherFreq * (leftOtherFreq + leftUnmatchFreq) / (leftDistinctValues - matchCount);
+        }
+        return Optional.of(Math.min(1, Math.min(leftSelectivity, rightSelectivity)));
+    }
+
     public static Statistics estimateColumnNotEqualToColumn(
             ColumnStatistic leftColumn,
             ColumnStatistic rightColumn,
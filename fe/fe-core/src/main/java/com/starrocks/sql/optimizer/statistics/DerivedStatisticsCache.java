@@ -0,0 +1,134 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.sql.optimizer.statistics;
+
+import com.starrocks.analysis.JoinOperator;
+import com.starrocks.sql.optimizer.ExpressionContext;
+import com.starrocks.sql.optimizer.base.ColumnRefSet;
+import com.starrocks.sql.optimizer.operator.Projection;
+import com.starrocks.sql.optimizer.operator.logical.LogicalJoinOperator;
+import com.starrocks.sql.optimizer.operator.scalar.ScalarOperator;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics derived for the join operators within a query, which are shared by the memo groups and the join
+ * reorder algorithms, e.g. JoinReorderDP, JoinReorderGreedy and the group expressions copied into the memo from
+ * their results all join the same atoms.
+ * <p>
+ * The statistics of a join are decided by its predicates, its projection and the statistics and output columns of
+ * its children, so the children's statistics are compared by reference: a cache hit returns the same statistics
+ * object, which makes the parent joins hit the cache as well.
+ */
+public class DerivedStatisticsCache {
+    // Bound the memory of the join reorder of many atoms, the statistics are not cached beyond it
+    private static final int MAX_ENTRIES = 10000;
+
+    private final Map<JoinKey, Statistics> joinStatistics = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public Statistics getJoinStatistics(LogicalJoinOperator join, ExpressionContext context) {
+        Statistics statistics = joinStatistics.get(new JoinKey(join, context));
+        if (statistics == null) {
+            missCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return statistics;
+    }
+
+    public void putJoinStatistics(LogicalJoinOperator join, ExpressionContext context, Statistics statistics) {
+        if (joinStatistics.size() < MAX_ENTRIES) {
+            joinStatistics.put(new JoinKey(join, context), statistics);
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public double getHitRate() {
+        long requestCount = getHitCount() + getMissCount();
+        return requestCount == 0 ? 0 : (double) getHitCount() / requestCount;
+    }
+
+    public void clear() {
+        joinStatistics.clear();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits: %d, misses: %d, hit rate: %.2f%%, entries: %d",
+                getHitCount(), getMissCount(), getHitRate() * 100, joinStatistics.size());
+    }
+
+    // The fields of the operator are copied, because the operator may be modified by the rules after deriving
+    private static final class JoinKey {
+        private final JoinOperator joinType;
+        private final ScalarOperator onPredicate;
+        private final ScalarOperator predicate;
+        private final Projection projection;
+        private final long limit;
+        private final Statistics leftStatistics;
+        private final Statistics rightStatistics;
+        private final ColumnRefSet leftOutputColumns;
+        private final ColumnRefSet rightOutputColumns;
+        private final int hashCode;
+
+        private JoinKey(LogicalJoinOperator join, ExpressionContext context) {
+            this.joinType = join.getJoinType();
+            this.onPredicate = join.getOnPredicate();
+            this.predicate = join.getPredicate();
+            this.projection = join.getProjection();
+            this.limit = join.getLimit();
+            this.leftStatistics = context.getChildStatistics(0);
+            this.rightStatistics = context.getChildStatistics(1);
+            this.leftOutputColumns = context.getChildOutputColumns(0).clone();
+            this.rightOutputColumns = context.getChildOutputColumns(1).clone();
+            this.hashCode = Objects.hash(joinType, onPredicate, predicate, projection, limit,
+                    System.identityHashCode(leftStatistics), System.identityHashCode(rightStatistics),
+                    leftOutputColumns, rightOutputColumns);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof JoinKey)) {
+                return false;
+            }
+            JoinKey that = (JoinKey) o;
+            return hashCode == that.hashCode && leftStatistics == that.leftStatistics &&
+                    rightStatistics == that.rightStatistics && limit == that.limit && joinType == that.joinType &&
+                    Objects.equals(onPredicate, that.onPredicate) && Objects.equals(predicate, that.predicate) &&
+                    Objects.equals(projection, that.projection) &&
+                    leftOutputColumns.equals(that.leftOutputColumns) && rightOutputColumns.equals(that.rightOutputColumns);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
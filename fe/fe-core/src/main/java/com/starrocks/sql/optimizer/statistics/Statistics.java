@@ -19,6 +19,7 @@ import com.google.common.collect.Maps;
 import com.starrocks.sql.common.ErrorType;
 import com.starrocks.sql.common.StarRocksPlannerException;
 import com.starrocks.sql.optimizer.base.ColumnRefSet;
+import com.starrocks.sql.optimizer.operator.OperatorType;
 import com.starrocks.sql.optimizer.operator.scalar.ColumnRefOperator;
 
 import java.util.Collection;
@@ -120,8 +121,11 @@ public class Statistics {
 
     public ColumnRefSet getUsedColumns() {
         ColumnRefSet usedColumns = new ColumnRefSet();
-        for (Map.Entry<ColumnRefOperator, ColumnStatistic> entry : columnStatistics.entrySet()) {
-            usedColumns.union(entry.getKey().getUsedColumns());
+        for (ColumnRefOperator column : columnStatistics.keySet()) {
+            // same as union(column.getUsedColumns()), without a ColumnRefSet for each column
+            if (!OperatorType.LAMBDA_ARGUMENT.equals(column.getOpType())) {
+                usedColumns.union(column.getId());
+            }
         }
         return usedColumns;
     }
@@ -159,27 +163,37 @@ public class Statistics {
 
     public static final class Builder {
         private double outputRowCount;
-        private final Map<ColumnRefOperator, ColumnStatistic> columnStatistics;
+        private Map<ColumnRefOperator, ColumnStatistic> columnStatistics;
+        // The column statistics of the statistics built from are shared until the first modification, most of the
+        // derived statistics only change the row count or a few columns of their child's statistics.
+        private boolean columnStatisticsShared;
         private boolean tableRowCountMayInaccurate;
         // columns not used to compute costs
         // which is used by mv rewrite to make the cost accurate
         private Collection<ColumnRefOperator> shadowColumns;
 
         public Builder() {
-            this(NaN, new HashMap<>(), false);
+            this.outputRowCount = NaN;
+            this.columnStatistics = new HashMap<>();
+            this.tableRowCountMayInaccurate = false;
+            this.shadowColumns = Lists.newArrayList();
         }
 
         private Builder(double outputRowCount, Map<ColumnRefOperator, ColumnStatistic> columnStatistics,
                         boolean tableRowCountMayInaccurate, Collection<ColumnRefOperator> shadowColumns) {
             this.outputRowCount = outputRowCount;
-            this.columnStatistics = new HashMap<>(columnStatistics);
+            this.columnStatistics = columnStatistics;
+            this.columnStatisticsShared = true;
             this.tableRowCountMayInaccurate = tableRowCountMayInaccurate;
             this.shadowColumns = shadowColumns;
         }
 
-        private Builder(double outputRowCount, Map<ColumnRefOperator, ColumnStatistic> columnStatistics,
-                        boolean tableRowCountMayInaccurate) {
-            this(outputRowCount, columnStatistics, tableRowCountMayInaccurate, Lists.newArrayList());
+        private Map<ColumnRefOperator, ColumnStatistic> mutableColumnStatistics() {
+            if (columnStatisticsShared) {
+                columnStatistics = new HashMap<>(columnStatistics);
+                columnStatisticsShared = false;
+            }
+            return columnStatistics;
         }
 
         public Builder setOutputRowCount(double outputRowCount) {
@@ -210,12 +224,12 @@ public class Statistics {
         }
 
         public Builder addColumnStatistic(ColumnRefOperator column, ColumnStatistic statistic) {
-            this.columnStatistics.put(column, statistic);
+            mutableColumnStatistics().put(column, statistic);
             return this;
         }
 
         public Builder addColumnStatistics(Map<ColumnRefOperator, ColumnStatistic> columnStatistics) {
-            this.columnStatistics.putAll(columnStatistics);
+            mutableColumnStatistics().putAll(columnStatistics);
             return this;
         }
 
@@ -224,9 +238,11 @@ public class Statistics {
         }
 
         public Builder addColumnStatisticsFromOtherStatistic(Statistics statistics, ColumnRefSet hintRefs, boolean withHist) {
+            Map<ColumnRefOperator, ColumnStatistic> columnStatistics = mutableColumnStatistics();
             statistics.getColumnStatistics().forEach((k, v) -> {
                 if (hintRefs.contains(k.getId())) {
-                    this.columnStatistics.put(k, withHist ? v : ColumnStatistic.buildFrom(v).setHistogram(null).build());
+                    columnStatistics.put(k, withHist || v.getHistogram() == null ? v :
+                            ColumnStatistic.buildFrom(v).setHistogram(null).build());
                 }
             });
             return this;
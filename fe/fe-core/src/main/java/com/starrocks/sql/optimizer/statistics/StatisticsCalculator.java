@@ -22,6 +22,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Range;
 import com.google.common.collect.Sets;
+import com.starrocks.analysis.BinaryType;
 import com.starrocks.analysis.DateLiteral;
 import com.starrocks.analysis.JoinOperator;
 import com.starrocks.analysis.LiteralExpr;
@@ -930,7 +931,33 @@ public class StatisticsCalculator extends OperatorVisitor<Void, ExpressionContex
 
     @Override
     public Void visitLogicalJoin(LogicalJoinOperator node, ExpressionContext context) {
-        return computeJoinNode(context, node.getJoinType(), node.getOnPredicate());
+        DerivedStatisticsCache cache = getDerivedStatisticsCache();
+        if (cache == null) {
+            return computeJoinNode(context, node.getJoinType(), node.getOnPredicate());
+        }
+
+        Statistics statistics = cache.getJoinStatistics(node, context);
+        if (statistics != null) {
+            context.setStatistics(statistics);
+            return null;
+        }
+        computeJoinNode(context, node.getJoinType(), node.getOnPredicate());
+        cache.putJoinStatistics(node, context, context.getStatistics());
+        return null;
+    }
+
+    private DerivedStatisticsCache getDerivedStatisticsCache() {
+        // only cache the statistics derived by the memo and the join reorder of a query, whose session variables and
+        // column refs are not changed any more
+        if (optimizerContext == null || !optimizerContext.isInMemoPhase() ||
+                !optimizerContext.getSessionVariable().isCboEnableDerivedStatsCache()) {
+            return null;
+        }
+        // the statistics of UK/FK join also depend on the constraints of the whole child expressions
+        if (optimizerContext.getSessionVariable().isEnableUKFKOpt()) {
+            return null;
+        }
+        return optimizerContext.getDerivedStatisticsCache();
     }
 
     @Override
@@ -999,6 +1026,10 @@ public class StatisticsCalculator extends OperatorVisitor<Void, ExpressionContex
 
             OptExpression optExpression = context.getOptExpression();
             SessionVariable sessionVariable = ConnectContext.get().getSessionVariable();
+            if (sessionVariable.isUseHistogramJoinEstimate()) {
+                innerJoinStats = estimateInnerJoinStatisticsByMCV(innerJoinStats, crossRowCount,
+                        leftStatistics, rightStatistics, eqOnPredicates);
+            }
 
             if (optExpression != null && sessionVariable.isEnableUKFKOpt()) {
                 UKFKConstraintsCollector.collectColumnConstraints(optExpression);
@@ -1342,6 +1373,42 @@ public class StatisticsCalculator extends OperatorVisitor<Void, ExpressionContex
         }
     }
 
+    // The histograms are not kept in the cross join statistics, so the MCVs of the join keys are taken from
+    // the children's statistics. Only the join of one equal predicate on two columns is estimated by the MCVs,
+    // the others keep the estimation by the NDVs.
+    private Statistics estimateInnerJoinStatisticsByMCV(Statistics innerJoinStats, double crossRowCount,
+                                                        Statistics leftStatistics, Statistics rightStatistics,
+                                                        List<BinaryPredicateOperator> eqOnPredicates) {
+        if (eqOnPredicates.size() != 1) {
+            return innerJoinStats;
+        }
+        BinaryPredicateOperator predicate = eqOnPredicates.get(0);
+        if (predicate.getBinaryType() != BinaryType.EQ || !predicate.getChild(0).isColumnRef() ||
+                !predicate.getChild(1).isColumnRef()) {
+            return innerJoinStats;
+        }
+        ColumnRefOperator leftColumn = (ColumnRefOperator) predicate.getChild(0);
+        ColumnRefOperator rightColumn = (ColumnRefOperator) predicate.getChild(1);
+        if (!leftStatistics.getColumnStatistics().containsKey(leftColumn)) {
+            ColumnRefOperator temp = leftColumn;
+            leftColumn = rightColumn;
+            rightColumn = temp;
+        }
+        ColumnStatistic leftColumnStatistic = leftStatistics.getColumnStatistics().get(leftColumn);
+        ColumnStatistic rightColumnStatistic = rightStatistics.getColumnStatistics().get(rightColumn);
+        if (leftColumnStatistic == null || rightColumnStatistic == null) {
+            return innerJoinStats;
+        }
+        Optional<Double> selectivity = BinaryPredicateStatisticCalculator
+                .estimateColumnEqualToColumnSelectivityByMCV(leftColumnStatistic, rightColumnStatistic);
+        if (selectivity.isEmpty()) {
+            return innerJoinStats;
+        }
+        double rowCount = crossRowCount * selectivity.get() *
+                (1 - leftColumnStatistic.getNullsFraction()) * (1 - rightColumnStatistic.getNullsFraction());
+        return Statistics.buildFrom(innerJoinStats).setOutputRowCount(rowCount).build();
+    }
+
     // The implementation here refers to Presto
     // Join equality clauses are usually correlated. Therefore we shouldn't treat each join equality
     // clause separately because stats estimates would be way off. Instead we choose so called
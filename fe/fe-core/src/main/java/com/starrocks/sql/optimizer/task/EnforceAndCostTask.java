@@ -301,11 +301,15 @@ public class EnforceAndCostTask extends OptimizerTask implements Cloneable {
         if (JoinHelper.onlyBroadcast(node.getJoinType(), equalOnPredicate, node.getJoinHint())) {
             return true;
         }
+        ConnectContext ctx = ConnectContext.get();
+        SessionVariable sv = ConnectContext.get().getSessionVariable();
+        // the broadcast join is disabled when re-planning the query which exceeds the memory limit
+        if (!sv.isEnableBroadcastJoin()) {
+            return JoinOperator.HINT_BROADCAST.equals(node.getJoinHint());
+        }
         // Only when right table is not significantly smaller than left table, consider the
         // broadcastRowCountLimit, Otherwise, this limit is not considered, which can avoid
         // shuffling large left-hand table data
-        ConnectContext ctx = ConnectContext.get();
-        SessionVariable sv = ConnectContext.get().getSessionVariable();
         int beNum = Math.max(1, ctx.getAliveBackendNumber());
         Statistics leftChildStats = groupExpression.getInputs().get(curChildIndex - 1).getStatistics();
         Statistics rightChildStats = groupExpression.getInputs().get(curChildIndex).getStatistics();
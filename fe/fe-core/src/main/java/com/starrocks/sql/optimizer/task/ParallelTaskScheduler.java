@@ -0,0 +1,81 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.sql.optimizer.task;
+
+import com.google.common.collect.Lists;
+import com.starrocks.qe.ConnectContext;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Supplier;
+
+/**
+ * ParallelTaskScheduler executes the optimizer tasks serially like {@link SeriallyTaskScheduler}, but runs the
+ * independent searches forked by the tasks, e.g. the join reorder of different multi-join groups, on a ForkJoin pool
+ * shared by all the queries.
+ * <p>
+ * The searches only read the memo, and their results are copied into the memo by the session thread in the order of
+ * the searches, so the memo and the final plan are the same as the ones of {@link SeriallyTaskScheduler}.
+ */
+public class ParallelTaskScheduler extends SeriallyTaskScheduler {
+
+    private static class PoolHolder {
+        private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+                pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("optimizer-search-" + thread.getPoolIndex());
+                    return thread;
+                }, null, false);
+    }
+
+    private ParallelTaskScheduler() {
+    }
+
+    public static TaskScheduler create() {
+        return new ParallelTaskScheduler();
+    }
+
+    @Override
+    public <T> List<T> forkJoin(List<Supplier<T>> searches) {
+        if (searches.size() <= 1) {
+            return super.forkJoin(searches);
+        }
+
+        // the searches may read session variables by ConnectContext.get()
+        ConnectContext connectContext = ConnectContext.get();
+        List<ForkJoinTask<T>> forkedSearches = Lists.newArrayListWithCapacity(searches.size());
+        for (Supplier<T> search : searches) {
+            forkedSearches.add(ForkJoinTask.adapt(() -> {
+                if (connectContext != null) {
+                    connectContext.setThreadLocalInfo();
+                }
+                try {
+                    return search.get();
+                } finally {
+                    ConnectContext.remove();
+                }
+            }));
+        }
+        PoolHolder.POOL.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(forkedSearches)));
+
+        List<T> results = Lists.newArrayListWithCapacity(searches.size());
+        for (ForkJoinTask<T> search : forkedSearches) {
+            results.add(search.join());
+        }
+        return results;
+    }
+}
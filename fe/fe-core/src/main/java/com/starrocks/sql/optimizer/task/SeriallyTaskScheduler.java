@@ -26,7 +26,7 @@ import java.util.Stack;
 public class SeriallyTaskScheduler implements TaskScheduler {
     private final Stack<OptimizerTask> tasks;
 
-    private SeriallyTaskScheduler() {
+    protected SeriallyTaskScheduler() {
         tasks = new Stack<>();
     }
 
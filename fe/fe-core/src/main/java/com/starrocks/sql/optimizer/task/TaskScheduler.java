@@ -15,10 +15,23 @@
 
 package com.starrocks.sql.optimizer.task;
 
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
 // The scheduler for optimizer task
 // Store tasks in a stack
 public interface TaskScheduler {
     void executeTasks(TaskContext context);
 
     void pushTask(OptimizerTask task);
+
+    /**
+     * Run the independent searches, e.g. the join reorder of different multi-join groups, and return their results
+     * in the order of the searches. A search must not modify the memo, and the caller copies the results into the
+     * memo in order, so the result is the same no matter whether the searches run in parallel.
+     */
+    default <T> List<T> forkJoin(List<Supplier<T>> searches) {
+        return searches.stream().map(Supplier::get).collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,401 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.sql.plan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.starrocks.analysis.FunctionCallExpr;
+import com.starrocks.analysis.InformationFunction;
+import com.starrocks.analysis.Parameter;
+import com.starrocks.analysis.TableName;
+import com.starrocks.analysis.UserVariableExpr;
+import com.starrocks.analysis.VariableExpr;
+import com.starrocks.catalog.FunctionSet;
+import com.starrocks.catalog.OlapTable;
+import com.starrocks.catalog.PhysicalPartition;
+import com.starrocks.catalog.Table;
+import com.starrocks.common.Config;
+import com.starrocks.qe.ConnectContext;
+import com.starrocks.qe.OriginStatement;
+import com.starrocks.sql.analyzer.AnalyzerUtils;
+import com.starrocks.sql.ast.AstTraverser;
+import com.starrocks.sql.ast.QueryStatement;
+import com.starrocks.sql.optimizer.OptExpression;
+import com.starrocks.sql.optimizer.base.ColumnRefFactory;
+import com.starrocks.sql.optimizer.operator.Operator;
+import com.starrocks.sql.optimizer.operator.physical.PhysicalOlapScanOperator;
+import com.starrocks.sql.optimizer.operator.physical.PhysicalScanOperator;
+import com.starrocks.sql.optimizer.transformer.LogicalPlan;
+import com.starrocks.thrift.TResultSinkType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * FE-wide cache of optimized physical plans for ad-hoc queries.
+ *
+ * <p>A query is keyed by its statement text together with everything in the session that can change the plan:
+ * catalog, database, user, roles, result sink type and a hash of all session variables. Each entry also records
+ * the schema update time and every physical partition's visible version of the tables it reads, so a cached plan
+ * is only reused while none of them changed. Statistics refreshes invalidate the entries that read the table.
+ *
+ * <p>On a hit the analyzer and the authorizer still run, only the transformer and the optimizer are skipped; the
+ * fragments are rebuilt from the cached physical plan by {@link PlanFragmentBuilder}, the same way prepared
+ * statements reuse their plans in {@link com.starrocks.sql.PrepareStmtPlanner}.
+ *
+ * <p>Literals are part of the key: they drive partition/tablet pruning, constant folding and cost estimation,
+ * so rebinding them into an already optimized plan is only safe for the point queries handled by prepared
+ * statements.
+ */
+public class QueryPlanCache {
+    private static final Logger LOG = LogManager.getLogger(QueryPlanCache.class);
+
+    private static final QueryPlanCache INSTANCE = new QueryPlanCache();
+
+    private Cache<PlanCacheKey, CachedPlan> cache = buildCache();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    private QueryPlanCache() {
+    }
+
+    public static QueryPlanCache getInstance() {
+        return INSTANCE;
+    }
+
+    private static Cache<PlanCacheKey, CachedPlan> buildCache() {
+        return Caffeine.newBuilder()
+                .expireAfterAccess(Config.query_plan_cache_expire_interval_sec, TimeUnit.SECONDS)
+                .maximumSize(Config.query_plan_cache_max_size)
+                .build();
+    }
+
+    @VisibleForTesting
+    public void rebuildCache() {
+        cache = buildCache();
+    }
+
+    /**
+     * Build the lookup for an analyzed query, return null if the query can not use the plan cache.
+     * Must be called while the planner still holds the meta lock of the query, so the table versions recorded
+     * here are the ones the plan is built from.
+     */
+    public Lookup createLookup(QueryStatement queryStmt, ConnectContext session, TResultSinkType resultSinkType) {
+        if (!Config.enable_query_plan_cache || queryStmt.isExplain() || queryStmt.hasOutFileClause()) {
+            return null;
+        }
+        OriginStatement origStmt = queryStmt.getOrigStmt();
+        if (origStmt == null || origStmt.getOrigStmt() == null) {
+            return null;
+        }
+
+        Map<TableName, Table> tables = AnalyzerUtils.collectAllTable(queryStmt);
+        if (tables.isEmpty()) {
+            return null;
+        }
+        List<TableVersion> tableVersions = Lists.newArrayList();
+        for (Table table : tables.values()) {
+            if (!(table instanceof OlapTable) || table.isTemporaryTable()) {
+                return null;
+            }
+            tableVersions.add(TableVersion.of((OlapTable) table));
+        }
+
+        CacheabilityChecker checker = new CacheabilityChecker();
+        checker.visit(queryStmt);
+        if (!checker.isCacheable()) {
+            return null;
+        }
+
+        HashCode sessionVariableHash;
+        try {
+            sessionVariableHash = Hashing.murmur3_128()
+                    .hashString(session.getSessionVariable().getJsonString(), StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            LOG.debug("skip plan cache since session variables can not be serialized", e);
+            return null;
+        }
+
+        PlanCacheKey key = new PlanCacheKey(origStmt.getOrigStmt(), origStmt.getIdx(), session.getCurrentCatalog(),
+                session.getDatabase(), Objects.toString(session.getCurrentUserIdentity()),
+                session.getCurrentRoleIds() == null ? Sets.newTreeSet() : new TreeSet<>(session.getCurrentRoleIds()),
+                resultSinkType, sessionVariableHash);
+        return new Lookup(key, tableVersions);
+    }
+
+    /**
+     * Rebuild an exec plan from the cached physical plan, return null if there is no valid cached plan.
+     */
+    public ExecPlan getPlan(Lookup lookup, QueryStatement queryStmt, ConnectContext session) {
+        CachedPlan cachedPlan = cache.getIfPresent(lookup.key);
+        if (cachedPlan == null) {
+            missCount.increment();
+            return null;
+        }
+        if (!cachedPlan.tableVersions.equals(lookup.tableVersions)) {
+            cache.asMap().remove(lookup.key, cachedPlan);
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+
+        List<String> colNames = queryStmt.getQueryRelation().getColumnOutputNames();
+        // PlanFragmentBuilder may temporarily rewrite the physical plan (e.g. merge join), so fragments of
+        // the same cached plan are never built concurrently.
+        synchronized (cachedPlan) {
+            ExecPlan execPlan = PlanFragmentBuilder.createPhysicalPlan(
+                    cachedPlan.physicalPlan, session, cachedPlan.logicalPlan.getOutputColumn(),
+                    cachedPlan.columnRefFactory, colNames, lookup.key.resultSinkType,
+                    !session.getSessionVariable().isSingleNodeExecPlan());
+            execPlan.setLogicalPlan(cachedPlan.logicalPlan);
+            execPlan.setColumnRefFactory(cachedPlan.columnRefFactory);
+            return execPlan;
+        }
+    }
+
+    public void putPlan(Lookup lookup, ExecPlan execPlan) {
+        if (execPlan == null || execPlan.getPhysicalPlan() == null || execPlan.getLogicalPlan() == null
+                || execPlan.getColumnRefFactory() == null) {
+            return;
+        }
+        Set<Long> tableIds = Sets.newHashSet();
+        lookup.tableVersions.forEach(v -> tableIds.add(v.tableId));
+        // plans rewritten by materialized views or reading any table outside the statement can not be
+        // validated by the recorded table versions
+        if (!scansOnlyTables(execPlan.getPhysicalPlan(), tableIds)) {
+            return;
+        }
+        cache.put(lookup.key, new CachedPlan(execPlan.getPhysicalPlan(), execPlan.getLogicalPlan(),
+                execPlan.getColumnRefFactory(), lookup.tableVersions, tableIds));
+    }
+
+    /**
+     * Invalidate all cached plans reading the table, called when its statistics are refreshed.
+     */
+    public void invalidateTable(long tableId) {
+        cache.asMap().values().removeIf(plan -> plan.tableIds.contains(tableId));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private static boolean scansOnlyTables(OptExpression optExpression, Set<Long> tableIds) {
+        Operator op = optExpression.getOp();
+        if (op instanceof PhysicalScanOperator) {
+            if (!(op instanceof PhysicalOlapScanOperator)) {
+                return false;
+            }
+            if (!tableIds.contains(((PhysicalOlapScanOperator) op).getTable().getId())) {
+                return false;
+            }
+        }
+        for (OptExpression input : optExpression.getInputs()) {
+            if (!scansOnlyTables(input, tableIds)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Rejects statements whose plan depends on more than the statement text and the session variables.
+     */
+    private static class CacheabilityChecker extends AstTraverser<Void, Void> {
+        private boolean cacheable = true;
+
+        public boolean isCacheable() {
+            return cacheable;
+        }
+
+        @Override
+        public Void visitFunctionCall(FunctionCallExpr node, Void context) {
+            String fnName = node.getFnName().getFunction();
+            if (FunctionSet.allNonDeterministicFunctions.contains(fnName)
+                    || FunctionSet.INFORMATION_FUNCTIONS.contains(fnName)
+                    || FunctionSet.LAST_QUERY_ID.equals(fnName)) {
+                cacheable = false;
+                return null;
+            }
+            return super.visitFunctionCall(node, context);
+        }
+
+        @Override
+        public Void visitInformationFunction(InformationFunction node, Void context) {
+            cacheable = false;
+            return null;
+        }
+
+        @Override
+        public Void visitVariableExpr(VariableExpr node, Void context) {
+            cacheable = false;
+            return null;
+        }
+
+        @Override
+        public Void visitUserVariableExpr(UserVariableExpr node, Void context) {
+            cacheable = false;
+            return null;
+        }
+
+        @Override
+        public Void visitParameterExpr(Parameter node, Void context) {
+            cacheable = false;
+            return null;
+        }
+    }
+
+    public static class Lookup {
+        private final PlanCacheKey key;
+        private final List<TableVersion> tableVersions;
+
+        private Lookup(PlanCacheKey key, List<TableVersion> tableVersions) {
+            this.key = key;
+            this.tableVersions = tableVersions;
+        }
+    }
+
+    private static class CachedPlan {
+        private final OptExpression physicalPlan;
+        private final LogicalPlan logicalPlan;
+        private final ColumnRefFactory columnRefFactory;
+        private final List<TableVersion> tableVersions;
+        private final Set<Long> tableIds;
+
+        private CachedPlan(OptExpression physicalPlan, LogicalPlan logicalPlan, ColumnRefFactory columnRefFactory,
+                           List<TableVersion> tableVersions, Set<Long> tableIds) {
+            this.physicalPlan = physicalPlan;
+            this.logicalPlan = logicalPlan;
+            this.columnRefFactory = columnRefFactory;
+            this.tableVersions = tableVersions;
+            this.tableIds = tableIds;
+        }
+    }
+
+    /**
+     * Schema update time and the (partition id, visible version) pairs of all physical partitions of a table.
+     */
+    @VisibleForTesting
+    static class TableVersion {
+        private final long tableId;
+        private final long lastSchemaUpdateTime;
+        private final long[] partitionVersions;
+
+        private TableVersion(long tableId, long lastSchemaUpdateTime, long[] partitionVersions) {
+            this.tableId = tableId;
+            this.lastSchemaUpdateTime = lastSchemaUpdateTime;
+            this.partitionVersions = partitionVersions;
+        }
+
+        static TableVersion of(OlapTable table) {
+            List<PhysicalPartition> partitions = Lists.newArrayList(table.getAllPhysicalPartitions());
+            partitions.sort((p1, p2) -> Long.compare(p1.getId(), p2.getId()));
+            long[] partitionVersions = new long[partitions.size() * 2];
+            int idx = 0;
+            for (PhysicalPartition partition : partitions) {
+                partitionVersions[idx++] = partition.getId();
+                partitionVersions[idx++] = partition.getVisibleVersion();
+            }
+            return new TableVersion(table.getId(), table.lastSchemaUpdateTime.get(), partitionVersions);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            TableVersion that = (TableVersion) o;
+            return tableId == that.tableId && lastSchemaUpdateTime == that.lastSchemaUpdateTime &&
+                    Arrays.equals(partitionVersions, that.partitionVersions);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(tableId, lastSchemaUpdateTime, Arrays.hashCode(partitionVersions));
+        }
+    }
+
+    private static class PlanCacheKey {
+        private final String sql;
+        private final int idx;
+        private final String catalog;
+        private final String database;
+        private final String user;
+        private final Set<Long> roleIds;
+        private final TResultSinkType resultSinkType;
+        private final HashCode sessionVariableHash;
+
+        private PlanCacheKey(String sql, int idx, String catalog, String database, String user, Set<Long> roleIds,
+                             TResultSinkType resultSinkType, HashCode sessionVariableHash) {
+            this.sql = sql;
+            this.idx = idx;
+            this.catalog = catalog;
+            this.database = database;
+            this.user = user;
+            this.roleIds = roleIds;
+            this.resultSinkType = resultSinkType;
+            this.sessionVariableHash = sessionVariableHash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            PlanCacheKey that = (PlanCacheKey) o;
+            return idx == that.idx && sql.equals(that.sql) && Objects.equals(catalog, that.catalog) &&
+                    Objects.equals(database, that.database) && Objects.equals(user, that.user) &&
+                    roleIds.equals(that.roleIds) && resultSinkType == that.resultSinkType &&
+                    sessionVariableHash.equals(that.sessionVariableHash);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sql, idx, catalog, database, user, roleIds, resultSinkType, sessionVariableHash);
+        }
+    }
+}
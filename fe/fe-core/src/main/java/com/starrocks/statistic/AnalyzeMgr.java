@@ -43,6 +43,7 @@ import com.starrocks.persist.metablock.SRMetaBlockWriter;
 import com.starrocks.qe.ConnectContext;
 import com.starrocks.server.GlobalStateMgr;
 import com.starrocks.sql.analyzer.SemanticException;
+import com.starrocks.sql.plan.QueryPlanCache;
 import com.starrocks.transaction.InsertTxnCommitAttachment;
 import com.starrocks.transaction.TransactionState;
 import com.starrocks.transaction.TxnCommitAttachment;
@@ -270,6 +271,7 @@ public class AnalyzeMgr implements Writable {
         }
 
         GlobalStateMgr.getCurrentState().getStatisticStorage().expireTableAndColumnStatistics(table, columns);
+        QueryPlanCache.getInstance().invalidateTable(tableId);
         if (async) {
             GlobalStateMgr.getCurrentState().getStatisticStorage().refreshTableStatistic(table);
             GlobalStateMgr.getCurrentState().getStatisticStorage().getColumnStatistics(table, columns);
@@ -334,6 +336,7 @@ public class AnalyzeMgr implements Writable {
         }
 
         GlobalStateMgr.getCurrentState().getStatisticStorage().expireHistogramStatistics(table.getId(), columns);
+        QueryPlanCache.getInstance().invalidateTable(table.getId());
         if (async) {
             GlobalStateMgr.getCurrentState().getStatisticStorage().getHistogramStatistics(table, columns);
         } else {
@@ -14,10 +14,12 @@
 
 package com.starrocks.statistic;
 
+import com.google.common.collect.Maps;
 import com.google.gson.annotations.SerializedName;
 import com.starrocks.catalog.Database;
 import com.starrocks.catalog.OlapTable;
 import com.starrocks.catalog.Partition;
+import com.starrocks.catalog.PhysicalPartition;
 import com.starrocks.common.io.Text;
 import com.starrocks.common.io.Writable;
 import com.starrocks.persist.gson.GsonUtils;
@@ -61,6 +63,12 @@ public class BasicStatsMeta implements Writable {
     @SerializedName("deltaRows")
     private long deltaRows;
 
+    // partition id -> the visible version of the partition when it was collected by the last full statistics job.
+    // The update time of the job is after the collection, so a load published while collecting is missed by the
+    // update time, but not by the version.
+    @SerializedName("partitionVersions")
+    private Map<Long, Long> partitionVersions;
+
     public BasicStatsMeta(long dbId, long tableId, List<String> columns,
                           StatsConstants.AnalyzeType type,
                           LocalDateTime updateTime,
@@ -139,9 +147,8 @@ public class BasicStatsMeta implements Writable {
             tableRowCount += partition.getRowCount();
             Optional<Long> statistic = tableStatistics.getOrDefault(partition.getId(), Optional.empty());
             cachedTableRowCount += statistic.orElse(0L);
-            LocalDateTime loadTime = StatisticUtils.getPartitionLastUpdateTime(partition);
 
-            if (partition.hasData() && !isUpdatedAfterLoad(loadTime)) {
+            if (partition.hasData() && !isUpdatedAfterLoad(partition)) {
                 updatePartitionCount++;
             }
         }
@@ -190,4 +197,45 @@ public class BasicStatsMeta implements Writable {
             return updateTime.isAfter(loadTime);
         }
     }
+
+    /**
+     * Whether the statistics of the partition are collected after its last load. It's decided by the visible
+     * version if the partition was collected by a full statistics job, otherwise by the update time.
+     */
+    public boolean isUpdatedAfterLoad(Partition partition) {
+        Long collectedVersion = partitionVersions == null ? null : partitionVersions.get(partition.getId());
+        if (collectedVersion != null && !isInitJobMeta()) {
+            return collectedVersion >= getPartitionVersion(partition);
+        }
+        return isUpdatedAfterLoad(StatisticUtils.getPartitionLastUpdateTime(partition));
+    }
+
+    public Map<Long, Long> getPartitionVersions() {
+        if (partitionVersions == null) {
+            return Collections.emptyMap();
+        }
+        return partitionVersions;
+    }
+
+    /**
+     * Inherit the partition versions of the last meta, and overwrite the versions of the partitions collected
+     * by this job. The versions of the dropped partitions are removed.
+     */
+    public void mergePartitionVersions(OlapTable table, BasicStatsMeta lastMeta, Map<Long, Long> collectedVersions) {
+        Map<Long, Long> versions = Maps.newHashMap();
+        if (lastMeta != null && !lastMeta.isInitJobMeta()) {
+            versions.putAll(lastMeta.getPartitionVersions());
+        }
+        versions.putAll(collectedVersions);
+        versions.keySet().removeIf(partitionId -> table.getPartition(partitionId) == null);
+        partitionVersions = versions;
+    }
+
+    /**
+     * The version of a partition, which is the sum of the visible versions of its physical partitions, so it's
+     * increased by any load into the partition.
+     */
+    public static long getPartitionVersion(Partition partition) {
+        return partition.getSubPartitions().stream().mapToLong(PhysicalPartition::getVisibleVersion).sum();
+    }
 }
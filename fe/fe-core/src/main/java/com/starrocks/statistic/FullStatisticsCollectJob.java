@@ -82,6 +82,10 @@ public class FullStatisticsCollectJob extends StatisticsCollectJob {
         this.partitionIdList = partitionIdList;
     }
 
+    public List<Long> getPartitionIdList() {
+        return partitionIdList;
+    }
+
     @Override
     public void collect(ConnectContext context, AnalyzeStatus analyzeStatus) throws Exception {
         int parallelism = Math.max(1, context.getSessionVariable().getStatisticCollectParallelism());
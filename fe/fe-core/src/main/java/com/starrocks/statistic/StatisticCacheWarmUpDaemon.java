@@ -0,0 +1,194 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.statistic;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.starrocks.analysis.TableName;
+import com.starrocks.catalog.Database;
+import com.starrocks.catalog.InternalCatalog;
+import com.starrocks.catalog.Table;
+import com.starrocks.common.Config;
+import com.starrocks.common.FeConstants;
+import com.starrocks.common.util.FrontendDaemon;
+import com.starrocks.qe.QueryDetail;
+import com.starrocks.qe.QueryDetailQueue;
+import com.starrocks.server.GlobalStateMgr;
+import com.starrocks.sql.analyzer.AnalyzerUtils;
+import com.starrocks.sql.ast.StatementBase;
+import com.starrocks.sql.optimizer.statistics.StatisticStorage;
+import com.starrocks.sql.parser.SqlParser;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The planner never waits for the statistic cache, it uses the unknown statistics and the row count reported by
+ * TabletStatMgr if the statistics are not loaded yet, so the first queries on a table after FE starts are planned
+ * without statistics. This daemon loads the statistics of the hot tables into the cache in background before
+ * they are queried:
+ * - when FE starts, the recently analyzed tables, because the query details are not persisted
+ * - then the tables in the recent query details, which are kept when FE transfers to leader
+ */
+public class StatisticCacheWarmUpDaemon extends FrontendDaemon {
+    private static final Logger LOG = LogManager.getLogger(StatisticCacheWarmUpDaemon.class);
+
+    private long lastQueryEventTime = -1;
+    private boolean isStartUpWarmedUp = false;
+
+    public StatisticCacheWarmUpDaemon() {
+        super("StatisticCacheWarmUp", Config.statistic_cache_warm_up_interval_sec * 1000);
+    }
+
+    @Override
+    protected void runAfterCatalogReady() {
+        if (getInterval() != Config.statistic_cache_warm_up_interval_sec * 1000) {
+            setInterval(Config.statistic_cache_warm_up_interval_sec * 1000);
+        }
+
+        if (!Config.enable_statistic_cache_warm_up || FeConstants.runningUnitTest) {
+            return;
+        }
+
+        if (!StatisticUtils.checkStatisticTableStateNormal()) {
+            return;
+        }
+
+        warmUp();
+    }
+
+    protected void warmUp() {
+        List<Table> tables;
+        if (!isStartUpWarmedUp) {
+            tables = collectRecentlyAnalyzedTables();
+            isStartUpWarmedUp = true;
+        } else {
+            tables = collectHotTables();
+        }
+        for (Table table : tables) {
+            warmUpTable(table);
+        }
+        if (!tables.isEmpty()) {
+            LOG.info("warm up the statistic cache of tables: {}",
+                    tables.stream().map(Table::getName).collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * The tables in the query details since the last round, ordered by the number of queries on them.
+     */
+    protected List<Table> collectHotTables() {
+        List<QueryDetail> queryDetails = QueryDetailQueue.getQueryDetailsAfterTime(lastQueryEventTime);
+        Map<Table, Integer> queryCounts = new LinkedHashMap<>();
+        for (QueryDetail queryDetail : queryDetails) {
+            lastQueryEventTime = Math.max(lastQueryEventTime, queryDetail.getEventTime());
+            // the running and finished details of a query are both in the queue
+            if (!queryDetail.isQuery() || queryDetail.getState() != QueryDetail.QueryMemState.RUNNING ||
+                    StringUtils.isEmpty(queryDetail.getSql())) {
+                continue;
+            }
+            if (queryDetail.getCatalog() != null && !InternalCatalog.DEFAULT_INTERNAL_CATALOG_NAME.equals(
+                    queryDetail.getCatalog())) {
+                continue;
+            }
+            for (Table table : getQueryTables(queryDetail)) {
+                queryCounts.merge(table, 1, Integer::sum);
+            }
+        }
+        return queryCounts.entrySet().stream()
+                .sorted(Map.Entry.<Table, Integer>comparingByValue().reversed())
+                .limit(Config.statistic_cache_warm_up_table_num)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    protected List<Table> collectRecentlyAnalyzedTables() {
+        List<BasicStatsMeta> basicStatsMetas =
+                Lists.newArrayList(GlobalStateMgr.getCurrentState().getAnalyzeMgr().getBasicStatsMetaMap().values());
+        basicStatsMetas.sort(Comparator.comparing(BasicStatsMeta::getUpdateTime).reversed());
+        List<Table> tables = Lists.newArrayList();
+        for (BasicStatsMeta basicStatsMeta : basicStatsMetas) {
+            if (tables.size() >= Config.statistic_cache_warm_up_table_num) {
+                break;
+            }
+            if (basicStatsMeta.isInitJobMeta()) {
+                continue;
+            }
+            Table table = GlobalStateMgr.getCurrentState().getLocalMetastore()
+                    .getTable(basicStatsMeta.getDbId(), basicStatsMeta.getTableId());
+            if (table != null) {
+                tables.add(table);
+            }
+        }
+        return tables;
+    }
+
+    private static List<Table> getQueryTables(QueryDetail queryDetail) {
+        List<StatementBase> statements;
+        try {
+            statements = SqlParser.parse(queryDetail.getSql(),
+                    GlobalStateMgr.getCurrentState().getVariableMgr().newSessionVariable());
+        } catch (Exception e) {
+            LOG.debug("failed to parse the query {} to warm up the statistic cache", queryDetail.getQueryId(), e);
+            return Lists.newArrayList();
+        }
+
+        List<Table> tables = Lists.newArrayList();
+        Map<TableName, Table> resolvedTables = Maps.newHashMap();
+        for (StatementBase statement : statements) {
+            for (TableName tableName : AnalyzerUtils.collectAllTableAndViewRelations(statement).keySet()) {
+                if (tableName.getCatalog() != null &&
+                        !InternalCatalog.DEFAULT_INTERNAL_CATALOG_NAME.equals(tableName.getCatalog())) {
+                    continue;
+                }
+                String dbName = tableName.getDb() != null ? tableName.getDb() : queryDetail.getDatabase();
+                if (StringUtils.isEmpty(dbName)) {
+                    continue;
+                }
+                Table table = resolvedTables.computeIfAbsent(new TableName(dbName, tableName.getTbl()), name -> {
+                    Database db = GlobalStateMgr.getCurrentState().getLocalMetastore().getDb(name.getDb());
+                    return db == null ? null :
+                            GlobalStateMgr.getCurrentState().getLocalMetastore().getTable(db.getFullName(),
+                                    name.getTbl());
+                });
+                if (table != null && table.isNativeTableOrMaterializedView() &&
+                        !StatisticUtils.statisticTableBlackListCheck(table.getId())) {
+                    tables.add(table);
+                }
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * Only trigger the asynchronous loading of the statistic cache, which is a no-op if they are cached.
+     */
+    private static void warmUpTable(Table table) {
+        BasicStatsMeta basicStatsMeta =
+                GlobalStateMgr.getCurrentState().getAnalyzeMgr().getBasicStatsMetaMap().get(table.getId());
+        List<String> columns = basicStatsMeta == null || basicStatsMeta.getColumns().isEmpty() ?
+                StatisticUtils.getCollectibleColumns(table) : basicStatsMeta.getColumns();
+        StatisticStorage statisticStorage = GlobalStateMgr.getCurrentState().getStatisticStorage();
+        statisticStorage.getTableStatistics(table.getId(), table.getPartitions());
+        statisticStorage.getColumnStatistics(table, columns);
+        statisticStorage.getHistogramStatistics(table, columns);
+    }
+}
@@ -16,6 +16,7 @@ package com.starrocks.statistic;
 
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.starrocks.catalog.ColumnId;
 import com.starrocks.catalog.Database;
 import com.starrocks.catalog.InternalCatalog;
@@ -54,6 +55,7 @@ import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 public class StatisticExecutor {
     private static final Logger LOG = LogManager.getLogger(StatisticExecutor.class);
@@ -283,6 +285,8 @@ public class StatisticExecutor {
                                            boolean refreshAsync) {
         Database db = statsJob.getDb();
         Table table = statsJob.getTable();
+        // take the versions before collecting, so a partition loaded while collecting is collected again next time
+        Map<Long, Long> collectedPartitionVersions = getCollectedPartitionVersions(statsJob);
 
         try {
             Stopwatch watch = Stopwatch.createStarted();
@@ -341,6 +345,11 @@ public class StatisticExecutor {
                 BasicStatsMeta basicStatsMeta = new BasicStatsMeta(db.getId(), table.getId(),
                         statsJob.getColumnNames(), statsJob.getType(), analyzeStatus.getEndTime(),
                         statsJob.getProperties(), existUpdateRows);
+                if (table instanceof OlapTable) {
+                    basicStatsMeta.mergePartitionVersions((OlapTable) table,
+                            GlobalStateMgr.getCurrentState().getAnalyzeMgr().getBasicStatsMetaMap().get(table.getId()),
+                            collectedPartitionVersions);
+                }
                 GlobalStateMgr.getCurrentState().getAnalyzeMgr().addBasicStatsMeta(basicStatsMeta);
                 GlobalStateMgr.getCurrentState().getAnalyzeMgr().refreshBasicStatisticsCache(
                         basicStatsMeta.getDbId(), basicStatsMeta.getTableId(), basicStatsMeta.getColumns(),
@@ -359,6 +368,22 @@ public class StatisticExecutor {
         return analyzeStatus;
     }
 
+    private static Map<Long, Long> getCollectedPartitionVersions(StatisticsCollectJob statsJob) {
+        // only the full statistics are collected by partition
+        if (!(statsJob instanceof FullStatisticsCollectJob) || !(statsJob.getTable() instanceof OlapTable)) {
+            return Collections.emptyMap();
+        }
+        OlapTable table = (OlapTable) statsJob.getTable();
+        Map<Long, Long> partitionVersions = Maps.newHashMap();
+        for (Long partitionId : ((FullStatisticsCollectJob) statsJob).getPartitionIdList()) {
+            Partition partition = table.getPartition(partitionId);
+            if (partition != null) {
+                partitionVersions.put(partitionId, BasicStatsMeta.getPartitionVersion(partition));
+            }
+        }
+        return partitionVersions;
+    }
+
     public List<TStatisticData> executeStatisticDQL(ConnectContext context, String sql) {
         List<TResultBatch> sqlResult = executeDQL(context, sql);
         try {
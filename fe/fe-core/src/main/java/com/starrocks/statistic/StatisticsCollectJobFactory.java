@@ -391,7 +391,7 @@ public class StatisticsCollectJobFactory {
         double healthy = 0;
         LocalDateTime tableUpdateTime = StatisticUtils.getTableLastUpdateTime(table);
         if (basicStatsMeta != null) {
-            if (basicStatsMeta.isUpdatedAfterLoad(tableUpdateTime)) {
+            if (table.getPartitions().stream().allMatch(basicStatsMeta::isUpdatedAfterLoad)) {
                 LOG.debug("statistics job doesn't work on non-update table: {}, " +
                                 "last update time: {}, last collect time: {}",
                         table.getName(), tableUpdateTime, basicStatsMeta.getUpdateTime());
@@ -400,8 +400,7 @@ public class StatisticsCollectJobFactory {
 
             long sumDataSize = 0;
             for (Partition partition : table.getPartitions()) {
-                LocalDateTime partitionUpdateTime = StatisticUtils.getPartitionLastUpdateTime(partition);
-                if (!basicStatsMeta.isUpdatedAfterLoad(partitionUpdateTime)) {
+                if (!basicStatsMeta.isUpdatedAfterLoad(partition)) {
                     sumDataSize += partition.getDataSize();
                 }
             }
@@ -451,12 +450,7 @@ public class StatisticsCollectJobFactory {
         if (job.getAnalyzeType().equals(StatsConstants.AnalyzeType.SAMPLE)) {
             createSampleStatsJob(allTableJobMap, job, db, table, columnNames, columnTypes);
         } else if (job.getAnalyzeType().equals(StatsConstants.AnalyzeType.FULL)) {
-            if (basicStatsMeta == null || basicStatsMeta.isInitJobMeta()) {
-                createFullStatsJob(allTableJobMap, job, LocalDateTime.MIN, db, table, columnNames, columnTypes);
-            } else {
-                createFullStatsJob(allTableJobMap, job, basicStatsMeta.getUpdateTime(), db, table, columnNames,
-                        columnTypes);
-            }
+            createFullStatsJob(allTableJobMap, job, basicStatsMeta, db, table, columnNames, columnTypes);
         } else {
             throw new StarRocksPlannerException("Unknown analyze type " + job.getAnalyzeType(),
                     ErrorType.INTERNAL_ERROR);
@@ -472,13 +466,14 @@ public class StatisticsCollectJobFactory {
     }
 
     private static void createFullStatsJob(List<StatisticsCollectJob> allTableJobMap,
-                                           NativeAnalyzeJob job, LocalDateTime statsLastUpdateTime,
+                                           NativeAnalyzeJob job, BasicStatsMeta basicStatsMeta,
                                            Database db, Table table, List<String> columnNames, List<Type> columnTypes) {
         StatsConstants.AnalyzeType analyzeType;
+        // only collect the partitions loaded after the last collection, the statistics of the other partitions
+        // are still valid and merged with them into the table statistics when loaded
         List<Partition> partitionList = new ArrayList<>();
         for (Partition partition : table.getPartitions()) {
-            LocalDateTime partitionUpdateTime = StatisticUtils.getPartitionLastUpdateTime(partition);
-            if (statsLastUpdateTime.isBefore(partitionUpdateTime) && partition.hasData()) {
+            if ((basicStatsMeta == null || !basicStatsMeta.isUpdatedAfterLoad(partition)) && partition.hasData()) {
                 partitionList.add(partition);
             }
         }
@@ -61,6 +61,7 @@ import com.starrocks.common.util.DebugUtil;
 import com.starrocks.common.util.TimeUtils;
 import com.starrocks.common.util.concurrent.lock.LockType;
 import com.starrocks.common.util.concurrent.lock.Locker;
+import com.starrocks.lake.CommitRateLimiter;
 import com.starrocks.lake.LakeTableHelper;
 import com.starrocks.load.routineload.RLTaskTxnCommitAttachment;
 import com.starrocks.metric.MetricRepo;
@@ -139,11 +140,19 @@ public class DatabaseTransactionMgr {
      * idToRunningTransactionState: transactionId -> running TransactionState
      * idToFinalStatusTransactionState: transactionId -> final status TransactionState
      * finalStatusTransactionStateDeque: to store transactionStates with final status
+     *
+     * The two maps are still modified under transactionLock, but they are concurrent maps so that getting a
+     * transaction by id, which is done by every begin, commit, abort, publish and status check of loads, doesn't
+     * wait for the write lock held by other transactions of the same database. A transaction is put into
+     * idToFinalStatusTransactionState before removed from idToRunningTransactionState, so it is always found.
      * */
-    private final Map<Long, TransactionState> idToRunningTransactionState = Maps.newHashMap();
-    private final Map<Long, TransactionState> idToFinalStatusTransactionState = Maps.newHashMap();
+    private final Map<Long, TransactionState> idToRunningTransactionState = Maps.newConcurrentMap();
+    private final Map<Long, TransactionState> idToFinalStatusTransactionState = Maps.newConcurrentMap();
     private final ArrayDeque<TransactionState> finalStatusTransactionStateDeque = new ArrayDeque<>();
 
+    // decides how many committed transactions of a lake table are published together
+    private final LakePublishBatchPolicy lakePublishBatchPolicy = new LakePublishBatchPolicy();
+
     // store committed transactions' dependency relationships
     private final TransactionGraph transactionGraph = new TransactionGraph();
 
@@ -509,13 +518,7 @@ public class DatabaseTransactionMgr {
                     transactionId);
             return;
         }
-        TransactionState transactionState = null;
-        readLock();
-        try {
-            transactionState = idToRunningTransactionState.get(transactionId);
-        } finally {
-            readUnlock();
-        }
+        TransactionState transactionState = idToRunningTransactionState.get(transactionId);
         if (transactionState == null) {
             // If the transaction state does not exist, this task might have been aborted by
             // the txntimeoutchecker thread. We need to perform some additional work.
@@ -611,12 +614,7 @@ public class DatabaseTransactionMgr {
     }
 
     public TransactionState getTransactionState(Long transactionId) {
-        readLock();
-        try {
-            return unprotectedGetTransactionState(transactionId);
-        } finally {
-            readUnlock();
-        }
+        return unprotectedGetTransactionState(transactionId);
     }
 
     private TransactionState unprotectedGetTransactionState(Long transactionId) {
@@ -827,6 +825,10 @@ public class DatabaseTransactionMgr {
                     continue;
                 }
                 if (states.size() == 1) { // fast path: no batch
+                    if (states.get(0).getTableIdList().size() == 1 &&
+                            getLakePublishBatchSize(states.get(0).getTableIdList().get(0), states) == 0) {
+                        continue;
+                    }
                     result.add(new TransactionStateBatch(states));
                     continue;
                 }
@@ -864,7 +866,11 @@ public class DatabaseTransactionMgr {
                     }
                 }
 
-                TransactionStateBatch batch = new TransactionStateBatch(states);
+                int batchSize = getLakePublishBatchSize(tableId, states);
+                if (batchSize == 0) {
+                    continue;
+                }
+                TransactionStateBatch batch = new TransactionStateBatch(states.subList(0, batchSize));
                 result.add(batch);
             }
         } finally {
@@ -873,6 +879,17 @@ public class DatabaseTransactionMgr {
         return result;
     }
 
+    // the number of the leading transactions to publish together, 0 means to wait for the following ones
+    private int getLakePublishBatchSize(long tableId, List<TransactionState> states) {
+        if (Config.lake_batch_publish_max_delay_ms <= 0) {
+            return states.size();
+        }
+        TableCommitInfo tableCommitInfo = states.get(0).getTableCommitInfo(tableId);
+        boolean underPressure = tableCommitInfo != null && CommitRateLimiter.isUnderPressure(
+                globalStateMgr.getCompactionMgr(), dbId, tableId, tableCommitInfo.getIdToPartitionCommitInfo().keySet());
+        return lakePublishBatchPolicy.getBatchSize(tableId, states, underPressure, System.currentTimeMillis());
+    }
+
     // check whether transaction can be finished or not
     // for each tablet of load txn, if most replicas version publish successed
     // the trasaction can be treated as successful and can be finished
@@ -1349,6 +1366,7 @@ public class DatabaseTransactionMgr {
                 transactionGraph.add(transactionState.getTransactionId(), transactionState.getTableIdList());
             }
         } else {
+            idToFinalStatusTransactionState.put(transactionState.getTransactionId(), transactionState);
             if (idToRunningTransactionState.remove(transactionState.getTransactionId()) != null) {
                 if (transactionState.getSourceType() == TransactionState.LoadJobSourceType.ROUTINE_LOAD_TASK) {
                     runningRoutineLoadTxnNums--;
@@ -1357,10 +1375,18 @@ public class DatabaseTransactionMgr {
                 }
             }
             transactionGraph.remove(transactionState.getTransactionId());
-            idToFinalStatusTransactionState.put(transactionState.getTransactionId(), transactionState);
             finalStatusTransactionStateDeque.add(transactionState);
         }
         updateTxnLabels(transactionState);
+        if (!isReplay && transactionState.getTransactionStatus() == TransactionStatus.COMMITTED &&
+                RunMode.isSharedDataMode()) {
+            lakePublishBatchPolicy.onCommitted(transactionState);
+        }
+        // publish a committed transaction, or the next one of the same tables after it's visible, at once
+        if (!isReplay && (transactionState.getTransactionStatus() == TransactionStatus.COMMITTED ||
+                transactionState.getTransactionStatus() == TransactionStatus.VISIBLE)) {
+            globalStateMgr.getPublishVersionDaemon().wakeUp();
+        }
     }
 
     private void persistTxnStateInTxnLevelLock(TransactionState transactionState) {
@@ -1394,6 +1420,7 @@ public class DatabaseTransactionMgr {
         }
 
         for (TransactionState transactionState : stateBatch.getTransactionStates()) {
+            idToFinalStatusTransactionState.put(transactionState.getTransactionId(), transactionState);
             if (idToRunningTransactionState.remove(transactionState.getTransactionId()) != null) {
                 if (transactionState.getSourceType() == TransactionState.LoadJobSourceType.ROUTINE_LOAD_TASK) {
                     runningRoutineLoadTxnNums--;
@@ -1402,7 +1429,6 @@ public class DatabaseTransactionMgr {
                 }
             }
             transactionGraph.remove(transactionState.getTransactionId());
-            idToFinalStatusTransactionState.put(transactionState.getTransactionId(), transactionState);
             finalStatusTransactionStateDeque.add(transactionState);
             updateTxnLabels(transactionState);
         }
@@ -2003,13 +2029,7 @@ public class DatabaseTransactionMgr {
     }
 
     public TTransactionStatus getTxnStatus(long txnId) {
-        TransactionState transactionState;
-        readLock();
-        try {
-            transactionState = unprotectedGetTransactionState(txnId);
-        } finally {
-            readUnlock();
-        }
+        TransactionState transactionState = unprotectedGetTransactionState(txnId);
         return Optional.ofNullable(transactionState)
                 .map(TransactionState::getTransactionStatus)
                 .map(TransactionStatus::toThrift)
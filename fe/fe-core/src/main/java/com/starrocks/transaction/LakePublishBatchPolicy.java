@@ -0,0 +1,126 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.transaction;
+
+import com.starrocks.common.Config;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides how many consecutive committed transactions of a lake table are published together.
+ * <p>
+ * Every publish writes a new version of the tablet metadata to the object storage, so with high-frequency small
+ * loads publishing each transaction as soon as it's committed makes the metadata writes dominate. If the table is
+ * loaded frequently, or its commits are already slowed down by {@link com.starrocks.lake.CommitRateLimiter}
+ * because the compaction falls behind, a short batch is held for a while to coalesce the following commits:
+ * - with a high commit rate, for the estimated time to fill up the batch
+ * - under commit rate pressure, for {@link Config#lake_batch_publish_max_delay_ms}
+ * The hold time never exceeds {@link Config#lake_batch_publish_max_delay_ms}, 0 disables the holding.
+ */
+public class LakePublishBatchPolicy {
+    // the weight of the latest commit interval in the moving average
+    private static final double COMMIT_INTERVAL_ALPHA = 0.2;
+    private static final long INACTIVE_TIME_MS = 60 * 1000L;
+
+    // table id -> the moving average of the commit intervals
+    private final Map<Long, CommitInterval> tableCommitIntervals = new ConcurrentHashMap<>();
+    private volatile long lastCleanTimeMs = 0;
+
+    private static class CommitInterval {
+        private long lastCommitTimeMs;
+        private double averageIntervalMs = -1;
+
+        private CommitInterval(long commitTimeMs) {
+            this.lastCommitTimeMs = commitTimeMs;
+        }
+
+        private synchronized void update(long commitTimeMs) {
+            long intervalMs = Math.max(commitTimeMs - lastCommitTimeMs, 0);
+            lastCommitTimeMs = Math.max(commitTimeMs, lastCommitTimeMs);
+            averageIntervalMs = averageIntervalMs < 0 ? intervalMs :
+                    averageIntervalMs * (1 - COMMIT_INTERVAL_ALPHA) + intervalMs * COMMIT_INTERVAL_ALPHA;
+        }
+
+        private synchronized boolean isInactive(long currentTimeMs) {
+            return currentTimeMs - lastCommitTimeMs > INACTIVE_TIME_MS;
+        }
+
+        private synchronized double getAverageIntervalMs(long currentTimeMs) {
+            // no commit for much longer than the average interval, the commit rate has dropped
+            if (isInactive(currentTimeMs) || currentTimeMs - lastCommitTimeMs > averageIntervalMs * 2 + 1000) {
+                return -1;
+            }
+            return averageIntervalMs;
+        }
+    }
+
+    public void onCommitted(TransactionState txnState) {
+        for (Long tableId : txnState.getTableIdList()) {
+            tableCommitIntervals.compute(tableId, (id, interval) -> {
+                if (interval == null) {
+                    return new CommitInterval(txnState.getCommitTime());
+                }
+                interval.update(txnState.getCommitTime());
+                return interval;
+            });
+        }
+        // remove the tables which are not loaded any more, or have been dropped
+        long currentTimeMs = txnState.getCommitTime();
+        if (currentTimeMs - lastCleanTimeMs > INACTIVE_TIME_MS) {
+            lastCleanTimeMs = currentTimeMs;
+            tableCommitIntervals.values().removeIf(interval -> interval.isInactive(currentTimeMs));
+        }
+    }
+
+    /**
+     * @param tableId       the table of the transactions
+     * @param txnStates     the consecutive committed transactions of the table, ordered by commit version
+     * @param underPressure whether the commits to the table are slowed down
+     * @return the number of the leading transactions to publish now, 0 means to wait for more transactions
+     */
+    public int getBatchSize(long tableId, List<TransactionState> txnStates, boolean underPressure,
+                            long currentTimeMs) {
+        int maxBatchSize = Math.max(Config.lake_batch_publish_max_version_num, 1);
+        int batchSize = Math.min(txnStates.size(), maxBatchSize);
+        if (batchSize == 0 || batchSize >= maxBatchSize) {
+            return batchSize;
+        }
+        long holdTimeMs = getHoldTimeMs(tableId, maxBatchSize - batchSize, underPressure, currentTimeMs);
+        long waitedTimeMs = currentTimeMs - txnStates.get(0).getCommitTime();
+        return waitedTimeMs >= holdTimeMs ? batchSize : 0;
+    }
+
+    long getHoldTimeMs(long tableId, int missingTxnNum, boolean underPressure, long currentTimeMs) {
+        long maxDelayMs = Config.lake_batch_publish_max_delay_ms;
+        if (maxDelayMs <= 0) {
+            return 0;
+        }
+        if (underPressure) {
+            return maxDelayMs;
+        }
+        CommitInterval commitInterval = tableCommitIntervals.get(tableId);
+        if (commitInterval == null) {
+            return 0;
+        }
+        double averageIntervalMs = commitInterval.getAverageIntervalMs(currentTimeMs);
+        // the next commit is not expected in time
+        if (averageIntervalMs < 0 || averageIntervalMs >= maxDelayMs) {
+            return 0;
+        }
+        return (long) Math.min(maxDelayMs, averageIntervalMs * missingTxnNum);
+    }
+}
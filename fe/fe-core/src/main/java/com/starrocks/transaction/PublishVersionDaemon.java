@@ -388,6 +388,13 @@ public class PublishVersionDaemon extends FrontendDaemon {
         }
     }
 
+    // publish the next transactions of the tables at once, the failed ones are retried in the next rounds
+    private void wakeUpIfVisible(TransactionState txnState) {
+        if (txnState.getTransactionStatus() == TransactionStatus.VISIBLE) {
+            wakeUp();
+        }
+    }
+
     void publishVersionForLakeTableBatch(List<TransactionStateBatch> readyTransactionStatesBatch) {
         Set<Long> publishingLakeTransactionsBatchTableId = getPublishingLakeTransactionsBatchTableId();
         for (TransactionStateBatch txnStateBatch : readyTransactionStatesBatch) {
@@ -399,13 +406,19 @@ public class PublishVersionDaemon extends FrontendDaemon {
                 List<Long> tableIdList = state.getTableIdList();
                 if (publishingLakeTransactionsBatchTableId.addAll(tableIdList)) {
                     CompletableFuture<Void> future = publishLakeTransactionAsync(state);
-                    future.thenRun(() -> publishingLakeTransactionsBatchTableId.removeAll(tableIdList));
+                    future.thenRun(() -> {
+                        publishingLakeTransactionsBatchTableId.removeAll(tableIdList);
+                        wakeUpIfVisible(state);
+                    });
                 }
             } else {
                 long tableId = txnStateBatch.getTableId();
                 if (publishingLakeTransactionsBatchTableId.add(tableId)) {
                     CompletableFuture<Void> future = publishLakeTransactionBatchAsync(txnStateBatch);
-                    future.thenRun(() -> publishingLakeTransactionsBatchTableId.remove(tableId));
+                    future.thenRun(() -> {
+                        publishingLakeTransactionsBatchTableId.remove(tableId);
+                        wakeUpIfVisible(txnStateBatch.transactionStates.get(txnStateBatch.transactionStates.size() - 1));
+                    });
                 }
             }
         }
@@ -426,6 +439,7 @@ public class PublishVersionDaemon extends FrontendDaemon {
             return CompletableFuture.completedFuture(null);
         }
 
+        txnState.updateSendTaskTime();
         CompletableFuture<Boolean> publishFuture;
         Collection<TableCommitInfo> tableCommitInfos = txnState.getIdToTableCommitInfos().values();
         if (tableCommitInfos.size() == 1) {
@@ -443,6 +457,7 @@ public class PublishVersionDaemon extends FrontendDaemon {
 
         return publishFuture.thenAccept(success -> {
             if (success) {
+                txnState.updatePublishTaskFinishTime();
                 try {
                     globalTransactionMgr.finishTransaction(dbId, txnId, null);
                 } catch (UserException e) {
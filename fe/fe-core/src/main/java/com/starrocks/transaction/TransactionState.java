@@ -542,6 +542,7 @@ public class TransactionState implements Writable {
         if (transactionStatus == TransactionStatus.VISIBLE) {
             if (MetricRepo.hasInit) {
                 MetricRepo.COUNTER_TXN_SUCCESS.increase(1L);
+                updatePublishLatencyMetrics();
             }
             txnSpan.addEvent("set_visible");
             txnSpan.end();
@@ -556,6 +557,26 @@ public class TransactionState implements Writable {
         }
     }
 
+    /**
+     * Record the latency of each stage from commit to visible:
+     * - publish wait: from commit to sending the (last) publish tasks
+     * - publish latency: from sending the publish tasks to finishing them on BE/CN
+     * - finish latency: from finishing the publish tasks to visible
+     */
+    private void updatePublishLatencyMetrics() {
+        if (commitTime <= 0 || finishTime < commitTime) {
+            return;
+        }
+        MetricRepo.HISTO_TXN_VISIBLE_LATENCY.update(finishTime - commitTime);
+        if (publishVersionTime >= commitTime) {
+            MetricRepo.HISTO_TXN_PUBLISH_WAIT.update(publishVersionTime - commitTime);
+            if (publishVersionFinishTime >= publishVersionTime && finishTime >= publishVersionFinishTime) {
+                MetricRepo.HISTO_TXN_PUBLISH_LATENCY.update(publishVersionFinishTime - publishVersionTime);
+                MetricRepo.HISTO_TXN_FINISH_LATENCY.update(finishTime - publishVersionFinishTime);
+            }
+        }
+    }
+
     public void notifyVisible() {
         // To avoid the method not having to be called repeatedly or in advance,
         // the following trigger conditions have been added
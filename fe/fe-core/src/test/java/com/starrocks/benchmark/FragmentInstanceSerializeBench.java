@@ -0,0 +1,169 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.benchmark;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.starrocks.qe.scheduler.TFragmentInstanceSerializer;
+import com.starrocks.rpc.AttachmentRequest;
+import com.starrocks.rpc.PExecPlanFragmentRequest;
+import com.starrocks.thrift.InternalServiceVersion;
+import com.starrocks.thrift.TDataPartition;
+import com.starrocks.thrift.TDescriptorTable;
+import com.starrocks.thrift.TExecPlanFragmentParams;
+import com.starrocks.thrift.TInternalScanRange;
+import com.starrocks.thrift.TNetworkAddress;
+import com.starrocks.thrift.TPartitionType;
+import com.starrocks.thrift.TPlan;
+import com.starrocks.thrift.TPlanFragment;
+import com.starrocks.thrift.TPlanFragmentExecParams;
+import com.starrocks.thrift.TPlanNode;
+import com.starrocks.thrift.TPlanNodeType;
+import com.starrocks.thrift.TQueryOptions;
+import com.starrocks.thrift.TScanRange;
+import com.starrocks.thrift.TScanRangeParams;
+import com.starrocks.thrift.TSlotDescriptor;
+import com.starrocks.thrift.TTupleDescriptor;
+import com.starrocks.thrift.TUniqueId;
+import org.apache.thrift.TException;
+import org.apache.thrift.TSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Build the exec plan fragment requests of the instances of a wide scan fragment, by serializing the whole request
+ * of each instance, or by serializing the common params once with TFragmentInstanceSerializer.
+ * The common params are a plan of planNodeNum nodes and a descriptor table of slotNum slots,
+ * and each instance scans tabletNum / instanceNum tablets.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+public class FragmentInstanceSerializeBench {
+    private static final String PLAN_PROTOCOL = "binary";
+
+    @Param({"100", "1000"})
+    private int instanceNum;
+
+    @Param({"1000", "10000"})
+    private int tabletNum;
+
+    @Param({"20"})
+    private int planNodeNum;
+
+    @Param({"1000"})
+    private int slotNum;
+
+    private List<TExecPlanFragmentParams> requests;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(FragmentInstanceSerializeBench.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<TPlanNode> nodes = new ArrayList<>();
+        for (int i = 0; i < planNodeNum; i++) {
+            nodes.add(new TPlanNode().setNode_id(i).setNode_type(TPlanNodeType.OLAP_SCAN_NODE)
+                    .setNum_children(i + 1 < planNodeNum ? 1 : 0).setLimit(-1).setRow_tuples(Lists.newArrayList(0))
+                    .setNullable_tuples(Lists.newArrayList(false)).setCompact_data(true));
+        }
+        TPlanFragment fragment = new TPlanFragment(new TDataPartition(TPartitionType.RANDOM)).setPlan(new TPlan(nodes));
+        List<TSlotDescriptor> slots = new ArrayList<>();
+        for (int i = 0; i < slotNum; i++) {
+            slots.add(new TSlotDescriptor().setId(i).setParent(0).setColName("column_" + i).setIsNullable(true));
+        }
+        TDescriptorTable descTable = new TDescriptorTable(Lists.newArrayList(new TTupleDescriptor().setId(0)))
+                .setSlotDescriptors(slots);
+        TQueryOptions queryOptions = new TQueryOptions().setBatch_size(4096);
+
+        requests = new ArrayList<>();
+        int tabletsPerInstance = Math.max(1, tabletNum / instanceNum);
+        for (int instance = 0; instance < instanceNum; instance++) {
+            TExecPlanFragmentParams request = new TExecPlanFragmentParams();
+            request.setProtocol_version(InternalServiceVersion.V1);
+            request.setFragment(fragment);
+            request.setDesc_tbl(descTable);
+            request.setCoord(new TNetworkAddress("127.0.0.1", 9020));
+            request.setQuery_options(queryOptions);
+            request.setIs_pipeline(true);
+            request.setBackend_num(instance);
+            request.setPipeline_dop(0);
+
+            List<TScanRangeParams> scanRanges = new ArrayList<>();
+            for (int i = 0; i < tabletsPerInstance; i++) {
+                TInternalScanRange internalScanRange = new TInternalScanRange(
+                        Lists.newArrayList(new TNetworkAddress("127.0.0.1", 9060)), "0", "100", "0",
+                        (long) instance * tabletsPerInstance + i, "db");
+                scanRanges.add(new TScanRangeParams(new TScanRange().setInternal_scan_range(internalScanRange)));
+            }
+            TPlanFragmentExecParams params = new TPlanFragmentExecParams();
+            params.setQuery_id(new TUniqueId(1, 2));
+            params.setFragment_instance_id(new TUniqueId(1, 3 + instance));
+            params.setPer_node_scan_ranges(ImmutableMap.of(0, scanRanges));
+            params.setPer_exch_num_senders(ImmutableMap.of());
+            params.setDestinations(new ArrayList<>());
+            params.setSender_id(instance);
+            params.setNum_senders(instanceNum);
+            request.setParams(params);
+            requests.add(request);
+        }
+    }
+
+    @Benchmark
+    public void bench_SerializeEachInstance(Blackhole blackhole) throws TException {
+        for (TExecPlanFragmentParams request : requests) {
+            TSerializer serializer = AttachmentRequest.getSerializer(PLAN_PROTOCOL);
+            PExecPlanFragmentRequest pRequest = new PExecPlanFragmentRequest();
+            pRequest.setRequest(serializer.serialize(request));
+            blackhole.consume(pRequest);
+        }
+    }
+
+    @Benchmark
+    public void bench_SerializeCommonParamsOnce(Blackhole blackhole) throws TException {
+        TFragmentInstanceSerializer serializer = new TFragmentInstanceSerializer(requests.get(0));
+        for (TExecPlanFragmentParams request : requests) {
+            PExecPlanFragmentRequest pRequest = new PExecPlanFragmentRequest();
+            pRequest.setRequest(serializer.serialize(request));
+            blackhole.consume(pRequest);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.benchmark;
+
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.starrocks.catalog.OlapTable;
+import com.starrocks.common.FeConstants;
+import com.starrocks.sql.plan.PlanTestBase;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Planning time of the chain, star and clique joins of 12 and 16 tables, reordered by JoinReorderDP,
+ * JoinReorderDPccp or only the greedy and left deep algorithms.
+ */
+@Ignore
+public class JoinReorderBench extends PlanTestBase {
+    private static final int TABLE_NUM = 16;
+    private static final int BENCHMARK_RUNS = 10;
+
+    @Rule
+    public TestRule benchRun = new BenchmarkRule();
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        PlanTestBase.beforeClass();
+        StringBuilder columns = new StringBuilder();
+        for (int i = 0; i < TABLE_NUM; i++) {
+            columns.append("  `k").append(i).append("` bigint NULL,\n");
+        }
+        for (int i = 0; i < TABLE_NUM; i++) {
+            starRocksAssert.withTable("CREATE TABLE `r" + i + "` (\n" + columns +
+                    "  `v` bigint NULL\n" +
+                    ") ENGINE=OLAP\n" +
+                    "DUPLICATE KEY(`k0`)\n" +
+                    "DISTRIBUTED BY HASH(`k0`) BUCKETS 3\n" +
+                    "PROPERTIES (\n" +
+                    "\"replication_num\" = \"1\"\n" +
+                    ");");
+            OlapTable table = (OlapTable) connectContext.getGlobalStateMgr().getLocalMetastore()
+                    .getDb("test").getTable("r" + i);
+            setTableStatistics(table, (long) Math.pow(3, i % 12) * 10);
+        }
+        FeConstants.runningUnitTest = true;
+        // JoinReorderDP of the clique join of 12 tables takes more than the default timeout
+        connectContext.getSessionVariable().setOptimizerExecuteTimeout(600000);
+    }
+
+    @After
+    public void after() {
+        connectContext.getSessionVariable().setCboMaxReorderNodeUseDP(10);
+        connectContext.getSessionVariable().setCboMaxReorderNodeUseDPccp(16);
+    }
+
+    // The relation i joins the relation j on ri.kj = rj.ki if isJoined(i, j)
+    private static String joinGraphSql(int relationNum, IntBinaryOperator isJoined) {
+        StringBuilder sql = new StringBuilder("select count(*) from r0");
+        for (int j = 1; j < relationNum; j++) {
+            sql.append(", r").append(j);
+        }
+        String separator = " where ";
+        for (int i = 0; i < relationNum; i++) {
+            for (int j = i + 1; j < relationNum; j++) {
+                if (isJoined.applyAsInt(i, j) != 0) {
+                    sql.append(separator).append("r").append(i).append(".k").append(j)
+                            .append(" = r").append(j).append(".k").append(i);
+                    separator = " and ";
+                }
+            }
+        }
+        return sql.toString();
+    }
+
+    private void planJoinGraphs(int relationNum) throws Exception {
+        getFragmentPlan(joinGraphSql(relationNum, (i, j) -> j == i + 1 ? 1 : 0));
+        getFragmentPlan(joinGraphSql(relationNum, (i, j) -> i == 0 ? 1 : 0));
+        getFragmentPlan(joinGraphSql(relationNum, (i, j) -> 1));
+    }
+
+    @Test
+    @BenchmarkOptions(warmupRounds = 0, benchmarkRounds = 3)
+    public void benchDP12() throws Exception {
+        connectContext.getSessionVariable().setCboMaxReorderNodeUseDP(12);
+        connectContext.getSessionVariable().setCboMaxReorderNodeUseDPccp(0);
+        planJoinGraphs(12);
+    }
+
+    @Test
+    @BenchmarkOptions(warmupRounds = 1, benchmarkRounds = BENCHMARK_RUNS)
+    public void benchDPccp12() throws Exception {
+        connectContext.getSessionVariable().setCboMaxReorderNodeUseDP(0);
+        connectContext.getSessionVariable().setCboMaxReorderNodeUseDPccp(12);
+        planJoinGraphs(12);
+    }
+
+    @Test
+    @BenchmarkOptions(warmupRounds = 1, benchmarkRounds = BENCHMARK_RUNS)
+    public void benchGreedy12() throws Exception {
+        connectContext.getSessionVariable().setCboMaxReorderNodeUseDP(0);
+        connectContext.getSessionVariable().setCboMaxReorderNodeUseDPccp(0);
+        planJoinGraphs(12);
+    }
+
+    @Test
+    @BenchmarkOptions(warmupRounds = 1, benchmarkRounds = BENCHMARK_RUNS)
+    public void benchDPccp16() throws Exception {
+        connectContext.getSessionVariable().setCboMaxReorderNodeUseDPccp(16);
+        planJoinGraphs(16);
+    }
+
+    @Test
+    @BenchmarkOptions(warmupRounds = 1, benchmarkRounds = BENCHMARK_RUNS)
+    public void benchGreedy16() throws Exception {
+        connectContext.getSessionVariable().setCboMaxReorderNodeUseDPccp(0);
+        planJoinGraphs(16);
+    }
+}
@@ -0,0 +1,305 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.benchmark;
+
+import com.google.common.collect.Lists;
+import com.starrocks.common.Config;
+import com.starrocks.proto.AbortCompactionRequest;
+import com.starrocks.proto.AbortCompactionResponse;
+import com.starrocks.proto.AbortTxnRequest;
+import com.starrocks.proto.AbortTxnResponse;
+import com.starrocks.proto.CompactRequest;
+import com.starrocks.proto.CompactResponse;
+import com.starrocks.proto.DeleteDataRequest;
+import com.starrocks.proto.DeleteDataResponse;
+import com.starrocks.proto.DeleteTabletRequest;
+import com.starrocks.proto.DeleteTabletResponse;
+import com.starrocks.proto.DeleteTxnLogRequest;
+import com.starrocks.proto.DeleteTxnLogResponse;
+import com.starrocks.proto.DropTableRequest;
+import com.starrocks.proto.DropTableResponse;
+import com.starrocks.proto.LockTabletMetadataRequest;
+import com.starrocks.proto.LockTabletMetadataResponse;
+import com.starrocks.proto.PublishLogVersionBatchRequest;
+import com.starrocks.proto.PublishLogVersionRequest;
+import com.starrocks.proto.PublishLogVersionResponse;
+import com.starrocks.proto.PublishVersionRequest;
+import com.starrocks.proto.PublishVersionResponse;
+import com.starrocks.proto.RestoreSnapshotsRequest;
+import com.starrocks.proto.RestoreSnapshotsResponse;
+import com.starrocks.proto.TabletStatRequest;
+import com.starrocks.proto.TabletStatResponse;
+import com.starrocks.proto.TxnInfoPB;
+import com.starrocks.proto.UnlockTabletMetadataRequest;
+import com.starrocks.proto.UnlockTabletMetadataResponse;
+import com.starrocks.proto.UploadSnapshotsRequest;
+import com.starrocks.proto.UploadSnapshotsResponse;
+import com.starrocks.proto.VacuumRequest;
+import com.starrocks.proto.VacuumResponse;
+import com.starrocks.rpc.LakeService;
+import com.starrocks.transaction.LakePublishBatchPolicy;
+import com.starrocks.transaction.TransactionState;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Simulate the publish of high-frequency small loads into one partition of a lake table: a transaction is committed
+ * every commitIntervalMs, and the publisher publishes the committed transactions in order as PublishVersionDaemon
+ * does, with the batch sizes decided by LakePublishBatchPolicy. The stand-in LakeService takes metadataWriteMs for
+ * every publish request, which writes one version of the tablet metadata to the object storage.
+ * The aux counters are the number of publish requests and the total commit-to-visible latency of the transactions.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class LakePublishBatchBench {
+
+    private static final long TABLE_ID = 1;
+
+    @Param({"500"})
+    private int txnNum;
+
+    @Param({"2", "10"})
+    private int commitIntervalMs;
+
+    @Param({"5"})
+    private int metadataWriteMs;
+
+    @Param({"0", "50"})
+    private long maxDelayMs;
+
+    @Param({"false", "true"})
+    private boolean underPressure;
+
+    private LakePublishBatchPolicy policy;
+    private StandInLakeService lakeService;
+    private ScheduledExecutorService scheduler;
+    private long oldMaxDelayMs;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Publishes {
+        public long publishRequests;
+        public long visibleLatencyMs;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(LakePublishBatchBench.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        oldMaxDelayMs = Config.lake_batch_publish_max_delay_ms;
+        Config.lake_batch_publish_max_delay_ms = maxDelayMs;
+        policy = new LakePublishBatchPolicy();
+        scheduler = Executors.newScheduledThreadPool(2);
+        lakeService = new StandInLakeService(scheduler, metadataWriteMs);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        scheduler.shutdownNow();
+        Config.lake_batch_publish_max_delay_ms = oldMaxDelayMs;
+    }
+
+    @Benchmark
+    public void bench_PublishSmallLoads(Publishes publishes) throws Exception {
+        ConcurrentLinkedQueue<TransactionState> committedTxns = new ConcurrentLinkedQueue<>();
+        AtomicLong nextTxnId = new AtomicLong(1);
+        ScheduledFuture<?> committer = scheduler.scheduleAtFixedRate(() -> {
+            long txnId = nextTxnId.getAndIncrement();
+            if (txnId > txnNum) {
+                return;
+            }
+            TransactionState txnState = new TransactionState(1, Lists.newArrayList(TABLE_ID), txnId,
+                    "label_" + txnId, null, TransactionState.LoadJobSourceType.BACKEND_STREAMING, null, -1, 60000);
+            txnState.setCommitTime(System.currentTimeMillis());
+            policy.onCommitted(txnState);
+            committedTxns.add(txnState);
+        }, 0, commitIntervalMs, TimeUnit.MILLISECONDS);
+
+        long visibleVersion = 1;
+        int publishedTxnNum = 0;
+        try {
+            while (publishedTxnNum < txnNum) {
+                List<TransactionState> txns = Lists.newArrayList();
+                for (TransactionState txnState : committedTxns) {
+                    if (txns.size() >= Config.lake_batch_publish_max_version_num) {
+                        break;
+                    }
+                    txns.add(txnState);
+                }
+                int batchSize = txns.isEmpty() ? 0 :
+                        policy.getBatchSize(TABLE_ID, txns, underPressure, System.currentTimeMillis());
+                if (batchSize == 0) {
+                    // the interval of PublishVersionDaemon
+                    Thread.sleep(Config.publish_version_interval_ms);
+                    continue;
+                }
+
+                PublishVersionRequest request = new PublishVersionRequest();
+                request.tabletIds = Lists.newArrayList(TABLE_ID);
+                request.baseVersion = visibleVersion;
+                request.newVersion = visibleVersion + batchSize;
+                request.txnInfos = Lists.newArrayList();
+                for (int i = 0; i < batchSize; i++) {
+                    TxnInfoPB txnInfo = new TxnInfoPB();
+                    txnInfo.txnId = txns.get(i).getTransactionId();
+                    request.txnInfos.add(txnInfo);
+                }
+                lakeService.publishVersion(request).get();
+                publishes.publishRequests++;
+
+                long visibleTime = System.currentTimeMillis();
+                for (int i = 0; i < batchSize; i++) {
+                    TransactionState txnState = committedTxns.poll();
+                    publishes.visibleLatencyMs += visibleTime - txnState.getCommitTime();
+                }
+                visibleVersion += batchSize;
+                publishedTxnNum += batchSize;
+            }
+        } finally {
+            committer.cancel(false);
+        }
+    }
+
+    /**
+     * Only the publish of versions is supported, which costs the time of writing the tablet metadata.
+     */
+    private static class StandInLakeService implements LakeService {
+        private final ScheduledExecutorService scheduler;
+        private final long metadataWriteMs;
+
+        private StandInLakeService(ScheduledExecutorService scheduler, long metadataWriteMs) {
+            this.scheduler = scheduler;
+            this.metadataWriteMs = metadataWriteMs;
+        }
+
+        @Override
+        public Future<PublishVersionResponse> publishVersion(PublishVersionRequest request) {
+            CompletableFuture<PublishVersionResponse> future = new CompletableFuture<>();
+            scheduler.schedule(() -> future.complete(new PublishVersionResponse()), metadataWriteMs,
+                    TimeUnit.MILLISECONDS);
+            return future;
+        }
+
+        @Override
+        public Future<AbortTxnResponse> abortTxn(AbortTxnRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<CompactResponse> compact(CompactRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<DeleteTabletResponse> deleteTablet(DeleteTabletRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<DeleteDataResponse> deleteData(DeleteDataRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<DeleteTxnLogResponse> deleteTxnLog(DeleteTxnLogRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<TabletStatResponse> getTabletStats(TabletStatRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<DropTableResponse> dropTable(DropTableRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<PublishLogVersionResponse> publishLogVersion(PublishLogVersionRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<PublishLogVersionResponse> publishLogVersionBatch(PublishLogVersionBatchRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<LockTabletMetadataResponse> lockTabletMetadata(LockTabletMetadataRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<UnlockTabletMetadataResponse> unlockTabletMetadata(UnlockTabletMetadataRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<UploadSnapshotsResponse> uploadSnapshots(UploadSnapshotsRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<RestoreSnapshotsResponse> restoreSnapshots(RestoreSnapshotsRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<AbortCompactionResponse> abortCompaction(AbortCompactionRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<VacuumResponse> vacuum(VacuumRequest request) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
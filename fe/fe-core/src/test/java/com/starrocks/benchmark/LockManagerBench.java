@@ -0,0 +1,115 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.benchmark;
+
+import com.starrocks.common.Config;
+import com.starrocks.common.util.concurrent.lock.LockException;
+import com.starrocks.common.util.concurrent.lock.LockManager;
+import com.starrocks.common.util.concurrent.lock.LockType;
+import com.starrocks.common.util.concurrent.lock.Locker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark the lock acquire/release throughput of LockManager, when the concurrent queries take
+ * intention locks on the same database and READ locks on its tables, with and without the fast path.
+ * Run with more threads by `-t`, e.g. `-t 128`.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Threads(64)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+public class LockManagerBench {
+    private static final long DB_ID = 1;
+
+    @State(Scope.Benchmark)
+    public static class LockManagerState {
+        @Param({"true", "false"})
+        private boolean fastPath;
+
+        @Param({"16"})
+        private int tableNum;
+
+        private LockManager lockManager;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            Config.lock_manager_enable_fast_path = fastPath;
+            lockManager = new LockManager();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class LockerState {
+        private Locker locker;
+        private long tableId;
+
+        @Setup(Level.Trial)
+        public void setup(LockManagerState state) {
+            locker = new Locker();
+            tableId = DB_ID + 1 + (Thread.currentThread().getId() % state.tableNum);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(LockManagerBench.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public void bench_IntentionSharedLock(LockManagerState state, LockerState lockerState) throws LockException {
+        state.lockManager.lock(DB_ID, lockerState.locker, LockType.INTENTION_SHARED, 0);
+        state.lockManager.release(DB_ID, lockerState.locker, LockType.INTENTION_SHARED);
+    }
+
+    @Benchmark
+    public void bench_DbReadLock(LockManagerState state, LockerState lockerState) throws LockException {
+        state.lockManager.lock(DB_ID, lockerState.locker, LockType.READ, 0);
+        state.lockManager.release(DB_ID, lockerState.locker, LockType.READ);
+    }
+
+    /**
+     * The locks taken by a query with Locker.lockTablesWithIntensiveDbLock.
+     */
+    @Benchmark
+    public void bench_TableReadLockWithIntensiveDbLock(LockManagerState state, LockerState lockerState)
+            throws LockException {
+        state.lockManager.lock(DB_ID, lockerState.locker, LockType.INTENTION_SHARED, 0);
+        state.lockManager.lock(lockerState.tableId, lockerState.locker, LockType.READ, 0);
+        state.lockManager.release(lockerState.tableId, lockerState.locker, LockType.READ);
+        state.lockManager.release(DB_ID, lockerState.locker, LockType.INTENTION_SHARED);
+    }
+}
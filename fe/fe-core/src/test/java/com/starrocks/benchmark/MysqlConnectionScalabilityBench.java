@@ -0,0 +1,129 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.benchmark;
+
+import com.starrocks.common.ThreadPoolManager;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of the mysql connection handling executor, with and without virtual threads.
+ * Each connection sends queries one by one, and each query blocks on RPC for rpcLatencyMs like a query waiting for
+ * BE. It measures how long all the connections take to finish their queries, and how many queries are dropped
+ * because the platform threads are exhausted, see Config.mysql_service_virtual_threads_enabled.
+ * Run with JDK 21+, otherwise both modes use platform threads.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xss512k"})
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class MysqlConnectionScalabilityBench {
+
+    @Param({"1000", "10000", "20000"})
+    private int connectionNum;
+
+    @Param({"false", "true"})
+    private boolean virtualThread;
+
+    @Param({"4096"})
+    private int maxThreadNum;
+
+    @Param({"5"})
+    private int queriesPerConnection;
+
+    @Param({"50"})
+    private int rpcLatencyMs;
+
+    private ExecutorService executor;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Queries {
+        public long finished;
+        public long dropped;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(MysqlConnectionScalabilityBench.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        executor = ThreadPoolManager.newDaemonBlockingTaskExecutor(virtualThread, maxThreadNum,
+                "bench-mysql-pool-" + System.nanoTime(), false);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Every query of a connection is submitted after the previous one is finished, like NMysqlServer resuming
+     * reads of the connection after ConnectProcessor.processOnce.
+     */
+    @Benchmark
+    public void bench_BlockedConnections(Queries queries) throws InterruptedException {
+        int totalQueries = connectionNum * queriesPerConnection;
+        CountDownLatch latch = new CountDownLatch(totalQueries);
+        for (int i = 0; i < connectionNum; i++) {
+            submitQuery(latch, queriesPerConnection);
+        }
+        // the queries dropped by the executor never finish
+        latch.await((long) rpcLatencyMs * queriesPerConnection * 20 + 10000, TimeUnit.MILLISECONDS);
+        queries.finished += totalQueries - latch.getCount();
+        queries.dropped += latch.getCount();
+    }
+
+    private void submitQuery(CountDownLatch latch, int remainingQueries) {
+        executor.execute(() -> {
+            try {
+                Thread.sleep(rpcLatencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            latch.countDown();
+            if (remainingQueries > 1) {
+                submitQuery(latch, remainingQueries - 1);
+            }
+        });
+    }
+}
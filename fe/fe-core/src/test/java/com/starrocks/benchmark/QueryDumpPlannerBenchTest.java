@@ -16,6 +16,7 @@ package com.starrocks.benchmark;
 
 import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
 import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.google.common.collect.ImmutableList;
 import com.starrocks.sql.optimizer.dump.QueryDumpInfo;
 import com.starrocks.sql.plan.ReplayFromDumpTestBase;
 import com.starrocks.utframe.UtFrameUtils;
@@ -24,6 +25,8 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestRule;
 
+import java.util.List;
+
 /**
  * Benchmark planner performance for specific query dump
  */
@@ -32,6 +35,9 @@ public class QueryDumpPlannerBenchTest extends ReplayFromDumpTestBase {
     @Rule
     public TestRule benchRun = new BenchmarkRule();
 
+    private static final List<String> TPCDS_DUMPS = ImmutableList.of("query_dump/tpcds02", "query_dump/tpcds22",
+            "query_dump/tpcds23_1", "query_dump/tpcds54", "query_dump/tpcds64");
+
     private static String sql;
 
     // NOTE: ignore the test in CI
@@ -61,4 +67,30 @@ public class QueryDumpPlannerBenchTest extends ReplayFromDumpTestBase {
         connectContext.setThreadLocalInfo();
         UtFrameUtils.replaySql(connectContext, sql);
     }
+
+    /**
+     * Plan the TPC-DS query dumps, including the setup of their mock environment,
+     * by searching the join orders of the multi-join groups serially or in parallel.
+     */
+    @Test
+    @Ignore
+    @BenchmarkOptions(concurrency = 1, warmupRounds = 3, benchmarkRounds = 20)
+    public void benchTPCDSDumps() throws Exception {
+        planTPCDSDumps(false);
+    }
+
+    @Test
+    @Ignore
+    @BenchmarkOptions(concurrency = 1, warmupRounds = 3, benchmarkRounds = 20)
+    public void benchTPCDSDumpsWithParallelSearch() throws Exception {
+        planTPCDSDumps(true);
+    }
+
+    private void planTPCDSDumps(boolean enableParallelSearch) throws Exception {
+        for (String dump : TPCDS_DUMPS) {
+            QueryDumpInfo queryDumpInfo = getDumpInfoFromJson(getDumpInfoFromFile(dump));
+            queryDumpInfo.getSessionVariable().setCboEnableParallelSearch(enableParallelSearch);
+            UtFrameUtils.getNewPlanAndFragmentFromDump(connectContext, queryDumpInfo);
+        }
+    }
 }
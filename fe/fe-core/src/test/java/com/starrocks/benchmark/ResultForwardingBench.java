@@ -0,0 +1,130 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.benchmark;
+
+import com.starrocks.mysql.MysqlChannel;
+import com.starrocks.qe.SerializedResultBatch;
+import com.starrocks.rpc.ConfigurableSerDesFactory;
+import com.starrocks.thrift.TResultBatch;
+import org.apache.thrift.TDeserializer;
+import org.apache.thrift.TException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Forward the result batches of a large `SELECT *` from BE to the mysql channel, by deserializing them to
+ * TResultBatch or by sending the rows from the serialized batches directly.
+ * Each invocation forwards batchNum batches, 4GB by default, to a channel discarding the data.
+ * Run with `-prof gc` to compare the allocation rate and GC time.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ResultForwardingBench {
+
+    // the rows of a batch are 4096 rows of `rowLength` bytes, like the batches sent by BE
+    @Param({"4096"})
+    private int rowsPerBatch;
+
+    @Param({"64", "256"})
+    private int rowLength;
+
+    @Param({"4096"})
+    private int batchNum;
+
+    private byte[] serializedBatch;
+
+    private MysqlChannel channel;
+
+    private static class DiscardMysqlChannel extends MysqlChannel {
+        @Override
+        public void realNetSend(ByteBuffer buffer) {
+            buffer.position(buffer.limit());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(ResultForwardingBench.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws TException {
+        Random random = new Random(0);
+        List<ByteBuffer> rows = new ArrayList<>(rowsPerBatch);
+        for (int i = 0; i < rowsPerBatch; i++) {
+            byte[] row = new byte[rowLength];
+            random.nextBytes(row);
+            rows.add(ByteBuffer.wrap(row));
+        }
+        serializedBatch = ConfigurableSerDesFactory.getTSerializer().serialize(new TResultBatch(rows, false, 0));
+        channel = new DiscardMysqlChannel();
+        channel.initBuffer(rowsPerBatch * (rowLength + 4));
+    }
+
+    /**
+     * Every batch is received from BE as a new byte array.
+     */
+    private byte[] receive() {
+        return serializedBatch.clone();
+    }
+
+    @Benchmark
+    public void bench_DeserializedBatch() throws TException, IOException {
+        TDeserializer deserializer = ConfigurableSerDesFactory.getTDeserializer();
+        for (int i = 0; i < batchNum; i++) {
+            TResultBatch batch = new TResultBatch();
+            deserializer.deserialize(batch, receive());
+            for (ByteBuffer row : batch.getRows()) {
+                channel.sendOnePacket(row);
+            }
+        }
+        channel.flush();
+    }
+
+    @Benchmark
+    public void bench_SerializedBatch() throws TException, IOException {
+        for (int i = 0; i < batchNum; i++) {
+            SerializedResultBatch.parse(receive()).sendTo(channel);
+        }
+        channel.flush();
+    }
+}
@@ -0,0 +1,130 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.benchmark;
+
+import com.starrocks.catalog.Replica;
+import com.starrocks.catalog.TabletInvertedIndex;
+import com.starrocks.catalog.TabletMeta;
+import com.starrocks.thrift.TStorageMedium;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark the tablet report diffing of TabletInvertedIndex, alone and together with
+ * the replica lookups done by query planning.
+ * Run with a large heap, e.g. -Xmx32g, for 10M replicas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx32g"})
+@Warmup(iterations = 1)
+@Measurement(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+public class TabletInvertedIndexBench {
+
+    private static final int REPLICATION_NUM = 3;
+
+    @Param({"1000000", "10000000"})
+    private int replicaNum;
+
+    @Param({"10"})
+    private int backendNum;
+
+    private TabletInvertedIndex invertedIndex;
+    private long tabletNum;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(TabletInvertedIndexBench.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        invertedIndex = new TabletInvertedIndex();
+        tabletNum = replicaNum / REPLICATION_NUM;
+        long replicaId = 0;
+        for (long tabletId = 0; tabletId < tabletNum; tabletId++) {
+            invertedIndex.addTablet(tabletId, new TabletMeta(1, 2, tabletId % 1000, 3, 0, TStorageMedium.HDD));
+            for (int i = 0; i < REPLICATION_NUM; i++) {
+                long backendId = (tabletId + i) % backendNum;
+                invertedIndex.addReplica(tabletId,
+                        new Replica(replicaId++, backendId, 1, 0, 0, 0, Replica.ReplicaState.NORMAL, -1, 1));
+            }
+        }
+    }
+
+    /**
+     * The meta side of ReportHandler.tabletReport: traverse all replicas of one backend and check their tablet meta.
+     */
+    private long reportSync(long backendId) {
+        long synced = 0;
+        Map<Long, Replica> replicaMetaWithBackend = invertedIndex.getReplicaMetaWithBackend(backendId);
+        for (Map.Entry<Long, Replica> entry : replicaMetaWithBackend.entrySet()) {
+            TabletMeta tabletMeta = invertedIndex.getTabletMeta(entry.getKey());
+            if (tabletMeta != null && entry.getValue().getVersion() >= tabletMeta.getPartitionId()) {
+                synced++;
+            }
+        }
+        return synced;
+    }
+
+    @Benchmark
+    public long bench_ReportSync() {
+        return reportSync(ThreadLocalRandom.current().nextLong(backendNum));
+    }
+
+    @Benchmark
+    @Group("report_with_planning")
+    @GroupThreads(1)
+    public long bench_ReportSyncUnderQueries() {
+        return reportSync(ThreadLocalRandom.current().nextLong(backendNum));
+    }
+
+    @Benchmark
+    @Group("report_with_planning")
+    @GroupThreads(4)
+    public void bench_ReplicaSelection(Blackhole blackhole) {
+        // replica selection of an OlapScanNode with 64 tablets
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 64; i++) {
+            List<Replica> replicas = invertedIndex.getReplicasByTabletId(random.nextLong(tabletNum));
+            blackhole.consume(replicas);
+        }
+    }
+}
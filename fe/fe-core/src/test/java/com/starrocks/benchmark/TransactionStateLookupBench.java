@@ -0,0 +1,113 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.benchmark;
+
+import com.google.common.collect.Lists;
+import com.starrocks.server.GlobalStateMgr;
+import com.starrocks.thrift.TTransactionStatus;
+import com.starrocks.transaction.DatabaseTransactionMgr;
+import com.starrocks.transaction.TransactionState;
+import com.starrocks.transaction.TransactionStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark the transaction state lookups of DatabaseTransactionMgr, which are done by every commit, abort and
+ * status check of loads, while the transactions of the same database keep beginning and finishing.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+public class TransactionStateLookupBench {
+
+    private static final long DB_ID = 1;
+    private static final long TABLE_ID = 2;
+
+    @Param({"1000"})
+    private int runningTxnNum;
+
+    private DatabaseTransactionMgr txnMgr;
+    private final AtomicLong nextTxnId = new AtomicLong(1);
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(TransactionStateLookupBench.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        txnMgr = new DatabaseTransactionMgr(DB_ID, GlobalStateMgr.getCurrentState());
+        for (int i = 0; i < runningTxnNum; i++) {
+            beginTransaction();
+        }
+    }
+
+    private long beginTransaction() {
+        long txnId = nextTxnId.getAndIncrement();
+        TransactionState txnState = new TransactionState(DB_ID, Lists.newArrayList(TABLE_ID), txnId, "label_" + txnId,
+                null, TransactionState.LoadJobSourceType.BACKEND_STREAMING, null, -1, 60000);
+        txnMgr.replayUpsertTransactionState(txnState);
+        return txnId;
+    }
+
+    /**
+     * Begin a transaction and abort the oldest running one, the finished transaction is expired at once because
+     * its finish time is not set, so the number of transactions is stable.
+     */
+    @Benchmark
+    @Group("lookup_with_txn_changes")
+    @GroupThreads(2)
+    public void bench_BeginAndFinish() {
+        long txnId = beginTransaction();
+        TransactionState txnState = txnMgr.getTransactionState(txnId - runningTxnNum);
+        if (txnState != null && txnState.getTransactionStatus() == TransactionStatus.PREPARE) {
+            txnState.setTransactionStatus(TransactionStatus.ABORTED);
+            txnMgr.replayUpsertTransactionState(txnState);
+        }
+    }
+
+    @Benchmark
+    @Group("lookup_with_txn_changes")
+    @GroupThreads(8)
+    public TTransactionStatus bench_GetTxnStatus() {
+        long maxTxnId = nextTxnId.get();
+        return txnMgr.getTxnStatus(maxTxnId - 1 - ThreadLocalRandom.current().nextLong(runningTxnNum));
+    }
+}
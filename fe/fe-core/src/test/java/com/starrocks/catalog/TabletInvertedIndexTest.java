@@ -0,0 +1,104 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.catalog;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.starrocks.catalog.Replica.ReplicaState;
+import com.starrocks.thrift.TStorageMedium;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Map;
+
+public class TabletInvertedIndexTest {
+
+    private static TabletMeta newTabletMeta(TStorageMedium medium) {
+        return new TabletMeta(1, 2, 3, 4, 0, medium);
+    }
+
+    @Test
+    public void testAddAndDeleteReplica() {
+        TabletInvertedIndex index = new TabletInvertedIndex();
+        index.addTablet(100L, newTabletMeta(TStorageMedium.HDD));
+        index.addTablet(101L, newTabletMeta(TStorageMedium.SSD));
+        index.addReplica(100L, new Replica(1000L, 10L, 0, ReplicaState.NORMAL));
+        index.addReplica(100L, new Replica(1001L, 11L, 0, ReplicaState.NORMAL));
+        index.addReplica(101L, new Replica(1002L, 10L, 0, ReplicaState.NORMAL));
+
+        Assert.assertEquals(2, index.getTabletCount());
+        Assert.assertEquals(3, index.getReplicaCount());
+        Assert.assertEquals(1001L, index.getReplica(100L, 11L).getId());
+        Assert.assertNull(index.getReplica(101L, 11L));
+        Assert.assertEquals(2, index.getReplicasByTabletId(100L).size());
+        Assert.assertEquals(Long.valueOf(101L), index.getTabletIdByReplica(1002L));
+        Assert.assertEquals(2, index.getTabletNumByBackendId(10L));
+        Assert.assertEquals(Lists.newArrayList(101L),
+                index.getTabletIdsByBackendIdAndStorageMedium(10L, TStorageMedium.SSD));
+        Map<TStorageMedium, Long> mediumNum = index.getReplicaNumByBeIdAndStorageMedium(10L);
+        Assert.assertEquals(Long.valueOf(1), mediumNum.get(TStorageMedium.HDD));
+        Assert.assertEquals(Long.valueOf(1), mediumNum.get(TStorageMedium.SSD));
+
+        // replace the replica on the same backend
+        index.addReplica(100L, new Replica(1003L, 11L, 0, ReplicaState.NORMAL));
+        Assert.assertEquals(3, index.getReplicaCount());
+        Assert.assertEquals(1003L, index.getReplica(100L, 11L).getId());
+
+        index.deleteReplica(100L, 10L);
+        Assert.assertEquals(2, index.getReplicaCount());
+        Assert.assertNull(index.getReplica(100L, 10L));
+        Assert.assertNull(index.getTabletIdByReplica(1000L));
+        Assert.assertEquals(Lists.newArrayList(101L), index.getTabletIdsByBackendId(10L));
+
+        index.deleteTablet(100L);
+        Assert.assertEquals(1, index.getTabletCount());
+        Assert.assertEquals(1, index.getReplicaCount());
+        Assert.assertTrue(index.getReplicaMetaWithBackend(11L).isEmpty());
+        Assert.assertTrue(index.getReplicasByTabletId(100L).isEmpty());
+        Assert.assertNull(index.getReplicasOnBackendByTabletIds(Lists.newArrayList(100L), 11L));
+    }
+
+    @Test
+    public void testForceDelete() {
+        TabletInvertedIndex index = new TabletInvertedIndex();
+        index.markTabletForceDelete(100L, Sets.newHashSet(10L, 11L));
+        index.markTabletForceDelete(101L, 10L);
+        Assert.assertTrue(index.tabletForceDelete(100L, 11L));
+        Assert.assertTrue(index.tabletForceDelete(101L, 10L));
+        Assert.assertFalse(index.tabletForceDelete(101L, 11L));
+
+        index.eraseTabletForceDelete(100L, 10L);
+        index.eraseTabletForceDelete(100L, 11L);
+        index.eraseTabletForceDelete(101L, 10L);
+        Assert.assertTrue(index.getForceDeleteTablets().isEmpty());
+    }
+
+    @Test
+    public void testIterateWhileModifying() {
+        TabletInvertedIndex index = new TabletInvertedIndex();
+        for (long tabletId = 0; tabletId < 100; tabletId++) {
+            index.addTablet(tabletId, newTabletMeta(TStorageMedium.HDD));
+            index.addReplica(tabletId, new Replica(tabletId + 1000, 10L, 0, ReplicaState.NORMAL));
+        }
+        // report diffing iterates the backend replicas while tablets are dropped
+        int visited = 0;
+        for (Map.Entry<Long, Replica> entry : index.getReplicaMetaWithBackend(10L).entrySet()) {
+            index.deleteTablet(entry.getKey());
+            visited++;
+        }
+        Assert.assertEquals(100, visited);
+        Assert.assertEquals(0, index.getReplicaCount());
+    }
+}
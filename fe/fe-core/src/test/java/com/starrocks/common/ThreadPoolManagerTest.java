@@ -23,7 +23,9 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 public class ThreadPoolManagerTest {
 
@@ -118,4 +120,20 @@ public class ThreadPoolManagerTest {
         Assert.assertThrows(IllegalArgumentException.class, () -> ThreadPoolManager.setFixedThreadPoolSize(testPool, 0));
         Assert.assertThrows(IllegalArgumentException.class, () -> ThreadPoolManager.setFixedThreadPoolSize(testPool, -1));
     }
+
+    @Test
+    public void testBlockingTaskExecutor() throws Exception {
+        ExecutorService platformExecutor =
+                ThreadPoolManager.newDaemonBlockingTaskExecutor(false, 2, "testPlatformPool", false);
+        Assert.assertTrue(platformExecutor instanceof ThreadPoolExecutor);
+        Assert.assertEquals(2, ((ThreadPoolExecutor) platformExecutor).getMaximumPoolSize());
+        platformExecutor.shutdown();
+
+        ExecutorService executor = ThreadPoolManager.newDaemonBlockingTaskExecutor(true, 2, "testVirtualPool", false);
+        String threadName = executor.submit(() -> Thread.currentThread().getName()).get(10, TimeUnit.SECONDS);
+        Assert.assertTrue(threadName, threadName.startsWith("testVirtualPool-"));
+        // falls back to platform threads before java 21
+        Assert.assertEquals(Runtime.version().feature() < 21, executor instanceof ThreadPoolExecutor);
+        executor.shutdown();
+    }
 }
@@ -0,0 +1,149 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package com.starrocks.common.lock;
+
+import com.starrocks.common.util.concurrent.lock.LockInfo;
+import com.starrocks.common.util.concurrent.lock.LockManager;
+import com.starrocks.common.util.concurrent.lock.LockType;
+import com.starrocks.common.util.concurrent.lock.Locker;
+import com.starrocks.common.util.concurrent.lock.NotSupportLockException;
+import com.starrocks.server.GlobalStateMgr;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestFastPathLock {
+    @Before
+    public void setUp() {
+        GlobalStateMgr.getCurrentState().setLockManager(new LockManager());
+    }
+
+    @Test
+    public void testTakeOverByLockTable() throws Exception {
+        LockManager lockManager = GlobalStateMgr.getCurrentState().getLockManager();
+        long rid = 1L;
+
+        TestLocker testLocker1 = new TestLocker();
+        LockTestUtils.assertLockSuccess(testLocker1.lock(rid, LockType.INTENTION_SHARED));
+        TestLocker testLocker2 = new TestLocker();
+        LockTestUtils.assertLockSuccess(testLocker2.lock(rid, LockType.INTENTION_EXCLUSIVE));
+
+        List<LockInfo> lockInfos = lockManager.dumpLockManager();
+        Assert.assertEquals(1, lockInfos.size());
+        Assert.assertEquals(2, lockInfos.get(0).getOwners().size());
+
+        // WRITE lock takes over the fast path holders, and waits for them
+        TestLocker testLocker3 = new TestLocker();
+        Future<LockResult> writeLock = testLocker3.lock(rid, LockType.WRITE);
+        LockTestUtils.assertLockWait(writeLock);
+        Assert.assertTrue(lockManager.isOwner(rid, testLocker1.getLocker(), LockType.INTENTION_SHARED));
+        Assert.assertTrue(lockManager.isOwner(rid, testLocker2.getLocker(), LockType.INTENTION_EXCLUSIVE));
+
+        // the compatible lock is queued after the WRITE lock
+        TestLocker testLocker4 = new TestLocker();
+        Future<LockResult> sharedLock = testLocker4.lock(rid, LockType.INTENTION_SHARED);
+        LockTestUtils.assertLockWait(sharedLock);
+
+        LockTestUtils.assertLockSuccess(testLocker1.release(rid, LockType.INTENTION_SHARED));
+        LockTestUtils.assertLockWait(writeLock);
+        LockTestUtils.assertLockSuccess(testLocker2.release(rid, LockType.INTENTION_EXCLUSIVE));
+        LockTestUtils.assertLockSuccess(writeLock);
+        Assert.assertTrue(lockManager.isOwner(rid, testLocker3.getLocker(), LockType.WRITE));
+
+        LockTestUtils.assertLockSuccess(testLocker3.release(rid, LockType.WRITE));
+        LockTestUtils.assertLockSuccess(sharedLock);
+        LockTestUtils.assertLockSuccess(testLocker4.release(rid, LockType.INTENTION_SHARED));
+        Assert.assertTrue(lockManager.dumpLockManager().isEmpty());
+
+        // fast path is resumed after the lock is removed from the lock table
+        LockTestUtils.assertLockSuccess(testLocker1.lock(rid, LockType.READ));
+        LockTestUtils.assertLockSuccess(testLocker2.lock(rid, LockType.READ));
+        Assert.assertTrue(lockManager.isOwner(rid, testLocker1.getLocker(), LockType.READ));
+        LockTestUtils.assertLockWait(testLocker3.lock(rid, LockType.INTENTION_EXCLUSIVE));
+    }
+
+    @Test
+    public void testReentrant() throws Exception {
+        LockManager lockManager = GlobalStateMgr.getCurrentState().getLockManager();
+        long rid = 2L;
+
+        Locker locker = new Locker();
+        lockManager.lock(rid, locker, LockType.INTENTION_SHARED, 0);
+        // lockers of the same thread are the same one
+        lockManager.lock(rid, new Locker(), LockType.INTENTION_SHARED, 0);
+        Assert.assertTrue(lockManager.isOwner(rid, locker, LockType.INTENTION_SHARED));
+        Assert.assertFalse(lockManager.isOwner(rid, locker, LockType.READ));
+
+        lockManager.release(rid, new Locker(), LockType.INTENTION_SHARED);
+        Assert.assertTrue(lockManager.isOwner(rid, locker, LockType.INTENTION_SHARED));
+        lockManager.release(rid, locker, LockType.INTENTION_SHARED);
+        Assert.assertFalse(lockManager.isOwner(rid, locker, LockType.INTENTION_SHARED));
+        Assert.assertThrows(IllegalMonitorStateException.class,
+                () -> lockManager.release(rid, locker, LockType.INTENTION_SHARED));
+
+        // S lock can't be requested in the scope of IS lock, even if they are both held without the lock table
+        lockManager.lock(rid, locker, LockType.INTENTION_SHARED, 0);
+        Assert.assertThrows(NotSupportLockException.class, () -> lockManager.lock(rid, locker, LockType.READ, 0));
+        lockManager.release(rid, locker, LockType.INTENTION_SHARED);
+        Assert.assertTrue(lockManager.dumpLockManager().isEmpty());
+    }
+
+    @Test
+    public void testConcurrentLockAndWriteLock() throws Exception {
+        LockManager lockManager = GlobalStateMgr.getCurrentState().getLockManager();
+        long rid = 3L;
+        int threadNum = 16;
+        AtomicInteger writers = new AtomicInteger();
+        AtomicInteger readers = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadNum);
+        try {
+            Future<?>[] futures = new Future[threadNum];
+            for (int i = 0; i < threadNum; i++) {
+                boolean isWriter = i == 0;
+                futures[i] = executor.submit(() -> {
+                    Locker locker = new Locker();
+                    for (int j = 0; j < 2000; j++) {
+                        LockType lockType = isWriter ? LockType.WRITE
+                                : (j % 2 == 0 ? LockType.INTENTION_SHARED : LockType.INTENTION_EXCLUSIVE);
+                        lockManager.lock(rid, locker, lockType, 0);
+                        if (isWriter) {
+                            Assert.assertEquals(1, writers.incrementAndGet());
+                            Assert.assertEquals(0, readers.get());
+                            writers.decrementAndGet();
+                        } else {
+                            readers.incrementAndGet();
+                            Assert.assertEquals(0, writers.get());
+                            readers.decrementAndGet();
+                        }
+                        lockManager.release(rid, locker, lockType);
+                    }
+                    return null;
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertTrue(lockManager.dumpLockManager().isEmpty());
+    }
+}
@@ -29,8 +29,12 @@ import org.junit.Ignore;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 public class JournalWriterTest {
     @Mocked
@@ -336,4 +340,118 @@ public class JournalWriterTest {
         Assert.assertFalse(task2.get());
         Assert.assertEquals(0, journalQueue.size());
     }
+
+    /**
+     * Journal in memory, whose first commit blocks until it's released.
+     */
+    private static class BlockingCommitJournal implements Journal {
+        private final List<Long> appendedIds = new ArrayList<>();
+        private final CountDownLatch commitStarted = new CountDownLatch(1);
+        private final CountDownLatch commitReleased = new CountDownLatch(1);
+        private int commitCount = 0;
+
+        @Override
+        public void open() {
+        }
+
+        @Override
+        public void rollJournal(long journalId) {
+        }
+
+        @Override
+        public long getMaxJournalId() {
+            return appendedIds.isEmpty() ? 0 : appendedIds.get(appendedIds.size() - 1);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public JournalCursor read(long fromKey, long toKey) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteJournals(long deleteJournalToId) {
+        }
+
+        @Override
+        public long getFinalizedJournalId() {
+            return 0;
+        }
+
+        @Override
+        public List<Long> getDatabaseNames() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public void batchWriteBegin() {
+        }
+
+        @Override
+        public synchronized void batchWriteAppend(long journalId, DataOutputBuffer buffer) {
+            appendedIds.add(journalId);
+        }
+
+        @Override
+        public void batchWriteCommit() throws InterruptedException {
+            if (commitCount++ == 0) {
+                commitStarted.countDown();
+                commitReleased.await();
+            }
+        }
+
+        @Override
+        public void batchWriteAbort() {
+        }
+
+        @Override
+        public String getPrefix() {
+            return "";
+        }
+    }
+
+    @Test
+    public void testPrepareNextBatchWhileCommitting() throws Exception {
+        BlockingCommitJournal memoryJournal = new BlockingCommitJournal();
+        BlockingQueue<JournalTask> queue = new ArrayBlockingQueue<>(100);
+        JournalWriter pipelineWriter = new JournalWriter(memoryJournal, queue);
+        pipelineWriter.nextVisibleJournalId = 1;
+
+        JournalTask task1 = new JournalTask(System.nanoTime(), makeBuffer(10), -1);
+        JournalTask task2 = new JournalTask(System.nanoTime(), makeBuffer(10), -1);
+        queue.add(task1);
+        queue.add(task2);
+        List<JournalTask> batch1 = pipelineWriter.prepareBatch();
+        Assert.assertEquals(2, batch1.size());
+
+        Thread committer = new Thread(() -> {
+            try {
+                pipelineWriter.commitBatch(batch1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        committer.start();
+        Assert.assertTrue(memoryJournal.commitStarted.await(10, TimeUnit.SECONDS));
+
+        // the next batch is prepared while the first one is being committed
+        JournalTask task3 = new JournalTask(System.nanoTime(), makeBuffer(10), -1);
+        queue.add(task3);
+        List<JournalTask> batch2 = pipelineWriter.prepareBatch();
+        Assert.assertEquals(1, batch2.size());
+        Assert.assertFalse(task1.toCompletableFuture().isDone());
+
+        memoryJournal.commitReleased.countDown();
+        Assert.assertTrue(task1.toCompletableFuture().get(10, TimeUnit.SECONDS));
+        Assert.assertTrue(task2.toCompletableFuture().get(10, TimeUnit.SECONDS));
+        committer.join();
+
+        pipelineWriter.commitBatch(batch2);
+        Assert.assertTrue(task3.get());
+        Assert.assertEquals(4, pipelineWriter.nextVisibleJournalId);
+        Assert.assertEquals(List.of(1L, 2L, 3L), memoryJournal.appendedIds);
+    }
 }
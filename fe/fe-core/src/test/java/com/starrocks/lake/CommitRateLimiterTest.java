@@ -114,6 +114,23 @@ public class CommitRateLimiterTest {
         Assert.assertEquals(e1.getAllowCommitTime(), e2.getAllowCommitTime());
     }
 
+    @Test
+    public void testIsUnderPressure() {
+        long partitionId = 54321;
+        Set<Long> partitions = new HashSet<>(Collections.singletonList(partitionId));
+        long currentTimeMs = System.currentTimeMillis();
+        Assert.assertFalse(CommitRateLimiter.isUnderPressure(compactionMgr, dbId, tableId, partitions));
+
+        compactionMgr.handleLoadingFinished(new PartitionIdentifier(dbId, tableId, partitionId), 3, currentTimeMs,
+                Quantiles.compute(Lists.newArrayList(threshold)));
+        Assert.assertFalse(CommitRateLimiter.isUnderPressure(compactionMgr, dbId, tableId, partitions));
+
+        compactionMgr.handleLoadingFinished(new PartitionIdentifier(dbId, tableId, partitionId), 4, currentTimeMs,
+                Quantiles.compute(Lists.newArrayList(threshold + 1.0)));
+        Assert.assertTrue(CommitRateLimiter.isUnderPressure(compactionMgr, dbId, tableId, partitions));
+        Assert.assertFalse(CommitRateLimiter.isUnderPressure(compactionMgr, dbId, tableId, Collections.emptySet()));
+    }
+
     @Test
     public void testDelayTime() {
         long partitionId = 54321;
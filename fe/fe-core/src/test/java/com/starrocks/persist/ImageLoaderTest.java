@@ -14,18 +14,36 @@
 
 package com.starrocks.persist;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.starrocks.persist.gson.GsonUtils;
+import com.starrocks.persist.metablock.SRMetaBlockID;
+import com.starrocks.persist.metablock.SRMetaBlockLoader;
+import com.starrocks.persist.metablock.SRMetaBlockReader;
+import com.starrocks.persist.metablock.SRMetaBlockSaver;
+import com.starrocks.persist.metablock.SRMetaBlockWriter;
 import org.apache.commons.io.FileUtils;
 import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.CRC32;
 import java.util.zip.Checksum;
 
@@ -163,4 +181,196 @@ public class ImageLoaderTest {
             }
         }
     }
+
+    private static SRMetaBlockSaver stringSaver(SRMetaBlockID id, String... values) {
+        return imageWriter -> {
+            SRMetaBlockWriter writer = imageWriter.getBlockWriter(id, values.length);
+            for (String value : values) {
+                writer.writeString(value);
+            }
+            writer.close();
+        };
+    }
+
+    private static SRMetaBlockLoader stringLoader(Map<SRMetaBlockID, List<String>> result) {
+        return reader -> {
+            List<String> values = new ArrayList<>();
+            for (int i = 0; i < reader.getHeader().getNumJson(); i++) {
+                values.add(reader.readString());
+            }
+            result.put(reader.getHeader().getSrMetaBlockID(), values);
+        };
+    }
+
+    private static final int HEADER = 12345;
+
+    private void saveSegmentedImage(long journalId) throws Exception {
+        saveSegmentedImage(journalId, 3, ImageCompressionCodec.NONE);
+    }
+
+    private void saveSegmentedImage(long journalId, int parallelism, ImageCompressionCodec codec) throws Exception {
+        String v2Dir = Path.of(imageDir.toString(), "v2").toString();
+        ImageWriter imageWriter = new ImageWriter(v2Dir, ImageFormatVersion.v2, journalId);
+        try (OutputStream outputStream = Files.newOutputStream(Path.of(v2Dir, "image." + journalId))) {
+            imageWriter.setOutputStream(outputStream);
+            imageWriter.getDataOutputStream().writeInt(HEADER);
+            List<SRMetaBlockSaver> savers = Lists.newArrayList(
+                    stringSaver(SRMetaBlockID.NODE_MGR, "node-1"),
+                    stringSaver(SRMetaBlockID.VARIABLE_MGR, "variable-1", "variable-2"),
+                    stringSaver(SRMetaBlockID.RESOURCE_MGR, "resource-1"),
+                    stringSaver(SRMetaBlockID.CATALOG_MGR, "catalog-1"),
+                    stringSaver(SRMetaBlockID.KEY_MGR, "key-1"));
+            imageWriter.saveMetaBlocks(savers, parallelism, codec);
+            imageWriter.saveChecksum();
+        }
+        // segment files are removed
+        for (File file : new File(v2Dir).listFiles()) {
+            Assert.assertFalse(file.getName(), file.getName().startsWith("segment"));
+        }
+    }
+
+    private void assertLoaded(Map<SRMetaBlockID, List<String>> result) {
+        Assert.assertEquals(5, result.size());
+        Assert.assertEquals(Lists.newArrayList("node-1"), result.get(SRMetaBlockID.NODE_MGR));
+        Assert.assertEquals(Lists.newArrayList("variable-1", "variable-2"), result.get(SRMetaBlockID.VARIABLE_MGR));
+        Assert.assertEquals(Lists.newArrayList("key-1"), result.get(SRMetaBlockID.KEY_MGR));
+    }
+
+    private Map<SRMetaBlockID, SRMetaBlockLoader> stringLoaders(Map<SRMetaBlockID, List<String>> result) {
+        SRMetaBlockLoader loader = stringLoader(result);
+        return ImmutableMap.of(SRMetaBlockID.NODE_MGR, loader,
+                SRMetaBlockID.VARIABLE_MGR, loader,
+                SRMetaBlockID.RESOURCE_MGR, loader,
+                SRMetaBlockID.CATALOG_MGR, loader,
+                SRMetaBlockID.KEY_MGR, loader);
+    }
+
+    @Test
+    public void testLoadSegmentedImageSequentially() throws Exception {
+        saveSegmentedImage(3000);
+        try {
+            ImageLoader imageLoader = new ImageLoader(imageDir.toString());
+            Assert.assertEquals(3000, imageLoader.getImageJournalId());
+            Map<SRMetaBlockID, List<String>> result = new ConcurrentHashMap<>();
+            Map<SRMetaBlockID, SRMetaBlockLoader> loaders = stringLoaders(result);
+            try (InputStream in = Files.newInputStream(imageLoader.getImageFile().toPath())) {
+                imageLoader.setInputStream(in);
+                Assert.assertEquals(HEADER, new DataInputStream(imageLoader.getCheckedInputStream()).readInt());
+                // read as a V2 image without knowing the segment index
+                try {
+                    while (true) {
+                        SRMetaBlockReader reader = imageLoader.getBlockReader();
+                        SRMetaBlockLoader loader = loaders.get(reader.getHeader().getSrMetaBlockID());
+                        if (loader != null) {
+                            loader.apply(reader);
+                        }
+                        reader.close();
+                    }
+                } catch (EOFException e) {
+                    // expected
+                }
+                imageLoader.readTheRemainingBytes();
+            }
+            imageLoader.checkCheckSum();
+            assertLoaded(result);
+        } finally {
+            FileUtils.cleanDirectory(Path.of(imageDir.toString(), "v2").toFile());
+        }
+    }
+
+    @Test
+    public void testLoadSegmentedImageInParallel() throws Exception {
+        saveSegmentedImage(4000);
+        try {
+            ImageLoader imageLoader = new ImageLoader(imageDir.toString());
+            Map<SRMetaBlockID, List<String>> result = new ConcurrentHashMap<>();
+            Set<SRMetaBlockID> loaded;
+            try (InputStream in = Files.newInputStream(imageLoader.getImageFile().toPath())) {
+                imageLoader.setInputStream(in);
+                Assert.assertEquals(HEADER, new DataInputStream(imageLoader.getCheckedInputStream()).readInt());
+                SRMetaBlockReader reader = imageLoader.getBlockReader();
+                Assert.assertEquals(SRMetaBlockID.IMAGE_SEGMENT_INDEX, reader.getHeader().getSrMetaBlockID());
+                ImageSegmentIndex segmentIndex = reader.readJson(ImageSegmentIndex.class);
+                reader.close();
+                Assert.assertEquals(5, segmentIndex.getSegments().size());
+                Assert.assertEquals(Lists.newArrayList(SRMetaBlockID.RESOURCE_MGR),
+                        segmentIndex.getSegments().get(2).getBlockIds());
+
+                loaded = imageLoader.loadSegments(segmentIndex, stringLoaders(result),
+                        ImmutableSet.of(SRMetaBlockID.VARIABLE_MGR, SRMetaBlockID.RESOURCE_MGR,
+                                SRMetaBlockID.KEY_MGR), 3);
+            }
+            Assert.assertEquals(5, loaded.size());
+            assertLoaded(result);
+        } finally {
+            FileUtils.cleanDirectory(Path.of(imageDir.toString(), "v2").toFile());
+        }
+    }
+
+    @Test
+    public void testLoadSegmentChecksumMismatch() throws Exception {
+        saveSegmentedImage(5000);
+        try {
+            ImageLoader imageLoader = new ImageLoader(imageDir.toString());
+            Path imagePath = imageLoader.getImageFile().toPath();
+            String content = Files.readString(imagePath, StandardCharsets.ISO_8859_1);
+            Files.writeString(imagePath, content.replace("key-1", "key-2"), StandardCharsets.ISO_8859_1);
+
+            try (InputStream in = Files.newInputStream(imagePath)) {
+                imageLoader.setInputStream(in);
+                new DataInputStream(imageLoader.getCheckedInputStream()).readInt();
+                SRMetaBlockReader reader = imageLoader.getBlockReader();
+                ImageSegmentIndex segmentIndex = reader.readJson(ImageSegmentIndex.class);
+                reader.close();
+                Map<SRMetaBlockID, List<String>> result = new ConcurrentHashMap<>();
+                IOException e = Assert.assertThrows(IOException.class, () -> imageLoader.loadSegments(segmentIndex,
+                        stringLoaders(result), ImmutableSet.of(SRMetaBlockID.KEY_MGR), 2));
+                Assert.assertTrue(e.getMessage(), e.getMessage().contains("checksum mismatch"));
+            }
+        } finally {
+            FileUtils.cleanDirectory(Path.of(imageDir.toString(), "v2").toFile());
+        }
+    }
+
+    @Test
+    public void testLoadCompressedSegments() throws Exception {
+        long journalId = 6000;
+        for (ImageCompressionCodec codec : Lists.newArrayList(ImageCompressionCodec.LZ4, ImageCompressionCodec.ZSTD)) {
+            // segments are saved even if parallelism is 1
+            saveSegmentedImage(journalId, 1, codec);
+            try {
+                ImageLoader imageLoader = new ImageLoader(imageDir.toString());
+                Assert.assertEquals(journalId, imageLoader.getImageJournalId());
+
+                Map<SRMetaBlockID, List<String>> result = new ConcurrentHashMap<>();
+                Set<SRMetaBlockID> loaded;
+                try (InputStream in = Files.newInputStream(imageLoader.getImageFile().toPath())) {
+                    imageLoader.setInputStream(in);
+                    Assert.assertEquals(HEADER, new DataInputStream(imageLoader.getCheckedInputStream()).readInt());
+                    SRMetaBlockReader reader = imageLoader.getBlockReader();
+                    ImageSegmentIndex segmentIndex = reader.readJson(ImageSegmentIndex.class);
+                    reader.close();
+                    Assert.assertEquals(codec, segmentIndex.getCodec());
+                    Assert.assertEquals(5, segmentIndex.getSegments().size());
+
+                    loaded = imageLoader.loadSegments(segmentIndex, stringLoaders(result),
+                            ImmutableSet.of(SRMetaBlockID.VARIABLE_MGR, SRMetaBlockID.KEY_MGR), 1);
+                }
+                Assert.assertEquals(5, loaded.size());
+                assertLoaded(result);
+            } finally {
+                FileUtils.cleanDirectory(Path.of(imageDir.toString(), "v2").toFile());
+            }
+            journalId++;
+        }
+    }
+
+    @Test
+    public void testCodecOfOldSegmentIndex() {
+        ImageSegmentIndex segmentIndex = GsonUtils.GSON.fromJson("{\"s\":[]}", ImageSegmentIndex.class);
+        Assert.assertEquals(ImageCompressionCodec.NONE, segmentIndex.getCodec());
+        Assert.assertFalse(segmentIndex.isCompressed());
+        Assert.assertEquals(ImageCompressionCodec.ZSTD, ImageCompressionCodec.fromName("zstd"));
+        Assert.assertEquals(ImageCompressionCodec.NONE, ImageCompressionCodec.fromName("gzip"));
+    }
 }
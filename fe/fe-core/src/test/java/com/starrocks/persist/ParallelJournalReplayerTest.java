@@ -0,0 +1,120 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.persist;
+
+import com.google.common.collect.Lists;
+import com.starrocks.common.Config;
+import com.starrocks.common.io.Text;
+import com.starrocks.journal.JournalEntity;
+import com.starrocks.journal.JournalInconsistentException;
+import com.starrocks.transaction.TransactionState;
+import com.starrocks.transaction.TransactionStateBatch;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ParallelJournalReplayerTest {
+    private static int oldParallelism;
+
+    @BeforeClass
+    public static void beforeClass() {
+        oldParallelism = Config.metadata_journal_replay_parallelism;
+        Config.metadata_journal_replay_parallelism = 4;
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        Config.metadata_journal_replay_parallelism = oldParallelism;
+    }
+
+    private static JournalEntity txnJournal(long dbId, long txnId) {
+        JournalEntity entity = new JournalEntity();
+        entity.setOpCode(OperationType.OP_UPSERT_TRANSACTION_STATE_V2);
+        entity.setData(new TransactionState(dbId, Lists.newArrayList(), txnId, "label_" + txnId, null,
+                TransactionState.LoadJobSourceType.BACKEND_STREAMING, null, -1, 1000));
+        return entity;
+    }
+
+    @Test
+    public void testPartitionKey() {
+        Assert.assertEquals(10, ParallelJournalReplayer.getPartitionKey(txnJournal(10, 1)));
+
+        JournalEntity batch = new JournalEntity();
+        batch.setOpCode(OperationType.OP_UPSERT_TRANSACTION_STATE_BATCH);
+        batch.setData(new TransactionStateBatch(Lists.newArrayList(
+                new TransactionState(11, Lists.newArrayList(), 2, "label_2", null,
+                        TransactionState.LoadJobSourceType.BACKEND_STREAMING, null, -1, 1000))));
+        Assert.assertEquals(11, ParallelJournalReplayer.getPartitionKey(batch));
+
+        JournalEntity eraseDb = new JournalEntity();
+        eraseDb.setOpCode(OperationType.OP_ERASE_DB);
+        eraseDb.setData(new Text("10"));
+        Assert.assertEquals(-1, ParallelJournalReplayer.getPartitionKey(eraseDb));
+        ParallelJournalReplayer replayer = new ParallelJournalReplayer((t, id) -> false);
+        Assert.assertFalse(replayer.submit(eraseDb, 1, () -> Assert.fail("replayed")));
+        Assert.assertEquals(0, replayer.getPendingNum());
+    }
+
+    @Test
+    public void testReplayInOrderOfDatabase() throws Exception {
+        Map<Long, List<Long>> replayedTxns = new ConcurrentHashMap<>();
+        ParallelJournalReplayer replayer = new ParallelJournalReplayer((t, id) -> false);
+        long journalId = 1;
+        for (long txnId = 0; txnId < 1000; txnId++) {
+            long dbId = txnId % 7;
+            long txn = txnId;
+            Assert.assertTrue(replayer.submit(txnJournal(dbId, txnId), journalId++, () ->
+                    replayedTxns.computeIfAbsent(dbId, k -> Collections.synchronizedList(new ArrayList<>())).add(txn)));
+        }
+        Assert.assertEquals(1000, replayer.getPendingNum());
+        Assert.assertEquals(1000, replayer.waitAll());
+        Assert.assertEquals(0, replayer.getPendingNum());
+
+        Assert.assertEquals(7, replayedTxns.size());
+        for (Map.Entry<Long, List<Long>> entry : replayedTxns.entrySet()) {
+            List<Long> txns = entry.getValue();
+            for (int i = 0; i < txns.size(); i++) {
+                Assert.assertEquals(entry.getKey() + 7L * i, (long) txns.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        // journal 2 is skipped, and journal 3 fails
+        ParallelJournalReplayer replayer = new ParallelJournalReplayer((t, id) -> id == 2);
+        replayer.submit(txnJournal(1, 1), 1, () -> { });
+        replayer.submit(txnJournal(2, 2), 2, () -> {
+            throw new IllegalStateException("skipped");
+        });
+        Assert.assertEquals(2, replayer.waitAll());
+
+        replayer.submit(txnJournal(3, 3), 3, () -> {
+            throw new IllegalStateException("failed");
+        });
+        replayer.submit(txnJournal(4, 4), 4, () -> { });
+        JournalInconsistentException e = Assert.assertThrows(JournalInconsistentException.class, replayer::waitAll);
+        Assert.assertTrue(e.getMessage(), e.getMessage().contains("failed"));
+        // the failure can't be retried
+        Assert.assertThrows(JournalInconsistentException.class, replayer::waitAll);
+    }
+}
@@ -14,12 +14,16 @@
 
 package com.starrocks.persist.gson;
 
+import com.google.common.collect.Lists;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 import com.google.gson.annotations.SerializedName;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.List;
+
 public class RuntimeTypeAdapterFactoryTest {
     @Test
     public void test() {
@@ -41,6 +45,40 @@ public class RuntimeTypeAdapterFactoryTest {
         System.out.println(a2.a);
     }
 
+    @Test
+    public void testWriteTypeFieldFirst() {
+        Gson gson = new GsonBuilder().registerTypeAdapterFactory(RuntimeTypeAdapterFactory
+                .of(A.class, "clazz")
+                .registerSubtype(B.class, "B")
+                .registerSubtype(A.class, "A")).create();
+        B b = new B();
+        b.setA(1);
+        b.setB(2);
+        Holder holder = new Holder();
+        holder.values = Lists.newArrayList(b, null, new A());
+        String json = gson.toJson(holder);
+        Assert.assertEquals("{\"values\":[{\"clazz\":\"B\",\"b\":2,\"a\":1},null,{\"clazz\":\"A\",\"a\":0}]}", json);
+
+        Holder holder2 = gson.fromJson(json, Holder.class);
+        Assert.assertTrue(holder2.values.get(0) instanceof B);
+        Assert.assertEquals(2, ((B) holder2.values.get(0)).getB());
+        Assert.assertNull(holder2.values.get(1));
+        Assert.assertEquals(A.class, holder2.values.get(2).getClass());
+    }
+
+    @Test
+    public void testTypeFieldConflict() {
+        Gson gson = new GsonBuilder().registerTypeAdapterFactory(RuntimeTypeAdapterFactory
+                .of(A.class, "a")
+                .registerSubtype(A.class, "A")).create();
+        Assert.assertThrows(JsonParseException.class, () -> gson.toJson(new A(), A.class));
+    }
+
+    public static class Holder {
+        @SerializedName("values")
+        private List<A> values;
+    }
+
     public static class A {
         @SerializedName("a")
         private int a;
@@ -14,6 +14,7 @@
 
 package com.starrocks.qe;
 
+import com.starrocks.common.MemLimitExceededException;
 import com.starrocks.common.UserException;
 import com.starrocks.connector.exception.RemoteFileNotFoundException;
 import com.starrocks.rpc.RpcException;
@@ -22,6 +23,7 @@ import com.starrocks.sql.parser.SqlParser;
 import com.starrocks.sql.plan.ConnectorPlanTestBase;
 import com.starrocks.sql.plan.ExecPlan;
 import com.starrocks.sql.plan.PlanTestBase;
+import com.starrocks.thrift.TExplainLevel;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -95,4 +97,41 @@ public class ExecuteExceptionHandlerTest extends PlanTestBase {
         Assert.assertThrows(UserException.class,
                 () -> ExecuteExceptionHandler.handle(new UserException("other exception"), retryContext));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testHandleMemLimitExceededException() throws Exception {
+        String sql = "select * from t0 join t1 on t0.v1 = t1.v4";
+        StatementBase statementBase = SqlParser.parse(sql, connectContext.getSessionVariable()).get(0);
+        ExecPlan execPlan = getExecPlan(sql);
+        Assert.assertTrue(execPlan.getExplainString(TExplainLevel.NORMAL).contains("BROADCAST"));
+        ExecuteExceptionHandler.RetryContext retryContext =
+                new ExecuteExceptionHandler.RetryContext(0, execPlan, connectContext, statementBase);
+        ExecuteExceptionHandler.handle(new MemLimitExceededException("mock"), retryContext);
+        String plan = retryContext.getExecPlan().getExplainString(TExplainLevel.NORMAL);
+        Assert.assertFalse(plan, plan.contains("BROADCAST"));
+        Assert.assertTrue(plan, plan.contains("PARTITIONED"));
+        Assert.assertTrue(connectContext.getSessionVariable().isEnableBroadcastJoin());
+
+        // the re-planned query has no broadcast join
+        Assert.assertThrows(MemLimitExceededException.class,
+                () -> ExecuteExceptionHandler.handle(new MemLimitExceededException("mock"), retryContext));
+
+        // no join
+        ExecuteExceptionHandler.RetryContext noJoinRetryContext = new ExecuteExceptionHandler.RetryContext(0,
+                getExecPlan("select * from t0"), connectContext,
+                SqlParser.parse("select * from t0", connectContext.getSessionVariable()).get(0));
+        Assert.assertThrows(MemLimitExceededException.class,
+                () -> ExecuteExceptionHandler.handle(new MemLimitExceededException("mock"), noJoinRetryContext));
+
+        // disabled
+        connectContext.getSessionVariable().setEnableReplanOnMemLimitExceeded(false);
+        try {
+            ExecuteExceptionHandler.RetryContext disabledRetryContext =
+                    new ExecuteExceptionHandler.RetryContext(0, execPlan, connectContext, statementBase);
+            Assert.assertThrows(MemLimitExceededException.class,
+                    () -> ExecuteExceptionHandler.handle(new MemLimitExceededException("mock"), disabledRetryContext));
+        } finally {
+            connectContext.getSessionVariable().setEnableReplanOnMemLimitExceeded(true);
+        }
+    }
+}
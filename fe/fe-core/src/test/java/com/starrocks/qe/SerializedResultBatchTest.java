@@ -0,0 +1,125 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.qe;
+
+import com.starrocks.mysql.MysqlChannel;
+import com.starrocks.rpc.ConfigurableSerDesFactory;
+import com.starrocks.thrift.TResultBatch;
+import org.apache.thrift.TDeserializer;
+import org.apache.thrift.TException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class SerializedResultBatchTest {
+    private static final int MAX_PHYSICAL_PACKET_LENGTH = 0xffffff;
+
+    private static class BufferedMysqlChannel extends MysqlChannel {
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        @Override
+        public void realNetSend(ByteBuffer buffer) {
+            output.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+        }
+
+        byte[] getOutput() {
+            return output.toByteArray();
+        }
+    }
+
+    private static byte[] serialize(List<ByteBuffer> rows) throws TException {
+        TResultBatch batch = new TResultBatch(rows, false, 7);
+        return ConfigurableSerDesFactory.getTSerializer().serialize(batch);
+    }
+
+    private static ByteBuffer genRow(int length, byte value) {
+        byte[] row = new byte[length];
+        Arrays.fill(row, value);
+        return ByteBuffer.wrap(row);
+    }
+
+    @Test
+    public void testParse() throws TException {
+        List<ByteBuffer> rows = new ArrayList<>();
+        rows.add(genRow(10, (byte) 'a'));
+        rows.add(genRow(0, (byte) 'b'));
+        rows.add(genRow(300, (byte) 'c'));
+        byte[] serialized = serialize(rows);
+
+        SerializedResultBatch serializedBatch = SerializedResultBatch.parse(serialized);
+        Assert.assertEquals(3, serializedBatch.getRowNum());
+        Assert.assertEquals(310, serializedBatch.getRowsLength());
+
+        TResultBatch expected = new TResultBatch();
+        TDeserializer deserializer = ConfigurableSerDesFactory.getTDeserializer();
+        deserializer.deserialize(expected, serialized);
+        Assert.assertEquals(expected, serializedBatch.decode());
+        Assert.assertEquals(7, serializedBatch.decode().getPacket_seq());
+
+        RowBatch rowBatch = new RowBatch();
+        Assert.assertFalse(rowBatch.hasBatch());
+        Assert.assertEquals(0, rowBatch.getRowNum());
+        rowBatch.setSerializedBatch(serializedBatch);
+        Assert.assertTrue(rowBatch.hasBatch());
+        Assert.assertEquals(3, rowBatch.getRowNum());
+        Assert.assertEquals(expected, rowBatch.getBatch());
+
+        Assert.assertEquals(0, SerializedResultBatch.parse(serialize(new ArrayList<>())).getRowNum());
+    }
+
+    @Test
+    public void testParseInvalidBatch() throws TException {
+        Assert.assertThrows(TException.class, () -> SerializedResultBatch.parse(new byte[] {0}));
+        Assert.assertThrows(TException.class, () -> SerializedResultBatch.parse(new byte[] {1, 2, 3, 4, 5}));
+
+        byte[] serialized = serialize(List.of(genRow(10, (byte) 'a')));
+        Assert.assertThrows(TException.class,
+                () -> SerializedResultBatch.parse(Arrays.copyOf(serialized, serialized.length - 20)));
+    }
+
+    @Test
+    public void testSendTo() throws Exception {
+        List<ByteBuffer> rows = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            rows.add(genRow(i * 10, (byte) i));
+        }
+        // split into several packets
+        rows.add(genRow(MAX_PHYSICAL_PACKET_LENGTH, (byte) 'x'));
+        rows.add(genRow(MAX_PHYSICAL_PACKET_LENGTH + 100, (byte) 'y'));
+        rows.add(genRow(5, (byte) 'z'));
+        byte[] serialized = serialize(rows);
+
+        BufferedMysqlChannel expectedChannel = new BufferedMysqlChannel();
+        TResultBatch batch = new TResultBatch();
+        ConfigurableSerDesFactory.getTDeserializer().deserialize(batch, serialized);
+        for (ByteBuffer row : batch.getRows()) {
+            expectedChannel.sendOnePacket(row);
+        }
+        expectedChannel.flush();
+
+        BufferedMysqlChannel channel = new BufferedMysqlChannel();
+        SerializedResultBatch.parse(serialized).sendTo(channel);
+        channel.flush();
+
+        // same packets with the same sequence ids
+        Assert.assertArrayEquals(expectedChannel.getOutput(), channel.getOutput());
+    }
+}
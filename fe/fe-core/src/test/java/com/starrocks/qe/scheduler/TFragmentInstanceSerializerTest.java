@@ -0,0 +1,124 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.qe.scheduler;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.starrocks.rpc.ConfigurableSerDesFactory;
+import com.starrocks.thrift.InternalServiceVersion;
+import com.starrocks.thrift.TDataPartition;
+import com.starrocks.thrift.TDescriptorTable;
+import com.starrocks.thrift.TExecPlanFragmentParams;
+import com.starrocks.thrift.TInternalScanRange;
+import com.starrocks.thrift.TNetworkAddress;
+import com.starrocks.thrift.TPartitionType;
+import com.starrocks.thrift.TPlan;
+import com.starrocks.thrift.TPlanFragment;
+import com.starrocks.thrift.TPlanFragmentDestination;
+import com.starrocks.thrift.TPlanFragmentExecParams;
+import com.starrocks.thrift.TPlanNode;
+import com.starrocks.thrift.TPlanNodeType;
+import com.starrocks.thrift.TQueryOptions;
+import com.starrocks.thrift.TScanRange;
+import com.starrocks.thrift.TScanRangeParams;
+import com.starrocks.thrift.TTupleDescriptor;
+import com.starrocks.thrift.TUniqueId;
+import org.apache.thrift.TDeserializer;
+import org.apache.thrift.TException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class TFragmentInstanceSerializerTest {
+
+    private static TExecPlanFragmentParams createRequest(int instanceIndex, int numScanRanges) {
+        TExecPlanFragmentParams request = new TExecPlanFragmentParams();
+        request.setProtocol_version(InternalServiceVersion.V1);
+
+        TPlanNode scanNode = new TPlanNode().setNode_id(0).setNode_type(TPlanNodeType.OLAP_SCAN_NODE)
+                .setNum_children(0).setLimit(-1).setRow_tuples(Lists.newArrayList(0))
+                .setNullable_tuples(Lists.newArrayList(false)).setCompact_data(true);
+        request.setFragment(new TPlanFragment(new TDataPartition(TPartitionType.RANDOM))
+                .setPlan(new TPlan(Lists.newArrayList(scanNode))));
+        request.setDesc_tbl(new TDescriptorTable(Lists.newArrayList(new TTupleDescriptor().setId(0))));
+        request.setCoord(new TNetworkAddress("127.0.0.1", 9020));
+        request.setQuery_options(new TQueryOptions().setBatch_size(4096));
+        request.setIs_pipeline(true);
+        request.setBackend_num(instanceIndex);
+        request.setPipeline_dop(instanceIndex % 2 == 0 ? 8 : 0);
+
+        TPlanFragmentExecParams params = new TPlanFragmentExecParams();
+        params.setQuery_id(new TUniqueId(1, 2));
+        params.setFragment_instance_id(new TUniqueId(1, 2 + instanceIndex));
+        List<TScanRangeParams> scanRanges = new ArrayList<>();
+        for (int i = 0; i < numScanRanges; i++) {
+            TInternalScanRange internalScanRange = new TInternalScanRange(
+                    Lists.newArrayList(new TNetworkAddress("127.0.0.1", 9060)), "0", "1", "0",
+                    instanceIndex * numScanRanges + i, "db");
+            scanRanges.add(new TScanRangeParams(new TScanRange().setInternal_scan_range(internalScanRange)));
+        }
+        params.setPer_node_scan_ranges(ImmutableMap.of(0, scanRanges));
+        params.setPer_exch_num_senders(ImmutableMap.of(1, 3));
+        params.setDestinations(Lists.newArrayList(new TPlanFragmentDestination(new TUniqueId(3, 4))));
+        params.setNum_senders(3);
+        params.setSender_id(instanceIndex);
+        params.setInstances_number(3);
+        if (instanceIndex == 1) {
+            params.setNode_to_per_driver_seq_scan_ranges(ImmutableMap.of(0, ImmutableMap.of(0, scanRanges)));
+        }
+        request.setParams(params);
+        return request;
+    }
+
+    private static TExecPlanFragmentParams deserialize(byte[] bytes) throws TException {
+        TExecPlanFragmentParams request = new TExecPlanFragmentParams();
+        TDeserializer deserializer = ConfigurableSerDesFactory.getTDeserializer();
+        deserializer.deserialize(request, bytes);
+        return request;
+    }
+
+    @Test
+    public void testSerialize() throws TException {
+        List<TExecPlanFragmentParams> requests = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            requests.add(createRequest(i, 10));
+        }
+
+        TFragmentInstanceSerializer serializer = new TFragmentInstanceSerializer(requests.get(0));
+        for (TExecPlanFragmentParams request : requests) {
+            byte[] bytes = serializer.serialize(request);
+            Assert.assertEquals(request, deserialize(bytes));
+            // the same fields in a different order
+            byte[] expectedBytes = ConfigurableSerDesFactory.getTSerializer().serialize(request);
+            Assert.assertEquals(expectedBytes.length, bytes.length);
+        }
+    }
+
+    @Test
+    public void testSerializeWithoutUniqueFields() throws TException {
+        TExecPlanFragmentParams request = createRequest(0, 0);
+        request.unsetBackend_num();
+        request.unsetPipeline_dop();
+        request.getParams().unsetSender_id();
+        request.getParams().unsetInstances_number();
+        request.getParams().setPer_node_scan_ranges(Collections.emptyMap());
+
+        TFragmentInstanceSerializer serializer = new TFragmentInstanceSerializer(createRequest(1, 10));
+        Assert.assertEquals(request, deserialize(serializer.serialize(request)));
+    }
+}
@@ -0,0 +1,48 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.sql.optimizer.cost;
+
+import com.starrocks.qe.SessionVariable;
+import com.starrocks.sql.plan.PlanTestBase;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CostModelTest extends PlanTestBase {
+
+    @After
+    public void after() {
+        SessionVariable sessionVariable = connectContext.getSessionVariable();
+        sessionVariable.setCboCpuCostWeight(CostModel.DEFAULT_CPU_COST_WEIGHT);
+        sessionVariable.setCboMemoryCostWeight(CostModel.DEFAULT_MEMORY_COST_WEIGHT);
+        sessionVariable.setCboNetworkCostWeight(CostModel.DEFAULT_NETWORK_COST_WEIGHT);
+    }
+
+    @Test
+    public void testCostWeights() throws Exception {
+        CostEstimate costEstimate = new CostEstimate(100, 10, 1);
+        Assert.assertEquals(50 + 20 + 1.5, CostModel.getRealCost(costEstimate), 1e-6);
+
+        connectContext.getSessionVariable().setCboNetworkCostWeight(10);
+        Assert.assertEquals(50 + 20 + 10, CostModel.getRealCost(costEstimate), 1e-6);
+
+        // the broadcast join costs less network but more memory than the shuffle join
+        String sql = "select * from lineitem join orders on l_orderkey = o_orderkey";
+        connectContext.getSessionVariable().setCboNetworkCostWeight(CostModel.DEFAULT_NETWORK_COST_WEIGHT);
+        assertContains(getFragmentPlan(sql), "join op: INNER JOIN (BROADCAST)");
+        connectContext.getSessionVariable().setCboNetworkCostWeight(0);
+        assertContains(getFragmentPlan(sql), "join op: INNER JOIN (PARTITIONED)");
+    }
+}
@@ -42,6 +42,7 @@ import org.junit.Test;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
@@ -160,6 +161,37 @@ public class ScalarOperatorRewriterTest {
         }
     }
 
+    @Test
+    public void testNormalizeLongCompoundPredicate() {
+        ColumnRefOperator column = new ColumnRefOperator(1, Type.INT, "a", true);
+        // left-deep OR chain with duplicated predicates as built by parser: a = 99 OR a = 98 OR ... OR a = 99
+        ScalarOperator chain = null;
+        List<ScalarOperator> disjuncts = Lists.newArrayList();
+        for (int i = 99; i >= -99; i--) {
+            ScalarOperator disjunct = new BinaryPredicateOperator(BinaryType.EQ, column,
+                    ConstantOperator.createInt(Math.abs(i)));
+            disjuncts.add(disjunct);
+            chain = chain == null ? disjunct :
+                    new CompoundPredicateOperator(CompoundPredicateOperator.CompoundType.OR, chain, disjunct);
+        }
+        chain = new CompoundPredicateOperator(CompoundPredicateOperator.CompoundType.AND, chain,
+                new IsNullPredicateOperator(true, column));
+
+        ScalarOperator result = new ScalarOperatorRewriter().rewrite(chain,
+                Lists.newArrayList(new MvNormalizePredicateRule()));
+        List<String> expect = disjuncts.stream().map(ScalarOperator::toString).distinct()
+                .sorted(String.CASE_INSENSITIVE_ORDER).collect(Collectors.toList());
+        List<ScalarOperator> conjuncts = Utils.extractConjuncts(result);
+        Assert.assertEquals(2, conjuncts.size());
+        Assert.assertEquals(expect, Utils.extractDisjunctive(conjuncts.get(0)).stream()
+                .map(ScalarOperator::toString).collect(Collectors.toList()));
+        Assert.assertEquals("1: a IS NOT NULL", conjuncts.get(1).toString());
+
+        // the normalized predicate is kept
+        Assert.assertSame(result, new ScalarOperatorRewriter().rewrite(result,
+                Lists.newArrayList(new MvNormalizePredicateRule())));
+    }
+
     @Test
     public void testNormalizeIsNull() {
         ColumnRefOperator column1 = new ColumnRefOperator(0, Type.INT, "test0", false);
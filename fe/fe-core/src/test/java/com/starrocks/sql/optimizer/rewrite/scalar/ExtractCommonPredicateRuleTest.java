@@ -15,16 +15,21 @@
 
 package com.starrocks.sql.optimizer.rewrite.scalar;
 
+import com.google.common.collect.Lists;
 import com.starrocks.analysis.BinaryType;
 import com.starrocks.catalog.Type;
+import com.starrocks.sql.optimizer.Utils;
 import com.starrocks.sql.optimizer.operator.scalar.BinaryPredicateOperator;
 import com.starrocks.sql.optimizer.operator.scalar.ColumnRefOperator;
 import com.starrocks.sql.optimizer.operator.scalar.CompoundPredicateOperator;
 import com.starrocks.sql.optimizer.operator.scalar.ConstantOperator;
 import com.starrocks.sql.optimizer.operator.scalar.ScalarOperator;
 import com.starrocks.sql.optimizer.rewrite.ScalarOperatorRewriteContext;
+import com.starrocks.sql.optimizer.rewrite.ScalarOperatorRewriter;
 import org.junit.Test;
 
+import java.util.List;
+
 import static org.junit.Assert.assertEquals;
 
 public class ExtractCommonPredicateRuleTest {
@@ -77,4 +82,29 @@ public class ExtractCommonPredicateRuleTest {
                 new ColumnRefOperator(1, Type.BIGINT, "a", true));
         assertEquals(expect, result);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testLongOrPredicate() {
+        ColumnRefOperator a = new ColumnRefOperator(1, Type.INT, "a", true);
+        ColumnRefOperator b = new ColumnRefOperator(2, Type.INT, "b", true);
+        ScalarOperator common = new BinaryPredicateOperator(BinaryType.EQ, a, ConstantOperator.createInt(0));
+        // (a = 0 AND b = 1) OR (a = 0 AND b = 2) OR b = 3 OR ... OR b = 99
+        ScalarOperator or = new CompoundPredicateOperator(CompoundPredicateOperator.CompoundType.OR,
+                new CompoundPredicateOperator(CompoundPredicateOperator.CompoundType.AND, common,
+                        new BinaryPredicateOperator(BinaryType.EQ, b, ConstantOperator.createInt(1))),
+                new CompoundPredicateOperator(CompoundPredicateOperator.CompoundType.AND, common,
+                        new BinaryPredicateOperator(BinaryType.EQ, b, ConstantOperator.createInt(2))));
+        for (int i = 3; i < 100; i++) {
+            or = new CompoundPredicateOperator(CompoundPredicateOperator.CompoundType.OR, or,
+                    new BinaryPredicateOperator(BinaryType.EQ, b, ConstantOperator.createInt(i)));
+        }
+
+        // no common predicate in the whole OR chain, but in the innermost OR
+        ScalarOperator result = new ScalarOperatorRewriter().rewrite(or,
+                Lists.newArrayList(new ExtractCommonPredicateRule()));
+        List<ScalarOperator> disjuncts = Utils.extractDisjunctive(result);
+        assertEquals(98, disjuncts.size());
+        assertEquals("1: a = 0 AND 2: b = 1 OR 2: b = 2", disjuncts.get(0).toString());
+        assertEquals("2: b = 3", disjuncts.get(1).toString());
+    }
+}
@@ -0,0 +1,135 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.sql.optimizer.rule.transformation.materialization;
+
+import com.google.common.collect.Lists;
+import com.starrocks.catalog.Table;
+import com.starrocks.common.profile.Tracers;
+import com.starrocks.sql.optimizer.MaterializationContext;
+import com.starrocks.sql.optimizer.QueryMaterializationContext;
+import com.starrocks.sql.optimizer.operator.OperatorType;
+import mockit.Invocation;
+import mockit.Mock;
+import mockit.MockUp;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.starrocks.sql.plan.PlanTestNoneDBBase.assertContains;
+
+public class MvCandidateIndexTest extends MvRewriteTestBase {
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        MvRewriteTestBase.beforeClass();
+        starRocksAssert.withTable(cluster, "depts");
+        starRocksAssert.withTable(cluster, "locations");
+        starRocksAssert.withTable(cluster, "emps");
+
+        createAndRefreshMv("create materialized view mv_emps_agg distributed by random as " +
+                "select deptno, sum(salary) as total from emps group by deptno");
+        createAndRefreshMv("create materialized view mv_emps_depts distributed by random as " +
+                "select empid, emps.deptno, depts.name from emps join depts on emps.deptno = depts.deptno");
+        createAndRefreshMv("create materialized view mv_emps_locations_agg distributed by random as " +
+                "select emps.locationid, count(empid) as cnt from emps " +
+                "join locations on emps.locationid = locations.locationid group by emps.locationid");
+        createAndRefreshMv("create materialized view mv_locations distributed by random as " +
+                "select locationid, name from locations where locationid > 0");
+    }
+
+    @AfterClass
+    public static void afterClass() throws Exception {
+        starRocksAssert.dropMaterializedView("mv_emps_agg");
+        starRocksAssert.dropMaterializedView("mv_emps_depts");
+        starRocksAssert.dropMaterializedView("mv_emps_locations_agg");
+        starRocksAssert.dropMaterializedView("mv_locations");
+    }
+
+    private static List<String> getMvNames(List<MaterializationContext> mvContexts) {
+        return mvContexts.stream().map(x -> x.getMv().getName()).sorted().collect(Collectors.toList());
+    }
+
+    @Test
+    public void testFilterCandidates() throws Exception {
+        List<MaterializationContext> candidates = Lists.newArrayList();
+        new MockUp<QueryMaterializationContext>() {
+            @Mock
+            public void clear(Invocation invocation) {
+                QueryMaterializationContext queryMaterializationContext = invocation.getInvokedInstance();
+                candidates.addAll(queryMaterializationContext.getValidCandidateMVs());
+                invocation.proceed();
+            }
+        };
+        getFragmentPlan("select emps.deptno, locations.name from emps " +
+                "join depts on emps.deptno = depts.deptno join locations on emps.locationid = locations.locationid");
+        Assert.assertEquals(List.of("mv_emps_agg", "mv_emps_depts", "mv_emps_locations_agg", "mv_locations"),
+                getMvNames(candidates));
+
+        Table emps = getTable(DB_NAME, "emps");
+        Table depts = getTable(DB_NAME, "depts");
+        Table locations = getTable(DB_NAME, "locations");
+        MvCandidateIndex index = new MvCandidateIndex(candidates);
+        // complete match and view delta
+        Assert.assertEquals(List.of("mv_emps_agg", "mv_emps_locations_agg"),
+                getMvNames(index.filter(OperatorType.LOGICAL_AGGR, List.of(emps), candidates)));
+        // complete match
+        Assert.assertEquals(List.of("mv_emps_locations_agg"),
+                getMvNames(index.filter(OperatorType.LOGICAL_AGGR, List.of(locations, emps), candidates)));
+        Assert.assertEquals(List.of("mv_locations"),
+                getMvNames(index.filter(OperatorType.LOGICAL_FILTER, List.of(locations), candidates)));
+        // view delta
+        Assert.assertEquals(List.of("mv_emps_depts"),
+                getMvNames(index.filter(OperatorType.LOGICAL_PROJECT, List.of(depts), candidates)));
+        // no mv contains all the tables
+        Assert.assertEquals(List.of(),
+                getMvNames(index.filter(OperatorType.LOGICAL_JOIN, List.of(emps, depts, locations), candidates)));
+        Assert.assertEquals(20, index.getCheckedCount());
+        Assert.assertEquals(15, index.getPrunedCount());
+
+        // candidates not in the index are kept
+        MvCandidateIndex emptyIndex = new MvCandidateIndex(List.of());
+        Assert.assertEquals(candidates, emptyIndex.filter(OperatorType.LOGICAL_JOIN, List.of(emps), candidates));
+        Assert.assertEquals(0, emptyIndex.getPrunedCount());
+    }
+
+    @Test
+    public void testRewriteWithIndex() throws Exception {
+        String plan = getFragmentPlan("select deptno, sum(salary) from emps group by deptno");
+        assertContains(plan, "mv_emps_agg");
+
+        plan = getFragmentPlan("select emps.locationid, count(empid) from emps " +
+                "join locations on emps.locationid = locations.locationid group by emps.locationid");
+        assertContains(plan, "mv_emps_locations_agg");
+
+        plan = getFragmentPlan("select empid, depts.name from emps join depts on emps.deptno = depts.deptno " +
+                "where empid > 1");
+        assertContains(plan, "mv_emps_depts");
+    }
+
+    @Test
+    public void testPrunedCountInProfile() throws Exception {
+        Tracers.register(connectContext);
+        Tracers.init(connectContext, Tracers.Mode.VARS, "MV");
+        String plan = getFragmentPlan("select deptno, sum(salary) from emps group by deptno");
+        String vars = Tracers.printVars();
+        Tracers.close();
+        assertContains(plan, "mv_emps_agg");
+        assertContains(vars, "MVCandidateIndexStats");
+    }
+}
@@ -243,4 +243,45 @@ public class HistogramStatisticsTest {
                 columnStatistic, eq35, Optional.of(ConstantOperator.createBigint(35)), statistics);
         Assert.assertEquals(961.53846, estimated.getOutputRowCount(), 0.001);
     }
+
+    @Test
+    public void testEqualJoinSelectivityByMCV() {
+        List<Bucket> bucketList = new ArrayList<>();
+        bucketList.add(new Bucket(2D, 50D, 200L, 5L));
+        bucketList.add(new Bucket(51D, 100D, 400L, 5L));
+        Map<String, Long> leftMCV = Maps.newHashMap();
+        leftMCV.put("1", 500L);
+        leftMCV.put("2", 100L);
+        Map<String, Long> rightMCV = Maps.newHashMap();
+        rightMCV.put("1", 10L);
+        rightMCV.put("3", 90L);
+        List<Bucket> rightBucketList = new ArrayList<>();
+        rightBucketList.add(new Bucket(4D, 100D, 900L, 5L));
+        ColumnStatistic left = new ColumnStatistic(1, 100, 0, 4, 10,
+                new Histogram(bucketList, leftMCV), ColumnStatistic.StatisticType.ESTIMATE);
+        ColumnStatistic right = new ColumnStatistic(1, 100, 0, 4, 100,
+                new Histogram(rightBucketList, rightMCV), ColumnStatistic.StatisticType.ESTIMATE);
+
+        // matched value 1: 0.5 * 0.01, the left's unmatched value 2: 0.1 * 0.9 / (100 - 2),
+        // the left's other values: 0.4 * (0.9 + 0.09) / (100 - 1)
+        Optional<Double> selectivity =
+                BinaryPredicateStatisticCalculator.estimateColumnEqualToColumnSelectivityByMCV(left, right);
+        Assert.assertEquals(0.005 + 0.09 / 98 + 0.004, selectivity.get(), 1e-9);
+        Assert.assertEquals(selectivity,
+                BinaryPredicateStatisticCalculator.estimateColumnEqualToColumnSelectivityByMCV(right, left));
+
+        // the NDV less than the MCVs, e.g. underestimated by sampling, only the matched MCVs are estimated
+        ColumnStatistic sampled = new ColumnStatistic(1, 100, 0, 4, 1,
+                new Histogram(bucketList, leftMCV), ColumnStatistic.StatisticType.ESTIMATE);
+        selectivity = BinaryPredicateStatisticCalculator.estimateColumnEqualToColumnSelectivityByMCV(sampled, right);
+        Assert.assertEquals(0.005, selectivity.get(), 1e-9);
+
+        // no MCV
+        ColumnStatistic noMCV = new ColumnStatistic(1, 100, 0, 4, 100,
+                new Histogram(bucketList, Maps.newHashMap()), ColumnStatistic.StatisticType.ESTIMATE);
+        Assert.assertFalse(
+                BinaryPredicateStatisticCalculator.estimateColumnEqualToColumnSelectivityByMCV(left, noMCV).isPresent());
+        Assert.assertFalse(BinaryPredicateStatisticCalculator.estimateColumnEqualToColumnSelectivityByMCV(left,
+                new ColumnStatistic(1, 100, 0, 4, 100)).isPresent());
+    }
 }
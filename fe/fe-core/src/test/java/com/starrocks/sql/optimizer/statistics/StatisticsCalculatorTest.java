@@ -690,6 +690,52 @@ public class StatisticsCalculatorTest {
         Assert.assertEquals(expressionContext.getStatistics().getOutputRowCount(), 200000.0, 0.0001);
     }
 
+    @Test
+    public void testJoinEstimateWithHistogram() {
+        ColumnRefOperator v1 = columnRefFactory.create("v1", Type.INT, true);
+        ColumnRefOperator v2 = columnRefFactory.create("v2", Type.INT, true);
+        // half of the rows of both sides are the value 1
+        Histogram histogram = new Histogram(Lists.newArrayList(new Bucket(2, 100, 500L, 5L)),
+                ImmutableMap.of("1", 500L));
+        Statistics.Builder childBuilder1 = Statistics.builder();
+        childBuilder1.setOutputRowCount(1000);
+        childBuilder1.addColumnStatistic(v1, ColumnStatistic.buildFrom(new ColumnStatistic(1, 100, 0, 4, 100))
+                .setHistogram(histogram).build());
+        Group childGroup1 = new Group(0);
+        childGroup1.setStatistics(childBuilder1.build());
+        childGroup1.setLogicalProperty(new LogicalProperty(new ColumnRefSet(Lists.newArrayList(v1))));
+        Statistics.Builder childBuilder2 = Statistics.builder();
+        childBuilder2.setOutputRowCount(1000);
+        childBuilder2.addColumnStatistic(v2, ColumnStatistic.buildFrom(new ColumnStatistic(1, 100, 0, 4, 100))
+                .setHistogram(histogram).build());
+        Group childGroup2 = new Group(1);
+        childGroup2.setStatistics(childBuilder2.build());
+        childGroup2.setLogicalProperty(new LogicalProperty(new ColumnRefSet(Lists.newArrayList(v2))));
+        columnRefFactory.updateColumnToRelationIds(v1.getId(), 0);
+        columnRefFactory.updateColumnToRelationIds(v2.getId(), 1);
+
+        LogicalJoinOperator joinOperator = new LogicalJoinOperator(JoinOperator.INNER_JOIN,
+                new BinaryPredicateOperator(BinaryType.EQ, v1, v2));
+        GroupExpression groupExpression =
+                new GroupExpression(joinOperator, Lists.newArrayList(childGroup1, childGroup2));
+        groupExpression.setGroup(new Group(2));
+        ExpressionContext expressionContext = new ExpressionContext(groupExpression);
+        StatisticsCalculator statisticsCalculator = new StatisticsCalculator(expressionContext,
+                columnRefFactory, optimizerContext);
+        // 1000 * 1000 / 100
+        statisticsCalculator.estimatorStats();
+        Assert.assertEquals(10000, expressionContext.getStatistics().getOutputRowCount(), 0.0001);
+
+        // 1000 * 1000 * (0.5 * 0.5 + 0.5 * 0.5 / 99)
+        ConnectContext.get().getSessionVariable().setUseHistogramJoinEstimate(true);
+        try {
+            statisticsCalculator.estimatorStats();
+            Assert.assertEquals(252525.2525, expressionContext.getStatistics().getOutputRowCount(), 0.0001);
+        } finally {
+            ConnectContext.get().getSessionVariable().setUseHistogramJoinEstimate(false);
+        }
+    }
+
     @Test
     public void testNotFoundColumnStatistics() {
         ColumnRefOperator v1 = columnRefFactory.create("v1", Type.INT, true);
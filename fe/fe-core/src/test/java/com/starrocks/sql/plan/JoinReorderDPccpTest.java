@@ -0,0 +1,156 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.sql.plan;
+
+import com.starrocks.catalog.OlapTable;
+import com.starrocks.common.FeConstants;
+import com.starrocks.sql.optimizer.OptExpression;
+import com.starrocks.sql.optimizer.rule.join.JoinReorderDPccp;
+import mockit.Invocation;
+import mockit.Mock;
+import mockit.MockUp;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.IntBinaryOperator;
+
+public class JoinReorderDPccpTest extends PlanTestBase {
+    private static final int TABLE_NUM = 16;
+
+    @BeforeAll
+    public static void beforeClass() throws Exception {
+        PlanTestBase.beforeClass();
+        StringBuilder columns = new StringBuilder();
+        for (int i = 0; i < TABLE_NUM; i++) {
+            columns.append("  `k").append(i).append("` bigint NULL,\n");
+        }
+        for (int i = 0; i < TABLE_NUM; i++) {
+            starRocksAssert.withTable("CREATE TABLE `r" + i + "` (\n" + columns +
+                    "  `v` bigint NULL\n" +
+                    ") ENGINE=OLAP\n" +
+                    "DUPLICATE KEY(`k0`)\n" +
+                    "DISTRIBUTED BY HASH(`k0`) BUCKETS 3\n" +
+                    "PROPERTIES (\n" +
+                    "\"replication_num\" = \"1\"\n" +
+                    ");");
+            OlapTable table = (OlapTable) connectContext.getGlobalStateMgr().getLocalMetastore()
+                    .getDb("test").getTable("r" + i);
+            setTableStatistics(table, (long) Math.pow(3, i % 12) * 10);
+        }
+        FeConstants.runningUnitTest = true;
+    }
+
+    @AfterEach
+    public void after() {
+        connectContext.getSessionVariable().setCboMaxReorderNodeUseDP(10);
+        connectContext.getSessionVariable().setCboMaxReorderNodeUseDPccp(16);
+    }
+
+    // The relation i joins the relation j on ri.kj = rj.ki if isJoined(i, j)
+    private static String joinGraphSql(int relationNum, IntBinaryOperator isJoined) {
+        StringBuilder sql = new StringBuilder("select count(*) from r0");
+        for (int j = 1; j < relationNum; j++) {
+            sql.append(", r").append(j);
+        }
+        String separator = " where ";
+        for (int i = 0; i < relationNum; i++) {
+            for (int j = i + 1; j < relationNum; j++) {
+                if (isJoined.applyAsInt(i, j) != 0) {
+                    sql.append(separator).append("r").append(i).append(".k").append(j)
+                            .append(" = r").append(j).append(".k").append(i);
+                    separator = " and ";
+                }
+            }
+        }
+        return sql.toString();
+    }
+
+    private static String chainSql(int relationNum) {
+        return joinGraphSql(relationNum, (i, j) -> j == i + 1 ? 1 : 0);
+    }
+
+    private static String starSql(int relationNum) {
+        return joinGraphSql(relationNum, (i, j) -> i == 0 ? 1 : 0);
+    }
+
+    private static String cliqueSql(int relationNum) {
+        return joinGraphSql(relationNum, (i, j) -> 1);
+    }
+
+    private static int[] mockDPccpResultNum() {
+        int[] resultNum = {-1};
+        new MockUp<JoinReorderDPccp>() {
+            @Mock
+            public List<OptExpression> getResult(Invocation invocation) {
+                List<OptExpression> result = invocation.proceed();
+                resultNum[0] = result.size();
+                return result;
+            }
+        };
+        return resultNum;
+    }
+
+    @Test
+    public void testChainJoin() throws Exception {
+        int[] resultNum = mockDPccpResultNum();
+        String plan = getFragmentPlan(chainSql(TABLE_NUM));
+        Assert.assertEquals(1, resultNum[0]);
+        Assert.assertEquals(plan, TABLE_NUM - 1, StringUtils.countMatches(plan, "HASH JOIN"));
+        assertNotContains(plan, "CROSS JOIN");
+    }
+
+    @Test
+    public void testStarJoin() throws Exception {
+        int[] resultNum = mockDPccpResultNum();
+        String plan = getFragmentPlan(starSql(14));
+        Assert.assertEquals(1, resultNum[0]);
+        Assert.assertEquals(plan, 13, StringUtils.countMatches(plan, "HASH JOIN"));
+        assertNotContains(plan, "CROSS JOIN");
+    }
+
+    @Test
+    public void testDenseJoinGraph() throws Exception {
+        // too many csg-cmp pairs, and the multi join node is reordered by the other algorithms
+        int[] resultNum = mockDPccpResultNum();
+        String plan = getFragmentPlan(cliqueSql(TABLE_NUM));
+        Assert.assertEquals(0, resultNum[0]);
+        Assert.assertEquals(plan, TABLE_NUM - 1, StringUtils.countMatches(plan, "HASH JOIN"));
+    }
+
+    @Test
+    public void testDisconnectedJoinGraph() throws Exception {
+        int[] resultNum = mockDPccpResultNum();
+        // r0 - r1 - ... - r5 and r6 - r7 - ... - r11
+        String plan = getFragmentPlan(joinGraphSql(12, (i, j) -> j == i + 1 && j != 6 ? 1 : 0));
+        Assert.assertEquals(1, resultNum[0]);
+        Assert.assertEquals(plan, 10, StringUtils.countMatches(plan, "HASH JOIN"));
+        Assert.assertEquals(plan, 1, StringUtils.countMatches(plan, "CROSS JOIN"));
+    }
+
+    @Test
+    public void testSamePlanAsDP() throws Exception {
+        for (String sql : new String[] {chainSql(8), starSql(8)}) {
+            String dpPlan = getCostExplain(sql);
+            connectContext.getSessionVariable().setCboMaxReorderNodeUseDP(1);
+            String dpccpPlan = getCostExplain(sql);
+            connectContext.getSessionVariable().setCboMaxReorderNodeUseDP(10);
+            Assert.assertEquals(dpPlan, dpccpPlan);
+        }
+    }
+}
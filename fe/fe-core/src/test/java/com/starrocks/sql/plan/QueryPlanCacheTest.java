@@ -0,0 +1,132 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.sql.plan;
+
+import com.starrocks.catalog.OlapTable;
+import com.starrocks.catalog.PhysicalPartition;
+import com.starrocks.common.Config;
+import com.starrocks.server.GlobalStateMgr;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class QueryPlanCacheTest extends PlanTestBase {
+
+    @Before
+    public void before() {
+        Config.enable_query_plan_cache = true;
+        QueryPlanCache.getInstance().rebuildCache();
+    }
+
+    @After
+    public void after() {
+        Config.enable_query_plan_cache = false;
+        QueryPlanCache.getInstance().invalidateAll();
+    }
+
+    private long hitCount() {
+        return QueryPlanCache.getInstance().getHitCount();
+    }
+
+    @Test
+    public void testReuseJoinAggregatePlan() throws Exception {
+        String sql = "select t0.v1, sum(t1.v5) from t0 join t1 on t0.v1 = t1.v4 where t0.v2 > 10 group by t0.v1";
+        String plan1 = getFragmentPlan(sql);
+        Assert.assertEquals(1, QueryPlanCache.getInstance().getSize());
+        long hits = hitCount();
+
+        String plan2 = getFragmentPlan(sql);
+        Assert.assertEquals(hits + 1, hitCount());
+        Assert.assertEquals(plan1, plan2);
+
+        // different literals are different entries
+        getFragmentPlan("select t0.v1, sum(t1.v5) from t0 join t1 on t0.v1 = t1.v4 where t0.v2 > 11 group by t0.v1");
+        Assert.assertEquals(hits + 1, hitCount());
+        Assert.assertEquals(2, QueryPlanCache.getInstance().getSize());
+    }
+
+    @Test
+    public void testSessionVariableChange() throws Exception {
+        String sql = "select v1, count(*) from t0 group by v1";
+        getFragmentPlan(sql);
+        long hits = hitCount();
+        int oldAggStage = connectContext.getSessionVariable().getNewPlannerAggStage();
+        try {
+            connectContext.getSessionVariable().setNewPlanerAggStage(2);
+            getFragmentPlan(sql);
+            Assert.assertEquals(hits, hitCount());
+        } finally {
+            connectContext.getSessionVariable().setNewPlanerAggStage(oldAggStage);
+        }
+        getFragmentPlan(sql);
+        Assert.assertEquals(hits + 1, hitCount());
+    }
+
+    @Test
+    public void testInvalidateBySchemaChange() throws Exception {
+        String sql = "select v1, v2 from t0 where v3 = 1";
+        getFragmentPlan(sql);
+        long hits = hitCount();
+
+        OlapTable t0 = (OlapTable) GlobalStateMgr.getCurrentState().getLocalMetastore().getTable("test", "t0");
+        long lastSchemaUpdateTime = t0.lastSchemaUpdateTime.get();
+        try {
+            t0.lastSchemaUpdateTime.set(System.nanoTime());
+            getFragmentPlan(sql);
+            Assert.assertEquals(hits, hitCount());
+        } finally {
+            t0.lastSchemaUpdateTime.set(lastSchemaUpdateTime);
+        }
+    }
+
+    @Test
+    public void testTableVersion() {
+        OlapTable t0 = (OlapTable) GlobalStateMgr.getCurrentState().getLocalMetastore().getTable("test", "t0");
+        QueryPlanCache.TableVersion v1 = QueryPlanCache.TableVersion.of(t0);
+        Assert.assertEquals(v1, QueryPlanCache.TableVersion.of(t0));
+
+        PhysicalPartition partition = t0.getAllPhysicalPartitions().iterator().next();
+        long version = partition.getVisibleVersion();
+        long versionTime = partition.getVisibleVersionTime();
+        try {
+            partition.setVisibleVersion(version + 1, versionTime);
+            Assert.assertNotEquals(v1, QueryPlanCache.TableVersion.of(t0));
+        } finally {
+            partition.setVisibleVersion(version, versionTime);
+        }
+    }
+
+    @Test
+    public void testInvalidateTable() throws Exception {
+        String sql = "select v1, v2 from t0 where v3 = 2";
+        getFragmentPlan(sql);
+        Assert.assertEquals(1, QueryPlanCache.getInstance().getSize());
+
+        OlapTable t0 = (OlapTable) GlobalStateMgr.getCurrentState().getLocalMetastore().getTable("test", "t0");
+        QueryPlanCache.getInstance().invalidateTable(t0.getId());
+        Assert.assertEquals(0, QueryPlanCache.getInstance().getSize());
+    }
+
+    @Test
+    public void testNotCacheable() throws Exception {
+        getFragmentPlan("select v1, rand() from t0");
+        getFragmentPlan("select v1 from t0 where v2 = connection_id()");
+        getFragmentPlan("select v1 from t0 where v2 = @a");
+        getFragmentPlan("explain select v1 from t0");
+        getFragmentPlan("select 1");
+        Assert.assertEquals(0, QueryPlanCache.getInstance().getSize());
+    }
+}
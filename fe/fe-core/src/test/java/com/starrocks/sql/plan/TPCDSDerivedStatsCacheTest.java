@@ -0,0 +1,74 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.sql.plan;
+
+import com.starrocks.sql.optimizer.statistics.DerivedStatisticsCache;
+import mockit.Invocation;
+import mockit.Mock;
+import mockit.MockUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+public class TPCDSDerivedStatsCacheTest extends TPCDS1TTestBase {
+
+    private static Stream<Arguments> tpcdsSqls() {
+        return getSqlMap().entrySet().stream().map(e -> Arguments.of(e.getKey(), e.getValue()));
+    }
+
+    @AfterEach
+    public void resetDerivedStatsCache() {
+        connectContext.getSessionVariable().setCboEnableDerivedStatsCache(true);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("tpcdsSqls")
+    public void testSamePlanWithoutCache(String name, String sql) throws Exception {
+        connectContext.getSessionVariable().setCboEnableDerivedStatsCache(false);
+        String uncachedPlan = getCostExplain(sql);
+        connectContext.getSessionVariable().setCboEnableDerivedStatsCache(true);
+        String cachedPlan = getCostExplain(sql);
+        Assertions.assertEquals(uncachedPlan, cachedPlan, name);
+    }
+
+    @Test
+    public void testCacheHit() throws Exception {
+        long[] hitAndMissCount = {0, 0};
+        new MockUp<DerivedStatisticsCache>() {
+            @Mock
+            public void clear(Invocation invocation) {
+                DerivedStatisticsCache cache = invocation.getInvokedInstance();
+                hitAndMissCount[0] += cache.getHitCount();
+                hitAndMissCount[1] += cache.getMissCount();
+                invocation.proceed();
+            }
+        };
+        // the joins of the multi join nodes are derived by the join reorder algorithms and the memo
+        getCostExplain(Q64);
+        Assertions.assertTrue(hitAndMissCount[0] > 0);
+        Assertions.assertTrue(hitAndMissCount[1] > 0);
+
+        connectContext.getSessionVariable().setCboEnableDerivedStatsCache(false);
+        hitAndMissCount[0] = 0;
+        hitAndMissCount[1] = 0;
+        getCostExplain(Q64);
+        Assertions.assertEquals(0, hitAndMissCount[0] + hitAndMissCount[1]);
+    }
+}
@@ -0,0 +1,45 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.sql.plan;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+public class TPCDSParallelSearchTest extends TPCDS1TTestBase {
+
+    private static Stream<Arguments> tpcdsSqls() {
+        return getSqlMap().entrySet().stream().map(e -> Arguments.of(e.getKey(), e.getValue()));
+    }
+
+    @AfterEach
+    public void resetParallelSearch() {
+        connectContext.getSessionVariable().setCboEnableParallelSearch(false);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("tpcdsSqls")
+    public void testSamePlanAsSerialSearch(String name, String sql) throws Exception {
+        connectContext.getSessionVariable().setCboEnableParallelSearch(false);
+        String serialPlan = getCostExplain(sql);
+        connectContext.getSessionVariable().setCboEnableParallelSearch(true);
+        String parallelPlan = getCostExplain(sql);
+        Assertions.assertEquals(serialPlan, parallelPlan, name);
+    }
+}
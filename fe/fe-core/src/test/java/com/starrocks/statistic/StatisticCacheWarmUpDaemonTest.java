@@ -0,0 +1,120 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.starrocks.statistic;
+
+import com.starrocks.catalog.Partition;
+import com.starrocks.catalog.Table;
+import com.starrocks.qe.QueryDetail;
+import com.starrocks.qe.QueryDetailQueue;
+import com.starrocks.server.GlobalStateMgr;
+import com.starrocks.sql.optimizer.statistics.ColumnStatistic;
+import com.starrocks.sql.plan.MockTpchStatisticStorage;
+import com.starrocks.sql.plan.PlanTestBase;
+import mockit.Mock;
+import mockit.MockUp;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+public class StatisticCacheWarmUpDaemonTest extends PlanTestBase {
+
+    @Before
+    public void before() {
+        QueryDetailQueue.TOTAL_QUERIES.clear();
+    }
+
+    @After
+    public void after() {
+        QueryDetailQueue.TOTAL_QUERIES.clear();
+    }
+
+    private static void addQueryDetail(String sql, QueryDetail.QueryMemState state) {
+        QueryDetailQueue.addQueryDetail(new QueryDetail("219a2d5443c542d4-8fc938db37c892e3", true, 1, "127.0.0.1",
+                System.currentTimeMillis(), -1, -1, state, "test", sql, "root", "", "default_catalog"));
+    }
+
+    private static List<String> getTableNames(List<Table> tables) {
+        return tables.stream().map(Table::getName).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testCollectHotTables() {
+        StatisticCacheWarmUpDaemon daemon = new StatisticCacheWarmUpDaemon();
+        addQueryDetail("select * from t0 join test.t1 on t0.v1 = t1.v4", QueryDetail.QueryMemState.RUNNING);
+        addQueryDetail("select * from t1", QueryDetail.QueryMemState.RUNNING);
+        addQueryDetail("select * from t1", QueryDetail.QueryMemState.FINISHED);
+        addQueryDetail("select * from not_exist", QueryDetail.QueryMemState.RUNNING);
+        addQueryDetail("select * from", QueryDetail.QueryMemState.RUNNING);
+        Assert.assertEquals(List.of("t1", "t0"), getTableNames(daemon.collectHotTables()));
+
+        // only the query details since the last round
+        Assert.assertTrue(daemon.collectHotTables().isEmpty());
+        addQueryDetail("select * from t2", QueryDetail.QueryMemState.RUNNING);
+        Assert.assertEquals(List.of("t2"), getTableNames(daemon.collectHotTables()));
+    }
+
+    @Test
+    public void testWarmUp() {
+        Table t0 = GlobalStateMgr.getCurrentState().getLocalMetastore().getTable("test", "t0");
+        Table t1 = GlobalStateMgr.getCurrentState().getLocalMetastore().getTable("test", "t1");
+        Map<Long, BasicStatsMeta> basicStatsMetaMap =
+                GlobalStateMgr.getCurrentState().getAnalyzeMgr().getBasicStatsMetaMap();
+        long dbId = GlobalStateMgr.getCurrentState().getLocalMetastore().getDb("test").getId();
+        basicStatsMetaMap.put(t0.getId(), new BasicStatsMeta(dbId, t0.getId(), List.of("v1"),
+                StatsConstants.AnalyzeType.FULL, LocalDateTime.now().minusDays(1), Map.of()));
+        basicStatsMetaMap.put(t1.getId(), new BasicStatsMeta(dbId, t1.getId(), List.of(),
+                StatsConstants.AnalyzeType.FULL, LocalDateTime.now(), Map.of()));
+
+        List<String> warmedUpColumns = new ArrayList<>();
+        new MockUp<MockTpchStatisticStorage>() {
+            @Mock
+            public Map<Long, Optional<Long>> getTableStatistics(Long tableId, Collection<Partition> partitions) {
+                return Map.of();
+            }
+
+            @Mock
+            public List<ColumnStatistic> getColumnStatistics(Table table, List<String> columns) {
+                warmedUpColumns.add(table.getName() + ":" + columns);
+                return List.of();
+            }
+        };
+
+        try {
+            StatisticCacheWarmUpDaemon daemon = new StatisticCacheWarmUpDaemon();
+            // the recently analyzed tables when starting
+            Assert.assertEquals(List.of("t1", "t0"), getTableNames(daemon.collectRecentlyAnalyzedTables()));
+            daemon.warmUp();
+            Assert.assertEquals(List.of("t1:[v4, v5, v6]", "t0:[v1]"), warmedUpColumns);
+
+            // then the hot tables
+            warmedUpColumns.clear();
+            addQueryDetail("select * from t0", QueryDetail.QueryMemState.RUNNING);
+            daemon.warmUp();
+            Assert.assertEquals(List.of("t0:[v1]"), warmedUpColumns);
+        } finally {
+            basicStatsMetaMap.remove(t0.getId());
+            basicStatsMetaMap.remove(t1.getId());
+        }
+    }
+}
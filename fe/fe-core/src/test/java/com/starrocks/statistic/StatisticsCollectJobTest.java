@@ -1533,4 +1533,58 @@ public class StatisticsCollectJobTest extends PlanTestNoneDBBase {
         }
     }
 
+    @Test
+    public void testAnalyzeChangedPartitionsByVersion() {
+        Database db = GlobalStateMgr.getCurrentState().getLocalMetastore().getDb("test");
+        OlapTable table = (OlapTable) db.getTable("t0_stats_partition");
+        Partition p0 = table.getPartition("p0");
+        Partition p1 = table.getPartition("p1");
+        Partition p2 = table.getPartition("p2");
+        long loadTime = System.currentTimeMillis() - 60 * 1000;
+        p1.setVisibleVersion(2, loadTime);
+        p2.setVisibleVersion(2, loadTime);
+
+        try {
+            // the full job collected p0, p1 and p2 at version 2
+            BasicStatsMeta execMeta = new BasicStatsMeta(db.getId(), table.getId(), null,
+                    StatsConstants.AnalyzeType.FULL, LocalDateTime.now(), Maps.newHashMap());
+            execMeta.mergePartitionVersions(table, null,
+                    ImmutableMap.of(p0.getId(), 2L, p1.getId(), 2L, p2.getId(), 2L));
+            GlobalStateMgr.getCurrentState().getAnalyzeMgr().addBasicStatsMeta(execMeta);
+            Assert.assertTrue(table.getPartitions().stream().allMatch(execMeta::isUpdatedAfterLoad));
+
+            NativeAnalyzeJob job = new NativeAnalyzeJob(db.getId(), table.getId(), null, null,
+                    StatsConstants.AnalyzeType.FULL, StatsConstants.ScheduleType.SCHEDULE,
+                    Maps.newHashMap(),
+                    StatsConstants.ScheduleStatus.PENDING,
+                    LocalDateTime.MIN);
+            Assert.assertTrue(StatisticsCollectJobFactory.buildStatisticsCollectJob(job).isEmpty());
+
+            // p1 is loaded while collecting, whose visible time is before the update time of the statistics
+            p1.setVisibleVersion(3, loadTime);
+            Assert.assertFalse(execMeta.isUpdatedAfterLoad(p1));
+            new Expectations(execMeta) {
+                {
+                    execMeta.getHealthy();
+                    result = 0.5;
+                }
+            };
+            List<StatisticsCollectJob> jobs = StatisticsCollectJobFactory.buildStatisticsCollectJob(job);
+            Assert.assertEquals(1, jobs.size());
+            Assert.assertTrue(jobs.get(0) instanceof FullStatisticsCollectJob);
+            Assert.assertEquals(List.of(p1.getId()), ((FullStatisticsCollectJob) jobs.get(0)).getPartitionIdList());
+
+            // collect p1 only, the versions of the other partitions are inherited
+            BasicStatsMeta nextMeta = new BasicStatsMeta(db.getId(), table.getId(), null,
+                    StatsConstants.AnalyzeType.FULL, LocalDateTime.now(), Maps.newHashMap());
+            nextMeta.mergePartitionVersions(table, execMeta, ImmutableMap.of(p1.getId(), 3L, -1L, 1L));
+            Assert.assertEquals(ImmutableMap.of(p0.getId(), 2L, p1.getId(), 3L, p2.getId(), 2L),
+                    nextMeta.getPartitionVersions());
+            Assert.assertTrue(table.getPartitions().stream().allMatch(nextMeta::isUpdatedAfterLoad));
+        } finally {
+            p1.setVisibleVersion(1, loadTime);
+            p2.setVisibleVersion(1, loadTime);
+            GlobalStateMgr.getCurrentState().getAnalyzeMgr().getBasicStatsMetaMap().remove(table.getId());
+        }
+    }
 }
@@ -65,6 +65,9 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
@@ -394,6 +397,42 @@ public class DatabaseTransactionMgrTest {
                 masterDbTransMgr.getTransactionState(transactionInfoList.get(0).second).getTransactionStatus());
     }
 
+    @Test
+    public void testGetTransactionStateWithoutLock() throws Exception {
+        DatabaseTransactionMgr masterDbTransMgr =
+                masterTransMgr.getDatabaseTransactionMgr(GlobalStateMgrTestUtil.testDbId1);
+        long txnId1 = lableToTxnId.get(GlobalStateMgrTestUtil.testTxnLable1);
+        long txnId2 = lableToTxnId.get(GlobalStateMgrTestUtil.testTxnLable2);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch unlock = new CountDownLatch(1);
+        Thread writer = new Thread(() -> {
+            masterDbTransMgr.writeLock();
+            try {
+                locked.countDown();
+                unlock.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                masterDbTransMgr.writeUnlock();
+            }
+        });
+        writer.start();
+        try {
+            locked.await();
+            // the lookups don't wait for the write lock held by the other transactions
+            CompletableFuture<TTransactionStatus> status = CompletableFuture.supplyAsync(() -> {
+                assertEquals(TransactionStatus.VISIBLE,
+                        masterDbTransMgr.getTransactionState(txnId1).getTransactionStatus());
+                return masterDbTransMgr.getTxnStatus(txnId2);
+            });
+            assertEquals(TTransactionStatus.PREPARE, status.get(10, TimeUnit.SECONDS));
+        } finally {
+            unlock.countDown();
+            writer.join();
+        }
+    }
+
     @Test
     public void testGetSingleTranInfo() throws AnalysisException {
         DatabaseTransactionMgr masterDbTransMgr =
@@ -0,0 +1,111 @@
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.starrocks.transaction;
+
+import com.google.common.collect.Lists;
+import com.starrocks.common.Config;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+public class LakePublishBatchPolicyTest {
+    private static final long TABLE_ID = 10;
+
+    private long maxDelayMs;
+    private int maxVersionNum;
+
+    @Before
+    public void setUp() {
+        maxDelayMs = Config.lake_batch_publish_max_delay_ms;
+        maxVersionNum = Config.lake_batch_publish_max_version_num;
+        Config.lake_batch_publish_max_delay_ms = 100;
+        Config.lake_batch_publish_max_version_num = 10;
+    }
+
+    @After
+    public void tearDown() {
+        Config.lake_batch_publish_max_delay_ms = maxDelayMs;
+        Config.lake_batch_publish_max_version_num = maxVersionNum;
+    }
+
+    private static TransactionState newCommittedTxn(long txnId, long commitTime) {
+        TransactionState txnState = new TransactionState(1, Lists.newArrayList(TABLE_ID), txnId, "label_" + txnId,
+                null, TransactionState.LoadJobSourceType.BACKEND_STREAMING, null, -1, 60000);
+        txnState.setCommitTime(commitTime);
+        return txnState;
+    }
+
+    @Test
+    public void testLowCommitRate() {
+        LakePublishBatchPolicy policy = new LakePublishBatchPolicy();
+        long now = 1000000;
+        // one commit per second, publish at once
+        for (int i = 0; i < 5; i++) {
+            policy.onCommitted(newCommittedTxn(i, now + i * 1000));
+        }
+        List<TransactionState> txns = Lists.newArrayList(newCommittedTxn(4, now + 4000));
+        Assert.assertEquals(1, policy.getBatchSize(TABLE_ID, txns, false, now + 4000));
+        // unknown table
+        Assert.assertEquals(1, policy.getBatchSize(TABLE_ID + 1, txns, false, now + 4000));
+    }
+
+    @Test
+    public void testHighCommitRate() {
+        LakePublishBatchPolicy policy = new LakePublishBatchPolicy();
+        long now = 1000000;
+        // one commit per 5ms
+        List<TransactionState> txns = Lists.newArrayList();
+        for (int i = 0; i < 20; i++) {
+            TransactionState txn = newCommittedTxn(i, now + i * 5);
+            policy.onCommitted(txn);
+            if (i >= 17) {
+                txns.add(txn);
+            }
+        }
+        long commitTime = now + 17 * 5;
+        // hold for the 7 missing transactions, about 35ms
+        Assert.assertEquals(35, policy.getHoldTimeMs(TABLE_ID, 7, false, commitTime + 10));
+        Assert.assertEquals(0, policy.getBatchSize(TABLE_ID, txns, false, commitTime + 10));
+        Assert.assertEquals(3, policy.getBatchSize(TABLE_ID, txns, false, commitTime + 35));
+
+        // a full batch is published at once
+        Config.lake_batch_publish_max_version_num = 3;
+        Assert.assertEquals(3, policy.getBatchSize(TABLE_ID, txns, false, commitTime));
+        Config.lake_batch_publish_max_version_num = 2;
+        Assert.assertEquals(2, policy.getBatchSize(TABLE_ID, txns, false, commitTime));
+
+        // the commit rate has dropped
+        Assert.assertEquals(0, policy.getHoldTimeMs(TABLE_ID, 7, false, commitTime + 10000));
+
+        // disabled
+        Config.lake_batch_publish_max_delay_ms = 0;
+        Config.lake_batch_publish_max_version_num = 10;
+        Assert.assertEquals(3, policy.getBatchSize(TABLE_ID, txns, false, commitTime));
+    }
+
+    @Test
+    public void testUnderPressure() {
+        LakePublishBatchPolicy policy = new LakePublishBatchPolicy();
+        long now = 1000000;
+        List<TransactionState> txns = Lists.newArrayList(newCommittedTxn(1, now));
+        policy.onCommitted(txns.get(0));
+        Assert.assertEquals(0, policy.getBatchSize(TABLE_ID, txns, true, now + 50));
+        Assert.assertEquals(1, policy.getBatchSize(TABLE_ID, txns, true, now + 100));
+    }
+}
@@ -22,6 +22,7 @@ import com.baidu.bjf.remoting.protobuf.ProtobufProxy;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.starrocks.catalog.Replica.ReplicaState;
+import com.starrocks.metric.MetricRepo;
 import com.starrocks.persist.gson.GsonUtils;
 import com.starrocks.proto.TxnFinishStatePB;
 import com.starrocks.thrift.TUniqueId;
@@ -125,6 +126,31 @@ public class TransactionStateTest {
         Assert.assertTrue(readTransactionState.isNewFinish());
     }
 
+    @Test
+    public void testPublishLatencyMetrics() {
+        MetricRepo.init();
+        UUID uuid = UUID.randomUUID();
+        TransactionState transactionState = new TransactionState(1000L, Lists.newArrayList(20000L, 20001L),
+                3000, "label123", new TUniqueId(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()),
+                LoadJobSourceType.BACKEND_STREAMING, new TxnCoordinator(TxnSourceType.BE, "127.0.0.1"), 50000L,
+                60 * 1000L);
+        long visibleCount = MetricRepo.HISTO_TXN_VISIBLE_LATENCY.getCount();
+        long publishCount = MetricRepo.HISTO_TXN_PUBLISH_LATENCY.getCount();
+        long now = System.currentTimeMillis();
+        transactionState.setCommitTime(now - 100);
+        transactionState.setHasSendTask(true);
+        transactionState.updatePublishTaskFinishTime();
+        transactionState.setFinishTime(System.currentTimeMillis());
+        transactionState.setTransactionStatus(TransactionStatus.VISIBLE);
+        Assert.assertEquals(visibleCount + 1, MetricRepo.HISTO_TXN_VISIBLE_LATENCY.getCount());
+        Assert.assertEquals(publishCount + 1, MetricRepo.HISTO_TXN_PUBLISH_LATENCY.getCount());
+
+        // the transaction without commit time, e.g. aborted ones
+        transactionState.setCommitTime(-1);
+        transactionState.setTransactionStatus(TransactionStatus.VISIBLE);
+        Assert.assertEquals(visibleCount + 1, MetricRepo.HISTO_TXN_VISIBLE_LATENCY.getCount());
+    }
+
     @Test
     public void testIsRunning() {
         Set<TransactionStatus> nonRunningStatus = new HashSet<>();
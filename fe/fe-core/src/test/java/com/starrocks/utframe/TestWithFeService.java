@@ -20,6 +20,7 @@ package com.starrocks.utframe;
 import com.google.common.collect.ImmutableMap;
 import com.starrocks.catalog.DiskInfo;
 import com.starrocks.catalog.Replica;
+import com.starrocks.catalog.TabletInvertedIndex;
 import com.starrocks.catalog.TabletMeta;
 import com.starrocks.cluster.ClusterNamespace;
 import com.starrocks.common.Config;
@@ -48,6 +49,7 @@ import java.nio.file.Paths;
 import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 
@@ -201,23 +203,17 @@ public abstract class TestWithFeService {
     }
 
     private void updateReplicaPathHash() {
-        com.google.common.collect.Table<Long, Long, Replica> replicaMetaTable =
-                GlobalStateMgr.getCurrentState().getTabletInvertedIndex()
-                        .getReplicaMetaTable();
-        for (com.google.common.collect.Table.Cell<Long, Long, Replica> cell : replicaMetaTable.cellSet()) {
-            long beId = cell.getColumnKey();
-            Backend be = GlobalStateMgr.getCurrentState().getNodeMgr().getClusterInfo().getBackend(beId);
-            if (be == null) {
-                continue;
-            }
-            Replica replica = cell.getValue();
-            TabletMeta tabletMeta =
-                    GlobalStateMgr.getCurrentState().getTabletInvertedIndex().getTabletMeta(cell.getRowKey());
-            ImmutableMap<String, DiskInfo> diskMap = be.getDisks();
-            for (DiskInfo diskInfo : diskMap.values()) {
-                if (diskInfo.getStorageMedium() == tabletMeta.getStorageMedium()) {
-                    replica.setPathHash(diskInfo.getPathHash());
-                    break;
+        TabletInvertedIndex invertedIndex = GlobalStateMgr.getCurrentState().getTabletInvertedIndex();
+        for (Backend be : GlobalStateMgr.getCurrentState().getNodeMgr().getClusterInfo().getBackends()) {
+            for (Map.Entry<Long, Replica> entry : invertedIndex.getReplicaMetaWithBackend(be.getId()).entrySet()) {
+                Replica replica = entry.getValue();
+                TabletMeta tabletMeta = invertedIndex.getTabletMeta(entry.getKey());
+                ImmutableMap<String, DiskInfo> diskMap = be.getDisks();
+                for (DiskInfo diskInfo : diskMap.values()) {
+                    if (diskInfo.getStorageMedium() == tabletMeta.getStorageMedium()) {
+                        replica.setPathHash(diskInfo.getPathHash());
+                        break;
+                    }
                 }
             }
         }
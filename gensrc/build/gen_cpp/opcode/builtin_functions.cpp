@@ -0,0 +1,855 @@
+
+
+// Copyright 2021-present StarRocks, Inc. All rights reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      https://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+// This is a generated file, DO NOT EDIT.
+// To add new functions, see the generator at
+// common/function-registry/gen_builtins_catalog.py or the function list at
+// common/function-registry/starrocks_builtins_functions.py.
+
+
+#include "exprs/array_functions.h"
+#include "exprs/builtin_functions.h"
+#include "exprs/map_functions.h"
+#include "exprs/struct_functions.h"
+#include "exprs/math_functions.h"
+#include "exprs/bit_functions.h"
+#include "exprs/binary_functions.h"
+#include "exprs/string_functions.h"
+#include "exprs/time_functions.h"
+#include "exprs/like_predicate.h"
+#include "exprs/is_null_predicate.h"
+#include "exprs/hyperloglog_functions.h"
+#include "exprs/bitmap_functions.h"
+#include "exprs/json_functions.h"
+#include "exprs/hash_functions.h"
+#include "exprs/encryption_functions.h"
+#include "exprs/geo_functions.h"
+#include "exprs/percentile_functions.h"
+#include "exprs/grouping_sets_functions.h"
+#include "exprs/es_functions.h"
+#include "exprs/utility_functions.h"
+
+namespace starrocks {
+
+BuiltinFunctions::FunctionTables BuiltinFunctions::_fn_tables = {
+        {10010, {"pi", 0, &MathFunctions::pi, true, false}}, 
+        {10020, {"e", 0, &MathFunctions::e, true, false}}, 
+        {10030, {"sign", 1, &MathFunctions::sign, true, false}}, 
+        {10040, {"abs", 1, &MathFunctions::abs_double, true, false}}, 
+        {10041, {"abs", 1, &MathFunctions::abs_float, true, false}}, 
+        {10042, {"abs", 1, &MathFunctions::abs_largeint, true, false}}, 
+        {10043, {"abs", 1, &MathFunctions::abs_bigint, true, false}}, 
+        {10044, {"abs", 1, &MathFunctions::abs_int, true, false}}, 
+        {10045, {"abs", 1, &MathFunctions::abs_smallint, true, false}}, 
+        {10046, {"abs", 1, &MathFunctions::abs_tinyint, true, false}}, 
+        {10047, {"abs", 1, &MathFunctions::abs_decimalv2val, true, false}}, 
+        {100470, {"abs", 1, &MathFunctions::abs_decimal32, true, false}}, 
+        {100471, {"abs", 1, &MathFunctions::abs_decimal64, true, false}}, 
+        {100472, {"abs", 1, &MathFunctions::abs_decimal128, true, false}}, 
+        {10050, {"sin", 1, &MathFunctions::sin, true, false}}, 
+        {10060, {"asin", 1, &MathFunctions::asin, true, false}}, 
+        {10061, {"sinh", 1, &MathFunctions::sinh, true, false}}, 
+        {10070, {"cos", 1, &MathFunctions::cos, true, false}}, 
+        {10080, {"acos", 1, &MathFunctions::acos, true, false}}, 
+        {10081, {"cosh", 1, &MathFunctions::cosh, true, false}}, 
+        {10090, {"tan", 1, &MathFunctions::tan, true, false}}, 
+        {10100, {"atan", 1, &MathFunctions::atan, true, false}}, 
+        {10101, {"tanh", 1, &MathFunctions::tanh, true, false}}, 
+        {10102, {"cosine_similarity", 2, &MathFunctions::cosine_similarity<TYPE_FLOAT, false>, true, false}}, 
+        {10103, {"cosine_similarity_norm", 2, &MathFunctions::cosine_similarity<TYPE_FLOAT, true>, true, false}}, 
+        {10106, {"approx_cosine_similarity", 2, &MathFunctions::cosine_similarity<TYPE_FLOAT, false>, true, false}}, 
+        {10110, {"ceil", 1, &MathFunctions::ceil, true, false}}, 
+        {10111, {"ceiling", 1, &MathFunctions::ceil, true, false}}, 
+        {10112, {"dceil", 1, &MathFunctions::ceil, true, false}}, 
+        {10114, {"l2_distance", 2, &MathFunctions::l2_distance<TYPE_FLOAT>, true, false}}, 
+        {10116, {"approx_l2_distance", 2, &MathFunctions::l2_distance<TYPE_FLOAT>, true, false}}, 
+        {10120, {"floor", 1, &MathFunctions::floor, true, false}}, 
+        {10121, {"dfloor", 1, &MathFunctions::floor, true, false}}, 
+        {10125, {"dround", 1, &MathFunctions::round_decimal128, true, false}}, 
+        {10126, {"dround", 2, &MathFunctions::round_up_to_decimal128, true, false}}, 
+        {10127, {"round", 1, &MathFunctions::round_decimal128, true, false}}, 
+        {10128, {"round", 2, &MathFunctions::round_up_to_decimal128, true, false}}, 
+        {10129, {"truncate", 2, &MathFunctions::truncate_decimal128, true, false}}, 
+        {10130, {"round", 1, &MathFunctions::round, true, false}}, 
+        {10131, {"dround", 1, &MathFunctions::round, true, false}}, 
+        {10132, {"round", 2, &MathFunctions::round_up_to, true, false}}, 
+        {10133, {"dround", 2, &MathFunctions::round_up_to, true, false}}, 
+        {10134, {"truncate", 2, &MathFunctions::truncate, true, false}}, 
+        {10140, {"ln", 1, &MathFunctions::ln, true, false}}, 
+        {10141, {"dlog1", 1, &MathFunctions::ln, true, false}}, 
+        {10142, {"log", 1, &MathFunctions::ln, true, false}}, 
+        {10150, {"log", 2, &MathFunctions::log, true, false}}, 
+        {10160, {"log2", 1, &MathFunctions::log2, true, false}}, 
+        {10170, {"log10", 1, &MathFunctions::log10, true, false}}, 
+        {10171, {"dlog10", 1, &MathFunctions::log10, true, false}}, 
+        {10180, {"exp", 1, &MathFunctions::exp, true, false}}, 
+        {10181, {"dexp", 1, &MathFunctions::exp, true, false}}, 
+        {10190, {"radians", 1, &MathFunctions::radians, true, false}}, 
+        {10200, {"degrees", 1, &MathFunctions::degrees, true, false}}, 
+        {10210, {"sqrt", 1, &MathFunctions::sqrt, true, false}}, 
+        {10211, {"dsqrt", 1, &MathFunctions::sqrt, true, false}}, 
+        {10220, {"pow", 2, &MathFunctions::pow, true, false}}, 
+        {10221, {"power", 2, &MathFunctions::pow, true, false}}, 
+        {10222, {"dpow", 2, &MathFunctions::pow, true, false}}, 
+        {10223, {"fpow", 2, &MathFunctions::pow, true, false}}, 
+        {10224, {"atan2", 2, &MathFunctions::atan2, true, false}}, 
+        {10225, {"cot", 1, &MathFunctions::cot, true, false}}, 
+        {10230, {"pmod", 2, &MathFunctions::pmod<TYPE_BIGINT>, true, false}}, 
+        {10231, {"pmod", 2, &MathFunctions::pmod<TYPE_DOUBLE>, true, false}}, 
+        {10240, {"fmod", 2, &MathFunctions::fmod<TYPE_FLOAT>, true, false}}, 
+        {10241, {"fmod", 2, &MathFunctions::fmod<TYPE_DOUBLE>, true, false}}, 
+        {10250, {"mod", 2, &MathFunctions::mod<TYPE_TINYINT>, true, false}}, 
+        {10251, {"mod", 2, &MathFunctions::mod<TYPE_SMALLINT>, true, false}}, 
+        {10252, {"mod", 2, &MathFunctions::mod<TYPE_INT>, true, false}}, 
+        {10253, {"mod", 2, &MathFunctions::mod<TYPE_BIGINT>, true, false}}, 
+        {10254, {"mod", 2, &MathFunctions::mod<TYPE_LARGEINT>, true, false}}, 
+        {10255, {"mod", 2, &MathFunctions::fmod<TYPE_FLOAT>, true, false}}, 
+        {10256, {"mod", 2, &MathFunctions::fmod<TYPE_DOUBLE>, true, false}}, 
+        {10257, {"mod", 2, &MathFunctions::mod<TYPE_DECIMALV2>, true, false}}, 
+        {102570, {"mod", 2, &MathFunctions::mod<TYPE_DECIMAL32>, true, false}}, 
+        {102571, {"mod", 2, &MathFunctions::mod<TYPE_DECIMAL64>, true, false}}, 
+        {102572, {"mod", 2, &MathFunctions::mod<TYPE_DECIMAL128>, true, false}}, 
+        {10260, {"positive", 1, &MathFunctions::positive<TYPE_DOUBLE>, true, false}}, 
+        {10261, {"positive", 1, &MathFunctions::positive<TYPE_BIGINT>, true, false}}, 
+        {10262, {"positive", 1, &MathFunctions::positive<TYPE_DECIMALV2>, true, false}}, 
+        {102620, {"positive", 1, &MathFunctions::positive<TYPE_DECIMAL32>, true, false}}, 
+        {102621, {"positive", 1, &MathFunctions::positive<TYPE_DECIMAL64>, true, false}}, 
+        {102622, {"positive", 1, &MathFunctions::positive<TYPE_DECIMAL128>, true, false}}, 
+        {10270, {"negative", 1, &MathFunctions::negative<TYPE_DOUBLE>, true, false}}, 
+        {10271, {"negative", 1, &MathFunctions::negative<TYPE_BIGINT>, true, false}}, 
+        {10272, {"negative", 1, &MathFunctions::negative<TYPE_DECIMALV2>, true, false}}, 
+        {102720, {"negative", 1, &MathFunctions::negative<TYPE_DECIMAL32>, true, false}}, 
+        {102721, {"negative", 1, &MathFunctions::negative<TYPE_DECIMAL64>, true, false}}, 
+        {102722, {"negative", 1, &MathFunctions::negative<TYPE_DECIMAL128>, true, false}}, 
+        {10280, {"least", 1, &MathFunctions::least<TYPE_TINYINT>, true, false}}, 
+        {10281, {"least", 1, &MathFunctions::least<TYPE_SMALLINT>, true, false}}, 
+        {10282, {"least", 1, &MathFunctions::least<TYPE_INT>, true, false}}, 
+        {10283, {"least", 1, &MathFunctions::least<TYPE_BIGINT>, true, false}}, 
+        {10284, {"least", 1, &MathFunctions::least<TYPE_LARGEINT>, true, false}}, 
+        {10285, {"least", 1, &MathFunctions::least<TYPE_FLOAT>, true, false}}, 
+        {10286, {"least", 1, &MathFunctions::least<TYPE_DOUBLE>, true, false}}, 
+        {10287, {"least", 1, &MathFunctions::least<TYPE_DECIMALV2>, true, false}}, 
+        {102870, {"least", 1, &MathFunctions::least<TYPE_DECIMAL32>, true, false}}, 
+        {102871, {"least", 1, &MathFunctions::least<TYPE_DECIMAL64>, true, false}}, 
+        {102872, {"least", 1, &MathFunctions::least<TYPE_DECIMAL128>, true, false}}, 
+        {10288, {"least", 1, &MathFunctions::least<TYPE_DATETIME>, true, false}}, 
+        {10289, {"least", 1, &MathFunctions::least<TYPE_VARCHAR>, true, false}}, 
+        {10290, {"greatest", 1, &MathFunctions::greatest<TYPE_TINYINT>, true, false}}, 
+        {10291, {"greatest", 1, &MathFunctions::greatest<TYPE_SMALLINT>, true, false}}, 
+        {10292, {"greatest", 1, &MathFunctions::greatest<TYPE_INT>, true, false}}, 
+        {10293, {"greatest", 1, &MathFunctions::greatest<TYPE_BIGINT>, true, false}}, 
+        {10294, {"greatest", 1, &MathFunctions::greatest<TYPE_LARGEINT>, true, false}}, 
+        {10295, {"greatest", 1, &MathFunctions::greatest<TYPE_FLOAT>, true, false}}, 
+        {10296, {"greatest", 1, &MathFunctions::greatest<TYPE_DOUBLE>, true, false}}, 
+        {10297, {"greatest", 1, &MathFunctions::greatest<TYPE_DECIMALV2>, true, false}}, 
+        {102970, {"greatest", 1, &MathFunctions::greatest<TYPE_DECIMAL32>, true, false}}, 
+        {102971, {"greatest", 1, &MathFunctions::greatest<TYPE_DECIMAL64>, true, false}}, 
+        {102972, {"greatest", 1, &MathFunctions::greatest<TYPE_DECIMAL128>, true, false}}, 
+        {10298, {"greatest", 1, &MathFunctions::greatest<TYPE_DATETIME>, true, false}}, 
+        {10299, {"greatest", 1, &MathFunctions::greatest<TYPE_VARCHAR>, true, false}}, 
+        {10300, {"rand", 0, &MathFunctions::rand, &MathFunctions::rand_prepare, &MathFunctions::rand_close, true, false}}, 
+        {10301, {"random", 0, &MathFunctions::rand, &MathFunctions::rand_prepare, &MathFunctions::rand_close, true, false}}, 
+        {10302, {"rand", 1, &MathFunctions::rand_seed, &MathFunctions::rand_prepare, &MathFunctions::rand_close, true, false}}, 
+        {10303, {"random", 1, &MathFunctions::rand_seed, &MathFunctions::rand_prepare, &MathFunctions::rand_close, true, false}}, 
+        {10311, {"bin", 1, &MathFunctions::bin, true, false}}, 
+        {10312, {"hex", 1, &StringFunctions::hex_int, true, false}}, 
+        {10313, {"hex", 1, &StringFunctions::hex_string, true, false}}, 
+        {10323, {"hex", 1, &StringFunctions::hex_string, true, false}}, 
+        {10314, {"unhex", 1, &StringFunctions::unhex, true, false}}, 
+        {10315, {"sm3", 1, &StringFunctions::sm3, true, false}}, 
+        {10316, {"hex_decode_binary", 1, &StringFunctions::unhex, true, false}}, 
+        {10317, {"hex_decode_string", 1, &StringFunctions::unhex, true, false}}, 
+        {10320, {"conv", 3, &MathFunctions::conv_int, true, false}}, 
+        {10321, {"conv", 3, &MathFunctions::conv_string, true, false}}, 
+        {10322, {"square", 1, &MathFunctions::square, true, false}}, 
+        {10330, {"cbrt", 1, &MathFunctions::cbrt, true, false}}, 
+        {20010, {"bitand", 2, &BitFunctions::bitAnd<TYPE_TINYINT>, true, false}}, 
+        {20011, {"bitand", 2, &BitFunctions::bitAnd<TYPE_SMALLINT>, true, false}}, 
+        {20012, {"bitand", 2, &BitFunctions::bitAnd<TYPE_INT>, true, false}}, 
+        {20013, {"bitand", 2, &BitFunctions::bitAnd<TYPE_BIGINT>, true, false}}, 
+        {20014, {"bitand", 2, &BitFunctions::bitAnd<TYPE_LARGEINT>, true, false}}, 
+        {20020, {"bitor", 2, &BitFunctions::bitOr<TYPE_TINYINT>, true, false}}, 
+        {20021, {"bitor", 2, &BitFunctions::bitOr<TYPE_SMALLINT>, true, false}}, 
+        {20022, {"bitor", 2, &BitFunctions::bitOr<TYPE_INT>, true, false}}, 
+        {20023, {"bitor", 2, &BitFunctions::bitOr<TYPE_BIGINT>, true, false}}, 
+        {20024, {"bitor", 2, &BitFunctions::bitOr<TYPE_LARGEINT>, true, false}}, 
+        {20030, {"bitxor", 2, &BitFunctions::bitXor<TYPE_TINYINT>, true, false}}, 
+        {20031, {"bitxor", 2, &BitFunctions::bitXor<TYPE_SMALLINT>, true, false}}, 
+        {20032, {"bitxor", 2, &BitFunctions::bitXor<TYPE_INT>, true, false}}, 
+        {20033, {"bitxor", 2, &BitFunctions::bitXor<TYPE_BIGINT>, true, false}}, 
+        {20034, {"bitxor", 2, &BitFunctions::bitXor<TYPE_LARGEINT>, true, false}}, 
+        {20040, {"bitnot", 1, &BitFunctions::bitNot<TYPE_TINYINT>, true, false}}, 
+        {20041, {"bitnot", 1, &BitFunctions::bitNot<TYPE_SMALLINT>, true, false}}, 
+        {20042, {"bitnot", 1, &BitFunctions::bitNot<TYPE_INT>, true, false}}, 
+        {20043, {"bitnot", 1, &BitFunctions::bitNot<TYPE_BIGINT>, true, false}}, 
+        {20044, {"bitnot", 1, &BitFunctions::bitNot<TYPE_LARGEINT>, true, false}}, 
+        {20050, {"bit_shift_left", 2, &BitFunctions::bitShiftLeft<TYPE_TINYINT>, true, false}}, 
+        {20051, {"bit_shift_left", 2, &BitFunctions::bitShiftLeft<TYPE_SMALLINT>, true, false}}, 
+        {20052, {"bit_shift_left", 2, &BitFunctions::bitShiftLeft<TYPE_INT>, true, false}}, 
+        {20053, {"bit_shift_left", 2, &BitFunctions::bitShiftLeft<TYPE_BIGINT>, true, false}}, 
+        {20054, {"bit_shift_left", 2, &BitFunctions::bitShiftLeft<TYPE_LARGEINT>, true, false}}, 
+        {20060, {"bit_shift_right", 2, &BitFunctions::bitShiftRight<TYPE_TINYINT>, true, false}}, 
+        {20061, {"bit_shift_right", 2, &BitFunctions::bitShiftRight<TYPE_SMALLINT>, true, false}}, 
+        {20062, {"bit_shift_right", 2, &BitFunctions::bitShiftRight<TYPE_INT>, true, false}}, 
+        {20063, {"bit_shift_right", 2, &BitFunctions::bitShiftRight<TYPE_BIGINT>, true, false}}, 
+        {20064, {"bit_shift_right", 2, &BitFunctions::bitShiftRight<TYPE_LARGEINT>, true, false}}, 
+        {20070, {"bit_shift_right_logical", 2, &BitFunctions::bitShiftRightLogical<TYPE_TINYINT>, true, false}}, 
+        {20071, {"bit_shift_right_logical", 2, &BitFunctions::bitShiftRightLogical<TYPE_SMALLINT>, true, false}}, 
+        {20072, {"bit_shift_right_logical", 2, &BitFunctions::bitShiftRightLogical<TYPE_INT>, true, false}}, 
+        {20073, {"bit_shift_right_logical", 2, &BitFunctions::bitShiftRightLogical<TYPE_BIGINT>, true, false}}, 
+        {20074, {"bit_shift_right_logical", 2, &BitFunctions::bitShiftRightLogical<TYPE_LARGEINT>, true, false}}, 
+        {30010, {"substr", 2, &StringFunctions::substring, &StringFunctions::sub_str_prepare, &StringFunctions::sub_str_close, true, false}}, 
+        {30011, {"substr", 3, &StringFunctions::substring, &StringFunctions::sub_str_prepare, &StringFunctions::sub_str_close, true, false}}, 
+        {30012, {"substring", 2, &StringFunctions::substring, &StringFunctions::sub_str_prepare, &StringFunctions::sub_str_close, true, false}}, 
+        {30013, {"substring", 3, &StringFunctions::substring, &StringFunctions::sub_str_prepare, &StringFunctions::sub_str_close, true, false}}, 
+        {30020, {"left", 2, &StringFunctions::left, &StringFunctions::left_or_right_prepare, &StringFunctions::left_or_right_close, true, false}}, 
+        {30021, {"strleft", 2, &StringFunctions::left, &StringFunctions::left_or_right_prepare, &StringFunctions::left_or_right_close, true, false}}, 
+        {30030, {"right", 2, &StringFunctions::right, &StringFunctions::left_or_right_prepare, &StringFunctions::left_or_right_close, true, false}}, 
+        {30031, {"strright", 2, &StringFunctions::right, &StringFunctions::left_or_right_prepare, &StringFunctions::left_or_right_close, true, false}}, 
+        {30040, {"ends_with", 2, &StringFunctions::ends_with, true, false}}, 
+        {30050, {"starts_with", 2, &StringFunctions::starts_with, true, false}}, 
+        {30060, {"null_or_empty", 1, &StringFunctions::null_or_empty, true, false}}, 
+        {30070, {"space", 1, &StringFunctions::space, true, true}}, 
+        {30080, {"repeat", 2, &StringFunctions::repeat, true, true}}, 
+        {30090, {"lpad", 3, &StringFunctions::lpad, &StringFunctions::pad_prepare, &StringFunctions::pad_close, true, false}}, 
+        {30100, {"rpad", 3, &StringFunctions::rpad, &StringFunctions::pad_prepare, &StringFunctions::pad_close, true, false}}, 
+        {30110, {"append_trailing_char_if_absent", 2, &StringFunctions::append_trailing_char_if_absent, true, true}}, 
+        {30120, {"length", 1, &StringFunctions::length, true, false}}, 
+        {30130, {"char_length", 1, &StringFunctions::utf8_length, true, false}}, 
+        {30131, {"character_length", 1, &StringFunctions::utf8_length, true, false}}, 
+        {30140, {"lower", 1, &StringFunctions::lower, true, false}}, 
+        {30141, {"lcase", 1, &StringFunctions::lower, true, false}}, 
+        {30150, {"upper", 1, &StringFunctions::upper, true, false}}, 
+        {30151, {"ucase", 1, &StringFunctions::upper, true, false}}, 
+        {30160, {"reverse", 1, &StringFunctions::reverse, true, false}}, 
+        {30170, {"trim", 1, &StringFunctions::trim, &StringFunctions::trim_prepare, &StringFunctions::trim_close, true, false}}, 
+        {30171, {"trim", 2, &StringFunctions::trim, &StringFunctions::trim_prepare, &StringFunctions::trim_close, true, false}}, 
+        {30180, {"ltrim", 1, &StringFunctions::ltrim, &StringFunctions::trim_prepare, &StringFunctions::trim_close, true, false}}, 
+        {30181, {"ltrim", 2, &StringFunctions::ltrim, &StringFunctions::trim_prepare, &StringFunctions::trim_close, true, false}}, 
+        {30190, {"rtrim", 1, &StringFunctions::rtrim, &StringFunctions::trim_prepare, &StringFunctions::trim_close, true, false}}, 
+        {30191, {"rtrim", 2, &StringFunctions::rtrim, &StringFunctions::trim_prepare, &StringFunctions::trim_close, true, false}}, 
+        {30200, {"ascii", 1, &StringFunctions::ascii, true, false}}, 
+        {30500, {"char", 1, &StringFunctions::get_char, true, false}}, 
+        {30210, {"instr", 2, &StringFunctions::instr, true, false}}, 
+        {30220, {"locate", 2, &StringFunctions::locate, true, false}}, 
+        {30221, {"locate", 3, &StringFunctions::locate_pos, true, false}}, 
+        {30250, {"concat", 1, &StringFunctions::concat, &StringFunctions::concat_prepare, &StringFunctions::concat_close, true, true}}, 
+        {30260, {"concat_ws", 2, &StringFunctions::concat_ws, true, true}}, 
+        {30261, {"concat_ws", 2, &ArrayFunctions::array_concat_ws, true, true}}, 
+        {30270, {"find_in_set", 2, &StringFunctions::find_in_set, true, false}}, 
+        {30310, {"split_part", 3, &StringFunctions::split_part, true, true}}, 
+        {30311, {"split", 2, &StringFunctions::split, &StringFunctions::split_prepare, &StringFunctions::split_close, true, true}}, 
+        {30312, {"substring_index", 3, &StringFunctions::substring_index, true, false}}, 
+        {30316, {"str_to_map", 2, &StringFunctions::str_to_map_v1, true, false}}, 
+        {30317, {"str_to_map", 3, &StringFunctions::str_to_map, &StringFunctions::str_to_map_prepare, &StringFunctions::str_to_map_close, true, false}}, 
+        {30320, {"regexp_extract", 3, &StringFunctions::regexp_extract, &StringFunctions::regexp_extract_prepare, &StringFunctions::regexp_close, true, false}}, 
+        {30321, {"regexp_extract_all", 3, &StringFunctions::regexp_extract_all, &StringFunctions::regexp_extract_prepare, &StringFunctions::regexp_close, true, false}}, 
+        {30330, {"regexp_replace", 3, &StringFunctions::regexp_replace, &StringFunctions::regexp_replace_prepare, &StringFunctions::regexp_close, true, true}}, 
+        {30331, {"replace_old", 3, &StringFunctions::regexp_replace, &StringFunctions::regexp_replace_prepare, &StringFunctions::regexp_close, true, true}}, 
+        {30332, {"replace", 3, &StringFunctions::replace, &StringFunctions::replace_prepare, &StringFunctions::replace_close, true, true}}, 
+        {30333, {"regexp_split", 2, &StringFunctions::regexp_split, &StringFunctions::regexp_extract_prepare, &StringFunctions::regexp_close, true, true}}, 
+        {30334, {"regexp_split", 3, &StringFunctions::regexp_split, &StringFunctions::regexp_extract_prepare, &StringFunctions::regexp_close, true, true}}, 
+        {30400, {"money_format", 1, &StringFunctions::money_format_bigint, true, false}}, 
+        {30401, {"money_format", 1, &StringFunctions::money_format_largeint, true, false}}, 
+        {30402, {"money_format", 1, &StringFunctions::money_format_decimalv2val, true, false}}, 
+        {304020, {"money_format", 1, &StringFunctions::money_format_decimal<TYPE_DECIMAL32>, true, false}}, 
+        {304021, {"money_format", 1, &StringFunctions::money_format_decimal<TYPE_DECIMAL64>, true, false}}, 
+        {304022, {"money_format", 1, &StringFunctions::money_format_decimal<TYPE_DECIMAL128>, true, false}}, 
+        {30403, {"money_format", 1, &StringFunctions::money_format_double, true, false}}, 
+        {30410, {"parse_url", 2, &StringFunctions::parse_url, &StringFunctions::parse_url_prepare, &StringFunctions::parse_url_close, true, false}}, 
+        {30411, {"url_extract_parameter", 2, &StringFunctions::url_extract_parameter, &StringFunctions::url_extract_parameter_prepare, &StringFunctions::url_extract_parameter_close, true, false}}, 
+        {30412, {"url_extract_host", 1, &StringFunctions::url_extract_host, true, false}}, 
+        {30420, {"strcmp", 2, &StringFunctions::strcmp, true, false}}, 
+        {30421, {"url_encode", 1, &StringFunctions::url_encode, true, false}}, 
+        {30422, {"url_decode", 1, &StringFunctions::url_decode, true, false}}, 
+        {30430, {"translate", 3, &StringFunctions::translate, &StringFunctions::translate_prepare, &StringFunctions::translate_close, true, false}}, 
+        {30431, {"crc32", 1, &StringFunctions::crc32, true, false}}, 
+        {30440, {"ngram_search", 3, &StringFunctions::ngram_search, &StringFunctions::ngram_search_prepare, &StringFunctions::ngram_search_close, true, false}}, 
+        {30441, {"ngram_search_case_insensitive", 3, &StringFunctions::ngram_search_case_insensitive, &StringFunctions::ngram_search_case_insensitive_prepare, &StringFunctions::ngram_search_close, true, false}}, 
+        {30600, {"to_binary", 2, &BinaryFunctions::to_binary, &BinaryFunctions::to_binary_prepare, &BinaryFunctions::to_binary_close, true, true}}, 
+        {30601, {"to_binary", 1, &BinaryFunctions::to_binary, &BinaryFunctions::to_binary_prepare, &BinaryFunctions::to_binary_close, true, true}}, 
+        {30602, {"from_binary", 2, &BinaryFunctions::from_binary, &BinaryFunctions::from_binary_prepare, &BinaryFunctions::from_binary_close, true, true}}, 
+        {30603, {"from_binary", 1, &BinaryFunctions::from_binary, &BinaryFunctions::from_binary_prepare, &BinaryFunctions::from_binary_close, true, true}}, 
+        {50008, {"year", 1, &TimeFunctions::yearV3, true, false}}, 
+        {50009, {"year", 1, &TimeFunctions::yearV2, true, false}}, 
+        {50010, {"year", 1, &TimeFunctions::year, true, false}}, 
+        {50018, {"month", 1, &TimeFunctions::monthV3, true, false}}, 
+        {50019, {"month", 1, &TimeFunctions::monthV2, true, false}}, 
+        {50020, {"month", 1, &TimeFunctions::month, true, false}}, 
+        {50030, {"quarter", 1, &TimeFunctions::quarter, true, false}}, 
+        {50040, {"dayofweek", 1, &TimeFunctions::day_of_week, true, false}}, 
+        {50041, {"dayofweek_iso", 1, &TimeFunctions::day_of_week_iso, true, false}}, 
+        {50042, {"yearweek", 1, &TimeFunctions::year_week_with_default_mode, true, false}}, 
+        {50043, {"yearweek", 2, &TimeFunctions::year_week_with_mode, true, false}}, 
+        {50050, {"to_date", 1, &TimeFunctions::to_date, true, false}}, 
+        {50051, {"date", 1, &TimeFunctions::to_date, true, false}}, 
+        {50052, {"to_tera_date", 2, &TimeFunctions::to_tera_date, &TimeFunctions::to_tera_date_prepare, &TimeFunctions::to_tera_date_close, true, false}}, 
+        {50053, {"to_tera_timestamp", 2, &TimeFunctions::to_tera_timestamp, &TimeFunctions::to_tera_timestamp_prepare, &TimeFunctions::to_tera_timestamp_close, true, false}}, 
+        {50057, {"day", 1, &TimeFunctions::dayV3, true, false}}, 
+        {50058, {"day", 1, &TimeFunctions::dayV2, true, false}}, 
+        {50059, {"dayofmonth", 1, &TimeFunctions::dayV2, true, false}}, 
+        {50060, {"dayofmonth", 1, &TimeFunctions::day, true, false}}, 
+        {50061, {"day", 1, &TimeFunctions::day, true, false}}, 
+        {50062, {"dayofyear", 1, &TimeFunctions::day_of_year, true, false}}, 
+        {50063, {"weekofyear", 1, &TimeFunctions::week_of_year, true, false}}, 
+        {50064, {"week", 1, &TimeFunctions::week_of_year_with_default_mode, true, false}}, 
+        {50067, {"week", 2, &TimeFunctions::week_of_year_with_mode, true, false}}, 
+        {50068, {"week_iso", 1, &TimeFunctions::week_of_year_iso, true, false}}, 
+        {50069, {"hour", 1, &TimeFunctions::hourV2, true, false}}, 
+        {50070, {"hour", 1, &TimeFunctions::hour, true, false}}, 
+        {50079, {"minute", 1, &TimeFunctions::minuteV2, true, false}}, 
+        {50080, {"minute", 1, &TimeFunctions::minute, true, false}}, 
+        {50089, {"second", 1, &TimeFunctions::secondV2, true, false}}, 
+        {50090, {"second", 1, &TimeFunctions::second, true, false}}, 
+        {50110, {"years_add", 2, &TimeFunctions::years_add, true, false}}, 
+        {50111, {"years_sub", 2, &TimeFunctions::years_sub, true, false}}, 
+        {50115, {"quarters_add", 2, &TimeFunctions::quarters_add, true, false}}, 
+        {50116, {"quarters_sub", 2, &TimeFunctions::quarters_sub, true, false}}, 
+        {50120, {"months_add", 2, &TimeFunctions::months_add, true, false}}, 
+        {50121, {"months_sub", 2, &TimeFunctions::months_sub, true, false}}, 
+        {50122, {"add_months", 2, &TimeFunctions::months_add, true, false}}, 
+        {50130, {"weeks_add", 2, &TimeFunctions::weeks_add, true, false}}, 
+        {50131, {"weeks_sub", 2, &TimeFunctions::weeks_sub, true, false}}, 
+        {50140, {"days_add", 2, &TimeFunctions::days_add, true, false}}, 
+        {50141, {"days_sub", 2, &TimeFunctions::days_sub, true, false}}, 
+        {50142, {"date_add", 2, &TimeFunctions::days_add, true, false}}, 
+        {50143, {"date_sub", 2, &TimeFunctions::days_sub, true, false}}, 
+        {50144, {"adddate", 2, &TimeFunctions::days_add, true, false}}, 
+        {50145, {"subdate", 2, &TimeFunctions::days_sub, true, false}}, 
+        {50150, {"hours_add", 2, &TimeFunctions::hours_add, true, false}}, 
+        {50151, {"hours_sub", 2, &TimeFunctions::hours_sub, true, false}}, 
+        {50160, {"minutes_add", 2, &TimeFunctions::minutes_add, true, false}}, 
+        {50161, {"minutes_sub", 2, &TimeFunctions::minutes_sub, true, false}}, 
+        {50170, {"seconds_add", 2, &TimeFunctions::seconds_add, true, false}}, 
+        {50171, {"seconds_sub", 2, &TimeFunctions::seconds_sub, true, false}}, 
+        {50175, {"milliseconds_add", 2, &TimeFunctions::millis_add, true, false}}, 
+        {50176, {"milliseconds_sub", 2, &TimeFunctions::millis_sub, true, false}}, 
+        {50180, {"microseconds_add", 2, &TimeFunctions::micros_add, true, false}}, 
+        {50181, {"microseconds_sub", 2, &TimeFunctions::micros_sub, true, false}}, 
+        {50190, {"years_diff", 2, &TimeFunctions::years_diff, true, false}}, 
+        {50191, {"months_diff", 2, &TimeFunctions::months_diff, true, false}}, 
+        {50192, {"weeks_diff", 2, &TimeFunctions::weeks_diff, true, false}}, 
+        {50193, {"days_diff", 2, &TimeFunctions::days_diff, true, false}}, 
+        {50194, {"hours_diff", 2, &TimeFunctions::hours_diff, true, false}}, 
+        {50195, {"minutes_diff", 2, &TimeFunctions::minutes_diff, true, false}}, 
+        {50196, {"seconds_diff", 2, &TimeFunctions::seconds_diff, true, false}}, 
+        {50197, {"datediff", 2, &TimeFunctions::date_diff, true, false}}, 
+        {50198, {"timediff", 2, &TimeFunctions::time_diff, true, false}}, 
+        {50199, {"date_diff", 3, &TimeFunctions::datediff, &TimeFunctions::datediff_prepare, &TimeFunctions::datediff_close, true, false}}, 
+        {50200, {"now", 0, &TimeFunctions::now, true, false}}, 
+        {50201, {"current_timestamp", 0, &TimeFunctions::now, true, false}}, 
+        {50202, {"localtime", 0, &TimeFunctions::now, true, false}}, 
+        {50203, {"localtimestamp", 0, &TimeFunctions::now, true, false}}, 
+        {50204, {"now", 1, &TimeFunctions::now, true, false}}, 
+        {50210, {"curtime", 0, &TimeFunctions::curtime, true, false}}, 
+        {50211, {"current_time", 0, &TimeFunctions::curtime, true, false}}, 
+        {50220, {"curdate", 0, &TimeFunctions::curdate, true, false}}, 
+        {50221, {"current_date", 0, &TimeFunctions::curdate, true, false}}, 
+        {50230, {"from_days", 1, &TimeFunctions::from_days, true, false}}, 
+        {50231, {"to_days", 1, &TimeFunctions::to_days, true, false}}, 
+        {50241, {"date_format", 2, &TimeFunctions::datetime_format, &TimeFunctions::format_prepare, &TimeFunctions::format_close, true, false}}, 
+        {50242, {"date_format", 2, &TimeFunctions::date_format, &TimeFunctions::format_prepare, &TimeFunctions::format_close, true, false}}, 
+        {50245, {"milliseconds_diff", 2, &TimeFunctions::milliseconds_diff, true, false}}, 
+        {50240, {"str_to_date", 2, &TimeFunctions::str_to_date, &TimeFunctions::str_to_date_prepare, &TimeFunctions::str_to_date_close, true, false}}, 
+        {50243, {"str2date", 2, &TimeFunctions::str2date, &TimeFunctions::str_to_date_prepare, &TimeFunctions::str_to_date_close, true, false}}, 
+        {50244, {"str_to_jodatime", 2, &TimeFunctions::parse_jodatime, &TimeFunctions::parse_joda_prepare, &TimeFunctions::parse_joda_close, true, false}}, 
+        {50260, {"jodatime_format", 2, &TimeFunctions::jodadatetime_format, &TimeFunctions::jodatime_format_prepare, &TimeFunctions::jodatime_format_close, true, false}}, 
+        {50261, {"jodatime_format", 2, &TimeFunctions::jodadate_format, &TimeFunctions::jodatime_format_prepare, &TimeFunctions::jodatime_format_close, true, false}}, 
+        {50262, {"to_iso8601", 1, &TimeFunctions::datetime_to_iso8601, true, false}}, 
+        {50263, {"to_iso8601", 1, &TimeFunctions::date_to_iso8601, true, false}}, 
+        {50250, {"time_to_sec", 1, &TimeFunctions::time_to_sec, true, false}}, 
+        {50284, {"unix_timestamp", 0, &TimeFunctions::to_unix_for_now_64, true, false}}, 
+        {50285, {"unix_timestamp", 1, &TimeFunctions::to_unix_from_datetime_64, true, false}}, 
+        {50286, {"unix_timestamp", 1, &TimeFunctions::to_unix_from_date_64, true, false}}, 
+        {50287, {"unix_timestamp", 2, &TimeFunctions::to_unix_from_datetime_with_format_64, true, false}}, 
+        {50288, {"from_unixtime", 1, &TimeFunctions::from_unix_to_datetime_64, true, false}}, 
+        {50289, {"from_unixtime", 2, &TimeFunctions::from_unix_to_datetime_with_format_64, &TimeFunctions::from_unix_prepare, &TimeFunctions::from_unix_close, true, false}}, 
+        {50290, {"from_unixtime_ms", 1, &TimeFunctions::from_unix_to_datetime_ms_64, true, false}}, 
+        {50300, {"unix_timestamp", 0, &TimeFunctions::to_unix_for_now_32, true, false}}, 
+        {50301, {"unix_timestamp", 1, &TimeFunctions::to_unix_from_datetime_32, true, false}}, 
+        {50302, {"unix_timestamp", 1, &TimeFunctions::to_unix_from_date_32, true, false}}, 
+        {50303, {"unix_timestamp", 2, &TimeFunctions::to_unix_from_datetime_with_format_32, true, false}}, 
+        {50304, {"from_unixtime", 1, &TimeFunctions::from_unix_to_datetime_32, true, false}}, 
+        {50305, {"from_unixtime", 2, &TimeFunctions::from_unix_to_datetime_with_format_32, &TimeFunctions::from_unix_prepare, &TimeFunctions::from_unix_close, true, false}}, 
+        {50310, {"dayname", 1, &TimeFunctions::day_name, true, false}}, 
+        {50311, {"monthname", 1, &TimeFunctions::month_name, true, false}}, 
+        {50320, {"convert_tz", 3, &TimeFunctions::convert_tz, &TimeFunctions::convert_tz_prepare, &TimeFunctions::convert_tz_close, true, false}}, 
+        {50330, {"utc_timestamp", 0, &TimeFunctions::utc_timestamp, true, false}}, 
+        {50331, {"utc_time", 0, &TimeFunctions::utc_time, true, false}}, 
+        {50340, {"date_trunc", 2, &TimeFunctions::datetime_trunc, &TimeFunctions::datetime_trunc_prepare, &TimeFunctions::datetime_trunc_close, true, false}}, 
+        {50350, {"date_trunc", 2, &TimeFunctions::date_trunc, &TimeFunctions::date_trunc_prepare, &TimeFunctions::date_trunc_close, true, false}}, 
+        {50360, {"timestamp", 1, &TimeFunctions::timestamp, true, false}}, 
+        {50370, {"date_slice", 3, &TimeFunctions::time_slice, &TimeFunctions::time_slice_prepare, &TimeFunctions::time_slice_close, true, false}}, 
+        {50371, {"date_slice", 4, &TimeFunctions::time_slice, &TimeFunctions::time_slice_prepare, &TimeFunctions::time_slice_close, true, false}}, 
+        {50372, {"time_slice", 3, &TimeFunctions::time_slice, &TimeFunctions::time_slice_prepare, &TimeFunctions::time_slice_close, true, false}}, 
+        {50373, {"time_slice", 4, &TimeFunctions::time_slice, &TimeFunctions::time_slice_prepare, &TimeFunctions::time_slice_close, true, false}}, 
+        {50400, {"next_day", 2, &TimeFunctions::next_day, &TimeFunctions::next_day_prepare, &TimeFunctions::next_day_close, true, false}}, 
+        {50401, {"previous_day", 2, &TimeFunctions::previous_day, &TimeFunctions::previous_day_prepare, &TimeFunctions::previous_day_close, true, false}}, 
+        {50402, {"last_day", 1, &TimeFunctions::last_day, true, false}}, 
+        {50403, {"last_day", 2, &TimeFunctions::last_day_with_format, &TimeFunctions::last_day_prepare, &TimeFunctions::last_day_close, true, false}}, 
+        {50501, {"makedate", 2, &TimeFunctions::make_date, true, false}}, 
+        {60010, {"LIKE", 2, &LikePredicate::like, &LikePredicate::like_prepare, &LikePredicate::like_close, true, false}}, 
+        {60020, {"REGEXP", 2, &LikePredicate::regex, &LikePredicate::regex_prepare, &LikePredicate::regex_close, true, false}}, 
+        {70100, {"if", 3, nullptr, true, false}}, 
+        {70101, {"if", 3, nullptr, true, false}}, 
+        {70102, {"if", 3, nullptr, true, false}}, 
+        {70103, {"if", 3, nullptr, true, false}}, 
+        {70104, {"if", 3, nullptr, true, false}}, 
+        {70105, {"if", 3, nullptr, true, false}}, 
+        {70106, {"if", 3, nullptr, true, false}}, 
+        {70107, {"if", 3, nullptr, true, false}}, 
+        {70108, {"if", 3, nullptr, true, false}}, 
+        {70109, {"if", 3, nullptr, true, false}}, 
+        {70110, {"if", 3, nullptr, true, false}}, 
+        {701100, {"if", 3, nullptr, true, false}}, 
+        {701101, {"if", 3, nullptr, true, false}}, 
+        {701102, {"if", 3, nullptr, true, false}}, 
+        {70111, {"if", 3, nullptr, true, false}}, 
+        {70112, {"if", 3, nullptr, true, false}}, 
+        {70113, {"if", 3, nullptr, true, false}}, 
+        {70114, {"if", 3, nullptr, true, false}}, 
+        {70115, {"if", 3, nullptr, true, false}}, 
+        {70116, {"if", 3, nullptr, true, false}}, 
+        {70117, {"if", 3, nullptr, true, false}}, 
+        {70118, {"if", 3, nullptr, true, false}}, 
+        {70119, {"if", 3, nullptr, true, false}}, 
+        {70200, {"ifnull", 2, nullptr, true, false}}, 
+        {70201, {"ifnull", 2, nullptr, true, false}}, 
+        {70202, {"ifnull", 2, nullptr, true, false}}, 
+        {70203, {"ifnull", 2, nullptr, true, false}}, 
+        {70204, {"ifnull", 2, nullptr, true, false}}, 
+        {70205, {"ifnull", 2, nullptr, true, false}}, 
+        {70206, {"ifnull", 2, nullptr, true, false}}, 
+        {70207, {"ifnull", 2, nullptr, true, false}}, 
+        {70208, {"ifnull", 2, nullptr, true, false}}, 
+        {70209, {"ifnull", 2, nullptr, true, false}}, 
+        {70210, {"ifnull", 2, nullptr, true, false}}, 
+        {702100, {"ifnull", 2, nullptr, true, false}}, 
+        {702101, {"ifnull", 2, nullptr, true, false}}, 
+        {702102, {"ifnull", 2, nullptr, true, false}}, 
+        {70211, {"ifnull", 2, nullptr, true, false}}, 
+        {70212, {"ifnull", 2, nullptr, true, false}}, 
+        {70213, {"ifnull", 2, nullptr, true, false}}, 
+        {70214, {"ifnull", 2, nullptr, true, false}}, 
+        {70215, {"ifnull", 2, nullptr, true, false}}, 
+        {70216, {"ifnull", 2, nullptr, true, false}}, 
+        {70217, {"ifnull", 2, nullptr, true, false}}, 
+        {70218, {"ifnull", 2, nullptr, true, false}}, 
+        {70219, {"ifnull", 2, nullptr, true, false}}, 
+        {70300, {"nullif", 2, nullptr, true, false}}, 
+        {70301, {"nullif", 2, nullptr, true, false}}, 
+        {70302, {"nullif", 2, nullptr, true, false}}, 
+        {70303, {"nullif", 2, nullptr, true, false}}, 
+        {70304, {"nullif", 2, nullptr, true, false}}, 
+        {70305, {"nullif", 2, nullptr, true, false}}, 
+        {70306, {"nullif", 2, nullptr, true, false}}, 
+        {70307, {"nullif", 2, nullptr, true, false}}, 
+        {70308, {"nullif", 2, nullptr, true, false}}, 
+        {70309, {"nullif", 2, nullptr, true, false}}, 
+        {70310, {"nullif", 2, nullptr, true, false}}, 
+        {703100, {"nullif", 2, nullptr, true, false}}, 
+        {703101, {"nullif", 2, nullptr, true, false}}, 
+        {703102, {"nullif", 2, nullptr, true, false}}, 
+        {70311, {"nullif", 2, nullptr, true, false}}, 
+        {70312, {"nullif", 2, nullptr, true, false}}, 
+        {70313, {"nullif", 2, nullptr, true, false}}, 
+        {70314, {"nullif", 2, nullptr, true, false}}, 
+        {70315, {"nullif", 2, nullptr, true, false}}, 
+        {70316, {"nullif", 2, nullptr, true, false}}, 
+        {70317, {"nullif", 2, nullptr, true, false}}, 
+        {70318, {"nullif", 2, nullptr, true, false}}, 
+        {70319, {"nullif", 2, nullptr, true, false}}, 
+        {70400, {"coalesce", 1, nullptr, true, false}}, 
+        {70401, {"coalesce", 1, nullptr, true, false}}, 
+        {70402, {"coalesce", 1, nullptr, true, false}}, 
+        {70403, {"coalesce", 1, nullptr, true, false}}, 
+        {70404, {"coalesce", 1, nullptr, true, false}}, 
+        {70405, {"coalesce", 1, nullptr, true, false}}, 
+        {70406, {"coalesce", 1, nullptr, true, false}}, 
+        {70407, {"coalesce", 1, nullptr, true, false}}, 
+        {70408, {"coalesce", 1, nullptr, true, false}}, 
+        {70409, {"coalesce", 1, nullptr, true, false}}, 
+        {70410, {"coalesce", 1, nullptr, true, false}}, 
+        {704100, {"coalesce", 1, nullptr, true, false}}, 
+        {704101, {"coalesce", 1, nullptr, true, false}}, 
+        {704102, {"coalesce", 1, nullptr, true, false}}, 
+        {70411, {"coalesce", 1, nullptr, true, false}}, 
+        {70412, {"coalesce", 1, nullptr, true, false}}, 
+        {70413, {"coalesce", 1, nullptr, true, false}}, 
+        {70414, {"coalesce", 1, nullptr, true, false}}, 
+        {70416, {"coalesce", 1, nullptr, true, false}}, 
+        {70417, {"coalesce", 1, nullptr, true, false}}, 
+        {70418, {"coalesce", 1, nullptr, true, false}}, 
+        {70419, {"coalesce", 1, nullptr, true, false}}, 
+        {70420, {"coalesce", 1, nullptr, true, false}}, 
+        {70415, {"esquery", 2, &ESFunctions::match, true, false}}, 
+        {80010, {"hll_cardinality", 1, &HyperloglogFunctions::hll_cardinality, true, false}}, 
+        {80011, {"hll_cardinality", 1, &HyperloglogFunctions::hll_cardinality_from_string, true, false}}, 
+        {80020, {"hll_hash", 1, &HyperloglogFunctions::hll_hash, true, false}}, 
+        {80030, {"hll_empty", 0, &HyperloglogFunctions::hll_empty, true, false}}, 
+        {80040, {"hll_serialize", 1, &HyperloglogFunctions::hll_serialize, true, false}}, 
+        {80041, {"hll_deserialize", 1, &HyperloglogFunctions::hll_deserialize, true, false}}, 
+        {90010, {"to_bitmap", 1, &BitmapFunctions::to_bitmap<TYPE_VARCHAR>, false, false}}, 
+        {90011, {"to_bitmap", 1, &BitmapFunctions::to_bitmap<TYPE_BOOLEAN>, false, false}}, 
+        {90012, {"to_bitmap", 1, &BitmapFunctions::to_bitmap<TYPE_TINYINT>, false, false}}, 
+        {90013, {"to_bitmap", 1, &BitmapFunctions::to_bitmap<TYPE_SMALLINT>, false, false}}, 
+        {90014, {"to_bitmap", 1, &BitmapFunctions::to_bitmap<TYPE_INT>, false, false}}, 
+        {90015, {"to_bitmap", 1, &BitmapFunctions::to_bitmap<TYPE_BIGINT>, false, false}}, 
+        {90016, {"to_bitmap", 1, &BitmapFunctions::to_bitmap<TYPE_LARGEINT>, false, false}}, 
+        {90020, {"bitmap_hash", 1, &BitmapFunctions::bitmap_hash, false, false}}, 
+        {90030, {"bitmap_count", 1, &BitmapFunctions::bitmap_count, true, false}}, 
+        {90040, {"bitmap_empty", 0, &BitmapFunctions::bitmap_empty, false, false}}, 
+        {90050, {"bitmap_or", 2, &BitmapFunctions::bitmap_or, false, false}}, 
+        {90060, {"bitmap_and", 2, &BitmapFunctions::bitmap_and, false, false}}, 
+        {90070, {"bitmap_to_string", 1, &BitmapFunctions::bitmap_to_string, false, true}}, 
+        {90080, {"bitmap_from_string", 1, &BitmapFunctions::bitmap_from_string, false, false}}, 
+        {90090, {"bitmap_contains", 2, &BitmapFunctions::bitmap_contains, false, false}}, 
+        {90100, {"bitmap_has_any", 2, &BitmapFunctions::bitmap_has_any, false, false}}, 
+        {90200, {"bitmap_andnot", 2, &BitmapFunctions::bitmap_andnot, false, false}}, 
+        {90300, {"bitmap_xor", 2, &BitmapFunctions::bitmap_xor, false, false}}, 
+        {90400, {"bitmap_remove", 2, &BitmapFunctions::bitmap_remove, false, false}}, 
+        {90500, {"bitmap_to_array", 1, &BitmapFunctions::bitmap_to_array, false, false}}, 
+        {90600, {"bitmap_max", 1, &BitmapFunctions::bitmap_max, false, false}}, 
+        {90700, {"bitmap_min", 1, &BitmapFunctions::bitmap_min, false, false}}, 
+        {90800, {"base64_to_bitmap", 1, &BitmapFunctions::base64_to_bitmap, false, false}}, 
+        {90801, {"bitmap_to_base64", 1, &BitmapFunctions::bitmap_to_base64, false, true}}, 
+        {90900, {"array_to_bitmap", 1, &BitmapFunctions::array_to_bitmap, false, false}}, 
+        {91000, {"sub_bitmap", 3, &BitmapFunctions::sub_bitmap, false, false}}, 
+        {91001, {"bitmap_subset_limit", 3, &BitmapFunctions::bitmap_subset_limit, false, false}}, 
+        {91002, {"bitmap_subset_in_range", 3, &BitmapFunctions::bitmap_subset_in_range, false, false}}, 
+        {91003, {"bitmap_to_binary", 1, &BitmapFunctions::bitmap_to_binary, false, true}}, 
+        {91004, {"bitmap_from_binary", 1, &BitmapFunctions::bitmap_from_binary, false, false}}, 
+        {100010, {"murmur_hash3_32", 1, &HashFunctions::murmur_hash3_32, true, false}}, 
+        {100021, {"xx_hash3_64", 1, &HashFunctions::xx_hash3_64, true, false}}, 
+        {100022, {"xx_hash3_128", 1, &HashFunctions::xx_hash3_128, true, false}}, 
+        {100011, {"sleep", 1, &UtilityFunctions::sleep, true, false}}, 
+        {100012, {"version", 0, &UtilityFunctions::version, true, false}}, 
+        {100013, {"current_version", 0, &UtilityFunctions::current_version, true, false}}, 
+        {100014, {"last_query_id", 0, &UtilityFunctions::last_query_id, true, false}}, 
+        {100015, {"uuid", 0, &UtilityFunctions::uuid, true, false}}, 
+        {100016, {"uuid_numeric", 0, &UtilityFunctions::uuid_numeric, true, false}}, 
+        {100017, {"assert_true", 1, &UtilityFunctions::assert_true, true, false}}, 
+        {100019, {"assert_true", 2, &UtilityFunctions::assert_true, true, false}}, 
+        {100018, {"host_name", 0, &UtilityFunctions::host_name, true, false}}, 
+        {100020, {"get_query_profile", 1, &UtilityFunctions::get_query_profile, true, false}}, 
+        {110022, {"get_json_int", 2, &JsonFunctions::get_json_bigint, &JsonFunctions::native_json_path_prepare, &JsonFunctions::native_json_path_close, false, false}}, 
+        {110023, {"get_json_int", 2, &JsonFunctions::get_native_json_bigint, &JsonFunctions::native_json_path_prepare, &JsonFunctions::native_json_path_close, false, false}}, 
+        {110000, {"get_json_int", 2, &JsonFunctions::get_json_int, &JsonFunctions::native_json_path_prepare, &JsonFunctions::native_json_path_close, false, false}}, 
+        {110001, {"get_json_double", 2, &JsonFunctions::get_json_double, &JsonFunctions::native_json_path_prepare, &JsonFunctions::native_json_path_close, false, false}}, 
+        {110002, {"get_json_string", 2, &JsonFunctions::get_json_string, &JsonFunctions::native_json_path_prepare, &JsonFunctions::native_json_path_close, false, true}}, 
+        {110012, {"get_json_int", 2, &JsonFunctions::get_native_json_int, &JsonFunctions::native_json_path_prepare, &JsonFunctions::native_json_path_close, false, false}}, 
+        {110013, {"get_json_double", 2, &JsonFunctions::get_native_json_double, &JsonFunctions::native_json_path_prepare, &JsonFunctions::native_json_path_close, false, false}}, 
+        {110014, {"get_json_string", 2, &JsonFunctions::get_native_json_string, &JsonFunctions::native_json_path_prepare, &JsonFunctions::native_json_path_close, false, true}}, 
+        {110015, {"get_json_object", 2, &JsonFunctions::get_native_json_string, &JsonFunctions::native_json_path_prepare, &JsonFunctions::native_json_path_close, false, true}}, 
+        {110020, {"get_json_object", 2, &JsonFunctions::get_json_string, &JsonFunctions::native_json_path_prepare, &JsonFunctions::native_json_path_close, false, true}}, 
+        {110021, {"get_json_bool", 2, &JsonFunctions::get_native_json_bool, &JsonFunctions::native_json_path_prepare, &JsonFunctions::native_json_path_close, false, false}}, 
+        {110003, {"parse_json", 1, &JsonFunctions::parse_json, false, false}}, 
+        {110004, {"json_string", 1, &JsonFunctions::json_string, false, true}}, 
+        {110005, {"json_query", 2, &JsonFunctions::json_query, &JsonFunctions::native_json_path_prepare, &JsonFunctions::native_json_path_close, false, false}}, 
+        {110007, {"json_exists", 2, &JsonFunctions::json_exists, &JsonFunctions::native_json_path_prepare, &JsonFunctions::native_json_path_close, false, false}}, 
+        {110008, {"json_object", 1, &JsonFunctions::json_object, false, false}}, 
+        {110009, {"json_array", 1, &JsonFunctions::json_array, false, false}}, 
+        {110010, {"json_object", 0, &JsonFunctions::json_object_empty, false, false}}, 
+        {110011, {"json_array", 0, &JsonFunctions::json_array_empty, false, false}}, 
+        {110016, {"json_length", 1, &JsonFunctions::json_length, false, false}}, 
+        {110017, {"json_length", 2, &JsonFunctions::json_length, &JsonFunctions::native_json_path_prepare, &JsonFunctions::native_json_path_close, false, false}}, 
+        {110018, {"json_keys", 1, &JsonFunctions::json_keys, false, false}}, 
+        {110019, {"json_keys", 2, &JsonFunctions::json_keys, &JsonFunctions::native_json_path_prepare, &JsonFunctions::native_json_path_close, false, false}}, 
+        {110100, {"to_json", 1, &JsonFunctions::to_json, false, false}}, 
+        {110101, {"to_json", 1, &JsonFunctions::to_json, false, false}}, 
+        {120100, {"aes_encrypt", 2, &EncryptionFunctions::aes_encrypt, false, false}}, 
+        {120110, {"aes_decrypt", 2, &EncryptionFunctions::aes_decrypt, false, false}}, 
+        {120120, {"from_base64", 1, &EncryptionFunctions::from_base64, false, false}}, 
+        {120121, {"base64_decode_binary", 1, &EncryptionFunctions::from_base64, false, false}}, 
+        {120122, {"base64_decode_string", 1, &EncryptionFunctions::from_base64, false, false}}, 
+        {120130, {"to_base64", 1, &EncryptionFunctions::to_base64, false, true}}, 
+        {120140, {"md5", 1, &EncryptionFunctions::md5, false, false}}, 
+        {120150, {"md5sum", 1, &EncryptionFunctions::md5sum, false, false}}, 
+        {120151, {"md5sum_numeric", 1, &EncryptionFunctions::md5sum_numeric, false, false}}, 
+        {120160, {"sha2", 2, &EncryptionFunctions::sha2, &EncryptionFunctions::sha2_prepare, &EncryptionFunctions::sha2_close, false, false}}, 
+        {120161, {"to_base64", 1, &EncryptionFunctions::to_base64, false, true}}, 
+        {120000, {"ST_Point", 2, &GeoFunctions::st_point, false, false}}, 
+        {120001, {"ST_X", 1, &GeoFunctions::st_x, false, false}}, 
+        {120002, {"ST_Y", 1, &GeoFunctions::st_y, false, false}}, 
+        {120003, {"ST_Distance_Sphere", 4, &GeoFunctions::st_distance_sphere, false, false}}, 
+        {120004, {"ST_AsText", 1, &GeoFunctions::st_as_wkt, false, false}}, 
+        {120005, {"ST_AsWKT", 1, &GeoFunctions::st_as_wkt, false, false}}, 
+        {120006, {"ST_GeometryFromText", 1, &GeoFunctions::st_from_wkt, &GeoFunctions::st_from_wkt_prepare, &GeoFunctions::st_from_wkt_close, false, false}}, 
+        {120007, {"ST_GeomFromText", 1, &GeoFunctions::st_from_wkt, &GeoFunctions::st_from_wkt_prepare, &GeoFunctions::st_from_wkt_close, false, false}}, 
+        {120008, {"ST_LineFromText", 1, &GeoFunctions::st_line, &GeoFunctions::st_line_prepare, &GeoFunctions::st_from_wkt_close, false, false}}, 
+        {120009, {"ST_LineStringFromText", 1, &GeoFunctions::st_line, &GeoFunctions::st_line_prepare, &GeoFunctions::st_from_wkt_close, false, false}}, 
+        {120010, {"ST_Polygon", 1, &GeoFunctions::st_polygon, &GeoFunctions::st_polygon_prepare, &GeoFunctions::st_from_wkt_close, false, false}}, 
+        {120011, {"ST_PolyFromText", 1, &GeoFunctions::st_polygon, &GeoFunctions::st_polygon_prepare, &GeoFunctions::st_from_wkt_close, false, false}}, 
+        {120012, {"ST_PolygonFromText", 1, &GeoFunctions::st_polygon, &GeoFunctions::st_polygon_prepare, &GeoFunctions::st_from_wkt_close, false, false}}, 
+        {120013, {"ST_Circle", 3, &GeoFunctions::st_circle, &GeoFunctions::st_circle_prepare, &GeoFunctions::st_from_wkt_close, false, false}}, 
+        {120014, {"ST_Contains", 2, &GeoFunctions::st_contains, &GeoFunctions::st_contains_prepare, &GeoFunctions::st_contains_close, false, false}}, 
+        {130000, {"percentile_hash", 1, &PercentileFunctions::percentile_hash, true, false}}, 
+        {130001, {"percentile_empty", 0, &PercentileFunctions::percentile_empty, true, false}}, 
+        {130002, {"percentile_approx_raw", 2, &PercentileFunctions::percentile_approx_raw, true, false}}, 
+        {140000, {"grouping_id", 1, &GroupingSetsFunctions::grouping_id, true, false}}, 
+        {140001, {"grouping", 1, &GroupingSetsFunctions::grouping, true, false}}, 
+        {150000, {"array_length", 1, &ArrayFunctions::array_length, true, false}}, 
+        {150001, {"array_append", 2, &ArrayFunctions::array_append, true, false}}, 
+        {150002, {"array_contains", 2, &ArrayFunctions::array_contains, true, false}}, 
+        {150003, {"array_sum", 1, &ArrayFunctions::array_sum<TYPE_BOOLEAN>, true, false}}, 
+        {150004, {"array_sum", 1, &ArrayFunctions::array_sum<TYPE_TINYINT>, true, false}}, 
+        {150005, {"array_sum", 1, &ArrayFunctions::array_sum<TYPE_SMALLINT>, true, false}}, 
+        {150006, {"array_sum", 1, &ArrayFunctions::array_sum<TYPE_INT>, true, false}}, 
+        {150007, {"array_sum", 1, &ArrayFunctions::array_sum<TYPE_BIGINT>, true, false}}, 
+        {150008, {"array_sum", 1, &ArrayFunctions::array_sum<TYPE_LARGEINT>, true, false}}, 
+        {150011, {"array_sum", 1, &ArrayFunctions::array_sum<TYPE_DECIMALV2>, true, false}}, 
+        {150012, {"array_sum", 1, &ArrayFunctions::array_sum<TYPE_DECIMAL32>, true, false}}, 
+        {150013, {"array_sum", 1, &ArrayFunctions::array_sum<TYPE_DECIMAL64>, true, false}}, 
+        {150014, {"array_sum", 1, &ArrayFunctions::array_sum<TYPE_DECIMAL128>, true, false}}, 
+        {150009, {"array_sum", 1, &ArrayFunctions::array_sum<TYPE_FLOAT>, true, false}}, 
+        {150010, {"array_sum", 1, &ArrayFunctions::array_sum<TYPE_DOUBLE>, true, false}}, 
+        {150023, {"array_avg", 1, &ArrayFunctions::array_avg<TYPE_BOOLEAN>, true, false}}, 
+        {150024, {"array_avg", 1, &ArrayFunctions::array_avg<TYPE_TINYINT>, true, false}}, 
+        {150025, {"array_avg", 1, &ArrayFunctions::array_avg<TYPE_SMALLINT>, true, false}}, 
+        {150026, {"array_avg", 1, &ArrayFunctions::array_avg<TYPE_INT>, true, false}}, 
+        {150027, {"array_avg", 1, &ArrayFunctions::array_avg<TYPE_BIGINT>, true, false}}, 
+        {150028, {"array_avg", 1, &ArrayFunctions::array_avg<TYPE_LARGEINT>, true, false}}, 
+        {150031, {"array_avg", 1, &ArrayFunctions::array_avg<TYPE_DECIMALV2>, true, false}}, 
+        {150034, {"array_avg", 1, &ArrayFunctions::array_avg<TYPE_DECIMAL32>, true, false}}, 
+        {150035, {"array_avg", 1, &ArrayFunctions::array_avg<TYPE_DECIMAL64>, true, false}}, 
+        {150036, {"array_avg", 1, &ArrayFunctions::array_avg<TYPE_DECIMAL128>, true, false}}, 
+        {150029, {"array_avg", 1, &ArrayFunctions::array_avg<TYPE_FLOAT>, true, false}}, 
+        {150030, {"array_avg", 1, &ArrayFunctions::array_avg<TYPE_DOUBLE>, true, false}}, 
+        {150043, {"array_min", 1, &ArrayFunctions::array_min<TYPE_BOOLEAN>, true, false}}, 
+        {150044, {"array_min", 1, &ArrayFunctions::array_min<TYPE_TINYINT>, true, false}}, 
+        {150045, {"array_min", 1, &ArrayFunctions::array_min<TYPE_SMALLINT>, true, false}}, 
+        {150046, {"array_min", 1, &ArrayFunctions::array_min<TYPE_INT>, true, false}}, 
+        {150047, {"array_min", 1, &ArrayFunctions::array_min<TYPE_BIGINT>, true, false}}, 
+        {150048, {"array_min", 1, &ArrayFunctions::array_min<TYPE_LARGEINT>, true, false}}, 
+        {150049, {"array_min", 1, &ArrayFunctions::array_min<TYPE_FLOAT>, true, false}}, 
+        {150055, {"array_min", 1, &ArrayFunctions::array_min<TYPE_DECIMAL32>, true, false}}, 
+        {150056, {"array_min", 1, &ArrayFunctions::array_min<TYPE_DECIMAL64>, true, false}}, 
+        {150057, {"array_min", 1, &ArrayFunctions::array_min<TYPE_DECIMAL128>, true, false}}, 
+        {150050, {"array_min", 1, &ArrayFunctions::array_min<TYPE_DOUBLE>, true, false}}, 
+        {150051, {"array_min", 1, &ArrayFunctions::array_min<TYPE_DECIMALV2>, true, false}}, 
+        {150052, {"array_min", 1, &ArrayFunctions::array_min<TYPE_DATE>, true, false}}, 
+        {150053, {"array_min", 1, &ArrayFunctions::array_min<TYPE_DATETIME>, true, false}}, 
+        {150054, {"array_min", 1, &ArrayFunctions::array_min<TYPE_VARCHAR>, true, false}}, 
+        {150063, {"array_max", 1, &ArrayFunctions::array_max<TYPE_BOOLEAN>, true, false}}, 
+        {150064, {"array_max", 1, &ArrayFunctions::array_max<TYPE_TINYINT>, true, false}}, 
+        {150065, {"array_max", 1, &ArrayFunctions::array_max<TYPE_SMALLINT>, true, false}}, 
+        {150066, {"array_max", 1, &ArrayFunctions::array_max<TYPE_INT>, true, false}}, 
+        {150067, {"array_max", 1, &ArrayFunctions::array_max<TYPE_BIGINT>, true, false}}, 
+        {150068, {"array_max", 1, &ArrayFunctions::array_max<TYPE_LARGEINT>, true, false}}, 
+        {150069, {"array_max", 1, &ArrayFunctions::array_max<TYPE_FLOAT>, true, false}}, 
+        {150075, {"array_max", 1, &ArrayFunctions::array_max<TYPE_DECIMAL32>, true, false}}, 
+        {150076, {"array_max", 1, &ArrayFunctions::array_max<TYPE_DECIMAL64>, true, false}}, 
+        {150077, {"array_max", 1, &ArrayFunctions::array_max<TYPE_DECIMAL128>, true, false}}, 
+        {150070, {"array_max", 1, &ArrayFunctions::array_max<TYPE_DOUBLE>, true, false}}, 
+        {150071, {"array_max", 1, &ArrayFunctions::array_max<TYPE_DECIMALV2>, true, false}}, 
+        {150072, {"array_max", 1, &ArrayFunctions::array_max<TYPE_DATE>, true, false}}, 
+        {150073, {"array_max", 1, &ArrayFunctions::array_max<TYPE_DATETIME>, true, false}}, 
+        {150074, {"array_max", 1, &ArrayFunctions::array_max<TYPE_VARCHAR>, true, false}}, 
+        {150083, {"array_remove", 2, &ArrayFunctions::array_remove, true, false}}, 
+        {150084, {"array_position", 2, &ArrayFunctions::array_position, true, false}}, 
+        {150090, {"array_distinct", 1, &ArrayFunctions::array_distinct<TYPE_BOOLEAN>, true, false}}, 
+        {150091, {"array_distinct", 1, &ArrayFunctions::array_distinct<TYPE_TINYINT>, true, false}}, 
+        {150092, {"array_distinct", 1, &ArrayFunctions::array_distinct<TYPE_SMALLINT>, true, false}}, 
+        {150093, {"array_distinct", 1, &ArrayFunctions::array_distinct<TYPE_INT>, true, false}}, 
+        {150094, {"array_distinct", 1, &ArrayFunctions::array_distinct<TYPE_BIGINT>, true, false}}, 
+        {150095, {"array_distinct", 1, &ArrayFunctions::array_distinct<TYPE_LARGEINT>, true, false}}, 
+        {150096, {"array_distinct", 1, &ArrayFunctions::array_distinct<TYPE_FLOAT>, true, false}}, 
+        {150103, {"array_distinct", 1, &ArrayFunctions::array_distinct<TYPE_DECIMAL32>, true, false}}, 
+        {150104, {"array_distinct", 1, &ArrayFunctions::array_distinct<TYPE_DECIMAL64>, true, false}}, 
+        {150105, {"array_distinct", 1, &ArrayFunctions::array_distinct<TYPE_DECIMAL128>, true, false}}, 
+        {150097, {"array_distinct", 1, &ArrayFunctions::array_distinct<TYPE_DOUBLE>, true, false}}, 
+        {150098, {"array_distinct", 1, &ArrayFunctions::array_distinct<TYPE_VARCHAR>, true, false}}, 
+        {150099, {"array_distinct", 1, &ArrayFunctions::array_distinct<TYPE_DECIMALV2>, true, false}}, 
+        {150100, {"array_distinct", 1, &ArrayFunctions::array_distinct<TYPE_DATETIME>, true, false}}, 
+        {150101, {"array_distinct", 1, &ArrayFunctions::array_distinct<TYPE_DATE>, true, false}}, 
+        {150107, {"array_distinct", 1, &ArrayFunctions::array_distinct_any_type, true, false}}, 
+        {150110, {"array_sort", 1, &ArrayFunctions::array_sort<TYPE_BOOLEAN>, true, false}}, 
+        {150111, {"array_sort", 1, &ArrayFunctions::array_sort<TYPE_TINYINT>, true, false}}, 
+        {150112, {"array_sort", 1, &ArrayFunctions::array_sort<TYPE_SMALLINT>, true, false}}, 
+        {150113, {"array_sort", 1, &ArrayFunctions::array_sort<TYPE_INT>, true, false}}, 
+        {150114, {"array_sort", 1, &ArrayFunctions::array_sort<TYPE_BIGINT>, true, false}}, 
+        {150115, {"array_sort", 1, &ArrayFunctions::array_sort<TYPE_LARGEINT>, true, false}}, 
+        {150116, {"array_sort", 1, &ArrayFunctions::array_sort<TYPE_FLOAT>, true, false}}, 
+        {150123, {"array_sort", 1, &ArrayFunctions::array_sort<TYPE_DECIMAL32>, true, false}}, 
+        {150124, {"array_sort", 1, &ArrayFunctions::array_sort<TYPE_DECIMAL64>, true, false}}, 
+        {150125, {"array_sort", 1, &ArrayFunctions::array_sort<TYPE_DECIMAL128>, true, false}}, 
+        {150117, {"array_sort", 1, &ArrayFunctions::array_sort<TYPE_DOUBLE>, true, false}}, 
+        {150118, {"array_sort", 1, &ArrayFunctions::array_sort<TYPE_VARCHAR>, true, false}}, 
+        {150119, {"array_sort", 1, &ArrayFunctions::array_sort<TYPE_DECIMALV2>, true, false}}, 
+        {150120, {"array_sort", 1, &ArrayFunctions::array_sort<TYPE_DATETIME>, true, false}}, 
+        {150121, {"array_sort", 1, &ArrayFunctions::array_sort<TYPE_DATE>, true, false}}, 
+        {150122, {"array_sort", 1, &ArrayFunctions::array_sort<TYPE_JSON>, true, false}}, 
+        {150130, {"reverse", 1, &ArrayFunctions::array_reverse<TYPE_BOOLEAN>, true, false}}, 
+        {150131, {"reverse", 1, &ArrayFunctions::array_reverse<TYPE_TINYINT>, true, false}}, 
+        {150132, {"reverse", 1, &ArrayFunctions::array_reverse<TYPE_SMALLINT>, true, false}}, 
+        {150133, {"reverse", 1, &ArrayFunctions::array_reverse<TYPE_INT>, true, false}}, 
+        {150134, {"reverse", 1, &ArrayFunctions::array_reverse<TYPE_BIGINT>, true, false}}, 
+        {150135, {"reverse", 1, &ArrayFunctions::array_reverse<TYPE_LARGEINT>, true, false}}, 
+        {150136, {"reverse", 1, &ArrayFunctions::array_reverse<TYPE_FLOAT>, true, false}}, 
+        {150143, {"reverse", 1, &ArrayFunctions::array_reverse<TYPE_DECIMAL32>, true, false}}, 
+        {150144, {"reverse", 1, &ArrayFunctions::array_reverse<TYPE_DECIMAL64>, true, false}}, 
+        {150145, {"reverse", 1, &ArrayFunctions::array_reverse<TYPE_DECIMAL128>, true, false}}, 
+        {150137, {"reverse", 1, &ArrayFunctions::array_reverse<TYPE_DOUBLE>, true, false}}, 
+        {150138, {"reverse", 1, &ArrayFunctions::array_reverse<TYPE_VARCHAR>, true, false}}, 
+        {150139, {"reverse", 1, &ArrayFunctions::array_reverse<TYPE_DECIMALV2>, true, false}}, 
+        {150140, {"reverse", 1, &ArrayFunctions::array_reverse<TYPE_DATETIME>, true, false}}, 
+        {150141, {"reverse", 1, &ArrayFunctions::array_reverse<TYPE_DATE>, true, false}}, 
+        {150142, {"reverse", 1, &ArrayFunctions::array_reverse<TYPE_JSON>, true, false}}, 
+        {150146, {"reverse", 1, &ArrayFunctions::array_reverse_any_types, true, false}}, 
+        {150150, {"array_join", 2, &ArrayFunctions::array_join, true, true}}, 
+        {150151, {"array_join", 3, &ArrayFunctions::array_join, true, true}}, 
+        {150160, {"array_difference", 1, &ArrayFunctions::array_difference<TYPE_BOOLEAN>, true, false}}, 
+        {150161, {"array_difference", 1, &ArrayFunctions::array_difference<TYPE_TINYINT>, true, false}}, 
+        {150162, {"array_difference", 1, &ArrayFunctions::array_difference<TYPE_SMALLINT>, true, false}}, 
+        {150163, {"array_difference", 1, &ArrayFunctions::array_difference<TYPE_INT>, true, false}}, 
+        {150164, {"array_difference", 1, &ArrayFunctions::array_difference<TYPE_BIGINT>, true, false}}, 
+        {150165, {"array_difference", 1, &ArrayFunctions::array_difference<TYPE_LARGEINT>, true, false}}, 
+        {150166, {"array_difference", 1, &ArrayFunctions::array_difference<TYPE_FLOAT>, true, false}}, 
+        {150168, {"array_difference", 1, &ArrayFunctions::array_difference<TYPE_DECIMALV2>, true, false}}, 
+        {1501681, {"array_difference", 1, &ArrayFunctions::array_difference<TYPE_DECIMAL32>, true, false}}, 
+        {1501682, {"array_difference", 1, &ArrayFunctions::array_difference<TYPE_DECIMAL64>, true, false}}, 
+        {1501683, {"array_difference", 1, &ArrayFunctions::array_difference<TYPE_DECIMAL128>, true, false}}, 
+        {150167, {"array_difference", 1, &ArrayFunctions::array_difference<TYPE_DOUBLE>, true, false}}, 
+        {150170, {"array_slice", 3, &ArrayFunctions::array_slice, true, false}}, 
+        {150171, {"array_slice", 3, &ArrayFunctions::array_slice, true, false}}, 
+        {150172, {"array_slice", 3, &ArrayFunctions::array_slice, true, false}}, 
+        {150173, {"array_slice", 3, &ArrayFunctions::array_slice, true, false}}, 
+        {150174, {"array_slice", 3, &ArrayFunctions::array_slice, true, false}}, 
+        {150175, {"array_slice", 3, &ArrayFunctions::array_slice, true, false}}, 
+        {150176, {"array_slice", 3, &ArrayFunctions::array_slice, true, false}}, 
+        {150177, {"array_slice", 3, &ArrayFunctions::array_slice, true, false}}, 
+        {150178, {"array_slice", 3, &ArrayFunctions::array_slice, true, false}}, 
+        {150184, {"array_slice", 3, &ArrayFunctions::array_slice, true, false}}, 
+        {150185, {"array_slice", 3, &ArrayFunctions::array_slice, true, false}}, 
+        {150186, {"array_slice", 3, &ArrayFunctions::array_slice, true, false}}, 
+        {150179, {"array_slice", 3, &ArrayFunctions::array_slice, true, false}}, 
+        {150180, {"array_slice", 3, &ArrayFunctions::array_slice, true, false}}, 
+        {150181, {"array_slice", 3, &ArrayFunctions::array_slice, true, false}}, 
+        {150182, {"array_slice", 3, &ArrayFunctions::array_slice, true, false}}, 
+        {150183, {"array_slice", 3, &ArrayFunctions::array_slice, true, false}}, 
+        {150190, {"array_concat", 1, &ArrayFunctions::concat, true, false}}, 
+        {150191, {"array_concat", 1, &ArrayFunctions::concat, true, false}}, 
+        {150192, {"array_concat", 1, &ArrayFunctions::concat, true, false}}, 
+        {150193, {"array_concat", 1, &ArrayFunctions::concat, true, false}}, 
+        {150194, {"array_concat", 1, &ArrayFunctions::concat, true, false}}, 
+        {150195, {"array_concat", 1, &ArrayFunctions::concat, true, false}}, 
+        {150196, {"array_concat", 1, &ArrayFunctions::concat, true, false}}, 
+        {150197, {"array_concat", 1, &ArrayFunctions::concat, true, false}}, 
+        {150198, {"array_concat", 1, &ArrayFunctions::concat, true, false}}, 
+        {150204, {"array_concat", 1, &ArrayFunctions::concat, true, false}}, 
+        {150205, {"array_concat", 1, &ArrayFunctions::concat, true, false}}, 
+        {150206, {"array_concat", 1, &ArrayFunctions::concat, true, false}}, 
+        {150199, {"array_concat", 1, &ArrayFunctions::concat, true, false}}, 
+        {150200, {"array_concat", 1, &ArrayFunctions::concat, true, false}}, 
+        {150201, {"array_concat", 1, &ArrayFunctions::concat, true, true}}, 
+        {150202, {"array_concat", 1, &ArrayFunctions::concat, true, false}}, 
+        {150203, {"array_concat", 1, &ArrayFunctions::concat, true, true}}, 
+        {150210, {"arrays_overlap", 2, &ArrayFunctions::array_overlap<TYPE_DATE>, true, false}}, 
+        {150211, {"arrays_overlap", 2, &ArrayFunctions::array_overlap<TYPE_DATETIME>, true, false}}, 
+        {150212, {"arrays_overlap", 2, &ArrayFunctions::array_overlap<TYPE_BOOLEAN>, true, false}}, 
+        {150213, {"arrays_overlap", 2, &ArrayFunctions::array_overlap<TYPE_TINYINT>, true, false}}, 
+        {150214, {"arrays_overlap", 2, &ArrayFunctions::array_overlap<TYPE_SMALLINT>, true, false}}, 
+        {150215, {"arrays_overlap", 2, &ArrayFunctions::array_overlap<TYPE_INT>, true, false}}, 
+        {150216, {"arrays_overlap", 2, &ArrayFunctions::array_overlap<TYPE_BIGINT>, true, false}}, 
+        {150217, {"arrays_overlap", 2, &ArrayFunctions::array_overlap<TYPE_LARGEINT>, true, false}}, 
+        {150218, {"arrays_overlap", 2, &ArrayFunctions::array_overlap<TYPE_FLOAT>, true, false}}, 
+        {150222, {"arrays_overlap", 2, &ArrayFunctions::array_overlap<TYPE_DECIMAL32>, true, false}}, 
+        {150223, {"arrays_overlap", 2, &ArrayFunctions::array_overlap<TYPE_DECIMAL64>, true, false}}, 
+        {150224, {"arrays_overlap", 2, &ArrayFunctions::array_overlap<TYPE_DECIMAL128>, true, false}}, 
+        {150219, {"arrays_overlap", 2, &ArrayFunctions::array_overlap<TYPE_DOUBLE>, true, false}}, 
+        {150220, {"arrays_overlap", 2, &ArrayFunctions::array_overlap<TYPE_DECIMALV2>, true, false}}, 
+        {150221, {"arrays_overlap", 2, &ArrayFunctions::array_overlap<TYPE_VARCHAR>, true, false}}, 
+        {150226, {"arrays_overlap", 2, &ArrayFunctions::array_contains_any, true, false}}, 
+        {150230, {"array_intersect", 1, &ArrayFunctions::array_intersect<TYPE_DATE>, true, false}}, 
+        {150231, {"array_intersect", 1, &ArrayFunctions::array_intersect<TYPE_DATETIME>, true, false}}, 
+        {150232, {"array_intersect", 1, &ArrayFunctions::array_intersect<TYPE_BOOLEAN>, true, false}}, 
+        {150233, {"array_intersect", 1, &ArrayFunctions::array_intersect<TYPE_TINYINT>, true, false}}, 
+        {150234, {"array_intersect", 1, &ArrayFunctions::array_intersect<TYPE_SMALLINT>, true, false}}, 
+        {150235, {"array_intersect", 1, &ArrayFunctions::array_intersect<TYPE_INT>, true, false}}, 
+        {150236, {"array_intersect", 1, &ArrayFunctions::array_intersect<TYPE_BIGINT>, true, false}}, 
+        {150237, {"array_intersect", 1, &ArrayFunctions::array_intersect<TYPE_LARGEINT>, true, false}}, 
+        {150238, {"array_intersect", 1, &ArrayFunctions::array_intersect<TYPE_FLOAT>, true, false}}, 
+        {150242, {"array_intersect", 1, &ArrayFunctions::array_intersect<TYPE_DECIMAL32>, true, false}}, 
+        {150243, {"array_intersect", 1, &ArrayFunctions::array_intersect<TYPE_DECIMAL64>, true, false}}, 
+        {150244, {"array_intersect", 1, &ArrayFunctions::array_intersect<TYPE_DECIMAL128>, true, false}}, 
+        {150239, {"array_intersect", 1, &ArrayFunctions::array_intersect<TYPE_DOUBLE>, true, false}}, 
+        {150240, {"array_intersect", 1, &ArrayFunctions::array_intersect<TYPE_DECIMALV2>, true, false}}, 
+        {150241, {"array_intersect", 1, &ArrayFunctions::array_intersect<TYPE_VARCHAR>, true, false}}, 
+        {150246, {"array_intersect", 1, &ArrayFunctions::array_intersect_any_type, true, false}}, 
+        {150250, {"array_slice", 2, &ArrayFunctions::array_slice, true, false}}, 
+        {150251, {"array_slice", 2, &ArrayFunctions::array_slice, true, false}}, 
+        {150252, {"array_slice", 2, &ArrayFunctions::array_slice, true, false}}, 
+        {150253, {"array_slice", 2, &ArrayFunctions::array_slice, true, false}}, 
+        {150254, {"array_slice", 2, &ArrayFunctions::array_slice, true, false}}, 
+        {150255, {"array_slice", 2, &ArrayFunctions::array_slice, true, false}}, 
+        {150256, {"array_slice", 2, &ArrayFunctions::array_slice, true, false}}, 
+        {150257, {"array_slice", 2, &ArrayFunctions::array_slice, true, false}}, 
+        {150258, {"array_slice", 2, &ArrayFunctions::array_slice, true, false}}, 
+        {150264, {"array_slice", 2, &ArrayFunctions::array_slice, true, false}}, 
+        {150265, {"array_slice", 2, &ArrayFunctions::array_slice, true, false}}, 
+        {150266, {"array_slice", 2, &ArrayFunctions::array_slice, true, false}}, 
+        {150259, {"array_slice", 2, &ArrayFunctions::array_slice, true, false}}, 
+        {150260, {"array_slice", 2, &ArrayFunctions::array_slice, true, false}}, 
+        {150261, {"array_slice", 2, &ArrayFunctions::array_slice, true, false}}, 
+        {150262, {"array_slice", 2, &ArrayFunctions::array_slice, true, false}}, 
+        {150263, {"array_slice", 2, &ArrayFunctions::array_slice, true, false}}, 
+        {150270, {"array_cum_sum", 1, &ArrayFunctions::array_cum_sum_bigint, true, false}}, 
+        {150271, {"array_cum_sum", 1, &ArrayFunctions::array_cum_sum_double, true, false}}, 
+        {150282, {"array_contains_all", 2, &ArrayFunctions::array_contains_all, true, false}}, 
+        {150283, {"array_contains_seq", 2, &ArrayFunctions::array_contains_seq, true, false}}, 
+        {150300, {"array_filter", 2, &ArrayFunctions::array_filter, true, false}}, 
+        {150301, {"all_match", 1, &ArrayFunctions::all_match, true, false}}, 
+        {150302, {"any_match", 1, &ArrayFunctions::any_match, true, false}}, 
+        {150311, {"array_sortby", 2, &ArrayFunctions::array_sortby<TYPE_BOOLEAN>, true, false}}, 
+        {150312, {"array_sortby", 2, &ArrayFunctions::array_sortby<TYPE_TINYINT>, true, false}}, 
+        {150313, {"array_sortby", 2, &ArrayFunctions::array_sortby<TYPE_SMALLINT>, true, false}}, 
+        {150314, {"array_sortby", 2, &ArrayFunctions::array_sortby<TYPE_INT>, true, false}}, 
+        {150315, {"array_sortby", 2, &ArrayFunctions::array_sortby<TYPE_BIGINT>, true, false}}, 
+        {150316, {"array_sortby", 2, &ArrayFunctions::array_sortby<TYPE_LARGEINT>, true, false}}, 
+        {150317, {"array_sortby", 2, &ArrayFunctions::array_sortby<TYPE_FLOAT>, true, false}}, 
+        {150324, {"array_sortby", 2, &ArrayFunctions::array_sortby<TYPE_DECIMAL32>, true, false}}, 
+        {150325, {"array_sortby", 2, &ArrayFunctions::array_sortby<TYPE_DECIMAL64>, true, false}}, 
+        {150326, {"array_sortby", 2, &ArrayFunctions::array_sortby<TYPE_DECIMAL128>, true, false}}, 
+        {150318, {"array_sortby", 2, &ArrayFunctions::array_sortby<TYPE_DOUBLE>, true, false}}, 
+        {150319, {"array_sortby", 2, &ArrayFunctions::array_sortby<TYPE_VARCHAR>, true, false}}, 
+        {150320, {"array_sortby", 2, &ArrayFunctions::array_sortby<TYPE_DECIMALV2>, true, false}}, 
+        {150321, {"array_sortby", 2, &ArrayFunctions::array_sortby<TYPE_DATETIME>, true, false}}, 
+        {150322, {"array_sortby", 2, &ArrayFunctions::array_sortby<TYPE_DATE>, true, false}}, 
+        {150323, {"array_sortby", 2, &ArrayFunctions::array_sortby<TYPE_JSON>, true, false}}, 
+        {150330, {"array_generate", 3, &ArrayFunctions::array_generate<TYPE_TINYINT>, true, false}}, 
+        {150331, {"array_generate", 3, &ArrayFunctions::array_generate<TYPE_SMALLINT>, true, false}}, 
+        {150332, {"array_generate", 3, &ArrayFunctions::array_generate<TYPE_INT>, true, false}}, 
+        {150333, {"array_generate", 3, &ArrayFunctions::array_generate<TYPE_BIGINT>, true, false}}, 
+        {150334, {"array_generate", 3, &ArrayFunctions::array_generate<TYPE_LARGEINT>, true, false}}, 
+        {150335, {"array_sortby", 3, &ArrayFunctions::array_sortby_multi, true, false}}, 
+        {150340, {"array_repeat", 2, &ArrayFunctions::repeat, true, false}}, 
+        {160100, {"array_map", 2, &ArrayFunctions::array_map, true, false}}, 
+        {170000, {"map_size", 1, &MapFunctions::map_size, true, false}}, 
+        {170001, {"map_keys", 1, &MapFunctions::map_keys, true, false}}, 
+        {170002, {"map_values", 1, &MapFunctions::map_values, true, false}}, 
+        {170003, {"map_from_arrays", 2, &MapFunctions::map_from_arrays, true, false}}, 
+        {170004, {"map_apply", 2, nullptr, true, false}}, 
+        {170005, {"map_filter", 2, &MapFunctions::map_filter, true, false}}, 
+        {170006, {"distinct_map_keys", 1, &MapFunctions::distinct_map_keys, true, false}}, 
+        {170007, {"map_concat", 1, &MapFunctions::map_concat, true, false}}, 
+        {170100, {"cardinality", 1, &MapFunctions::map_size, true, false}}, 
+        {170101, {"cardinality", 1, &ArrayFunctions::array_length, true, false}}, 
+        {170500, {"row", 1, &StructFunctions::new_struct, true, false}}, 
+        {170501, {"named_struct", 1, &StructFunctions::named_struct, true, false}}, 
+        {180000, {"is_role_in_session", 1, nullptr, true, false}}
+};
+
+}